@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -71,6 +71,9 @@ public class HostInteropMicroBenchmarks {
     private Value object;
     private MyType objectAsIface;
     private Value sumFun;
+    private Value copyFun;
+    private Value sliceFun;
+    private Value fillFun;
 
     public interface MyType {
         int foo(int a, int b);
@@ -97,6 +100,16 @@ public class HostInteropMicroBenchmarks {
 
                         my_sum
                         """);
+        this.copyFun = context.eval("python", "list");
+        this.sliceFun = context.eval("python", "lambda a: a[1:-1]");
+        this.fillFun = context.eval("python", """
+                        values = [float(i) for i in range(1000)]
+
+                        def fill(a):
+                            a[:] = values
+
+                        fill
+                        """);
     }
 
     @TearDown
@@ -117,6 +130,11 @@ public class HostInteropMicroBenchmarks {
         public int[] data = IntStream.range(0, 1000).toArray();
     }
 
+    @State(Scope.Thread)
+    public static class DoubleArrayArgument {
+        public double[] data = IntStream.range(0, 1000).asDoubleStream().toArray();
+    }
+
     @Benchmark
     public Value callPythonPositionalArgs(Arguments args) {
         return positionalArgsFun.execute(args.num1, args.num2);
@@ -136,4 +154,19 @@ public class HostInteropMicroBenchmarks {
     public Object sumJavaArrayInPython(IntArrayArgument arg) {
         return sumFun.execute((Object) arg.data);
     }
+
+    @Benchmark
+    public Object copyJavaArrayToList(IntArrayArgument arg) {
+        return copyFun.execute((Object) arg.data);
+    }
+
+    @Benchmark
+    public Object sliceJavaDoubleArray(DoubleArrayArgument arg) {
+        return sliceFun.execute((Object) arg.data);
+    }
+
+    @Benchmark
+    public Object fillJavaDoubleArrayFromList(DoubleArrayArgument arg) {
+        return fillFun.execute((Object) arg.data);
+    }
 }
@@ -0,0 +1,86 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+
+# This benchmark calls Java getters, setters, overloaded and static methods in tight loops, so it
+# mostly measures the per-call-site cost of looking up and invoking host methods.
+
+import sys
+from java.util.concurrent.atomic import AtomicLong
+from java.lang import Math, Integer, StringBuilder
+
+
+def getters_and_setters(num):
+    counter = AtomicLong()
+    for i in range(num):
+        counter.set(counter.get() + i)
+        counter.lazySet(counter.longValue() % 1_000_003)
+    return counter.get()
+
+
+def static_utilities(num):
+    total = 0
+    for i in range(num):
+        total += Math.max(i, Math.abs(total % 7 - 3))
+        total += Integer.bitCount(i)
+        total = Math.floorMod(total, 1_000_003)
+    return total
+
+
+def overloaded_methods(num):
+    sb = StringBuilder()
+    for i in range(num):
+        sb.setLength(0)
+        sb.append(i).append('-').append(i * 0.5).append(True)
+    return sb.length()
+
+
+def measure(num):
+    for _ in range(10):
+        getters_and_setters(num)
+        static_utilities(num)
+        overloaded_methods(num)
+
+
+def __benchmark__(num=100_000):
+    measure(num)
+
+
+if __name__ == '__main__':
+    __benchmark__(int(sys.argv[1]))
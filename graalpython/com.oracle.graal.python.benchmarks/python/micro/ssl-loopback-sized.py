@@ -0,0 +1,94 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import os
+import socket
+import ssl
+import threading
+
+CERTFILE = os.path.join(os.path.dirname(ssl.__file__), 'test', 'certdata', 'keycert.pem')
+CHUNK = b'x' * (256 * 1024)
+
+
+def server_contexts():
+    server_ctx = ssl.SSLContext(ssl.PROTOCOL_TLS_SERVER)
+    server_ctx.load_cert_chain(CERTFILE)
+    client_ctx = ssl.SSLContext(ssl.PROTOCOL_TLS_CLIENT)
+    client_ctx.check_hostname = False
+    client_ctx.verify_mode = ssl.CERT_NONE
+    return server_ctx, client_ctx
+
+
+def drain(server_ctx, sock, total):
+    with server_ctx.wrap_socket(sock, server_side=True) as ssock:
+        buf = bytearray(64 * 1024)
+        received = 0
+        while received < total:
+            n = ssock.recv_into(buf)
+            if n == 0:
+                break
+            received += n
+        ssock.sendall(received.to_bytes(8, 'little'))
+
+
+def transfer(server_ctx, client_ctx, megabytes):
+    total = megabytes * 1024 * 1024
+    a, b = socket.socketpair()
+    server = threading.Thread(target=drain, args=(server_ctx, b, total))
+    server.start()
+    with client_ctx.wrap_socket(a) as csock:
+        sent = 0
+        while sent < total:
+            csock.sendall(CHUNK)
+            sent += len(CHUNK)
+        received = int.from_bytes(csock.recv(8), 'little')
+    server.join()
+    return received
+
+
+def measure(num, megabytes):
+    server_ctx, client_ctx = server_contexts()
+    result = 0
+    for i in range(num):
+        result += transfer(server_ctx, client_ctx, megabytes)
+    return result
+
+
+def __benchmark__(num=10, megabytes=16):
+    return measure(num, megabytes)
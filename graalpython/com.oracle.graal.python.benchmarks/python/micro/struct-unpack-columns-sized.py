@@ -0,0 +1,76 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import struct
+
+RECORD = struct.Struct('<iqdHf')
+RECORDS = 20_000
+DATA = b''.join(RECORD.pack(i, i * 1_000_003, i * 0.5, i & 0xffff, i * 0.25) for i in range(RECORDS))
+
+
+def per_record(data):
+    # the classic way: one tuple per record, transposed by hand
+    ids, values, prices, flags, weights = [], [], [], [], []
+    for i, v, p, f, w in RECORD.iter_unpack(data):
+        ids.append(i)
+        values.append(v)
+        prices.append(p)
+        flags.append(f)
+        weights.append(w)
+    return ids, values, prices, flags, weights
+
+
+def columnar(data):
+    unpack_columns = getattr(RECORD, 'unpack_columns', None)
+    if unpack_columns is None:
+        # only available on GraalPy, compare against struct-unpack-records-sized
+        return per_record(data)
+    return unpack_columns(data)
+
+
+def measure(num):
+    checksum = 0
+    for i in range(num):
+        ids, values, prices, flags, weights = columnar(DATA)
+        checksum += values[-1] + int(prices[i % RECORDS])
+    return checksum
+
+
+def __benchmark__(num=100):
+    return measure(num)
@@ -0,0 +1,91 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+# Mostly local variable loads that the compiler combines into superinstructions:
+# two locals loaded for a call, attribute reads on locals and functions returning
+# None. Meant to be run with --engine.Compilation=false to measure dispatch.
+
+
+class Point:
+    def __init__(self, x, y):
+        self.x = x
+        self.y = y
+
+
+def dist2(p, q):
+    dx = p.x - q.x
+    dy = p.y - q.y
+    return dx * dx + dy * dy
+
+
+def pair(a, b):
+    return a, b
+
+
+def closest(points, origin):
+    best = None
+    best_d = -1
+    for p in points:
+        d = dist2(p, origin)
+        if best is None or d < best_d:
+            best, best_d = pair(p, d)
+    return best
+
+
+def touch(point, seen):
+    seen[point.x] = point.y
+    return None
+
+
+def measure(num):
+    points = [Point(i % 97, i % 89) for i in range(1000)]
+    origin = Point(0, 0)
+    seen = {}
+    checksum = 0
+    for i in range(num):
+        best = closest(points, origin)
+        checksum += best.x + best.y
+        for p in points:
+            touch(p, seen)
+        checksum += len(seen)
+    return checksum
+
+
+def __benchmark__(num=1000):
+    return measure(num)
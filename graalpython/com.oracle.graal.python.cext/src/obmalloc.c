@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -517,3 +517,11 @@ _GraalPyMem_RawFree(void *ctx, void *ptr)
     state->allocated_memory -= size;
     free(ptr_with_head);
 }
+
+/* Number of bytes currently allocated through the GraalPy raw allocator. This is read without
+   synchronization by the background GC task which only uses it as a heuristic. */
+PyAPI_FUNC(size_t)
+GraalPyPrivate_GetAllocatedMemory(void)
+{
+    return _GraalPyMem_State.allocated_memory;
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.pegparser.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.util.EnumSet;
+
+import org.junit.Test;
+
+import com.oracle.graal.python.pegparser.AstOptimizer;
+import com.oracle.graal.python.pegparser.FutureFeature;
+import com.oracle.graal.python.pegparser.InputType;
+import com.oracle.graal.python.pegparser.sst.CmpOpTy;
+import com.oracle.graal.python.pegparser.sst.ConstantValue;
+import com.oracle.graal.python.pegparser.sst.ConstantValue.Kind;
+import com.oracle.graal.python.pegparser.sst.ExprTy;
+import com.oracle.graal.python.pegparser.sst.ModTy;
+import com.oracle.graal.python.pegparser.sst.StmtTy;
+
+public class AstOptimizerTests extends ParserTestBase {
+
+    private ExprTy optimizeExpression(String source, int optimizationLevel) {
+        ModTy mod = AstOptimizer.optimize(parse(source, "<test>", InputType.EVAL), optimizationLevel, EnumSet.noneOf(FutureFeature.class));
+        return ((ModTy.Expression) mod).body;
+    }
+
+    private ConstantValue fold(String source) {
+        ExprTy result = optimizeExpression(source, 0);
+        assertTrue("expected a constant for " + source + ", got " + result, result instanceof ExprTy.Constant);
+        return ((ExprTy.Constant) result).value;
+    }
+
+    private void checkNotFolded(String source) {
+        ExprTy result = optimizeExpression(source, 0);
+        assertFalse("expected " + source + " not to be folded", result instanceof ExprTy.Constant);
+    }
+
+    private static void checkLong(long expected, ConstantValue value) {
+        assertEquals(Kind.LONG, value.kind);
+        assertEquals(expected, value.getLong());
+    }
+
+    private static void checkDouble(double expected, ConstantValue value) {
+        assertEquals(Kind.DOUBLE, value.kind);
+        assertEquals(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(value.getDouble()));
+    }
+
+    private static void checkString(String expected, ConstantValue value) {
+        assertEquals(Kind.CODEPOINTS, value.kind);
+        assertEquals(expected, value.getCodePoints().toJavaString());
+    }
+
+    @Test
+    public void intArithmetic() {
+        checkLong(7, fold("1 + 2 * 3"));
+        checkLong(-4, fold("-7 // 2"));
+        checkLong(1, fold("-7 % 2"));
+        checkLong(24, fold("3 << 3"));
+        checkLong(-1, fold("-5 >> 10"));
+        checkLong(6, fold("7 & 14"));
+        checkLong(-6, fold("~5"));
+        checkLong(2, fold("True + True"));
+        checkDouble(3.5, fold("7 / 2"));
+    }
+
+    @Test
+    public void bigIntegers() {
+        ConstantValue v = fold("2 ** 64");
+        assertEquals(Kind.BIGINTEGER, v.kind);
+        assertEquals(BigInteger.TWO.pow(64), v.getBigInteger());
+        checkLong(Long.MIN_VALUE, fold("-2 ** 63"));
+        checkLong(1, fold("12345678901234567890 ** 0"));
+        // results bigger than 128 bits are left for the runtime
+        checkNotFolded("2 ** 100");
+        checkNotFolded("1 << 200");
+        checkNotFolded("(1 << 100) * (1 << 100)");
+    }
+
+    @Test
+    public void floatArithmetic() {
+        checkDouble(-4.0, fold("-7.0 // 2"));
+        checkDouble(-0.5, fold("7.5 % -2"));
+        checkDouble(-0.0, fold("-0.0 % -1"));
+        checkDouble(0.5, fold("1 / 2.0"));
+        checkDouble(3.0, fold("1.5 + True + 0.5"));
+        checkNotFolded("2.0 ** 0.5");
+    }
+
+    @Test
+    public void complexArithmetic() {
+        ConstantValue v = fold("(1 + 2j) * 1j");
+        assertEquals(Kind.COMPLEX, v.kind);
+        assertArrayEquals(new double[]{-2.0, 1.0}, v.getComplex(), 0.0);
+        checkNotFolded("1j / 2");
+    }
+
+    @Test
+    public void errorsAreNotFolded() {
+        checkNotFolded("1 / 0");
+        checkNotFolded("1 // 0");
+        checkNotFolded("1.0 % 0.0");
+        checkNotFolded("1 << -1");
+        checkNotFolded("2 ** -1");
+        checkNotFolded("'a' + 1");
+        checkNotFolded("'%s' % 1");
+        checkNotFolded("(1, 2)[2]");
+        checkNotFolded("'abc'['a']");
+    }
+
+    @Test
+    public void sequences() {
+        checkString("abab", fold("'ab' * 2"));
+        checkString("ab", fold("'a' + 'b'"));
+        checkString("c", fold("'abc'[-1]"));
+        checkLong('b', fold("b'abc'[1]"));
+        ConstantValue v = fold("(1, 2) + (3,)");
+        assertEquals(Kind.TUPLE, v.kind);
+        assertEquals(3, v.getTupleElements().length);
+        checkNotFolded("'a' * 5000");
+        checkNotFolded("(None,) * 300");
+        checkNotFolded("-1 * 'a'");
+    }
+
+    @Test
+    public void tuples() {
+        ConstantValue v = fold("(1, 'a', (None, 2.0))");
+        assertEquals(Kind.TUPLE, v.kind);
+        ConstantValue[] elements = v.getTupleElements();
+        checkLong(1, elements[0]);
+        checkString("a", elements[1]);
+        assertEquals(Kind.TUPLE, elements[2].kind);
+        checkNotFolded("(1, a)");
+    }
+
+    @Test
+    public void booleans() {
+        assertSame(ConstantValue.FALSE, fold("True & False"));
+        assertSame(ConstantValue.TRUE, fold("not ''"));
+        assertSame(ConstantValue.FALSE, fold("not (1,)"));
+    }
+
+    @Test
+    public void notCompare() {
+        ExprTy result = optimizeExpression("not a in b", 0);
+        assertTrue(result instanceof ExprTy.Compare);
+        assertArrayEquals(new CmpOpTy[]{CmpOpTy.NotIn}, ((ExprTy.Compare) result).ops);
+        result = optimizeExpression("not a is not b", 0);
+        assertArrayEquals(new CmpOpTy[]{CmpOpTy.Is}, ((ExprTy.Compare) result).ops);
+        assertTrue(optimizeExpression("not a < b", 0) instanceof ExprTy.UnaryOp);
+    }
+
+    @Test
+    public void containers() {
+        ExprTy.Compare compare = (ExprTy.Compare) optimizeExpression("x in [1, 2]", 0);
+        assertEquals(Kind.TUPLE, ((ExprTy.Constant) compare.comparators[0]).value.kind);
+        compare = (ExprTy.Compare) optimizeExpression("x not in {1, 2}", 0);
+        assertEquals(Kind.FROZENSET, ((ExprTy.Constant) compare.comparators[0]).value.kind);
+        compare = (ExprTy.Compare) optimizeExpression("x in [a, b]", 0);
+        assertTrue(compare.comparators[0] instanceof ExprTy.Tuple);
+        compare = (ExprTy.Compare) optimizeExpression("x in [*a]", 0);
+        assertTrue(compare.comparators[0] instanceof ExprTy.List);
+        compare = (ExprTy.Compare) optimizeExpression("x == [1, 2]", 0);
+        assertTrue(compare.comparators[0] instanceof ExprTy.List);
+    }
+
+    @Test
+    public void debug() {
+        assertSame(ConstantValue.TRUE, ((ExprTy.Constant) optimizeExpression("__debug__", 0)).value);
+        assertSame(ConstantValue.FALSE, ((ExprTy.Constant) optimizeExpression("__debug__", 1)).value);
+    }
+
+    @Test
+    public void docstringIsNotCreated() {
+        ModTy mod = AstOptimizer.optimize(parse("def f():\n  'a' + 'b'\n", "<test>", InputType.FILE), 0, EnumSet.noneOf(FutureFeature.class));
+        StmtTy.FunctionDef f = (StmtTy.FunctionDef) ((ModTy.Module) mod).body[0];
+        assertTrue(((StmtTy.Expr) f.body[0]).value instanceof ExprTy.BinOp);
+    }
+
+    @Test
+    public void stringAnnotationsAreKept() {
+        ModTy mod = AstOptimizer.optimize(parse("def f(x: 1 + 1) -> 2 * 2: pass\n", "<test>", InputType.FILE), 0, EnumSet.of(FutureFeature.ANNOTATIONS));
+        StmtTy.FunctionDef f = (StmtTy.FunctionDef) ((ModTy.Module) mod).body[0];
+        assertTrue(f.args.args[0].annotation instanceof ExprTy.BinOp);
+        assertTrue(f.returns instanceof ExprTy.BinOp);
+    }
+
+    @Test
+    public void unchangedTreeIsShared() {
+        ModTy mod = parse("def f(a, b=1):\n  for x in a:\n    print(x + b)\n", "<test>", InputType.FILE);
+        assertSame(mod, AstOptimizer.optimize(mod, 0, EnumSet.noneOf(FutureFeature.class)));
+    }
+}
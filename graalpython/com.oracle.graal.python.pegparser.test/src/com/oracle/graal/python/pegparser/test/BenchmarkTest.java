@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -41,6 +41,11 @@
 
 package com.oracle.graal.python.pegparser.test;
 
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.List;
+
 import org.junit.Test;
 
 public class BenchmarkTest extends ParserTestBase {
@@ -68,4 +73,12 @@ public class BenchmarkTest extends ParserTestBase {
                         "    measure(num)\n";
         checkScopeAndTree(source);
     }
+
+    @Test
+    public void stdlibSubset() throws Exception {
+        File libDir = new File(StdlibParserBenchmark.DEFAULT_LIB_DIR);
+        assertTrue("The stdlib folder was not found.", libDir.exists());
+        List<String> sources = StdlibParserBenchmark.readSources(libDir, 50);
+        assertTrue(StdlibParserBenchmark.parseAll(sources) > 0);
+    }
 }
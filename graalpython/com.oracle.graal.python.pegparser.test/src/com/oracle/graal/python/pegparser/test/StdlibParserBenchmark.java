@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.pegparser.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.oracle.graal.python.pegparser.AbstractParser.Flags;
+import com.oracle.graal.python.pegparser.InputType;
+import com.oracle.graal.python.pegparser.Parser;
+
+/**
+ * Measures the parser throughput over the Python sources of the standard library. Run it from the
+ * repository root with the test project on the class path:
+ *
+ * <pre>
+ * java com.oracle.graal.python.pegparser.test.StdlibParserBenchmark [lib-dir] [iterations]
+ * </pre>
+ *
+ * Every iteration parses all {@code .py} files below {@code lib-dir} (by default the bundled
+ * {@code lib-python/3}, without its test suite) and reports the parsed megabytes per second.
+ */
+public final class StdlibParserBenchmark {
+    static final String DEFAULT_LIB_DIR = "graalpython/lib-python/3";
+    private static final int FEATURE_VERSION = 12;
+    private static final int DEFAULT_ITERATIONS = 10;
+
+    private StdlibParserBenchmark() {
+    }
+
+    static List<String> readSources(File libDir, int limit) throws IOException {
+        List<String> sources = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(libDir.toPath())) {
+            for (Path file : (Iterable<Path>) files.filter(StdlibParserBenchmark::isBenchmarkSource).sorted()::iterator) {
+                if (sources.size() >= limit) {
+                    break;
+                }
+                try {
+                    sources.add(Files.readString(file, StandardCharsets.UTF_8));
+                } catch (CharacterCodingException e) {
+                    // sources with a coding declaration other than UTF-8 are not interesting here
+                }
+            }
+        }
+        return sources;
+    }
+
+    private static boolean isBenchmarkSource(Path file) {
+        String path = file.toString().replace(File.separatorChar, '/');
+        // the test suite contains deliberately malformed and non-UTF-8 sources
+        return path.endsWith(".py") && !path.contains("/test/") && !path.contains("/lib2to3/tests/") && !path.contains("/bad");
+    }
+
+    /**
+     * Parses all sources once and returns the number of parsed characters.
+     */
+    static long parseAll(List<String> sources) {
+        long chars = 0;
+        for (String source : sources) {
+            Parser parser = new Parser(source, new TestParserCallbacksImpl(), InputType.FILE, EnumSet.noneOf(Flags.class), FEATURE_VERSION);
+            if (parser.parse() == null) {
+                throw new IllegalStateException("parsing failed");
+            }
+            chars += source.length();
+        }
+        return chars;
+    }
+
+    public static void main(String[] args) throws IOException {
+        File libDir = new File(args.length > 0 ? args[0] : DEFAULT_LIB_DIR);
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ITERATIONS;
+        List<String> sources = readSources(libDir, Integer.MAX_VALUE);
+        System.out.printf("parsing %d files from %s%n", sources.size(), libDir);
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            long chars = parseAll(sources);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("iteration %d: %.3f s, %.2f MB/s%n", i, seconds, chars / seconds / (1 << 20));
+        }
+    }
+}
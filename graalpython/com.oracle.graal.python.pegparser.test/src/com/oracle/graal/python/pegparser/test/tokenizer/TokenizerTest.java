@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -45,6 +45,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -382,6 +383,41 @@ public class TokenizerTest {
         }
     }
 
+    @Test
+    public void testByteInputMatchesStringInput() {
+        String[] sources = {
+                        "def f(a, b=1):\n\treturn a + b  # type: ignore\n",
+                        "x = 'ab'\r\nif x:\r\n    pass\r",
+                        "# coding: latin-1\nx = 'caf\u00e9'  # \u00bd\n",
+                        "s = f'{x!r:>{width}}'\n",
+        };
+        for (String code : sources) {
+            List<String> expected = getTokenStrings(createTokenizer(code));
+            byte[] bytes = code.getBytes(code.startsWith("# coding: latin-1") ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+            Tokenizer tokenizer = Tokenizer.fromBytes(new TestParserCallbacksImpl(), bytes, EnumSet.of(Tokenizer.Flag.EXEC_INPUT, Tokenizer.Flag.TYPE_COMMENT));
+            assertEquals(code, expected, getTokenStrings(tokenizer));
+        }
+    }
+
+    @Test
+    public void testNonLatin1Input() {
+        Tokenizer tokenizer = createTokenizer("\u03c0 = '\u20ac'\r\n");
+        assertEquals("Token NAME [0, 1] (1, 0) (1, 1) '\u03c0'", tokenToString(tokenizer, tokenizer.next()));
+        assertEquals("Token EQUAL [2, 3] (1, 2) (1, 3) '='", tokenToString(tokenizer, tokenizer.next()));
+        assertEquals("Token STRING [4, 7] (1, 4) (1, 7) ''\u20ac''", tokenToString(tokenizer, tokenizer.next()));
+        assertEquals(Token.Kind.NEWLINE, tokenizer.next().type);
+    }
+
+    private static List<String> getTokenStrings(Tokenizer tokenizer) {
+        ArrayList<String> result = new ArrayList<>();
+        Token token;
+        do {
+            token = tokenizer.next();
+            result.add(tokenToString(tokenizer, token));
+        } while (token.type != Token.Kind.ENDMARKER);
+        return result;
+    }
+
     private static Token[] getTokens(String code) {
         Tokenizer tokenizer = createTokenizer(code);
         Token token;
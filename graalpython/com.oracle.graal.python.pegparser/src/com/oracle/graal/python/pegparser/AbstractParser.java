@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -134,7 +134,7 @@ public abstract class AbstractParser {
 
     private ExprTy.Name cachedDummyName;
 
-    protected final RuleResultCache<Object> cache = new RuleResultCache<>(this);
+    protected final RuleResultCache<Object> cache;
     protected final ArrayList<TypeIgnoreTy> comments = new ArrayList<>();
 
     private final Object[][][] reservedKeywords;
@@ -150,6 +150,7 @@ public abstract class AbstractParser {
         this.currentPos = 0;
         this.tokens = new ArrayList<>();
         this.tokenizer = Tokenizer.fromString(callbacks, source, getTokenizerFlags(startRule, flags), sourceRange);
+        this.cache = new RuleResultCache<>(this, source.length());
         this.factory = new NodeFactory();
         this.callbacks = callbacks;
         this.reservedKeywords = getReservedKeywords();
@@ -0,0 +1,1349 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.pegparser;
+
+import java.math.BigInteger;
+import java.util.EnumSet;
+
+import com.oracle.graal.python.pegparser.sst.AliasTy;
+import com.oracle.graal.python.pegparser.sst.ArgTy;
+import com.oracle.graal.python.pegparser.sst.ArgumentsTy;
+import com.oracle.graal.python.pegparser.sst.CmpOpTy;
+import com.oracle.graal.python.pegparser.sst.ComprehensionTy;
+import com.oracle.graal.python.pegparser.sst.ConstantValue;
+import com.oracle.graal.python.pegparser.sst.ConstantValue.Kind;
+import com.oracle.graal.python.pegparser.sst.ExceptHandlerTy;
+import com.oracle.graal.python.pegparser.sst.ExprContextTy;
+import com.oracle.graal.python.pegparser.sst.ExprTy;
+import com.oracle.graal.python.pegparser.sst.KeywordTy;
+import com.oracle.graal.python.pegparser.sst.MatchCaseTy;
+import com.oracle.graal.python.pegparser.sst.ModTy;
+import com.oracle.graal.python.pegparser.sst.OperatorTy;
+import com.oracle.graal.python.pegparser.sst.PatternTy;
+import com.oracle.graal.python.pegparser.sst.SSTNode;
+import com.oracle.graal.python.pegparser.sst.SSTreeVisitor;
+import com.oracle.graal.python.pegparser.sst.StmtTy;
+import com.oracle.graal.python.pegparser.sst.TypeIgnoreTy;
+import com.oracle.graal.python.pegparser.sst.TypeParamTy;
+import com.oracle.graal.python.pegparser.sst.UnaryOpTy;
+import com.oracle.graal.python.pegparser.sst.WithItemTy;
+import com.oracle.graal.python.pegparser.tokenizer.CodePoints;
+
+/**
+ * Plays the role of CPython's {@code ast_opt.c}: folds constant expressions before the tree is
+ * handed to the scope analysis and the compilers.
+ * <p>
+ * The pass only rewrites expressions and never removes names or scope-defining nodes, so the scope
+ * analysis sees the same symbols as in the original tree. Nodes are copied only if one of their
+ * children changed, unchanged subtrees are shared with the input tree. Folding never raises:
+ * operations that would fail at runtime, or whose results would be unreasonably large, are left
+ * for the interpreter.
+ * <p>
+ * Patterns are not visited, the compilers validate and fold them on their own. When
+ * {@code from __future__ import annotations} is active, annotations are left untouched because they
+ * are stringified by the compiler.
+ */
+public final class AstOptimizer implements SSTreeVisitor<SSTNode> {
+    // The limits are the same as in CPython
+    private static final int MAX_INT_SIZE = 128; // bits
+    private static final int MAX_COLLECTION_SIZE = 256;
+    private static final int MAX_STR_SIZE = 4096;
+    private static final int MAX_TOTAL_ITEMS = 1024;
+
+    private static final BigInteger MAX_EXACT_DOUBLE_INT = BigInteger.ONE.shiftLeft(53);
+
+    private final int optimizationLevel;
+    private final boolean stringAnnotations;
+
+    private AstOptimizer(int optimizationLevel, boolean stringAnnotations) {
+        this.optimizationLevel = optimizationLevel;
+        this.stringAnnotations = stringAnnotations;
+    }
+
+    public static ModTy optimize(ModTy mod, int optimizationLevel, EnumSet<FutureFeature> futureFeatures) {
+        return (ModTy) mod.accept(new AstOptimizer(optimizationLevel, futureFeatures.contains(FutureFeature.ANNOTATIONS)));
+    }
+
+    // helpers for traversal
+
+    private ExprTy expr(ExprTy node) {
+        return node == null ? null : (ExprTy) node.accept(this);
+    }
+
+    private ExprTy annotation(ExprTy node) {
+        return stringAnnotations ? node : expr(node);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends SSTNode> T[] seq(T[] nodes) {
+        if (nodes == null) {
+            return null;
+        }
+        T[] result = nodes;
+        for (int i = 0; i < nodes.length; i++) {
+            if (nodes[i] != null) {
+                T newNode = (T) nodes[i].accept(this);
+                if (newNode != nodes[i]) {
+                    if (result == nodes) {
+                        result = nodes.clone();
+                    }
+                    result[i] = newNode;
+                }
+            }
+        }
+        return result;
+    }
+
+    private StmtTy[] body(StmtTy[] stmts) {
+        StmtTy[] result = seq(stmts);
+        if (result != stmts && result.length > 0 && result[0] != stmts[0] && isDocstring(result[0]) && !isDocstring(stmts[0])) {
+            /*
+             * Folding must not turn an expression statement into a docstring, e.g. for
+             * "'a' + 'b'" as the first statement of a function body.
+             */
+            result[0] = stmts[0];
+        }
+        return result;
+    }
+
+    private static boolean isDocstring(StmtTy stmt) {
+        return stmt instanceof StmtTy.Expr expr && expr.value instanceof ExprTy.Constant c && c.value.kind == Kind.CODEPOINTS;
+    }
+
+    private static ExprTy.Constant constant(ConstantValue value, SSTNode node) {
+        return new ExprTy.Constant(value, null, node.getSourceRange());
+    }
+
+    /**
+     * Returns the values of the given expressions if all of them are constants, {@code null}
+     * otherwise.
+     */
+    private static ConstantValue[] constantValues(ExprTy[] elements) {
+        ConstantValue[] values = new ConstantValue[elements == null ? 0 : elements.length];
+        for (int i = 0; i < values.length; i++) {
+            if (!(elements[i] instanceof ExprTy.Constant c)) {
+                return null;
+            }
+            values[i] = c.value;
+        }
+        return values;
+    }
+
+    /**
+     * Iterating over, or testing membership in, a list or set display does not depend on the
+     * mutability of the container. Lists are turned into tuples and displays of constants into
+     * constant tuples or frozensets, which can be created without evaluating the elements.
+     */
+    private static ExprTy foldIter(ExprTy node) {
+        if (node instanceof ExprTy.List list) {
+            ConstantValue[] values = constantValues(list.elements);
+            if (values != null) {
+                return constant(ConstantValue.ofTuple(values), node);
+            }
+            if (list.elements != null) {
+                for (ExprTy e : list.elements) {
+                    if (e instanceof ExprTy.Starred) {
+                        return node;
+                    }
+                }
+            }
+            return new ExprTy.Tuple(list.elements, list.context, node.getSourceRange());
+        } else if (node instanceof ExprTy.Set set) {
+            ConstantValue[] values = constantValues(set.elements);
+            if (values != null) {
+                return constant(ConstantValue.ofFrozenset(values), node);
+            }
+        }
+        return node;
+    }
+
+    // modules
+
+    @Override
+    public SSTNode visit(ModTy.Module node) {
+        StmtTy[] body = body(node.body);
+        if (body == node.body) {
+            return node;
+        }
+        return new ModTy.Module(body, node.typeIgnores, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ModTy.Interactive node) {
+        StmtTy[] body = body(node.body);
+        if (body == node.body) {
+            return node;
+        }
+        return new ModTy.Interactive(body, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ModTy.Expression node) {
+        ExprTy body = expr(node.body);
+        if (body == node.body) {
+            return node;
+        }
+        return new ModTy.Expression(body, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ModTy.FunctionType node) {
+        return node;
+    }
+
+    @Override
+    public SSTNode visit(TypeIgnoreTy.TypeIgnore node) {
+        return node;
+    }
+
+    // statements
+
+    @Override
+    public SSTNode visit(StmtTy.FunctionDef node) {
+        TypeParamTy[] typeParams = seq(node.typeParams);
+        ArgumentsTy args = (ArgumentsTy) node.args.accept(this);
+        StmtTy[] body = body(node.body);
+        ExprTy[] decoratorList = seq(node.decoratorList);
+        ExprTy returns = annotation(node.returns);
+        if (typeParams == node.typeParams && args == node.args && body == node.body && decoratorList == node.decoratorList && returns == node.returns) {
+            return node;
+        }
+        return new StmtTy.FunctionDef(node.name, args, body, decoratorList, returns, node.typeComment, typeParams, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.AsyncFunctionDef node) {
+        TypeParamTy[] typeParams = seq(node.typeParams);
+        ArgumentsTy args = (ArgumentsTy) node.args.accept(this);
+        StmtTy[] body = body(node.body);
+        ExprTy[] decoratorList = seq(node.decoratorList);
+        ExprTy returns = annotation(node.returns);
+        if (typeParams == node.typeParams && args == node.args && body == node.body && decoratorList == node.decoratorList && returns == node.returns) {
+            return node;
+        }
+        return new StmtTy.AsyncFunctionDef(node.name, args, body, decoratorList, returns, node.typeComment, typeParams, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.ClassDef node) {
+        TypeParamTy[] typeParams = seq(node.typeParams);
+        ExprTy[] bases = seq(node.bases);
+        KeywordTy[] keywords = seq(node.keywords);
+        StmtTy[] body = body(node.body);
+        ExprTy[] decoratorList = seq(node.decoratorList);
+        if (typeParams == node.typeParams && bases == node.bases && keywords == node.keywords && body == node.body && decoratorList == node.decoratorList) {
+            return node;
+        }
+        return new StmtTy.ClassDef(node.name, bases, keywords, body, decoratorList, typeParams, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.Return node) {
+        ExprTy value = expr(node.value);
+        if (value == node.value) {
+            return node;
+        }
+        return new StmtTy.Return(value, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.Delete node) {
+        ExprTy[] targets = seq(node.targets);
+        if (targets == node.targets) {
+            return node;
+        }
+        return new StmtTy.Delete(targets, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.Assign node) {
+        ExprTy[] targets = seq(node.targets);
+        ExprTy value = expr(node.value);
+        if (targets == node.targets && value == node.value) {
+            return node;
+        }
+        return new StmtTy.Assign(targets, value, node.typeComment, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.TypeAlias node) {
+        TypeParamTy[] typeParams = seq(node.typeParams);
+        ExprTy value = expr(node.value);
+        if (typeParams == node.typeParams && value == node.value) {
+            return node;
+        }
+        return new StmtTy.TypeAlias(node.name, typeParams, value, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.AugAssign node) {
+        ExprTy target = expr(node.target);
+        ExprTy value = expr(node.value);
+        if (target == node.target && value == node.value) {
+            return node;
+        }
+        return new StmtTy.AugAssign(target, node.op, value, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.AnnAssign node) {
+        ExprTy target = expr(node.target);
+        ExprTy annotation = annotation(node.annotation);
+        ExprTy value = expr(node.value);
+        if (target == node.target && annotation == node.annotation && value == node.value) {
+            return node;
+        }
+        return new StmtTy.AnnAssign(target, annotation, value, node.isSimple, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.For node) {
+        ExprTy target = expr(node.target);
+        ExprTy iter = foldIter(expr(node.iter));
+        StmtTy[] body = body(node.body);
+        StmtTy[] orElse = body(node.orElse);
+        if (target == node.target && iter == node.iter && body == node.body && orElse == node.orElse) {
+            return node;
+        }
+        return new StmtTy.For(target, iter, body, orElse, node.typeComment, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.AsyncFor node) {
+        ExprTy target = expr(node.target);
+        ExprTy iter = expr(node.iter);
+        StmtTy[] body = body(node.body);
+        StmtTy[] orElse = body(node.orElse);
+        if (target == node.target && iter == node.iter && body == node.body && orElse == node.orElse) {
+            return node;
+        }
+        return new StmtTy.AsyncFor(target, iter, body, orElse, node.typeComment, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.While node) {
+        ExprTy test = expr(node.test);
+        StmtTy[] body = body(node.body);
+        StmtTy[] orElse = body(node.orElse);
+        if (test == node.test && body == node.body && orElse == node.orElse) {
+            return node;
+        }
+        return new StmtTy.While(test, body, orElse, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.If node) {
+        ExprTy test = expr(node.test);
+        StmtTy[] body = body(node.body);
+        StmtTy[] orElse = body(node.orElse);
+        if (test == node.test && body == node.body && orElse == node.orElse) {
+            return node;
+        }
+        return new StmtTy.If(test, body, orElse, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.With node) {
+        WithItemTy[] items = seq(node.items);
+        StmtTy[] body = body(node.body);
+        if (items == node.items && body == node.body) {
+            return node;
+        }
+        return new StmtTy.With(items, body, node.typeComment, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.AsyncWith node) {
+        WithItemTy[] items = seq(node.items);
+        StmtTy[] body = body(node.body);
+        if (items == node.items && body == node.body) {
+            return node;
+        }
+        return new StmtTy.AsyncWith(items, body, node.typeComment, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.Match node) {
+        ExprTy subject = expr(node.subject);
+        MatchCaseTy[] cases = seq(node.cases);
+        if (subject == node.subject && cases == node.cases) {
+            return node;
+        }
+        return new StmtTy.Match(subject, cases, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.Raise node) {
+        ExprTy exc = expr(node.exc);
+        ExprTy cause = expr(node.cause);
+        if (exc == node.exc && cause == node.cause) {
+            return node;
+        }
+        return new StmtTy.Raise(exc, cause, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.Try node) {
+        StmtTy[] body = body(node.body);
+        ExceptHandlerTy[] handlers = seq(node.handlers);
+        StmtTy[] orElse = body(node.orElse);
+        StmtTy[] finalBody = body(node.finalBody);
+        if (body == node.body && handlers == node.handlers && orElse == node.orElse && finalBody == node.finalBody) {
+            return node;
+        }
+        return new StmtTy.Try(body, handlers, orElse, finalBody, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.TryStar node) {
+        StmtTy[] body = body(node.body);
+        ExceptHandlerTy[] handlers = seq(node.handlers);
+        StmtTy[] orElse = body(node.orElse);
+        StmtTy[] finalBody = body(node.finalBody);
+        if (body == node.body && handlers == node.handlers && orElse == node.orElse && finalBody == node.finalBody) {
+            return node;
+        }
+        return new StmtTy.TryStar(body, handlers, orElse, finalBody, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.Assert node) {
+        ExprTy test = expr(node.test);
+        ExprTy msg = expr(node.msg);
+        if (test == node.test && msg == node.msg) {
+            return node;
+        }
+        return new StmtTy.Assert(test, msg, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.Import node) {
+        return node;
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.ImportFrom node) {
+        return node;
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.Global node) {
+        return node;
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.Nonlocal node) {
+        return node;
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.Expr node) {
+        ExprTy value = expr(node.value);
+        if (value == node.value) {
+            return node;
+        }
+        return new StmtTy.Expr(value, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.Pass node) {
+        return node;
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.Break node) {
+        return node;
+    }
+
+    @Override
+    public SSTNode visit(StmtTy.Continue node) {
+        return node;
+    }
+
+    // expressions
+
+    @Override
+    public SSTNode visit(ExprTy.BoolOp node) {
+        ExprTy[] values = seq(node.values);
+        if (values == node.values) {
+            return node;
+        }
+        return new ExprTy.BoolOp(node.op, values, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.NamedExpr node) {
+        ExprTy value = expr(node.value);
+        if (value == node.value) {
+            return node;
+        }
+        return new ExprTy.NamedExpr(node.target, value, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.BinOp node) {
+        ExprTy left = expr(node.left);
+        ExprTy right = expr(node.right);
+        if (left instanceof ExprTy.Constant l && right instanceof ExprTy.Constant r) {
+            ConstantValue result = foldBinOp(l.value, node.op, r.value);
+            if (result != null) {
+                return constant(result, node);
+            }
+        }
+        if (left == node.left && right == node.right) {
+            return node;
+        }
+        return new ExprTy.BinOp(left, node.op, right, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.UnaryOp node) {
+        ExprTy operand = expr(node.operand);
+        if (operand instanceof ExprTy.Constant c) {
+            ConstantValue result = foldUnaryOp(node.op, c.value);
+            if (result != null) {
+                return constant(result, node);
+            }
+        } else if (node.op == UnaryOpTy.Not && operand instanceof ExprTy.Compare compare && compare.ops.length == 1) {
+            // "not a in b" -> "a not in b", "not a is b" -> "a is not b"
+            CmpOpTy inverse = switch (compare.ops[0]) {
+                case In -> CmpOpTy.NotIn;
+                case NotIn -> CmpOpTy.In;
+                case Is -> CmpOpTy.IsNot;
+                case IsNot -> CmpOpTy.Is;
+                default -> null;
+            };
+            if (inverse != null) {
+                return new ExprTy.Compare(compare.left, new CmpOpTy[]{inverse}, compare.comparators, node.getSourceRange());
+            }
+        }
+        if (operand == node.operand) {
+            return node;
+        }
+        return new ExprTy.UnaryOp(node.op, operand, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.Lambda node) {
+        ArgumentsTy args = (ArgumentsTy) node.args.accept(this);
+        ExprTy body = expr(node.body);
+        if (args == node.args && body == node.body) {
+            return node;
+        }
+        return new ExprTy.Lambda(args, body, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.IfExp node) {
+        ExprTy test = expr(node.test);
+        ExprTy body = expr(node.body);
+        ExprTy orElse = expr(node.orElse);
+        if (test == node.test && body == node.body && orElse == node.orElse) {
+            return node;
+        }
+        return new ExprTy.IfExp(test, body, orElse, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.Dict node) {
+        ExprTy[] keys = seq(node.keys);
+        ExprTy[] values = seq(node.values);
+        if (keys == node.keys && values == node.values) {
+            return node;
+        }
+        return new ExprTy.Dict(keys, values, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.Set node) {
+        ExprTy[] elements = seq(node.elements);
+        if (elements == node.elements) {
+            return node;
+        }
+        return new ExprTy.Set(elements, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.ListComp node) {
+        ExprTy element = expr(node.element);
+        ComprehensionTy[] generators = seq(node.generators);
+        if (element == node.element && generators == node.generators) {
+            return node;
+        }
+        return new ExprTy.ListComp(element, generators, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.SetComp node) {
+        ExprTy element = expr(node.element);
+        ComprehensionTy[] generators = seq(node.generators);
+        if (element == node.element && generators == node.generators) {
+            return node;
+        }
+        return new ExprTy.SetComp(element, generators, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.DictComp node) {
+        ExprTy key = expr(node.key);
+        ExprTy value = expr(node.value);
+        ComprehensionTy[] generators = seq(node.generators);
+        if (key == node.key && value == node.value && generators == node.generators) {
+            return node;
+        }
+        return new ExprTy.DictComp(key, value, generators, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.GeneratorExp node) {
+        ExprTy element = expr(node.element);
+        ComprehensionTy[] generators = seq(node.generators);
+        if (element == node.element && generators == node.generators) {
+            return node;
+        }
+        return new ExprTy.GeneratorExp(element, generators, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.Await node) {
+        ExprTy value = expr(node.value);
+        if (value == node.value) {
+            return node;
+        }
+        return new ExprTy.Await(value, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.Yield node) {
+        ExprTy value = expr(node.value);
+        if (value == node.value) {
+            return node;
+        }
+        return new ExprTy.Yield(value, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.YieldFrom node) {
+        ExprTy value = expr(node.value);
+        if (value == node.value) {
+            return node;
+        }
+        return new ExprTy.YieldFrom(value, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.Compare node) {
+        ExprTy left = expr(node.left);
+        ExprTy[] comparators = seq(node.comparators);
+        int last = node.ops.length - 1;
+        if (node.ops[last] == CmpOpTy.In || node.ops[last] == CmpOpTy.NotIn) {
+            ExprTy container = foldIter(comparators[last]);
+            if (container != comparators[last]) {
+                if (comparators == node.comparators) {
+                    comparators = comparators.clone();
+                }
+                comparators[last] = container;
+            }
+        }
+        if (left == node.left && comparators == node.comparators) {
+            return node;
+        }
+        return new ExprTy.Compare(left, node.ops, comparators, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.Call node) {
+        ExprTy func = expr(node.func);
+        ExprTy[] args = seq(node.args);
+        KeywordTy[] keywords = seq(node.keywords);
+        if (func == node.func && args == node.args && keywords == node.keywords) {
+            return node;
+        }
+        return new ExprTy.Call(func, args, keywords, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.FormattedValue node) {
+        ExprTy value = expr(node.value);
+        ExprTy formatSpec = expr(node.formatSpec);
+        if (value == node.value && formatSpec == node.formatSpec) {
+            return node;
+        }
+        return new ExprTy.FormattedValue(value, node.conversion, formatSpec, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.JoinedStr node) {
+        ExprTy[] values = seq(node.values);
+        if (values == node.values) {
+            return node;
+        }
+        return new ExprTy.JoinedStr(values, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.Constant node) {
+        return node;
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.Attribute node) {
+        ExprTy value = expr(node.value);
+        if (value == node.value) {
+            return node;
+        }
+        return new ExprTy.Attribute(value, node.attr, node.context, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.Subscript node) {
+        ExprTy value = expr(node.value);
+        ExprTy slice = expr(node.slice);
+        if (node.context == ExprContextTy.Load && value instanceof ExprTy.Constant v && slice instanceof ExprTy.Constant s) {
+            ConstantValue result = foldSubscript(v.value, s.value);
+            if (result != null) {
+                return constant(result, node);
+            }
+        }
+        if (value == node.value && slice == node.slice) {
+            return node;
+        }
+        return new ExprTy.Subscript(value, slice, node.context, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.Starred node) {
+        ExprTy value = expr(node.value);
+        if (value == node.value) {
+            return node;
+        }
+        return new ExprTy.Starred(value, node.context, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.Name node) {
+        if (node.context == ExprContextTy.Load && "__debug__".equals(node.id)) {
+            return constant(ConstantValue.ofBoolean(optimizationLevel <= 0), node);
+        }
+        return node;
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.List node) {
+        ExprTy[] elements = seq(node.elements);
+        if (elements == node.elements) {
+            return node;
+        }
+        return new ExprTy.List(elements, node.context, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.Tuple node) {
+        ExprTy[] elements = seq(node.elements);
+        if (node.context == ExprContextTy.Load) {
+            ConstantValue[] values = constantValues(elements);
+            if (values != null) {
+                return constant(ConstantValue.ofTuple(values), node);
+            }
+        }
+        if (elements == node.elements) {
+            return node;
+        }
+        return new ExprTy.Tuple(elements, node.context, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExprTy.Slice node) {
+        ExprTy lower = expr(node.lower);
+        ExprTy upper = expr(node.upper);
+        ExprTy step = expr(node.step);
+        if (lower == node.lower && upper == node.upper && step == node.step) {
+            return node;
+        }
+        return new ExprTy.Slice(lower, upper, step, node.getSourceRange());
+    }
+
+    // other nodes
+
+    @Override
+    public SSTNode visit(ComprehensionTy node) {
+        ExprTy target = expr(node.target);
+        ExprTy iter = expr(node.iter);
+        if (!node.isAsync) {
+            iter = foldIter(iter);
+        }
+        ExprTy[] ifs = seq(node.ifs);
+        if (target == node.target && iter == node.iter && ifs == node.ifs) {
+            return node;
+        }
+        return new ComprehensionTy(target, iter, ifs, node.isAsync, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ExceptHandlerTy.ExceptHandler node) {
+        ExprTy type = expr(node.type);
+        StmtTy[] body = body(node.body);
+        if (type == node.type && body == node.body) {
+            return node;
+        }
+        return new ExceptHandlerTy.ExceptHandler(type, node.name, body, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ArgumentsTy node) {
+        ArgTy[] posOnlyArgs = seq(node.posOnlyArgs);
+        ArgTy[] args = seq(node.args);
+        ArgTy varArg = node.varArg == null ? null : (ArgTy) node.varArg.accept(this);
+        ArgTy[] kwOnlyArgs = seq(node.kwOnlyArgs);
+        ExprTy[] kwDefaults = seq(node.kwDefaults);
+        ArgTy kwArg = node.kwArg == null ? null : (ArgTy) node.kwArg.accept(this);
+        ExprTy[] defaults = seq(node.defaults);
+        if (posOnlyArgs == node.posOnlyArgs && args == node.args && varArg == node.varArg && kwOnlyArgs == node.kwOnlyArgs && kwDefaults == node.kwDefaults && kwArg == node.kwArg &&
+                        defaults == node.defaults) {
+            return node;
+        }
+        return new ArgumentsTy(posOnlyArgs, args, varArg, kwOnlyArgs, kwDefaults, kwArg, defaults, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(ArgTy node) {
+        ExprTy annotation = annotation(node.annotation);
+        if (annotation == node.annotation) {
+            return node;
+        }
+        return new ArgTy(node.arg, annotation, node.typeComment, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(KeywordTy node) {
+        ExprTy value = expr(node.value);
+        if (value == node.value) {
+            return node;
+        }
+        return new KeywordTy(node.arg, value, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(AliasTy node) {
+        return node;
+    }
+
+    @Override
+    public SSTNode visit(WithItemTy node) {
+        ExprTy contextExpr = expr(node.contextExpr);
+        ExprTy optionalVars = expr(node.optionalVars);
+        if (contextExpr == node.contextExpr && optionalVars == node.optionalVars) {
+            return node;
+        }
+        return new WithItemTy(contextExpr, optionalVars, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(MatchCaseTy node) {
+        ExprTy guard = expr(node.guard);
+        StmtTy[] body = body(node.body);
+        if (guard == node.guard && body == node.body) {
+            return node;
+        }
+        return new MatchCaseTy(node.pattern, guard, body, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(PatternTy.MatchValue node) {
+        return node;
+    }
+
+    @Override
+    public SSTNode visit(PatternTy.MatchSingleton node) {
+        return node;
+    }
+
+    @Override
+    public SSTNode visit(PatternTy.MatchSequence node) {
+        return node;
+    }
+
+    @Override
+    public SSTNode visit(PatternTy.MatchMapping node) {
+        return node;
+    }
+
+    @Override
+    public SSTNode visit(PatternTy.MatchClass node) {
+        return node;
+    }
+
+    @Override
+    public SSTNode visit(PatternTy.MatchStar node) {
+        return node;
+    }
+
+    @Override
+    public SSTNode visit(PatternTy.MatchAs node) {
+        return node;
+    }
+
+    @Override
+    public SSTNode visit(PatternTy.MatchOr node) {
+        return node;
+    }
+
+    @Override
+    public SSTNode visit(TypeParamTy.TypeVar node) {
+        ExprTy bound = expr(node.bound);
+        if (bound == node.bound) {
+            return node;
+        }
+        return new TypeParamTy.TypeVar(node.name, bound, node.getSourceRange());
+    }
+
+    @Override
+    public SSTNode visit(TypeParamTy.ParamSpec node) {
+        return node;
+    }
+
+    @Override
+    public SSTNode visit(TypeParamTy.TypeVarTuple node) {
+        return node;
+    }
+
+    // folding
+
+    private static boolean isInt(ConstantValue v) {
+        return v.kind == Kind.LONG || v.kind == Kind.BIGINTEGER || v.kind == Kind.BOOLEAN;
+    }
+
+    private static BigInteger toBigInteger(ConstantValue v) {
+        return switch (v.kind) {
+            case LONG -> BigInteger.valueOf(v.getLong());
+            case BIGINTEGER -> v.getBigInteger();
+            case BOOLEAN -> v.getBoolean() ? BigInteger.ONE : BigInteger.ZERO;
+            default -> throw new IllegalStateException("not an int: " + v.kind);
+        };
+    }
+
+    private static ConstantValue ofInt(BigInteger v) {
+        return v.bitLength() < Long.SIZE ? ConstantValue.ofLong(v.longValue()) : ConstantValue.ofBigInteger(v);
+    }
+
+    /**
+     * Converts an int or float constant to a double, returns {@code null} for other kinds and for
+     * ints that do not fit into a double.
+     */
+    private static Double toDouble(ConstantValue v) {
+        switch (v.kind) {
+            case DOUBLE:
+                return v.getDouble();
+            case LONG:
+                return (double) v.getLong();
+            case BOOLEAN:
+                return v.getBoolean() ? 1.0 : 0.0;
+            case BIGINTEGER:
+                double d = v.getBigInteger().doubleValue();
+                return Double.isInfinite(d) ? null : d;
+            default:
+                return null;
+        }
+    }
+
+    private static ConstantValue foldUnaryOp(UnaryOpTy op, ConstantValue v) {
+        switch (op) {
+            case Not:
+                return ConstantValue.ofBoolean(!v.isTruthy());
+            case USub:
+                if (isInt(v)) {
+                    return ofInt(toBigInteger(v).negate());
+                }
+                if (v.kind == Kind.DOUBLE || v.kind == Kind.COMPLEX) {
+                    return v.negate();
+                }
+                return null;
+            case UAdd:
+                if (v.kind == Kind.BOOLEAN) {
+                    return ConstantValue.ofLong(v.getBoolean() ? 1 : 0);
+                }
+                if (v.kind == Kind.LONG || v.kind == Kind.BIGINTEGER || v.kind == Kind.DOUBLE || v.kind == Kind.COMPLEX) {
+                    return v;
+                }
+                return null;
+            case Invert:
+                // ~bool is deprecated and must warn at runtime
+                if (v.kind == Kind.LONG || v.kind == Kind.BIGINTEGER) {
+                    return ofInt(toBigInteger(v).not());
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private static ConstantValue foldBinOp(ConstantValue l, OperatorTy op, ConstantValue r) {
+        if (isInt(l) && isInt(r)) {
+            if (l.kind == Kind.BOOLEAN && r.kind == Kind.BOOLEAN) {
+                switch (op) {
+                    case BitAnd:
+                        return ConstantValue.ofBoolean(l.getBoolean() & r.getBoolean());
+                    case BitOr:
+                        return ConstantValue.ofBoolean(l.getBoolean() | r.getBoolean());
+                    case BitXor:
+                        return ConstantValue.ofBoolean(l.getBoolean() ^ r.getBoolean());
+                    default:
+                        break;
+                }
+            }
+            return foldIntBinOp(toBigInteger(l), op, toBigInteger(r));
+        }
+        if (l.kind == Kind.COMPLEX || r.kind == Kind.COMPLEX) {
+            return foldComplexBinOp(l, op, r);
+        }
+        if (l.kind == Kind.DOUBLE || r.kind == Kind.DOUBLE) {
+            Double ld = toDouble(l);
+            Double rd = toDouble(r);
+            if (ld != null && rd != null) {
+                return foldDoubleBinOp(ld, op, rd);
+            }
+            return null;
+        }
+        if (op == OperatorTy.Add && l.kind == r.kind) {
+            return foldConcat(l, r);
+        }
+        if (op == OperatorTy.Mult) {
+            if (isInt(r)) {
+                return foldRepeat(l, toBigInteger(r));
+            } else if (isInt(l)) {
+                return foldRepeat(r, toBigInteger(l));
+            }
+        }
+        return null;
+    }
+
+    private static ConstantValue foldIntBinOp(BigInteger l, OperatorTy op, BigInteger r) {
+        switch (op) {
+            case Add:
+                return ofInt(l.add(r));
+            case Sub:
+                return ofInt(l.subtract(r));
+            case Mult:
+                if (l.signum() != 0 && r.signum() != 0 && l.bitLength() + r.bitLength() > MAX_INT_SIZE) {
+                    return null;
+                }
+                return ofInt(l.multiply(r));
+            case Div:
+                // both operands are exactly representable, so the division is correctly rounded
+                if (r.signum() == 0 || l.abs().compareTo(MAX_EXACT_DOUBLE_INT) > 0 || r.abs().compareTo(MAX_EXACT_DOUBLE_INT) > 0) {
+                    return null;
+                }
+                return ConstantValue.ofDouble(l.doubleValue() / r.doubleValue());
+            case FloorDiv:
+                if (r.signum() == 0) {
+                    return null;
+                }
+                return ofInt(floorDivMod(l, r)[0]);
+            case Mod:
+                if (r.signum() == 0) {
+                    return null;
+                }
+                return ofInt(floorDivMod(l, r)[1]);
+            case Pow:
+                if (r.signum() < 0 || r.bitLength() >= Integer.SIZE) {
+                    return null;
+                }
+                if (l.signum() != 0 && r.signum() > 0 && l.bitLength() > MAX_INT_SIZE / r.intValue()) {
+                    return null;
+                }
+                return ofInt(l.pow(r.intValue()));
+            case LShift:
+                if (r.signum() < 0) {
+                    return null;
+                }
+                if (l.signum() != 0 && r.signum() != 0) {
+                    if (r.compareTo(BigInteger.valueOf(MAX_INT_SIZE)) > 0 || l.bitLength() > MAX_INT_SIZE - r.intValue()) {
+                        return null;
+                    }
+                }
+                return ofInt(l.shiftLeft(r.intValue()));
+            case RShift:
+                if (r.signum() < 0) {
+                    return null;
+                }
+                if (r.bitLength() >= Integer.SIZE) {
+                    return ConstantValue.ofLong(l.signum() < 0 ? -1 : 0);
+                }
+                return ofInt(l.shiftRight(r.intValue()));
+            case BitAnd:
+                return ofInt(l.and(r));
+            case BitOr:
+                return ofInt(l.or(r));
+            case BitXor:
+                return ofInt(l.xor(r));
+            default:
+                return null;
+        }
+    }
+
+    private static BigInteger[] floorDivMod(BigInteger l, BigInteger r) {
+        BigInteger[] qr = l.divideAndRemainder(r);
+        if (qr[1].signum() != 0 && qr[1].signum() != r.signum()) {
+            qr[0] = qr[0].subtract(BigInteger.ONE);
+            qr[1] = qr[1].add(r);
+        }
+        return qr;
+    }
+
+    private static ConstantValue foldDoubleBinOp(double l, OperatorTy op, double r) {
+        switch (op) {
+            case Add:
+                return ConstantValue.ofDouble(l + r);
+            case Sub:
+                return ConstantValue.ofDouble(l - r);
+            case Mult:
+                return ConstantValue.ofDouble(l * r);
+            case Div:
+                if (r == 0.0) {
+                    return null;
+                }
+                return ConstantValue.ofDouble(l / r);
+            case FloorDiv:
+                if (r == 0.0) {
+                    return null;
+                }
+                return ConstantValue.ofDouble(floatDivMod(l, r)[0]);
+            case Mod:
+                if (r == 0.0) {
+                    return null;
+                }
+                return ConstantValue.ofDouble(floatDivMod(l, r)[1]);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Same as CPython's {@code _float_div_mod}.
+     */
+    private static double[] floatDivMod(double vx, double wx) {
+        double mod = vx % wx;
+        double div = (vx - mod) / wx;
+        if (mod != 0.0) {
+            if ((wx < 0) != (mod < 0)) {
+                mod += wx;
+                div -= 1.0;
+            }
+        } else {
+            mod = Math.copySign(0.0, wx);
+        }
+        double floordiv;
+        if (div != 0.0) {
+            floordiv = Math.floor(div);
+            if (div - floordiv > 0.5) {
+                floordiv += 1.0;
+            }
+        } else {
+            floordiv = Math.copySign(0.0, vx / wx);
+        }
+        return new double[]{floordiv, mod};
+    }
+
+    private static ConstantValue foldComplexBinOp(ConstantValue l, OperatorTy op, ConstantValue r) {
+        double[] a = toComplex(l);
+        double[] b = toComplex(r);
+        if (a == null || b == null) {
+            return null;
+        }
+        switch (op) {
+            case Add:
+                return ConstantValue.ofComplex(a[0] + b[0], a[1] + b[1]);
+            case Sub:
+                return ConstantValue.ofComplex(a[0] - b[0], a[1] - b[1]);
+            case Mult:
+                return ConstantValue.ofComplex(a[0] * b[0] - a[1] * b[1], a[0] * b[1] + a[1] * b[0]);
+            default:
+                return null;
+        }
+    }
+
+    private static double[] toComplex(ConstantValue v) {
+        if (v.kind == Kind.COMPLEX) {
+            return v.getComplex();
+        }
+        Double d = toDouble(v);
+        return d == null ? null : new double[]{d, 0.0};
+    }
+
+    private static ConstantValue foldConcat(ConstantValue l, ConstantValue r) {
+        switch (l.kind) {
+            case CODEPOINTS: {
+                CodePoints a = l.getCodePoints();
+                CodePoints b = r.getCodePoints();
+                if (a.getLength() + b.getLength() > MAX_STR_SIZE) {
+                    return null;
+                }
+                CodePoints.Builder builder = new CodePoints.Builder(a.getLength() + b.getLength());
+                builder.appendCodePoints(a);
+                builder.appendCodePoints(b);
+                return ConstantValue.ofCodePoints(builder.build());
+            }
+            case BYTES: {
+                byte[] a = l.getBytes();
+                byte[] b = r.getBytes();
+                if (a.length + b.length > MAX_STR_SIZE) {
+                    return null;
+                }
+                byte[] result = new byte[a.length + b.length];
+                System.arraycopy(a, 0, result, 0, a.length);
+                System.arraycopy(b, 0, result, a.length, b.length);
+                return ConstantValue.ofBytes(result);
+            }
+            case TUPLE: {
+                ConstantValue[] a = l.getTupleElements();
+                ConstantValue[] b = r.getTupleElements();
+                if (a.length + b.length > MAX_COLLECTION_SIZE) {
+                    return null;
+                }
+                ConstantValue[] result = new ConstantValue[a.length + b.length];
+                System.arraycopy(a, 0, result, 0, a.length);
+                System.arraycopy(b, 0, result, a.length, b.length);
+                return ConstantValue.ofTuple(result);
+            }
+            default:
+                return null;
+        }
+    }
+
+    private static ConstantValue foldRepeat(ConstantValue seq, BigInteger count) {
+        int size;
+        switch (seq.kind) {
+            case CODEPOINTS:
+                size = seq.getCodePoints().getLength();
+                break;
+            case BYTES:
+                size = seq.getBytes().length;
+                break;
+            case TUPLE:
+                size = seq.getTupleElements().length;
+                break;
+            default:
+                return null;
+        }
+        if (count.signum() < 0) {
+            return null;
+        }
+        int limit = seq.kind == Kind.TUPLE ? MAX_COLLECTION_SIZE : MAX_STR_SIZE;
+        if (size > 0 && count.compareTo(BigInteger.valueOf(limit / size)) > 0) {
+            return null;
+        }
+        int n = size == 0 ? 0 : count.intValue();
+        switch (seq.kind) {
+            case CODEPOINTS: {
+                CodePoints cp = seq.getCodePoints();
+                CodePoints.Builder builder = new CodePoints.Builder(size * n);
+                for (int i = 0; i < n; i++) {
+                    builder.appendCodePoints(cp);
+                }
+                return ConstantValue.ofCodePoints(builder.build());
+            }
+            case BYTES: {
+                byte[] bytes = seq.getBytes();
+                byte[] result = new byte[size * n];
+                for (int i = 0; i < n; i++) {
+                    System.arraycopy(bytes, 0, result, i * size, size);
+                }
+                return ConstantValue.ofBytes(result);
+            }
+            default: {
+                ConstantValue[] elements = seq.getTupleElements();
+                if (n > 0 && countItems(elements) > MAX_TOTAL_ITEMS / n) {
+                    return null;
+                }
+                ConstantValue[] result = new ConstantValue[size * n];
+                for (int i = 0; i < n; i++) {
+                    System.arraycopy(elements, 0, result, i * size, size);
+                }
+                return ConstantValue.ofTuple(result);
+            }
+        }
+    }
+
+    private static int countItems(ConstantValue[] elements) {
+        int count = elements.length;
+        for (ConstantValue v : elements) {
+            if (v.kind == Kind.TUPLE) {
+                count += countItems(v.getTupleElements());
+            } else if (v.kind == Kind.FROZENSET) {
+                count += countItems(v.getFrozensetElements());
+            }
+        }
+        return count;
+    }
+
+    private static ConstantValue foldSubscript(ConstantValue value, ConstantValue index) {
+        if (!isInt(index)) {
+            return null;
+        }
+        int length;
+        switch (value.kind) {
+            case CODEPOINTS:
+                length = value.getCodePoints().getLength();
+                break;
+            case BYTES:
+                length = value.getBytes().length;
+                break;
+            case TUPLE:
+                length = value.getTupleElements().length;
+                break;
+            default:
+                return null;
+        }
+        BigInteger i = toBigInteger(index);
+        if (i.signum() < 0) {
+            i = i.add(BigInteger.valueOf(length));
+        }
+        if (i.signum() < 0 || i.compareTo(BigInteger.valueOf(length)) >= 0) {
+            return null;
+        }
+        int idx = i.intValue();
+        return switch (value.kind) {
+            case CODEPOINTS -> ConstantValue.ofCodePoints(CodePoints.fromBuffer(new int[]{value.getCodePoints().get(idx)}, 0, 1));
+            case BYTES -> ConstantValue.ofLong(Byte.toUnsignedInt(value.getBytes()[idx]));
+            default -> value.getTupleElements()[idx];
+        };
+    }
+}
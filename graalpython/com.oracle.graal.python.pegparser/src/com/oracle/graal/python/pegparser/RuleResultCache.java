@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -40,54 +40,128 @@
  */
 package com.oracle.graal.python.pegparser;
 
-import java.util.HashMap;
+import java.util.Arrays;
 
 /**
- * Cache that is used in the generated parser. Really just a convenient interface around nested
- * HashMaps mapping <code>
- * (int tokenPos) -> (int ruleId) -> (T cachedItem)
- * </code>
+ * Cache that is used in the generated parser. It maps <code>
+ * (int tokenPos, int ruleId) -> (T cachedItem, int endPos)
+ * </code> using a flat open-addressing table keyed by the position and the rule id packed into a
+ * single {@code long}, so that neither lookups nor insertions box the keys or allocate per token.
  */
 class RuleResultCache<T> {
 
+    private static final long EMPTY = -1L;
+    private static final int MIN_CAPACITY = 64;
+    private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+    /*
+     * Rough number of memoized results per source character, large sources tend to settle at
+     * about one token per four characters and a handful of memoized rules per token.
+     */
+    private static final int CHARS_PER_ENTRY = 2;
+
     private final AbstractParser parser;
 
-    private static class CachedItem<T> {
+    private long[] keys;
+    private Object[] nodes;
+    private int[] endPositions;
+    private int size;
+    private int shift;
+    // slot found by the last successful hasResult, getResult is always called right after it
+    private int lastSlot = -1;
 
-        final T node;
-        final int endPos;
+    public RuleResultCache(AbstractParser parser, int sourceLength) {
+        this.parser = parser;
+        int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.min(MAX_INITIAL_CAPACITY, sourceLength / CHARS_PER_ENTRY)) << 1);
+        allocate(capacity);
+    }
 
-        CachedItem(T node, int endPos) {
-            this.node = node;
-            this.endPos = endPos;
-        }
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+        nodes = new Object[capacity];
+        endPositions = new int[capacity];
+        shift = Long.numberOfLeadingZeros(capacity - 1);
     }
 
-    // HashMap<start pos, HashMap<rule id, (result, end pos)>>
-    private final HashMap<Integer, HashMap<Integer, CachedItem<T>>> mainCache;
+    private static long key(int pos, int ruleId) {
+        assert pos >= 0 && ruleId >= 0;
+        return ((long) pos << 32) | ruleId;
+    }
 
-    public RuleResultCache(AbstractParser parser) {
-        this.parser = parser;
-        this.mainCache = new HashMap<>();
+    /**
+     * Returns the slot holding {@code key}, or the empty slot where it should be inserted.
+     */
+    private int findSlot(long key) {
+        int mask = keys.length - 1;
+        // Fibonacci hashing spreads the consecutive positions and rule ids over the table
+        int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> shift) & mask;
+        while (true) {
+            long k = keys[slot];
+            if (k == key || k == EMPTY) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
     }
 
     public boolean hasResult(int pos, int ruleId) {
-        return mainCache.containsKey(pos) && mainCache.get(pos).containsKey(ruleId);
+        long key = key(pos, ruleId);
+        int slot = findSlot(key);
+        if (keys[slot] == key) {
+            lastSlot = slot;
+            return true;
+        }
+        return false;
     }
 
+    @SuppressWarnings("unchecked")
     public T getResult(int pos, int ruleId) {
-        CachedItem<T> item = mainCache.get(pos).get(ruleId);
-        parser.reset(item.endPos);
-        return item.node;
+        long key = key(pos, ruleId);
+        int slot = lastSlot;
+        if (slot < 0 || keys[slot] != key) {
+            slot = findSlot(key);
+            assert keys[slot] == key;
+        }
+        parser.reset(endPositions[slot]);
+        return (T) nodes[slot];
     }
 
     public T putResult(int pos, int ruleId, T node) {
-        HashMap<Integer, CachedItem<T>> posCache = mainCache.computeIfAbsent(pos, k -> new HashMap<>());
-        posCache.put(ruleId, new CachedItem<>(node, parser.mark()));
+        long key = key(pos, ruleId);
+        int slot = findSlot(key);
+        if (keys[slot] == EMPTY) {
+            if ((size + 1) * 4L > keys.length * 3L) {
+                grow();
+                slot = findSlot(key);
+            }
+            keys[slot] = key;
+            size++;
+        }
+        nodes[slot] = node;
+        endPositions[slot] = parser.mark();
         return node;
     }
 
+    private void grow() {
+        long[] oldKeys = keys;
+        Object[] oldNodes = nodes;
+        int[] oldEndPositions = endPositions;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = findSlot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                nodes[slot] = oldNodes[i];
+                endPositions[slot] = oldEndPositions[i];
+            }
+        }
+        lastSlot = -1;
+    }
+
     public void clear() {
-        mainCache.clear();
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(nodes, null);
+        size = 0;
+        lastSlot = -1;
     }
 }
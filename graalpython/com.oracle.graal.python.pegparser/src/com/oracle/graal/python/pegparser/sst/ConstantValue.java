@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -192,6 +192,39 @@ public final class ConstantValue {
         }
     }
 
+    /**
+     * Returns the truth value of the constant with the semantics of Python's {@code bool()}.
+     */
+    public boolean isTruthy() {
+        switch (kind) {
+            case NONE:
+                return false;
+            case ELLIPSIS:
+                return true;
+            case BOOLEAN:
+                return getBoolean();
+            case LONG:
+                return getLong() != 0;
+            case BIGINTEGER:
+                return getBigInteger().signum() != 0;
+            case DOUBLE:
+                return getDouble() != 0.0;
+            case COMPLEX:
+                double[] complex = getComplex();
+                return complex[0] != 0.0 || complex[1] != 0.0;
+            case CODEPOINTS:
+                return !getCodePoints().isEmpty();
+            case BYTES:
+                return getBytes().length != 0;
+            case TUPLE:
+                return getTupleElements().length != 0;
+            case FROZENSET:
+                return getFrozensetElements().length != 0;
+            default:
+                throw new IllegalStateException("should not reach here");
+        }
+    }
+
     public static ConstantValue ofLong(long v) {
         if (v >= CACHED_MIN && v <= CACHED_MAX) {
             return CACHED_LONGS[(int) (v - CACHED_MIN)];
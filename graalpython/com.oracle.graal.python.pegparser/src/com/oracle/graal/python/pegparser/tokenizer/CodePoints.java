@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2024, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -62,6 +62,20 @@ public final class CodePoints {
         return length == 0 ? EMPTY : new CodePoints(buffer, offset, length);
     }
 
+    /**
+     * Creates code points from a buffer that stores one code point below 256 per byte.
+     */
+    public static CodePoints fromLatin1Buffer(byte[] buffer, int offset, int length) {
+        if (length == 0) {
+            return EMPTY;
+        }
+        int[] codePoints = new int[length];
+        for (int i = 0; i < length; i++) {
+            codePoints[i] = buffer[offset + i] & 0xFF;
+        }
+        return new CodePoints(codePoints, 0, length);
+    }
+
     public static CodePoints fromJavaString(String s) {
         Builder b = new Builder(s.length());
         int o = 0;
@@ -1,4 +1,4 @@
-/* Copyright (c) 2021, 2025, Oracle and/or its affiliates.
+/* Copyright (c) 2021, 2026, Oracle and/or its affiliates.
  * Copyright (C) 1996-2021 Python Software Foundation
  *
  * Licensed under the PYTHON SOFTWARE FOUNDATION LICENSE VERSION 2
@@ -98,6 +98,11 @@ public class Tokenizer {
 
     /** {@code tok_state->buf, tok_state->str, tok_state->input} */
     private int[] codePointsInput;
+    /**
+     * Input of sources in which every code point is below 256, stored one byte per code point.
+     * Exactly one of {@link #codePointsInput} and {@link #latin1Input} is non-null.
+     */
+    private final byte[] latin1Input;
     /** {@code tok_state->inp} - end of data in buffer */
     private int codePointsInputLength;
     /** {@code tok_state->cur} */
@@ -169,9 +174,20 @@ public class Tokenizer {
     // error_ret
 
     private Tokenizer(ParserCallbacks parserCallbacks, int[] codePointsInput, EnumSet<Flag> flags, SourceRange inputSourceRange, Supplier<int[]> inputSupplier) {
+        this(parserCallbacks, codePointsInput, null, flags, inputSourceRange, inputSupplier);
+    }
+
+    private Tokenizer(ParserCallbacks parserCallbacks, byte[] latin1Input, EnumSet<Flag> flags, SourceRange inputSourceRange) {
+        this(parserCallbacks, null, latin1Input, flags, inputSourceRange, null);
+    }
+
+    private Tokenizer(ParserCallbacks parserCallbacks, int[] codePointsInput, byte[] latin1Input, EnumSet<Flag> flags, SourceRange inputSourceRange, Supplier<int[]> inputSupplier) {
+        assert (codePointsInput == null) != (latin1Input == null);
+        assert latin1Input == null || inputSupplier == null;
         this.parserCallbacks = parserCallbacks;
         this.codePointsInput = codePointsInput;
-        this.codePointsInputLength = codePointsInput.length;
+        this.latin1Input = latin1Input;
+        this.codePointsInputLength = latin1Input != null ? latin1Input.length : codePointsInput.length;
         this.execInput = flags.contains(Flag.EXEC_INPUT);
         this.interactive = flags.contains(Flag.INTERACTIVE);
         this.lookForTypeComments = flags.contains(Flag.TYPE_COMMENT);
@@ -196,6 +212,7 @@ public class Tokenizer {
         parserCallbacks = t.parserCallbacks;
         execInput = t.execInput;
         codePointsInput = t.codePointsInput;
+        latin1Input = t.latin1Input;
         codePointsInputLength = t.codePointsInputLength;
         nextCharIndex = t.nextCharIndex;
         interactive = t.interactive;
@@ -395,10 +412,85 @@ public class Tokenizer {
         // with those in the call to get the next character
         int sourceStart = getSourceStart(code);
         Charset fileEncoding = detectEncoding(sourceStart, code);
-        int[] codePointsInput = charsToCodePoints(fileEncoding.decode(ByteBuffer.wrap(code, sourceStart, code.length)).array());
+        if (StandardCharsets.ISO_8859_1.equals(fileEncoding) || (isAsciiCompatible(fileEncoding) && isAscii(code, sourceStart))) {
+            // every byte is exactly one code point, lex the bytes without decoding them
+            return new Tokenizer(parserCallbacks, bytesToLatin1(code, sourceStart), flags, null);
+        }
+        int[] codePointsInput = charsToCodePoints(fileEncoding.decode(ByteBuffer.wrap(code, sourceStart, code.length - sourceStart)).array());
         return new Tokenizer(parserCallbacks, codePointsInput, flags, null, null);
     }
 
+    private static boolean isAscii(byte[] code, int start) {
+        for (int i = start; i < code.length; i++) {
+            if (code[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiCompatible(Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset);
+    }
+
+    /**
+     * Like {@link #charsToCodePoints(char[])}, but for inputs that are known to consist of code
+     * points below 256 only. Translates newlines and keeps one byte per code point.
+     */
+    private static byte[] bytesToLatin1(byte[] code, int start) {
+        int length = 0;
+        boolean skipNextLf = false;
+        for (int i = start; i < code.length; i++) {
+            byte b = code[i];
+            if (!skipNextLf || b != '\n') {
+                length++;
+            }
+            skipNextLf = b == '\r';
+        }
+        byte[] result = new byte[length];
+        int j = 0;
+        skipNextLf = false;
+        for (int i = start; i < code.length; i++) {
+            byte b = code[i];
+            if (!skipNextLf || b != '\n') {
+                result[j++] = b == '\r' ? (byte) '\n' : b;
+            }
+            skipNextLf = b == '\r';
+        }
+        return result;
+    }
+
+    /**
+     * Returns the source in the one byte per code point form with translated newlines, or
+     * {@code null} if it contains any code point above 255.
+     */
+    private static byte[] stringToLatin1(String code) {
+        int length = code.length();
+        int resultLength = 0;
+        boolean skipNextLf = false;
+        for (int i = 0; i < length; i++) {
+            char c = code.charAt(i);
+            if (c > 0xFF) {
+                return null;
+            }
+            if (!skipNextLf || c != '\n') {
+                resultLength++;
+            }
+            skipNextLf = c == '\r';
+        }
+        byte[] result = new byte[resultLength];
+        int j = 0;
+        skipNextLf = false;
+        for (int i = 0; i < length; i++) {
+            char c = code.charAt(i);
+            if (!skipNextLf || c != '\n') {
+                result[j++] = (byte) (c == '\r' ? '\n' : c);
+            }
+            skipNextLf = c == '\r';
+        }
+        return result;
+    }
+
     private static int[] charsToCodePoints(char[] chars) {
         int cpIndex = 0;
         boolean hasUTF8Bom = chars.length > 0 && Character.codePointAt(chars, 0) == UTF8_BOM;
@@ -446,6 +538,10 @@ public class Tokenizer {
      * spec comment are ignored,
      */
     public static Tokenizer fromString(ParserCallbacks parserCallbacks, String code, EnumSet<Flag> flags, SourceRange inputSourceRange) {
+        byte[] latin1 = stringToLatin1(code);
+        if (latin1 != null) {
+            return new Tokenizer(parserCallbacks, latin1, flags, inputSourceRange);
+        }
         return new Tokenizer(parserCallbacks, charsToCodePoints(code.toCharArray()), flags, inputSourceRange, null);
     }
 
@@ -479,7 +575,7 @@ public class Tokenizer {
                 lineStartIndex = nextCharIndex;
             }
             if (nextCharIndex < codePointsInputLength) {
-                int c = codePointsInput[nextCharIndex];
+                int c = charAt(nextCharIndex);
                 nextCharIndex++;
                 if (c == '\n') {
                     readNewline = true;
@@ -494,7 +590,7 @@ public class Tokenizer {
                 }
                 if (nextCharIndex == codePointsInputLength && execInput) {
                     // check if we need to report a missing newline before eof
-                    if (codePointsInputLength == 0 || codePointsInput[nextCharIndex - 1] != '\n') {
+                    if (codePointsInputLength == 0 || charAt(nextCharIndex - 1) != '\n') {
                         nextCharIndex++;
                         readNewline = true;
                         return '\n';
@@ -520,6 +616,7 @@ public class Tokenizer {
         if (inputSupplier == null) {
             return false;
         }
+        assert latin1Input == null;
         int[] line = inputSupplier.get();
         if (line == null) {
             return false;
@@ -589,8 +686,7 @@ public class Tokenizer {
     private boolean lookahead(int... test) {
         int end = nextCharIndex + test.length;
         if (end + 1 < codePointsInputLength) {
-            return Arrays.equals(codePointsInput, nextCharIndex, end, test, 0, test.length) &&
-                            !isPotentialIdentifierChar(codePointsInput[end]);
+            return regionEquals(nextCharIndex, test) && !isPotentialIdentifierChar(charAt(end));
         } else {
             return false;
         }
@@ -924,10 +1020,10 @@ public class Tokenizer {
                             while (chIdx < codePointsInputLength && prefixIdx < TYPE_COMMENT_PREFIX.length) {
                                 if (TYPE_COMMENT_PREFIX[prefixIdx] == ' ') {
                                     while (chIdx < codePointsInputLength &&
-                                                    (codePointsInput[chIdx] == ' ' || codePointsInput[chIdx] == '\t')) {
+                                                    (charAt(chIdx) == ' ' || charAt(chIdx) == '\t')) {
                                         chIdx++;
                                     }
-                                } else if (TYPE_COMMENT_PREFIX[prefixIdx] == codePointsInput[chIdx]) {
+                                } else if (TYPE_COMMENT_PREFIX[prefixIdx] == charAt(chIdx)) {
                                     chIdx++;
                                 } else {
                                     break;
@@ -939,7 +1035,7 @@ public class Tokenizer {
                             if (prefixIdx == TYPE_COMMENT_PREFIX.length) {
                                 boolean isTypeIgnore;
                                 int ignoreEnd = chIdx + 6;
-                                int endChar = ignoreEnd < codePointsInputLength ? codePointsInput[ignoreEnd] : -1;
+                                int endChar = ignoreEnd < codePointsInputLength ? charAt(ignoreEnd) : -1;
                                 oneBack(); /* don't eat the newline or EOF */
 
                                 int typeStart = chIdx;
@@ -949,7 +1045,7 @@ public class Tokenizer {
                                  * or anything ASCII and non-alphanumeric.
                                  */
                                 isTypeIgnore = (nextCharIndex >= ignoreEnd &&
-                                                Arrays.equals(codePointsInput, chIdx, ignoreEnd, IGNORE_BYTES, 0, 6) &&
+                                                regionEquals(chIdx, IGNORE_BYTES) &&
                                                 !(nextCharIndex > ignoreEnd &&
                                                                 (endChar >= 128 || Character.isLetterOrDigit(endChar))));
 
@@ -1029,7 +1125,7 @@ public class Tokenizer {
                         }
                         oneBack();
 
-                        String tokenString = new String(codePointsInput, tokenStart, nextCharIndex - tokenStart);
+                        String tokenString = inputToString(tokenStart, nextCharIndex - tokenStart);
                         if (nonascii) {
                             String errMsg = verifyIdentifier(tokenString);
                             if (errMsg != null) {
@@ -1327,7 +1423,7 @@ public class Tokenizer {
                     return createToken(Token.Kind.NUMBER);
                 }
                 case LABEL_F_STRING_QUOTE: {
-                    int firstChar = Character.toLowerCase(codePointsInput[tokenStart]);
+                    int firstChar = Character.toLowerCase(charAt(tokenStart));
                     if ((firstChar == 'f' || firstChar == 'r') && (c == '\'' || c == '"')) {
                         int quote = c;
                         int quote_size = 1;
@@ -1359,7 +1455,7 @@ public class Tokenizer {
                             return syntaxError("too many nested f-strings");
                         }
 
-                        boolean raw = firstChar == 'r' || Character.toLowerCase(codePointsInput[tokenStart + 1]) == 'r';
+                        boolean raw = firstChar == 'r' || Character.toLowerCase(charAt(tokenStart + 1)) == 'r';
                         modeStack.addFirst(new Mode(Mode.Kind.F_STRING, quote, quote_size, tokenStart, lineStartIndex, currentLineNumber, raw));
                         return createToken(Kind.FSTRING_START);
                     }
@@ -1827,13 +1923,40 @@ public class Tokenizer {
         return new SourceRange(lineno, colOffset, endLineno, endColOffset);
     }
 
+    private int charAt(int index) {
+        return latin1Input != null ? latin1Input[index] & 0xFF : codePointsInput[index];
+    }
+
+    private boolean regionEquals(int start, int[] expected) {
+        for (int i = 0; i < expected.length; i++) {
+            if (charAt(start + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String inputToString(int start, int length) {
+        if (latin1Input != null) {
+            return new String(latin1Input, start, length, StandardCharsets.ISO_8859_1);
+        }
+        return new String(codePointsInput, start, length);
+    }
+
+    private CodePoints inputCodePoints(int start, int length) {
+        if (latin1Input != null) {
+            return CodePoints.fromLatin1Buffer(latin1Input, start, length);
+        }
+        return CodePoints.fromBuffer(codePointsInput, start, length);
+    }
+
     public CodePoints getTokenCodePoints(Token tok) {
         if (tok.startOffset >= codePointsInputLength) {
             return CodePoints.EMPTY;
         } else if (tok.endOffset >= codePointsInputLength) {
-            return CodePoints.fromBuffer(codePointsInput, tok.startOffset, codePointsInputLength - tok.startOffset);
+            return inputCodePoints(tok.startOffset, codePointsInputLength - tok.startOffset);
         } else {
-            return CodePoints.fromBuffer(codePointsInput, tok.startOffset, tok.endOffset - tok.startOffset);
+            return inputCodePoints(tok.startOffset, tok.endOffset - tok.startOffset);
         }
     }
 
@@ -1851,7 +1974,7 @@ public class Tokenizer {
         if (size <= 0) {
             return CodePoints.EMPTY;
         }
-        return CodePoints.fromBuffer(codePointsInput, lineStart, size);
+        return inputCodePoints(lineStart, size);
     }
 
     public SourceRange extendRangeToCurrentPosition(SourceRange rangeStart) {
@@ -1866,14 +1989,14 @@ public class Tokenizer {
         if (cur >= codePointsInputLength) {
             return false;
         }
-        int c = codePointsInput[cur];
+        int c = charAt(cur);
         while (true) {
             while (c == ' ' || c == '\t' || c == '\n' || c == '\014') {
                 cur++;
                 if (cur >= codePointsInputLength) {
                     return false;
                 }
-                c = codePointsInput[cur];
+                c = charAt(cur);
             }
             if (c != '#') {
                 return true;
@@ -1883,7 +2006,7 @@ public class Tokenizer {
                 if (cur >= codePointsInputLength) {
                     return false;
                 }
-                c = codePointsInput[cur];
+                c = charAt(cur);
             }
         }
     }
@@ -1921,7 +2044,7 @@ public class Tokenizer {
     }
 
     public CodePoints getCodePointsInput() {
-        return CodePoints.fromBuffer(codePointsInput, 0, codePointsInputLength);
+        return inputCodePoints(0, codePointsInputLength);
     }
 
     public boolean isImplicitNewline() {
@@ -1993,7 +2116,7 @@ public class Tokenizer {
         }
         boolean hashDetected = false;
         for (int i = tokMode.debugExprStart; i < tokMode.debugExprEnd; ++i) {
-            if (codePointsInput[i] == '#') {
+            if (charAt(i) == '#') {
                 hashDetected = true;
                 break;
             }
@@ -2001,21 +2124,21 @@ public class Tokenizer {
         if (hashDetected) {
             CodePoints.Builder sb = new CodePoints.Builder(tokMode.debugExprEnd - tokMode.debugExprStart);
             for (int i = tokMode.debugExprStart; i < tokMode.debugExprEnd; ++i) {
-                if (codePointsInput[i] == '#') {
+                if (charAt(i) == '#') {
                     while (i < tokMode.debugExprEnd) {
-                        if (codePointsInput[i] == '\n') {
+                        if (charAt(i) == '\n') {
                             sb.appendCodePoint('\n');
                             break;
                         }
                         i++;
                     }
                 } else {
-                    sb.appendCodePoint(codePointsInput[i]);
+                    sb.appendCodePoint(charAt(i));
                 }
             }
             tokenMetadata = sb.build();
         } else {
-            tokenMetadata = CodePoints.fromBuffer(codePointsInput, tokMode.debugExprStart, tokMode.debugExprEnd - tokMode.debugExprStart);
+            tokenMetadata = inputCodePoints(tokMode.debugExprStart, tokMode.debugExprEnd - tokMode.debugExprStart);
         }
     }
 
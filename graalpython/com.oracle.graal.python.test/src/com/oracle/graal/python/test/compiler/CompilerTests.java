@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -98,6 +98,69 @@ public class CompilerTests extends PythonTests {
         doTest("-1 * -7.0");
     }
 
+    @Test
+    public void testConstantFolding() {
+        doTest("(1 << 4) + 2 ** 3 - 10 // 3, 'ab' * 2, (1, 2) + (3,), 'abc'[-1], not None, ~5");
+    }
+
+    @Test
+    public void testConstantFoldingLimits() {
+        doTest("2 ** 1000, 1 / 0, 'a' * 5000, (None,) * 300");
+    }
+
+    @Test
+    public void testDebugConstant() {
+        doTest("if __debug__:\n  print('debug')\nelse:\n  print('release')\n");
+    }
+
+    @Test
+    public void testInListLiteral() {
+        doTest("x in [1, 2, y]\nx not in {'a', 'b'}\nfor i in [a, b]: pass\n");
+    }
+
+    @Test
+    public void testJumpIfBoolOp() {
+        String source = "if a and (b or not c):\n" +
+                        "  print('yes')\n" +
+                        "while not (a or b):\n" +
+                        "  a = f()\n";
+        doTest(source);
+    }
+
+    @Test
+    public void testJumpIfChainedCompare() {
+        String source = "if 0 < a <= b < 10:\n" +
+                        "  print('in range')\n" +
+                        "else:\n" +
+                        "  print('out of range')\n";
+        doTest(source);
+    }
+
+    @Test
+    public void testJumpIfNotIn() {
+        doTest("if not a in b:\n  print('missing')\n");
+    }
+
+    @Test
+    public void testDeadCodeAfterReturn() {
+        String source = "def foo(a):\n" +
+                        "  if a:\n" +
+                        "    return 1\n" +
+                        "  else:\n" +
+                        "    return 2\n" +
+                        "  print('unreachable')\n";
+        doTest(source);
+    }
+
+    @Test
+    public void testSuperinstructions() {
+        String source = "def foo(obj, a, b):\n" +
+                        "  if obj.flag:\n" +
+                        "    return [a, b]\n" +
+                        "  return None\n";
+        doTest(source);
+    }
+
     @Test
     public void testAssignment() {
         doTest("a = 12");
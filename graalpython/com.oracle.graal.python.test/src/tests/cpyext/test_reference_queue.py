@@ -0,0 +1,67 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import os
+import subprocess
+import sys
+import unittest
+from pathlib import Path
+
+DIR = Path(__file__).parent
+MODULE_PATH = DIR / 'module_with_dropped_references.py'
+ENV = dict(os.environ)
+ENV['PYTHONPATH'] = str(DIR.parent.parent)
+
+
+def run_module(*options):
+    args = ['--experimental-options', '--python.EnableDebuggingBuiltins', *options]
+    if not __graalpython__.is_native and __graalpython__.is_bytecode_dsl_interpreter:
+        args += ['--vm.Dpython.EnableBytecodeDSLInterpreter=true']
+    result = subprocess.run([sys.executable, *args, str(MODULE_PATH)], check=True, env=ENV, stdout=subprocess.PIPE, text=True)
+    return result.stdout.strip()
+
+
+@unittest.skipUnless(sys.implementation.name == 'graalpy', "GraalPy-specific test")
+class TestReferenceQueue(unittest.TestCase):
+
+    def test_polling(self):
+        self.assertEqual('False True', run_module())
+
+    def test_background_collection(self):
+        self.assertEqual('True True', run_module('--python.BackgroundReferenceQueueTask=true', '--python.BackgroundReferenceQueueBatchSize=64'))
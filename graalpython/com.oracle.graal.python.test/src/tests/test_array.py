@@ -1,4 +1,4 @@
-# Copyright (c) 2018, 2024, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2018, 2026, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -119,4 +119,96 @@ def test_mul():
     b = a * 1
     a[2] = 42
     assert list(a) == [1, 2, 42]
-    assert list(b) == [1, 2, 3]
\ No newline at end of file
+    assert list(b) == [1, 2, 3]
+def test_search_primitive():
+    for code in 'bBhHiIlLqQ':
+        a = array(code, [1, 2, 3, 2, 0])
+        assert a.count(2) == 2
+        assert a.count(2.0) == 2
+        assert a.count(2.5) == 0
+        assert a.count(True) == 1
+        assert a.count(1 << 70) == 0
+        assert a.count(-1) == 0
+        assert a.index(2) == 1
+        assert a.index(2, 2) == 3
+        assert a.index(2, -2) == 3
+        assert_raises(ValueError, a.index, 2, 4)
+        assert_raises(ValueError, a.index, 2, 0, 1)
+        assert a.index(False) == 4
+        assert 3 in a
+        assert 3.0 in a
+        assert 7 not in a
+        assert 'x' not in a
+    a = array('B', [255])
+    assert 255 in a and -1 not in a
+    a = array('Q', [(1 << 64) - 1])
+    assert (1 << 64) - 1 in a and -1 not in a and float(1 << 63) not in a
+    for code in 'fd':
+        a = array(code, [1.5, 2.0, float('nan'), 2.0])
+        assert a.count(2) == 2
+        assert a.count(2.0) == 2
+        assert a.count(float('nan')) == 0
+        assert a.index(1.5) == 0
+        assert a.index(2, 2) == 3
+        assert 1.5 in a
+        assert 3 not in a
+    a = array('d', [float(1 << 60)])
+    assert (1 << 60) in a
+    assert (1 << 60) + 1 not in a
+
+
+def test_compare_integral():
+    for code in 'bBhHiIlLqQ':
+        a = array(code, [1, 2, 3])
+        assert a == array(code, [1, 2, 3])
+        assert a != array(code, [1, 2, 4])
+        assert a < array(code, [1, 2, 4])
+        assert a < array(code, [1, 2, 3, 0])
+        assert a > array(code, [1, 2])
+        assert a >= array(code, [1, 0, 9])
+        assert not a <= array(code, [1, 0, 9])
+        assert a == array('d', [1, 2, 3])
+    assert array('b', [-1]) < array('b', [0])
+    assert array('B', [255]) > array('B', [0])
+    assert array('q', [-1]) < array('q', [1])
+    assert array('Q', [(1 << 64) - 1]) > array('Q', [1])
+    assert array('i', [-1]) < array('i', [1])
+    assert array('I', [(1 << 32) - 1]) > array('I', [1])
+
+
+def test_byteswap():
+    for code in 'hHiIlLqQfd':
+        a = array(code, [1, 2, 3])
+        b = array(code, a)
+        b.byteswap()
+        swapped = b''.join(bytes(reversed(a.tobytes()[i:i + a.itemsize])) for i in range(0, len(a.tobytes()), a.itemsize))
+        assert b.tobytes() == swapped
+        b.byteswap()
+        assert b == a
+
+
+def test_sum():
+    for code in 'bBhHiIlLqQ':
+        a = array(code, range(100))
+        assert sum(a) == 4950
+        assert sum(a, 50) == 5000
+        it = iter(a)
+        next(it)
+        next(it)
+        assert sum(it) == 4949
+        assert sum(it) == 0
+        assert list(it) == []
+    assert sum(array('q', [(1 << 63) - 1, 1])) == 1 << 63
+    assert sum(array('Q', [(1 << 64) - 1, 1])) == 1 << 64
+    assert sum(array('b', [-1, -2]), (1 << 63) - 1) == (1 << 63) - 4
+    assert sum(array('I', [(1 << 32) - 1] * 4)) == 4 * ((1 << 32) - 1)
+    for code in 'fd':
+        a = array(code, [0.5, 1.5, 2.0])
+        assert sum(a) == 4.0
+        assert type(sum(a)) is float
+        assert sum(a, 1) == 5.0
+        assert sum(array(code)) == 0
+        assert type(sum(array(code))) is int
+        it = iter(a)
+        next(it)
+        assert sum(it, 0.5) == 4.0
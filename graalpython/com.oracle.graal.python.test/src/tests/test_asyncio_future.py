@@ -0,0 +1,260 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import asyncio
+import unittest
+
+
+class NativeFutureTests(unittest.TestCase):
+    def setUp(self):
+        self.loop = asyncio.new_event_loop()
+
+    def tearDown(self):
+        self.loop.close()
+
+    def test_native_future_is_used(self):
+        import _asyncio
+        self.assertIs(asyncio.Future, _asyncio.Future)
+        self.assertIs(type(self.loop.create_future()), _asyncio.Future)
+
+    def test_result(self):
+        fut = self.loop.create_future()
+        self.assertFalse(fut.done())
+        self.assertEqual(fut._state, 'PENDING')
+        self.assertRaises(asyncio.InvalidStateError, fut.result)
+        fut.set_result(42)
+        self.assertTrue(fut.done())
+        self.assertEqual(fut._state, 'FINISHED')
+        self.assertEqual(fut.result(), 42)
+        self.assertIsNone(fut.exception())
+        self.assertRaises(asyncio.InvalidStateError, fut.set_result, 1)
+
+    def test_exception(self):
+        fut = self.loop.create_future()
+        fut.set_exception(ValueError)
+        self.assertIsInstance(fut.exception(), ValueError)
+        self.assertRaises(ValueError, fut.result)
+        fut = self.loop.create_future()
+        fut.set_exception(StopIteration(1))
+        self.assertIsInstance(fut.exception(), RuntimeError)
+        self.assertIsInstance(fut.exception().__cause__, StopIteration)
+        self.assertRaises(TypeError, self.loop.create_future().set_exception, 1)
+
+    def test_exception_non_exception_class(self):
+        class NotAnException:
+            def __init__(self):
+                raise AssertionError("must not be instantiated")
+
+        fut = self.loop.create_future()
+        self.assertRaises(TypeError, fut.set_exception, NotAnException)
+        self.assertRaises(TypeError, fut.set_exception, int)
+        self.assertFalse(fut.done())
+
+    def test_cancel(self):
+        fut = self.loop.create_future()
+        self.assertTrue(fut.cancel('msg'))
+        self.assertTrue(fut.cancelled())
+        self.assertFalse(fut.cancel())
+        with self.assertRaises(asyncio.CancelledError) as cm:
+            fut.result()
+        self.assertEqual(cm.exception.args, ('msg',))
+
+    def test_callbacks(self):
+        calls = []
+        fut = self.loop.create_future()
+        cb1 = lambda f: calls.append(('cb1', f.result()))
+        cb2 = lambda f: calls.append(('cb2', f.result()))
+        fut.add_done_callback(cb1)
+        fut.add_done_callback(cb2)
+        fut.add_done_callback(cb1)
+        self.assertEqual(len(fut._callbacks), 3)
+        self.assertEqual(fut.remove_done_callback(cb1), 2)
+        self.assertEqual(len(fut._callbacks), 1)
+        fut.set_result(7)
+        self.assertIsNone(fut._callbacks)
+        self.loop.run_until_complete(asyncio.sleep(0))
+        self.assertEqual(calls, [('cb2', 7)])
+
+    def test_await(self):
+        async def waiter(fut):
+            return await fut
+
+        fut = self.loop.create_future()
+        self.loop.call_soon(fut.set_result, 'done')
+        self.assertEqual(self.loop.run_until_complete(waiter(fut)), 'done')
+
+    def test_many_tasks(self):
+        async def leaf(i):
+            fut = asyncio.get_running_loop().create_future()
+            fut.get_loop().call_soon(fut.set_result, i)
+            return await fut
+
+        async def main():
+            return sum(await asyncio.gather(*(leaf(i) for i in range(100))))
+
+        self.assertEqual(self.loop.run_until_complete(main()), 4950)
+
+    def test_uninitialized(self):
+        fut = asyncio.Future.__new__(asyncio.Future)
+        self.assertFalse(fut.done())
+        self.assertRaises(RuntimeError, fut.get_loop)
+        self.assertRaises(asyncio.InvalidStateError, fut.exception)
+
+    def test_unretrieved_exception_tracking(self):
+        # whether the exception is reported when the future dies only depends on this flag, which
+        # is set when the exception is stored and cleared as soon as anyone retrieves it
+        fut = self.loop.create_future()
+        fut.set_exception(ValueError())
+        self.assertTrue(fut._log_traceback)
+        fut.exception()
+        self.assertFalse(fut._log_traceback)
+
+        fut = self.loop.create_future()
+        fut.set_exception(ValueError())
+        self.assertRaises(ValueError, fut.result)
+        self.assertFalse(fut._log_traceback)
+
+        fut = self.loop.create_future()
+        fut.set_exception(ValueError())
+        fut._log_traceback = False
+        self.assertFalse(fut._log_traceback)
+        self.assertRaises(ValueError, setattr, fut, '_log_traceback', True)
+
+        fut = self.loop.create_future()
+        fut.set_result(1)
+        self.assertFalse(fut._log_traceback)
+
+
+class NativeTaskTests(unittest.TestCase):
+    def setUp(self):
+        self.loop = asyncio.new_event_loop()
+
+    def tearDown(self):
+        self.loop.close()
+
+    def test_native_task_is_used(self):
+        import _asyncio
+        self.assertIs(asyncio.Task, _asyncio.Task)
+        self.assertTrue(issubclass(asyncio.Task, asyncio.Future))
+
+    def test_run(self):
+        async def inner(x):
+            await asyncio.sleep(0)
+            return x * 2
+
+        async def outer():
+            return await self.loop.create_task(inner(21))
+
+        task = self.loop.create_task(outer())
+        self.assertEqual(self.loop.run_until_complete(task), 42)
+        self.assertTrue(task.done())
+
+    def test_exception(self):
+        async def fail():
+            raise ValueError('boom')
+
+        task = self.loop.create_task(fail())
+        self.assertRaises(ValueError, self.loop.run_until_complete, task)
+        self.assertIsInstance(task.exception(), ValueError)
+
+    def test_cancel(self):
+        async def sleeper():
+            await asyncio.sleep(10)
+
+        task = self.loop.create_task(sleeper())
+        self.loop.run_until_complete(asyncio.sleep(0))
+        self.assertTrue(task.cancel('stop'))
+        self.assertEqual(task.cancelling(), 1)
+        with self.assertRaises(asyncio.CancelledError) as cm:
+            self.loop.run_until_complete(task)
+        self.assertEqual(cm.exception.args, ('stop',))
+        self.assertTrue(task.cancelled())
+        self.assertFalse(task.cancel())
+        self.assertEqual(task.uncancel(), 0)
+
+    def test_name(self):
+        async def noop():
+            pass
+
+        task = self.loop.create_task(noop())
+        self.assertRegex(task.get_name(), r'^Task-\d+$')
+        task.set_name(42)
+        self.assertEqual(task.get_name(), '42')
+        task = self.loop.create_task(noop(), name='named')
+        self.assertEqual(task.get_name(), 'named')
+        self.loop.run_until_complete(asyncio.sleep(0))
+
+    def test_eager_start(self):
+        async def immediate():
+            return 'done'
+
+        async def main():
+            task = asyncio.Task(immediate(), eager_start=True)
+            self.assertTrue(task.done())
+            self.assertIsNone(task.get_coro())
+            return task.result()
+
+        self.loop.set_task_factory(asyncio.eager_task_factory)
+        self.assertEqual(self.loop.run_until_complete(main()), 'done')
+
+    def test_invalid(self):
+        self.assertRaises(TypeError, asyncio.Task, 42, loop=self.loop)
+
+        async def noop():
+            pass
+
+        task = self.loop.create_task(noop())
+        self.assertRaises(RuntimeError, task.set_result, 1)
+        self.assertRaises(RuntimeError, task.set_exception, ValueError())
+        self.loop.run_until_complete(task)
+
+    def test_await_python_future(self):
+        from asyncio import futures
+        fut = futures._PyFuture(loop=self.loop)
+
+        async def waiter():
+            return await fut
+
+        task = self.loop.create_task(waiter())
+        self.loop.call_soon(fut.set_result, 'py')
+        self.assertEqual(self.loop.run_until_complete(task), 'py')
+
+
+if __name__ == '__main__':
+    unittest.main()
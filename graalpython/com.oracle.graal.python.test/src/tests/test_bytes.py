@@ -1,4 +1,4 @@
-# Copyright (c) 2018, 2024, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2018, 2026, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -390,6 +390,18 @@ def test_join():
     assert b"--".join([b"hello"]) == b"hello"
 
 
+def test_join_buffers():
+    import array
+    parts = [b"ab", bytearray(b"cd"), memoryview(b"xefx")[1:3], array.array('B', b"gh"), memoryview(b"i")]
+    assert b"-".join(parts) == b"ab-cd-ef-gh-i"
+    assert bytearray(b"").join(tuple(parts)) == bytearray(b"abcdefghi")
+    assert b", ".join(p for p in [b"a", b"b", b"c"]) == b"a, b, c"
+    assert b"x".join(b"%d" % i for i in range(1000)) == "x".join(str(i) for i in range(1000)).encode()
+    assert_raises(TypeError, b"".join, [b"a", "b"])
+    assert_raises(TypeError, b"".join, [b"a", 1])
+    assert_raises(TypeError, b"".join, 1)
+
+
 def test_concat():
     a = b'0'
     b = b'1'
@@ -469,6 +481,26 @@ def test_extend():
     assert a == orig * 50
     assert a[-5:] == orig
 
+    a = bytearray(b'')
+    a.extend(memoryview(orig))
+    a.extend(memoryview(orig * 2)[2:7])
+    a.extend(bytearray(orig))
+    assert a == orig + b'llohe' + orig
+
+    a = bytearray(b'')
+    expected = []
+    for i in range(20000):
+        chunk = bytes([i % 256]) * (i % 7)
+        if i % 3 == 0:
+            a += chunk
+        elif i % 3 == 1:
+            a.extend(chunk)
+        else:
+            a.append(i % 256)
+            chunk = bytes([i % 256])
+        expected.append(chunk)
+    assert a == b''.join(expected)
+
     a = bytearray(b'')
     assert_raises(ValueError, a.extend, [0, 1, 2, 256])
     assert_raises(ValueError, a.extend, [0, 1, 2, -1])
@@ -0,0 +1,97 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import contextvars
+import unittest
+
+
+class ContextVarLookupTest(unittest.TestCase):
+
+    def test_value_follows_context_switch(self):
+        var = contextvars.ContextVar('var', default='default')
+        ctx1 = contextvars.copy_context()
+        ctx2 = contextvars.copy_context()
+
+        def set_and_get(value):
+            var.set(value)
+            return var.get()
+
+        self.assertEqual(ctx1.run(set_and_get, 1), 1)
+        self.assertEqual(ctx2.run(set_and_get, 2), 2)
+        self.assertEqual(ctx1.run(var.get), 1)
+        self.assertEqual(ctx2.run(var.get), 2)
+        self.assertEqual(var.get(), 'default')
+
+    def test_value_after_reset(self):
+        var = contextvars.ContextVar('var')
+        token1 = var.set(1)
+        token2 = var.set(2)
+        self.assertEqual(var.get(), 2)
+        var.reset(token2)
+        self.assertEqual(var.get(), 1)
+        var.reset(token1)
+        self.assertRaises(LookupError, var.get)
+        self.assertEqual(var.get(3), 3)
+
+    def test_shared_context_contents(self):
+        var = contextvars.ContextVar('var')
+        var.set('outer')
+        ctx = contextvars.copy_context()
+
+        def inner():
+            self.assertEqual(var.get(), 'outer')
+            var.set('inner')
+            return var.get()
+
+        self.assertEqual(ctx.run(inner), 'inner')
+        self.assertEqual(var.get(), 'outer')
+        self.assertEqual(ctx[var], 'inner')
+
+    def test_many_variables(self):
+        variables = [contextvars.ContextVar(f'var{i}') for i in range(100)]
+        for i, v in enumerate(variables):
+            v.set(i)
+        ctx = contextvars.copy_context()
+        for i, v in enumerate(variables):
+            self.assertEqual(v.get(), i)
+            self.assertEqual(ctx.run(v.get), i)
+            v.set(-i)
+        for i, v in enumerate(variables):
+            self.assertEqual(v.get(), -i)
+            self.assertEqual(ctx[v], i)
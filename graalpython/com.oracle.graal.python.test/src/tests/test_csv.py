@@ -1,4 +1,4 @@
-# Copyright (c) 2019, 2023, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2019, 2026, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -37,8 +37,10 @@
 # OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
 # SOFTWARE.
 
-import unittest
+import _csv
 import csv
+import io
+import unittest
 from tempfile import TemporaryFile
 
 class TestUnicodeCharacters(unittest.TestCase):
@@ -75,6 +77,84 @@ class TestUnicodeCharacters(unittest.TestCase):
                              expected + writer.dialect.lineterminator)
 
 
+class TestDictReader(unittest.TestCase):
+    def test_header_as_keys(self):
+        reader = csv.DictReader(io.StringIO('name,size\nspam,1\neggs,2\n', newline=''))
+        self.assertEqual(['name', 'size'], reader.fieldnames)
+        rows = list(reader)
+        self.assertEqual([{'name': 'spam', 'size': '1'}, {'name': 'eggs', 'size': '2'}], rows)
+        self.assertEqual(['spam', 'eggs'], [row['name'] for row in rows])
+        for name in reader.fieldnames:
+            self.assertTrue(__graalpython__.is_interned_string(name), name)
+        for row in rows:
+            for key in row:
+                self.assertTrue(__graalpython__.is_interned_string(key), key)
+        self.assertFalse(__graalpython__.is_interned_string(rows[0]['name']))
+
+    def test_empty(self):
+        reader = csv.DictReader(io.StringIO(''))
+        self.assertIsNone(reader.fieldnames)
+        self.assertEqual([], list(reader))
+
+
+class TestReadBuffer(unittest.TestCase):
+    def check_like_reader(self, text, **kwargs):
+        dialect = _csv.Dialect(**kwargs)
+        expected = list(csv.reader(io.StringIO(text, newline=''), dialect))
+        self.assertEqual(expected, _csv.read_buffer(text.encode('utf-8'), dialect))
+
+    def test_rows(self):
+        self.check_like_reader('a,b,c\r\n1,2,3\r\n')
+        self.check_like_reader('a,b\n\nc,d')
+        self.check_like_reader('a,"b\r\nc",d\rx,"y ""z"""\n')
+        self.check_like_reader('a; b;c\n', delimiter=';', skipinitialspace=True)
+        self.check_like_reader('a\\,b,c\n', escapechar='\\', quoting=csv.QUOTE_NONE)
+        self.check_like_reader('"a",1,2.5\n', quoting=csv.QUOTE_NONNUMERIC)
+        self.check_like_reader('\u010d,\U0001F642,\u20ac\n')
+        self.check_like_reader('"unterminated\n')
+
+    def test_errors(self):
+        strict = _csv.Dialect(strict=True)
+        with self.assertRaises(csv.Error):
+            _csv.read_buffer(b'"unterminated', strict)
+        with self.assertRaises(csv.Error):
+            _csv.read_buffer(b'"a"b\n', strict)
+        with self.assertRaises(ValueError):
+            _csv.read_buffer(b'a\xe2\x82\xacb\n', _csv.Dialect(delimiter='\u20ac'))
+        old_limit = csv.field_size_limit(3)
+        try:
+            self.assertEqual([['\u010d' * 3]], _csv.read_buffer(('\u010d' * 3).encode('utf-8')))
+            with self.assertRaises(csv.Error):
+                _csv.read_buffer(('\u010d' * 4).encode('utf-8'))
+        finally:
+            csv.field_size_limit(old_limit)
 
+    def test_file_and_encodings(self):
+        with TemporaryFile("w+b") as f:
+            f.write('\xe9,b\n'.encode('latin-1'))
+            f.seek(0)
+            self.assertEqual([['\xe9', 'b']], _csv.read_buffer(f, encoding='latin-1'))
+        self.assertEqual([['a', 'b']], _csv.read_buffer(memoryview(b'a,b')))
+        with self.assertRaises(UnicodeDecodeError):
+            _csv.read_buffer(b'a,\xff\n')
+        with self.assertRaises(ValueError):
+            _csv.read_buffer(b'a,b\n', encoding='utf-16')
 
+    def test_converters(self):
+        data = b'1,2.5,x\n-3,1e3,y\n99999999999999999999,inf,z\n'
+        rows = _csv.read_buffer(data, converters=[int, float, str.upper])
+        self.assertEqual([[1, 2.5, 'X'], [-3, 1000.0, 'Y'], [99999999999999999999, float('inf'), 'Z']], rows)
+        with self.assertRaises(ValueError):
+            _csv.read_buffer(b'1\nx\n', converters=[int])
 
+    def test_columnar(self):
+        data = b'1,2.5,a\n\n2, 3 ,b\n3000000000,4,c\n'
+        cols = _csv.read_buffer(data, converters=[int, float], columnar=True)
+        self.assertEqual([[1, 2, 3000000000], [2.5, 3.0, 4.0], ['a', 'b', 'c']], cols)
+        cols = _csv.read_buffer(b' 1 ,\t2.5 \n+2,-1e3\n', converters=[int, float], columnar=True)
+        self.assertEqual([[1, 2], [2.5, -1000.0]], cols)
+        self.assertEqual([], _csv.read_buffer(b'', columnar=True))
+        with self.assertRaises(csv.Error):
+            _csv.read_buffer(b'a,b\nc\n', columnar=True)
+        with self.assertRaises(csv.Error):
+            _csv.read_buffer(b'a,b\nc,d,e\n', columnar=True)
@@ -1,4 +1,4 @@
-# Copyright (c) 2020, 2024, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2020, 2026, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -40,6 +40,14 @@
 import unittest
 
 
+def _read_global_probe():
+    return _global_probe
+
+
+def _read_builtin_probe():
+    return len
+
+
 class BasicTests(unittest.TestCase):
 
     def test_in_local(self):
@@ -115,3 +123,38 @@ class BasicTests(unittest.TestCase):
             f()
         """, glob, loc)
         self.assertEqual(glob['x'], 6)
+
+    def test_module_global_rebind_and_delete(self):
+        g = globals()
+        try:
+            for i in range(20):
+                g['_global_probe'] = i
+                self.assertEqual(_read_global_probe(), i)
+            del g['_global_probe']
+            self.assertRaises(NameError, _read_global_probe)
+            g['_global_probe'] = 'again'
+            self.assertEqual(_read_global_probe(), 'again')
+            g['len'] = 'shadowed'
+            self.assertEqual(_read_builtin_probe(), 'shadowed')
+            del g['len']
+            self.assertIs(_read_builtin_probe(), len)
+        finally:
+            g.pop('_global_probe', None)
+            g.pop('len', None)
+
+    def test_module_global_after_dict_generalization(self):
+        import types
+        mod = types.ModuleType('global_probe_mod')
+        exec("def read_x(): return x\ndef read_len(): return len", mod.__dict__)
+        for i in range(20):
+            mod.x = i
+            self.assertEqual(mod.read_x(), i)
+            self.assertIs(mod.read_len(), len)
+        # a non-string key forces the module dict off its initial storage
+        mod.__dict__[42] = 'int key'
+        mod.x = 'after'
+        self.assertEqual(mod.read_x(), 'after')
+        mod.__dict__['len'] = 'shadowed'
+        self.assertEqual(mod.read_len(), 'shadowed')
+        del mod.__dict__['x']
+        self.assertRaises(NameError, mod.read_x)
@@ -1,4 +1,4 @@
-# Copyright (c) 2018, 2024, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2018, 2026, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -89,6 +89,13 @@ def test_string_interned():
     y='1234'
     assert id(x) == id(y) == id('1234') == id(sys.intern('1234')) == id(sys.intern(x)) == id(sys.intern(y))
 
+def test_string_interned_at_runtime():
+    x = ''.join(['ab', 'cd'])
+    y = ''.join(['a', 'bcd'])
+    assert sys.intern(x) is sys.intern(y)
+    assert id(sys.intern(x)) == id(sys.intern(y))
+    assert sys.intern(x) == 'abcd'
+
 # skip until is fixed: GR-28568
 # def test_string_noninterned():
 #     x = '1234'
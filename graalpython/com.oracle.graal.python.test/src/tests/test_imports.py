@@ -1,4 +1,4 @@
-# Copyright (c) 2018, 2024, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2018, 2026, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -189,3 +189,32 @@ def test_local_property_25274():
 
 
     
+
+
+def test_identifiers_interned_from_pyc():
+    import importlib
+    import py_compile
+    import tempfile
+    with tempfile.TemporaryDirectory() as tmpdir:
+        src = os.path.join(tmpdir, 'mod_interned_from_pyc.py')
+        with open(src, 'w') as f:
+            f.write('def func(obj, pyc_interned_local):\n'
+                    '    return obj.pyc_interned_attribute, {"pyc_interned_key": pyc_interned_local}\n')
+        # a sourceless .pyc next to where the source was, so that the import has to unmarshal it
+        py_compile.compile(src, cfile=src + 'c', doraise=True)
+        os.remove(src)
+        sys.path.insert(0, tmpdir)
+        try:
+            importlib.invalidate_caches()
+            import mod_interned_from_pyc
+        finally:
+            sys.path.remove(tmpdir)
+            sys.modules.pop('mod_interned_from_pyc', None)
+    code = mod_interned_from_pyc.func.__code__
+    assert code.co_names == ('pyc_interned_attribute',)
+    assert 'pyc_interned_local' in code.co_varnames
+    assert 'pyc_interned_key' in code.co_consts
+    for name in code.co_names + code.co_varnames:
+        assert __graalpython__.is_interned_string(name), name
+    key = [c for c in code.co_consts if c == 'pyc_interned_key'][0]
+    assert __graalpython__.is_interned_string(key)
@@ -1,4 +1,4 @@
-# Copyright (c) 2018, 2025, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2018, 2026, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -871,3 +871,44 @@ class ToBytesTests(unittest.TestCase):
                 return 4
 
         self.assertEqual(MyTest(1).to_bytes(MyTest(10), 'big'), b'\x00\x00\x00\x00\x00\x00\x00\x00\x00\x01')
+
+    def test_to_bytes_big(self):
+        for value in (0, 1, 127, 128, 255, 256, -1, -128, -129, 2 ** 100, -2 ** 100, 2 ** 127 - 1, -2 ** 127):
+            for signed in (True, False):
+                if value < 0 and not signed:
+                    continue
+                for byteorder in ('big', 'little'):
+                    data = value.to_bytes(17, byteorder, signed=signed)
+                    self.assertEqual(value, int.from_bytes(data, byteorder, signed=signed))
+                    self.assertEqual(value, int.from_bytes(bytearray(data), byteorder, signed=signed))
+        self.assertEqual(b'', (0).to_bytes(0, 'big', signed=True))
+        self.assertEqual(b'\x00\x80', (2 ** 127).to_bytes(17, 'big')[:2])
+        self.assertEqual(b'\xff' * 17, (-1).to_bytes(17, 'big', signed=True))
+        self.assertRaises(OverflowError, (2 ** 127).to_bytes, 16, 'big', signed=True)
+        self.assertEqual((2 ** 127).to_bytes(16, 'little'), b'\x00' * 15 + b'\x80')
+
+
+class BigIntStringTests(unittest.TestCase):
+    def setUp(self):
+        self.old_limit = sys.get_int_max_str_digits()
+        sys.set_int_max_str_digits(0)
+
+    def tearDown(self):
+        sys.set_int_max_str_digits(self.old_limit)
+
+    def test_roundtrip(self):
+        for digits in (999, 1000, 1001, 2000, 4001, 12345):
+            for value in (10 ** digits, 10 ** digits - 1, 7 ** digits, -(3 ** digits)):
+                s = str(value)
+                self.assertEqual(value, int(s))
+                self.assertEqual(repr(value), s)
+                self.assertEqual(value, int(hex(value), 16))
+                self.assertEqual(value, int(bin(value), 0))
+        self.assertEqual(7 ** 3000, int('0' * 500 + str(7 ** 3000)))
+        self.assertEqual(7 ** 3000, int('_'.join(str(7 ** 3000))))
+        self.assertEqual(str(10 ** 5000)[:3], '100')
+        self.assertEqual(str(10 ** 5000).count('0'), 5000)
+
+    def test_invalid(self):
+        self.assertRaises(ValueError, int, '1' * 3000 + 'x')
+        self.assertRaises(ValueError, int, 'f' * 3000 + 'g', 16)
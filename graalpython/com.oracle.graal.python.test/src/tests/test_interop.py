@@ -1,4 +1,4 @@
-# Copyright (c) 2018, 2025, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2018, 2026, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -771,6 +771,80 @@ class InteropTests(unittest.TestCase):
 
         assert il == [1, 2, 3] # unchanged
 
+    def test_java_primitive_array_bulk_copy(self):
+        import java
+        il = java.type("int[]")(6)
+        il[:] = [1, 2, 3, 4, 5, 6]
+        copy = list(il)
+        self.assertEqual(copy, [1, 2, 3, 4, 5, 6])
+        self.assertIs(type(copy), list)
+        copy[0] = 'x'
+        self.assertEqual(il[0], 1)
+        self.assertEqual(il[1:5:2], [2, 4])
+        self.assertEqual(il[::-1], [6, 5, 4, 3, 2, 1])
+
+        ll = java.type("long[]")(3)
+        ll[:] = [1, 2, 3]
+        ll[1:3] = [2**40, -1]
+        self.assertEqual(list(ll), [1, 2**40, -1])
+
+        dl = java.type("double[]")(4)
+        dl[:] = [0.5, 1.5, 2.5, 3.5]
+        self.assertEqual(list(dl), [0.5, 1.5, 2.5, 3.5])
+        self.assertEqual(dl[1:3], [1.5, 2.5])
+
+        fl = java.type("float[]")(2)
+        fl[:] = [0.5, 1.5]
+        self.assertEqual(list(fl), [0.5, 1.5])
+
+        bl = java.type("byte[]")(2)
+        bl[:] = [-1, 127]
+        self.assertEqual(list(bl), [-1, 127])
+
+        zl = java.type("boolean[]")(2)
+        zl[:] = [True, False]
+        self.assertEqual(list(zl), [True, False])
+
+        cl = java.type("char[]")(2)
+        cl[:] = ['a', 'b']
+        self.assertEqual(list(cl), ['a', 'b'])
+
+        # incompatible element types still go through the per-element conversion
+        with self.assertRaises(TypeError):
+            il[0:2] = [1.5, 2.5]
+        with self.assertRaises(TypeError):
+            il[0:2] = [2**40, 1]
+        self.assertEqual(list(il), [1, 2, 3, 4, 5, 6])
+
+    def test_java_byte_buffer_as_python_buffer(self):
+        import java, struct, hashlib
+        ByteBuffer = java.type("java.nio.ByteBuffer")
+        data = bytes(range(16))
+        bb = ByteBuffer.allocate(16)
+        for b in data:
+            bb.put(b if b < 128 else b - 256)
+
+        mv = memoryview(bb)
+        self.assertEqual(len(mv), 16)
+        self.assertFalse(mv.readonly)
+        self.assertEqual(mv[3], 3)
+        self.assertEqual(mv.tobytes(), data)
+        self.assertEqual(bytes(mv[4:8]), data[4:8])
+        self.assertEqual(struct.unpack_from("<IH", bb, 2), struct.unpack_from("<IH", data, 2))
+        self.assertEqual(hashlib.sha256(bb).hexdigest(), hashlib.sha256(data).hexdigest())
+        self.assertEqual(bytes(bb), data)
+
+        mv[0] = 0xff
+        self.assertEqual(bb.get(0), -1)
+        struct.pack_into(">i", bb, 4, -2)
+        self.assertEqual(bb.getInt(4), -2)
+
+        ro = bb.asReadOnlyBuffer()
+        self.assertTrue(memoryview(ro).readonly)
+        self.assertEqual(bytes(ro)[1:4], data[1:4])
+        with self.assertRaises(TypeError):
+            memoryview(ro)[0] = 1
+
     def test_dir(self):
         from java.util import ArrayList
 
@@ -1100,6 +1174,117 @@ class InteropTests(unittest.TestCase):
             with self.assertRaisesRegex(TypeError, "descriptor requires a 'iterator' object but received a 'ForeignIterator'"):
                 itr.__setstate__(0)
 
+    def test_java_iterable_in_loops(self):
+        import java
+        from java.util import ConcurrentModificationException, LinkedHashSet
+        from java.util.concurrent import ConcurrentLinkedQueue
+        s = LinkedHashSet()
+        for i in range(100):
+            s.add(i)
+
+        result = []
+        for x in s:
+            result.append(x)
+        self.assertEqual(list(range(100)), result)
+        self.assertEqual([x * 2 for x in s], [x * 2 for x in range(100)])
+
+        # loops fetch one element at a time, so they see modifications made in the loop body
+        q = ConcurrentLinkedQueue()
+        q.add(0)
+        result = []
+        for x in q:
+            result.append(x)
+            if x < 3:
+                q.add(x + 1)
+        self.assertEqual([0, 1, 2, 3], result)
+
+        # and a concurrent modification is reported on the very next element
+        result = []
+        try:
+            for x in s:
+                result.append(x)
+                if x == 3:
+                    s.remove(99)
+        except ConcurrentModificationException:
+            pass
+        else:
+            self.fail("expected ConcurrentModificationException")
+        self.assertEqual([0, 1, 2, 3], result)
+
+        # no elements of a shared iterator are lost after break
+        it = s.iterator()
+        for x in it:
+            if x == 3:
+                break
+        self.assertEqual(4, it.next())
+
+        IntStream = java.type("java.util.stream.IntStream")
+        self.assertEqual(list(range(10)), [x for x in IntStream.range(0, 10).boxed()])
+        self.assertEqual([0, 1, 2], list(IntStream.range(0, 3).boxed()))
+        self.assertEqual(6, sum(IntStream.range(0, 4).boxed()))
+
+    def test_java_iterable_buffered(self):
+        import java
+        from java.lang import Integer, NumberFormatException
+        from java.util import LinkedHashSet
+        s = LinkedHashSet()
+        for i in range(100):
+            s.add(i)
+
+        self.assertEqual(list(range(100)), list(polyglot.buffered(s)))
+        self.assertEqual(list(range(100)), [x for x in polyglot.buffered(s, 7)])
+        self.assertEqual(list(range(100)), list(polyglot.buffered(s.iterator(), batch_size=1)))
+        IntStream = java.type("java.util.stream.IntStream")
+        self.assertEqual(list(range(10)), list(polyglot.buffered(IntStream.range(0, 10).boxed(), 4)))
+
+        # an exception in the middle of a batch comes after the elements fetched before it
+        stream = java.type("java.util.stream.Stream").of("1", "2", "x", "4").map(Integer.parseInt)
+        result = []
+        try:
+            for x in polyglot.buffered(stream):
+                result.append(x)
+        except NumberFormatException:
+            pass
+        else:
+            self.fail("expected NumberFormatException")
+        self.assertEqual([1, 2], result)
+
+        with self.assertRaises(TypeError):
+            polyglot.buffered([1, 2, 3])
+        with self.assertRaises(ValueError):
+            polyglot.buffered(s, 0)
+
+    def test_python_iterator_next_into_java_array(self):
+        import java
+        next_into = polyglot.next_into
+
+        buf = java.type("long[]")(4)
+        it = iter([1, 2, 3, 4, 5, 6])
+        self.assertEqual(4, next_into(it, buf))
+        self.assertEqual([1, 2, 3, 4], list(buf))
+        self.assertEqual(2, next_into(it, buf))
+        self.assertEqual([5, 6], list(buf)[:2])
+        self.assertEqual(0, next_into(it, buf))
+
+        dbuf = java.type("double[]")(3)
+        it = iter((0.5, 1.5, 2.5, 3.5))
+        self.assertEqual(3, next_into(it, dbuf))
+        self.assertEqual([0.5, 1.5, 2.5], list(dbuf))
+        self.assertEqual(3.5, next(it))
+
+        obuf = java.type("java.lang.Object[]")(3)
+        it = (str(i) for i in range(5))
+        self.assertEqual(3, next_into(it, obuf))
+        self.assertEqual(["0", "1", "2"], list(obuf))
+        self.assertEqual(2, next_into(it, obuf))
+        self.assertEqual(["3", "4"], list(obuf)[:2])
+
+        ibuf = java.type("int[]")(2)
+        with self.assertRaises(TypeError):
+            next_into(iter(["a"]), ibuf)
+        with self.assertRaises(TypeError):
+            next_into(iter([1]), object())
+
     def test_java_iterable(self):
         from java.util import LinkedHashSet
         s = LinkedHashSet() # not hasArrayElements() and not hasHashEntries()
@@ -1,4 +1,4 @@
-# Copyright (c) 2021, 2025, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -314,6 +314,69 @@ class IOBaseTests(unittest.TestCase):
         t = _io.TextIOWrapper(MockRawIO(), newline="\r\n")
         self.assertEqual(["ab\r\n", "cd"], t.readlines())
 
+    def _read_lines_from_file(self, data, **kwargs):
+        with tempfile.TemporaryDirectory() as d:
+            path = os.path.join(d, "tmp")
+            with open(path, 'wb') as f:
+                f.write(data)
+            with open(path, 'r', buffering=16, **kwargs) as f:
+                lines = list(f)
+                newlines = f.newlines
+            with open(path, 'r', buffering=16, **kwargs) as f:
+                positions = []
+                while True:
+                    pos = f.tell()
+                    line = f.readline()
+                    if not line:
+                        break
+                    positions.append((pos, line))
+                for pos, line in positions:
+                    f.seek(pos)
+                    self.assertEqual(line, f.readline())
+            return lines, newlines
+
+    def test_readline_from_buffer(self):
+        data = 'ascii line\nčeština je ěšč\n' + 'x' * 100 + '\n€ at the end'
+        lines, newlines = self._read_lines_from_file(data.encode('utf-8'), encoding='utf-8')
+        self.assertEqual(data.splitlines(keepends=True), lines)
+        self.assertEqual('\n', newlines)
+        lines, _ = self._read_lines_from_file(b'\xe9t\xe9\nabc\n', encoding='latin-1')
+        self.assertEqual(['\xe9t\xe9\n', 'abc\n'], lines)
+
+    def test_readline_from_buffer_newlines(self):
+        data = b'a\r\nb\rc\nd\r\n\re'
+        lines, newlines = self._read_lines_from_file(data, encoding='utf-8')
+        self.assertEqual(['a\n', 'b\n', 'c\n', 'd\n', '\n', 'e'], lines)
+        self.assertEqual(('\r', '\n', '\r\n'), newlines)
+        lines, _ = self._read_lines_from_file(data, encoding='utf-8', newline='')
+        self.assertEqual(['a\r\n', 'b\r', 'c\n', 'd\r\n', '\r', 'e'], lines)
+        lines, _ = self._read_lines_from_file(data, encoding='utf-8', newline='\n')
+        self.assertEqual(['a\r\n', 'b\rc\n', 'd\r\n', '\re'], lines)
+
+    def test_readline_from_buffer_invalid(self):
+        with self.assertRaises(UnicodeDecodeError):
+            self._read_lines_from_file(b'abc\n\xff\n', encoding='utf-8')
+        with self.assertRaises(UnicodeDecodeError):
+            self._read_lines_from_file(b'abc\n\xc3', encoding='utf-8')
+        with self.assertRaises(UnicodeDecodeError):
+            self._read_lines_from_file(b'abc\n\x80\n', encoding='ascii')
+        lines, _ = self._read_lines_from_file(b'a\xffb\nc\n', encoding='utf-8', errors='replace')
+        self.assertEqual(['a\ufffdb\n', 'c\n'], lines)
+
+    def test_readline_mixed_with_read(self):
+        with tempfile.TemporaryDirectory() as d:
+            path = os.path.join(d, "tmp")
+            with open(path, 'wb') as f:
+                f.write('ab\nčd\nef\n'.encode('utf-8'))
+            with open(path, 'r', encoding='utf-8') as f:
+                self.assertEqual('ab\n', f.readline())
+                self.assertEqual('č', f.read(1))
+                self.assertEqual('d\n', f.readline())
+                self.assertEqual('ef\n', f.readline())
+                self.assertEqual('', f.readline())
+                f.seek(0)
+                self.assertEqual(['ab\n', 'čd\n', 'ef\n'], f.readlines())
+
     @unittest.skipIf(sys.platform != "win32", "Windows-only test")
     def test_crlf_default_on_win32(self):
         with tempfile.TemporaryDirectory() as d:
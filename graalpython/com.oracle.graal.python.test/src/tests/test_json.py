@@ -1,4 +1,4 @@
-# Copyright (c) 2019, 2024, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2019, 2026, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -88,3 +88,11 @@ class JsonTest(unittest.TestCase):
         assert s == '{"foo": "\\uda6a"}'
         s = json.dumps({'foo': "\uda6a"}, ensure_ascii=False)
         assert s == '{"foo": "\uda6a"}'
+
+    def test_decoded_keys_interned(self):
+        rows = json.loads('[{"alpha": 1, "beta": 2}, {"beta": 4, "alpha": 3}]')
+        for row in rows:
+            for key in row:
+                assert __graalpython__.is_interned_string(key), key
+        # values are not interned, only the keys
+        assert not __graalpython__.is_interned_string(json.loads('["not interned value"]')[0])
@@ -1,4 +1,4 @@
-# Copyright (c) 2018, 2024, Oracle and/or its affiliates.
+# Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 # Copyright (C) 1996-2017 Python Software Foundation
 #
 # Licensed under the PYTHON SOFTWARE FOUNDATION LICENSE VERSION 2
@@ -57,6 +57,48 @@ def test_tobytes():
     assert v.tobytes() == b
 
 
+def test_strided_tobytes_tolist():
+    import array
+    data = bytes(range(64))
+    v = memoryview(data)
+    assert v[::3].tobytes() == data[::3]
+    assert v[::-2].tobytes() == data[::-2]
+    assert v[5:40:7].tolist() == list(data[5:40:7])
+    assert v[::3].tobytes('F') == data[::3]
+
+    m = memoryview(data).cast('B', (8, 8))
+    assert m.tobytes() == data
+    assert m.tolist() == [list(data[i:i + 8]) for i in range(0, 64, 8)]
+    assert m.tobytes('F') == bytes(data[i * 8 + j] for j in range(8) for i in range(8))
+
+    ints = array.array('i', range(-50, 50))
+    iv = memoryview(ints)
+    assert iv.tolist() == list(range(-50, 50))
+    assert iv[::-3].tolist() == list(range(-50, 50))[::-3]
+    assert iv[1::4].tobytes() == array.array('i', range(-49, 50, 4)).tobytes()
+    longs = array.array('q', [2 ** 40, -(2 ** 40), 0])
+    assert memoryview(longs)[::2].tolist() == [2 ** 40, 0]
+    shorts = array.array('H', [0, 1, 65535])
+    assert memoryview(shorts)[::-1].tolist() == [65535, 1, 0]
+
+
+def test_cast_double():
+    import array
+    doubles = array.array('d', [i * 0.25 for i in range(32)])
+    raw = bytearray(doubles.tobytes())
+    v = memoryview(raw).cast('d')
+    assert v.format == 'd' and len(v) == 32
+    assert v.tolist() == doubles.tolist()
+    assert v[::5].tolist() == doubles.tolist()[::5]
+    assert v[3] == 0.75
+    # the cast view shares memory with the original buffer
+    v[1] = 42.5
+    assert memoryview(raw).cast('d')[1] == 42.5
+    assert array.array('d', raw[8:16])[0] == 42.5
+    f = memoryview(array.array('f', [1.5, -2.0]).tobytes()).cast('f')
+    assert f.tolist() == [1.5, -2.0]
+
+
 def test_slice():
     b = bytes(range(8))
     m = memoryview(b)
@@ -0,0 +1,74 @@
+# Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import subprocess
+import sys
+import unittest
+
+PROGRAM = '''
+def add(a, b):
+    return a + b
+
+for i in range(1000):
+    add(i, i)
+add('a', 'b')
+
+stats = __graalpython__.get_quickening_statistics()
+code = [v for k, v in stats['code'].items() if k.startswith('add (')]
+print(len(code), sum(q for q, g in code[0].values()) > 0, sum(g for q, g in code[0].values()) > 0)
+print(all(isinstance(v, tuple) and len(v) == 2 for v in stats['opcodes'].values()))
+'''
+
+
+def run_program(*options):
+    args = ['--experimental-options', *options, '-c', PROGRAM]
+    result = subprocess.run([sys.executable, *args], check=True, stdout=subprocess.PIPE, stderr=subprocess.PIPE, text=True)
+    return result.stdout.strip(), result.stderr
+
+
+@unittest.skipUnless(sys.implementation.name == 'graalpy' and not __graalpython__.is_bytecode_dsl_interpreter, "GraalPy manual bytecode interpreter specific test")
+class TestQuickeningStatistics(unittest.TestCase):
+
+    def test_disabled(self):
+        self.assertIsNone(__graalpython__.get_quickening_statistics())
+
+    def test_statistics(self):
+        stdout, stderr = run_program('--python.QuickeningStatistics=true')
+        self.assertEqual('1 True True\nTrue', stdout)
+        self.assertIn('Bytecode quickening statistics', stderr)
@@ -1,9 +1,10 @@
-# Copyright (c) 2018, 2024, Oracle and/or its affiliates.
+# Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 # Copyright (C) 1996-2017 Python Software Foundation
 #
 # Licensed under the PYTHON SOFTWARE FOUNDATION LICENSE VERSION 2
 
 import random
+import sys
 import time
 import unittest
 
@@ -175,3 +176,99 @@ class TestBasicOps(unittest.TestCase):
         randrange = self.gen.randrange
         k = sum(randrange(6755399441055744) % 3 == 2 for i in range(n))
         self.assertTrue(0.30 < k/n < .37, (k/n))
+
+
+@unittest.skipIf(sys.implementation.name != 'graalpy', "GraalPy bulk random API")
+class TestBulkOps(unittest.TestCase):
+    def test_random_list(self):
+        a = random.Random(42)
+        b = random.Random(42)
+        self.assertEqual(a.random_list(1000), [b.random() for _ in range(1000)])
+        self.assertEqual(a.random(), b.random())
+        self.assertEqual(a.random_list(0), [])
+        self.assertRaises(ValueError, a.random_list, -1)
+
+    def test_getrandbits_list(self):
+        for k in [0, 1, 7, 31, 32, 33, 63, 64, 65, 100]:
+            a = random.Random(k)
+            b = random.Random(k)
+            self.assertEqual(a.getrandbits_list(k, 50), [b.getrandbits(k) for _ in range(50)])
+            self.assertEqual(a.random(), b.random())
+        self.assertRaises(ValueError, a.getrandbits_list, -1, 1)
+        self.assertRaises(ValueError, a.getrandbits_list, 1, -1)
+
+    def reference_choices(self, gen, population, cum_weights, k):
+        # the original pure Python implementation
+        import bisect, math
+        n = len(population)
+        if cum_weights is None:
+            return [population[math.floor(gen.random() * n)] for _ in range(k)]
+        total = cum_weights[-1] + 0.0
+        return [population[bisect.bisect(cum_weights, gen.random() * total, 0, n - 1)] for _ in range(k)]
+
+    def test_choices_same_as_reference(self):
+        population = list('abcdefghij')
+        cases = [
+            None,
+            list(range(1, 11)),
+            [0.5 * i for i in range(1, 11)],
+            [0, 0, 1, 1, 1, 2.5, 2.5, 2.5, 7, 10],
+            (True, True, 2, 3, 4, 5, 6, 7, 8, 9),
+        ]
+        for cum_weights in cases:
+            a = random.Random(7)
+            b = random.Random(7)
+            self.assertEqual(a.choices(population, cum_weights=cum_weights, k=500),
+                             self.reference_choices(b, population, cum_weights, 500))
+        a = random.Random(3)
+        b = random.Random(3)
+        weights = [1, 2, 3, 4, 5, 6, 7, 8, 9, 10]
+        self.assertEqual(a.choices(population, weights, k=100),
+                         self.reference_choices(b, population, list(__import__('itertools').accumulate(weights)), 100))
+        # weights that cannot be represented exactly use the generic path
+        from fractions import Fraction
+        a = random.Random(5)
+        b = random.Random(5)
+        cum_weights = [Fraction(i, 3) for i in range(1, 11)]
+        self.assertEqual(a.choices(population, cum_weights=cum_weights, k=50),
+                         self.reference_choices(b, population, cum_weights, 50))
+        self.assertEqual(a.choices(population, k=0), [])
+        self.assertEqual(a.choices(population, k=-1), [])
+
+    def test_choice_indices_errors(self):
+        gen = random.Random(1)
+        self.assertRaises(ValueError, gen.choice_indices, 1, 2, [1.0])
+        self.assertRaises(ValueError, gen.choice_indices, 1, 2, [0, 0])
+        self.assertRaises(ValueError, gen.choice_indices, 1, 2, [1, float('inf')])
+        self.assertRaises(TypeError, gen.choice_indices, 1, 2, [1, 'a'])
+        self.assertRaises(TypeError, gen.choice_indices, 1, 2, iter([1, 2]))
+        self.assertRaises(ValueError, random.Random(1).choices, [1, 2], cum_weights=[0, 0])
+
+    def test_splittable(self):
+        from _random import SplittableRandom
+        a = SplittableRandom(12345)
+        b = SplittableRandom(12345)
+        self.assertEqual([a.random() for _ in range(10)], b.random_list(10))
+        self.assertEqual([a.getrandbits(20) for _ in range(10)], b.getrandbits_list(20, 10))
+        self.assertEqual([a.getrandbits(100) for _ in range(3)], b.getrandbits_list(100, 3))
+        for k in [0, 1, 31, 32, 63, 64, 65, 200]:
+            self.assertTrue(0 <= a.getrandbits(k) < 2 ** k)
+        self.assertRaises(ValueError, a.getrandbits, -1)
+        for x in a.random_list(1000):
+            self.assertTrue(0.0 <= x < 1.0)
+        c = a.split()
+        self.assertIsInstance(c, SplittableRandom)
+        self.assertNotEqual(c.random_list(10), a.random_list(10))
+        self.assertIsInstance(SplittableRandom().random(), float)
+        self.assertIsInstance(SplittableRandom(2 ** 100).random(), float)
+        self.assertIsInstance(SplittableRandom('seed').random(), float)
+
+    def test_splittable_str_seed(self):
+        from _random import SplittableRandom
+        from hashlib import sha512
+        # same derivation as random.seed, independent of hash randomization
+        for s in ['seed', '', '\u010d\U0001F600']:
+            b = s.encode()
+            expected = SplittableRandom(int.from_bytes(b + sha512(b).digest())).random_list(5)
+            self.assertEqual(expected, SplittableRandom(s).random_list(5))
+        self.assertRaises(UnicodeEncodeError, SplittableRandom, '\udc80')
@@ -1,4 +1,4 @@
-# Copyright (c) 2021, 2024, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -326,6 +326,25 @@ if EXECUTE_TESTS:
             self.assertIn(BetterDummyObject, type(test_string).mro())
             self.assertEqual("better_lorem ipsum", test_string.better_name())
 
+        def test_registered_method_shadows_java_method_at_call_site(self):
+            def call_length(sb):
+                return sb.length()
+
+            test_string = StringBuilder("lorem ipsum")
+            for _ in range(100):
+                self.assertEqual(11, call_length(test_string))
+
+            @polyglot.interop_type(StringBuilder)
+            class ShadowingStringBuilder:
+                def length(self):
+                    return -1
+
+            for _ in range(100):
+                self.assertEqual(-1, call_length(test_string))
+
+            __graalpython__.clear_interop_type_registry()
+            self.assertEqual(11, call_length(test_string))
+
         def test_mro_with_multiple_inheritance(self):
             object = Object()
 
@@ -1,4 +1,4 @@
-# Copyright (c) 2018, 2025, Oracle and/or its affiliates.
+# Copyright (c) 2018, 2026, Oracle and/or its affiliates.
 # Copyright (C) 1996-2017 Python Software Foundation
 #
 # Licensed under the PYTHON SOFTWARE FOUNDATION LICENSE VERSION 2
@@ -162,6 +162,28 @@ def test_join1():
     assert ", ".join(CustomList(["A", "B", "C"])) == "1, 2, 3"
 
 
+def test_concat_loop():
+    s = ""
+    parts = []
+    for i in range(200):
+        piece = "\u010d" * (i % 3) + str(i) + ("\U0001F642" if i % 50 == 0 else "")
+        s += piece
+        parts.append(piece)
+        if i % 37 == 0:
+            # inspect the intermediate results
+            assert s == "".join(parts)
+            assert len(s) == sum(len(p) for p in parts)
+    expected = "".join(parts)
+    assert s == expected
+    assert hash(s) == hash(expected)
+    assert {expected: 1}[s] == 1
+    assert s[5:40] == expected[5:40]
+    assert s.find("199") == expected.find("199")
+    t = s
+    t += "!"
+    assert s == expected and t == expected + "!"
+
+
 def test_strip():
     assert ' test  '.strip() == 'test'
     assert u' test  '.strip() == u'test'
@@ -1,4 +1,4 @@
-# Copyright (c) 2020, 2024, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2020, 2026, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -277,6 +277,45 @@ def test_iter_unpack():
     assert lh(it) == 0
 
 
+def test_unpack_columns():
+    if sys.implementation.name != "graalpy":
+        return
+    s = struct.Struct('<bHiIqQd?2s')
+    records = [
+        (-1, 65535, -2**31, 2**32 - 1, -2**63, 2**63 - 1, 1.5, True, b'ab'),
+        (2, 3, 4, 5, 6, 7, -0.25, False, b'cd'),
+        (-3, 0, 2**31 - 1, 0, 2**63 - 1, 0, float('inf'), True, b'\0x'),
+    ]
+    data = b''.join(s.pack(*r) for r in records)
+    columns = s.unpack_columns(data)
+    assert isinstance(columns, tuple)
+    assert all(type(c) is list for c in columns)
+    assert columns == tuple(list(c) for c in zip(*records))
+    assert columns == tuple(list(c) for c in zip(*s.iter_unpack(data)))
+
+    # unsigned 64-bit values above the long range
+    s = struct.Struct('>Q')
+    assert s.unpack_columns(s.pack(2**64 - 1) + s.pack(1)) == ([2**64 - 1, 1],)
+
+    # repeat counts, padding and half floats
+    s = struct.Struct('=2hxe')
+    data = s.pack(1, -2, 0.5) + s.pack(3, 4, -1.0)
+    assert s.unpack_columns(data) == ([1, 3], [-2, 4], [0.5, -1.0])
+
+    # offset and count
+    s = struct.Struct('<I')
+    data = bytes(range(16))
+    assert s.unpack_columns(data, 4) == ([0x07060504, 0x0b0a0908, 0x0f0e0d0c],)
+    assert s.unpack_columns(data, 1, 2) == ([0x04030201, 0x08070605],)
+    assert s.unpack_columns(data, count=0) == ([],)
+    assert s.unpack_columns(memoryview(data), offset=8) == ([0x0b0a0908, 0x0f0e0d0c],)
+    assert_raises(struct.error, s.unpack_columns, data, 1)
+    assert_raises(struct.error, s.unpack_columns, data, 0, 5)
+    assert_raises(struct.error, s.unpack_columns, data, -1)
+    assert_raises(struct.error, s.unpack_columns, data, 17)
+    assert_raises(struct.error, struct.Struct('').unpack_columns, b'')
+
+
 def test_pack_varargs():
     assert struct.Struct(">B").pack(3) == b'\x03'
     raised = False
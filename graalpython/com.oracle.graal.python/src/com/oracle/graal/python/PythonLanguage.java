@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026, Oracle and/or its affiliates.
  * Copyright (c) 2015, Regents of the University of California
  *
  * All rights reserved.
@@ -70,6 +70,7 @@ import com.oracle.graal.python.builtins.objects.frame.PFrame;
 import com.oracle.graal.python.builtins.objects.function.PArguments;
 import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.object.PythonObject;
+import com.oracle.graal.python.builtins.objects.str.StringInternTable;
 import com.oracle.graal.python.builtins.objects.tuple.StructSequence;
 import com.oracle.graal.python.builtins.objects.type.MroShape;
 import com.oracle.graal.python.builtins.objects.type.PythonAbstractClass;
@@ -84,6 +85,7 @@ import com.oracle.graal.python.compiler.ParserCallbacksImpl;
 import com.oracle.graal.python.compiler.bytecode_dsl.BytecodeDSLCompiler;
 import com.oracle.graal.python.compiler.bytecode_dsl.BytecodeDSLCompiler.BytecodeDSLCompilerResult;
 import com.oracle.graal.python.nodes.bytecode.PBytecodeRootNode;
+import com.oracle.graal.python.nodes.bytecode.QuickeningStatistics;
 import com.oracle.graal.python.nodes.bytecode_dsl.BytecodeDSLCodeUnit;
 import com.oracle.graal.python.nodes.call.CallDispatchers;
 import com.oracle.graal.python.nodes.call.CallNode;
@@ -364,6 +366,12 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
      */
     private final ConcurrentHashMap<Object, RootCallTarget> cachedCallTargets = new ConcurrentHashMap<>();
 
+    /**
+     * Kept per language, not per context, because code units are shared by all contexts of an
+     * engine and their identifiers are interned in place.
+     */
+    private final StringInternTable stringInternTable = new StringInternTable();
+
     @CompilationFinal(dimensions = 1) private final RootCallTarget[] builtinSlotsCallTargets;
 
     /**
@@ -396,6 +404,7 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
     @CompilationFinal(dimensions = 1) private volatile Object[] engineOptionsStorage;
     @CompilationFinal private volatile OptionValues engineOptions;
     @CompilationFinal private AllocationReporter allocationReporter;
+    private volatile QuickeningStatistics quickeningStatistics;
 
     /** For fast access to the PythonThreadState object by the owning thread. */
     private final ContextThreadLocal<PythonThreadState> threadState = locals.createContextThreadLocal(PythonContext.PythonThreadState::new);
@@ -436,6 +445,9 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
     @Override
     protected void finalizeContext(PythonContext context) {
         context.finalizeContext();
+        if (quickeningStatistics != null) {
+            quickeningStatistics.dump();
+        }
         super.finalizeContext(context);
         // trigger cleanup of stale entries in weak hash maps
         indirectCallDataMap.size();
@@ -477,6 +489,10 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
             assert areOptionsCompatible(options, PythonOptions.createEngineOptions(env)) : "invalid engine options";
         }
 
+        if (quickeningStatistics == null && getEngineOption(PythonOptions.QuickeningStatistics)) {
+            quickeningStatistics = new QuickeningStatistics();
+        }
+
         return context;
     }
 
@@ -490,6 +506,14 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
         }
     }
 
+    /**
+     * Returns the bytecode quickening statistics, or {@code null} if
+     * {@link PythonOptions#QuickeningStatistics} is not enabled.
+     */
+    public QuickeningStatistics getQuickeningStatistics() {
+        return quickeningStatistics;
+    }
+
     public AllocationReporter getAllocationReporter() {
         assert allocationReporter != null;
         return allocationReporter;
@@ -720,6 +744,7 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
         Compiler compiler = new Compiler(parserCallbacks);
         CompilationUnit cu = compiler.compile(mod, EnumSet.noneOf(Compiler.Flags.class), optimize, futureFeatures);
         BytecodeCodeUnit co = cu.assemble();
+        stringInternTable.internIdentifiers(co);
         return PBytecodeRootNode.create(this, co, source, parserCallbacks);
     }
 
@@ -1006,6 +1031,10 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
 
     private final ConcurrentHashMap<TruffleString, CallTarget> cachedCode = new ConcurrentHashMap<>();
 
+    public StringInternTable getStringInternTable() {
+        return stringInternTable;
+    }
+
     @TruffleBoundary
     public CallTarget cacheCode(TruffleString filename, Supplier<CallTarget> createCode) {
         if (!singleContext) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026, Oracle and/or its affiliates.
  * Copyright (c) 2013, Regents of the University of California
  *
  * All rights reserved.
@@ -224,6 +224,9 @@ import com.oracle.graal.python.builtins.objects.asyncio.AsyncGenSendBuiltins;
 import com.oracle.graal.python.builtins.objects.asyncio.AsyncGenThrowBuiltins;
 import com.oracle.graal.python.builtins.objects.asyncio.AsyncGeneratorBuiltins;
 import com.oracle.graal.python.builtins.objects.asyncio.CoroutineWrapperBuiltins;
+import com.oracle.graal.python.builtins.objects.asyncio.FutureBuiltins;
+import com.oracle.graal.python.builtins.objects.asyncio.FutureIterBuiltins;
+import com.oracle.graal.python.builtins.objects.asyncio.TaskBuiltins;
 import com.oracle.graal.python.builtins.objects.bool.BoolBuiltins;
 import com.oracle.graal.python.builtins.objects.bytes.ByteArrayBuiltins;
 import com.oracle.graal.python.builtins.objects.bytes.BytesBuiltins;
@@ -344,6 +347,7 @@ import com.oracle.graal.python.builtins.objects.posix.ScandirIteratorBuiltins;
 import com.oracle.graal.python.builtins.objects.property.PropertyBuiltins;
 import com.oracle.graal.python.builtins.objects.queue.SimpleQueueBuiltins;
 import com.oracle.graal.python.builtins.objects.random.RandomBuiltins;
+import com.oracle.graal.python.builtins.objects.random.SplittableRandomBuiltins;
 import com.oracle.graal.python.builtins.objects.range.RangeBuiltins;
 import com.oracle.graal.python.builtins.objects.referencetype.ReferenceTypeBuiltins;
 import com.oracle.graal.python.builtins.objects.reversed.ReversedBuiltins;
@@ -574,6 +578,7 @@ public abstract class Python3Core {
                         new MarshalModuleBuiltins(),
                         new RandomModuleBuiltins(),
                         new RandomBuiltins(),
+                        new SplittableRandomBuiltins(),
                         new WeakRefModuleBuiltins(),
                         new ReferenceTypeBuiltins(),
                         new TracemallocModuleBuiltins(),
@@ -808,6 +813,9 @@ public abstract class Python3Core {
                         new AsyncGeneratorBuiltins(),
                         new AsyncGenSendBuiltins(),
                         new AsyncGenThrowBuiltins(),
+                        new FutureBuiltins(),
+                        new FutureIterBuiltins(),
+                        new TaskBuiltins(),
 
                         // _tokenizer
                         new TokenizeModuleBuiltins(),
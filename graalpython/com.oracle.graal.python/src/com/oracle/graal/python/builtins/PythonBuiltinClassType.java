@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026, Oracle and/or its affiliates.
  * Copyright (c) 2013, Regents of the University of California
  *
  * All rights reserved.
@@ -62,6 +62,7 @@ import static com.oracle.graal.python.nodes.BuiltinNames.J_TYPE_VAR;
 import static com.oracle.graal.python.nodes.BuiltinNames.J_TYPE_VAR_TUPLE;
 import static com.oracle.graal.python.nodes.BuiltinNames.J_TYPING;
 import static com.oracle.graal.python.nodes.BuiltinNames.J_WRAPPER_DESCRIPTOR;
+import static com.oracle.graal.python.nodes.BuiltinNames.J__ASYNCIO;
 import static com.oracle.graal.python.nodes.BuiltinNames.J__CONTEXTVARS;
 import static com.oracle.graal.python.nodes.BuiltinNames.J__CTYPES;
 import static com.oracle.graal.python.nodes.BuiltinNames.J__SOCKET;
@@ -148,6 +149,9 @@ import com.oracle.graal.python.builtins.objects.asyncio.AsyncGenSendBuiltins;
 import com.oracle.graal.python.builtins.objects.asyncio.AsyncGenThrowBuiltins;
 import com.oracle.graal.python.builtins.objects.asyncio.AsyncGeneratorBuiltins;
 import com.oracle.graal.python.builtins.objects.asyncio.CoroutineWrapperBuiltins;
+import com.oracle.graal.python.builtins.objects.asyncio.FutureBuiltins;
+import com.oracle.graal.python.builtins.objects.asyncio.FutureIterBuiltins;
+import com.oracle.graal.python.builtins.objects.asyncio.TaskBuiltins;
 import com.oracle.graal.python.builtins.objects.bool.BoolBuiltins;
 import com.oracle.graal.python.builtins.objects.bytes.ByteArrayBuiltins;
 import com.oracle.graal.python.builtins.objects.bytes.BytesBuiltins;
@@ -253,6 +257,7 @@ import com.oracle.graal.python.builtins.objects.posix.ScandirIteratorBuiltins;
 import com.oracle.graal.python.builtins.objects.property.PropertyBuiltins;
 import com.oracle.graal.python.builtins.objects.queue.SimpleQueueBuiltins;
 import com.oracle.graal.python.builtins.objects.random.RandomBuiltins;
+import com.oracle.graal.python.builtins.objects.random.SplittableRandomBuiltins;
 import com.oracle.graal.python.builtins.objects.range.RangeBuiltins;
 import com.oracle.graal.python.builtins.objects.referencetype.ReferenceTypeBuiltins;
 import com.oracle.graal.python.builtins.objects.reversed.ReversedBuiltins;
@@ -468,6 +473,21 @@ public enum PythonBuiltinClassType implements TruffleObject {
     PCoroutineWrapper("coroutine_wrapper", PythonObject, newBuilder().slots(CoroutineWrapperBuiltins.SLOTS)),
     PAsyncGenerator("async_generator", PythonObject, newBuilder().slots(AsyncGeneratorBuiltins.SLOTS)),
     PAnextAwaitable("anext_awaitable", PythonObject, newBuilder().slots(ANextAwaitableBuiltins.SLOTS)),
+    PFuture("Future", PythonObject, newBuilder().publishInModule(J__ASYNCIO).basetype().addDict().slots(FutureBuiltins.SLOTS).doc("""
+                    This class is *almost* compatible with concurrent.futures.Future.
+
+                        Differences:
+
+                        - result() and exception() do not take a timeout argument and
+                          raise an exception when the future isn't done yet.
+
+                        - Callbacks registered with add_done_callback() are always called
+                          via the event loop's call_soon_threadsafe().
+
+                        - This class is not compatible with the wait() and as_completed()
+                          methods in the concurrent.futures package.""")),
+    PFutureIter("FutureIter", PythonObject, newBuilder().moduleName(J__ASYNCIO).disallowInstantiation().slots(FutureIterBuiltins.SLOTS)),
+    PTask("Task", PFuture, newBuilder().publishInModule(J__ASYNCIO).basetype().addDict().slots(TaskBuiltins.SLOTS).doc("A coroutine wrapped in a Future.")),
     PInt("int", PythonObject, newBuilder().publishInModule(J_BUILTINS).basetype().slots(IntBuiltins.SLOTS).doc("""
                     int([x]) -> integer
                     int(x, base=10) -> integer
@@ -549,6 +569,12 @@ public enum PythonBuiltinClassType implements TruffleObject {
 
                                     Simple, unbounded, reentrant FIFO queue.""")),
     PRandom("Random", PythonObject, newBuilder().publishInModule("_random").basetype().slots(RandomBuiltins.SLOTS)),
+    PSplittableRandom("SplittableRandom", PythonObject, newBuilder().publishInModule("_random").basetype().slots(SplittableRandomBuiltins.SLOTS).doc("""
+                    SplittableRandom(seed=None)
+                    --
+
+                    Fast random number generator with 64 bits of state that can be split into
+                    independent generators, e.g., one per thread.""")),
     PRange("range", PythonObject, newBuilder().publishInModule(J_BUILTINS).slots(RangeBuiltins.SLOTS).doc("""
                     range(stop) -> range object
                     range(start, stop[, step]) -> range object
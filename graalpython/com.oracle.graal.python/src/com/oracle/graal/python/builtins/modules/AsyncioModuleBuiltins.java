@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -85,6 +85,7 @@ import com.oracle.graal.python.nodes.statement.AbstractImportNode;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
@@ -108,6 +109,19 @@ public final class AsyncioModuleBuiltins extends PythonBuiltins {
 
     private static final TruffleString WEAKREF = tsLiteral("weakref");
     private static final TruffleString WEAKSET = tsLiteral("WeakSet");
+    private static final TruffleString T_ASYNCIO_EXCEPTIONS = tsLiteral("asyncio.exceptions");
+    private static final TruffleString T_ASYNCIO_BASE_FUTURES = tsLiteral("asyncio.base_futures");
+    private static final TruffleString T_TRACEBACK = tsLiteral("traceback");
+    private static final TruffleString T_INVALID_STATE_ERROR = tsLiteral("InvalidStateError");
+    private static final TruffleString T_CANCELLED_ERROR = tsLiteral("CancelledError");
+    private static final TruffleString T_FUTURE_REPR = tsLiteral("_future_repr");
+    private static final TruffleString T_EXTRACT_STACK = tsLiteral("extract_stack");
+    private static final TruffleString T_ASYNCIO_BASE_TASKS = tsLiteral("asyncio.base_tasks");
+    private static final TruffleString T_ASYNCIO_COROUTINES = tsLiteral("asyncio.coroutines");
+    private static final TruffleString T_TASK_REPR = tsLiteral("_task_repr");
+    private static final TruffleString T_TASK_GET_STACK = tsLiteral("_task_get_stack");
+    private static final TruffleString T_TASK_PRINT_STACK = tsLiteral("_task_print_stack");
+    private static final TruffleString T_ISCOROUTINE = tsLiteral("iscoroutine");
 
     @Override
     public void postInitialize(Python3Core core) {
@@ -115,9 +129,120 @@ public final class AsyncioModuleBuiltins extends PythonBuiltins {
         Object weakref = AbstractImportNode.importModule(WEAKREF);
         Object weakSetCls = PyObjectGetAttr.executeUncached(weakref, WEAKSET);
         Object weakSet = CallNode.executeUncached(weakSetCls);
-        self.setAttribute(CURRENT_TASKS_ATTR, PFactory.createDict(core.getLanguage()));
+        PDict currentTasks = PFactory.createDict(core.getLanguage());
+        PSet eagerTasks = PFactory.createSet(core.getLanguage());
+        self.setAttribute(CURRENT_TASKS_ATTR, currentTasks);
         self.setAttribute(SCHEDULED_TASKS_ATTR, weakSet);
-        self.setAttribute(EAGER_TASKS_ATTR, PFactory.createSet(core.getLanguage()));
+        self.setAttribute(EAGER_TASKS_ATTR, eagerTasks);
+        self.setModuleState(new ModuleState(currentTasks, weakSet, eagerTasks));
+    }
+
+    /**
+     * Per-context state of the module, corresponding to {@code asyncio_state} in CPython. The
+     * helpers from the {@code asyncio} package are only looked up on first use, because that
+     * package imports this module.
+     */
+    public static final class ModuleState {
+        private final PDict currentTasks;
+        private final Object scheduledTasks;
+        private final PSet eagerTasks;
+        private long taskNameCounter;
+        private Object invalidStateError;
+        private Object cancelledError;
+        private Object extractStack;
+        private Object futureRepr;
+        private Object taskRepr;
+        private Object taskGetStack;
+        private Object taskPrintStack;
+        private Object isCoroutine;
+
+        ModuleState(PDict currentTasks, Object scheduledTasks, PSet eagerTasks) {
+            this.currentTasks = currentTasks;
+            this.scheduledTasks = scheduledTasks;
+            this.eagerTasks = eagerTasks;
+        }
+
+        public PDict getCurrentTasks() {
+            return currentTasks;
+        }
+
+        public Object getScheduledTasks() {
+            return scheduledTasks;
+        }
+
+        public PSet getEagerTasks() {
+            return eagerTasks;
+        }
+
+        public long nextTaskNameCounter() {
+            return ++taskNameCounter;
+        }
+
+        public Object getInvalidStateError() {
+            if (invalidStateError == null) {
+                invalidStateError = lookupHelper(T_ASYNCIO_EXCEPTIONS, T_INVALID_STATE_ERROR);
+            }
+            return invalidStateError;
+        }
+
+        public Object getCancelledError() {
+            if (cancelledError == null) {
+                cancelledError = lookupHelper(T_ASYNCIO_EXCEPTIONS, T_CANCELLED_ERROR);
+            }
+            return cancelledError;
+        }
+
+        public Object getExtractStack() {
+            if (extractStack == null) {
+                extractStack = lookupHelper(T_TRACEBACK, T_EXTRACT_STACK);
+            }
+            return extractStack;
+        }
+
+        public Object getFutureRepr() {
+            if (futureRepr == null) {
+                futureRepr = lookupHelper(T_ASYNCIO_BASE_FUTURES, T_FUTURE_REPR);
+            }
+            return futureRepr;
+        }
+
+        public Object getTaskRepr() {
+            if (taskRepr == null) {
+                taskRepr = lookupHelper(T_ASYNCIO_BASE_TASKS, T_TASK_REPR);
+            }
+            return taskRepr;
+        }
+
+        public Object getTaskGetStack() {
+            if (taskGetStack == null) {
+                taskGetStack = lookupHelper(T_ASYNCIO_BASE_TASKS, T_TASK_GET_STACK);
+            }
+            return taskGetStack;
+        }
+
+        public Object getTaskPrintStack() {
+            if (taskPrintStack == null) {
+                taskPrintStack = lookupHelper(T_ASYNCIO_BASE_TASKS, T_TASK_PRINT_STACK);
+            }
+            return taskPrintStack;
+        }
+
+        public Object getIsCoroutine() {
+            if (isCoroutine == null) {
+                isCoroutine = lookupHelper(T_ASYNCIO_COROUTINES, T_ISCOROUTINE);
+            }
+            return isCoroutine;
+        }
+    }
+
+    @TruffleBoundary
+    private static Object lookupHelper(TruffleString moduleName, TruffleString name) {
+        return PyObjectGetAttr.executeUncached(AbstractImportNode.importModule(moduleName), name);
+    }
+
+    @TruffleBoundary
+    public static ModuleState getModuleState(PythonContext context) {
+        return context.lookupBuiltinModule(T__ASYNCIO).getModuleState(ModuleState.class);
     }
 
     @Builtin(name = "get_running_loop")
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026, Oracle and/or its affiliates.
  * Copyright (c) 2013, Regents of the University of California
  *
  * All rights reserved.
@@ -127,6 +127,9 @@ import com.oracle.graal.python.builtins.modules.io.IOModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.io.IONodes;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.PNotImplemented;
+import com.oracle.graal.python.builtins.objects.array.ArrayKernels;
+import com.oracle.graal.python.builtins.objects.array.ArrayNodes;
+import com.oracle.graal.python.builtins.objects.array.PArray;
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAcquireLibrary;
 import com.oracle.graal.python.builtins.objects.bytes.BytesNodes;
@@ -154,6 +157,7 @@ import com.oracle.graal.python.builtins.objects.function.PArguments;
 import com.oracle.graal.python.builtins.objects.function.PFunction;
 import com.oracle.graal.python.builtins.objects.function.PKeyword;
 import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.builtins.objects.iterator.PArrayIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PDoubleSequenceIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PIntegerSequenceIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PLongSequenceIterator;
@@ -2066,7 +2070,7 @@ public final class BuiltinFunctions extends PythonBuiltins {
 
         @GenerateInline
         @GenerateCached(false)
-        @ImportStatic(PGuards.class)
+        @ImportStatic({PGuards.class, ArrayKernels.class})
         abstract static class SumIteratorNode extends Node {
             public abstract Object execute(VirtualFrame frame, Node inliningTarget, Object iterator, Object start);
 
@@ -2135,6 +2139,49 @@ public final class BuiltinFunctions extends PythonBuiltins {
                 return result;
             }
 
+            @Specialization(guards = {"!iterator.isExhausted()", "isIntegral(iterator.getArray().getFormat())", "isByteStorage(iterator.getArray())"})
+            static Object sumIntegralArrayIterator(VirtualFrame frame, Node inliningTarget, PArrayIterator iterator, int start,
+                            @Shared @Cached InlinedLoopConditionProfile loopProfileGeneric,
+                            @Shared @Cached InlinedBranchProfile overflowProfile,
+                            @Shared @Cached PyNumberAddNode addNode,
+                            @Shared @Cached InlinedConditionProfile resultFitsInInt,
+                            @Cached ArrayNodes.GetValueNode getValueNode) {
+                PArray array = iterator.getArray();
+                int length = array.getLength();
+                int from = iterator.getIndex();
+                iterator.index = length;
+                iterator.setExhausted();
+                try {
+                    return maybeInt(inliningTarget, resultFitsInInt, ArrayKernels.sumLong(array, from, length, start));
+                } catch (OverflowException e) {
+                    overflowProfile.enter(inliningTarget);
+                    Object objectResult = start;
+                    for (int i = from; loopProfileGeneric.profile(inliningTarget, i < length); i++) {
+                        objectResult = addNode.execute(frame, objectResult, getValueNode.execute(inliningTarget, array, i));
+                    }
+                    return objectResult;
+                }
+            }
+
+            @Specialization(guards = {"!iterator.isExhausted()", "isFloatOrDouble(iterator.getArray().getFormat())", "isByteStorage(iterator.getArray())", "isDouble(start) || isInt(start)"})
+            static Object sumDoubleArrayIterator(Node inliningTarget, PArrayIterator iterator, Object start,
+                            @Cached @Exclusive InlinedConditionProfile startIsDouble) {
+                PArray array = iterator.getArray();
+                int length = array.getLength();
+                int from = iterator.getIndex();
+                /*
+                 * Need to make sure we keep start type if the iterator was empty
+                 */
+                if (from >= length) {
+                    iterator.setExhausted();
+                    return start;
+                }
+                iterator.index = length;
+                iterator.setExhausted();
+                double result = startIsDouble.profile(inliningTarget, start instanceof Double) ? (double) start : (int) start;
+                return ArrayKernels.sumDouble(array, from, length, result);
+            }
+
             // @Exclusive for truffle-interpreted-performance
             @Fallback
             static Object sumGeneric(VirtualFrame frame, Node inliningTarget, Object iterator, Object start,
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026, Oracle and/or its affiliates.
  * Copyright (c) 2013, Regents of the University of California
  *
  * All rights reserved.
@@ -206,7 +206,7 @@ public final class GcModuleBuiltins extends PythonBuiltins {
             }
             // collect some weak references now
             PythonContext.triggerAsyncActions(inliningTarget);
-            CApiTransitions.pollReferenceQueue();
+            CApiTransitions.pollReferenceQueue(true);
             /*
              * CPython's GC returns the number of collected cycles. This is not something we can
              * determine, but to return some useful info to the Python program, we return the amount
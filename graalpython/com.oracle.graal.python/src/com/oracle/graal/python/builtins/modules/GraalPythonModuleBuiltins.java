@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -74,7 +74,9 @@ import java.lang.management.ManagementFactory;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 
 import com.oracle.graal.python.PythonLanguage;
@@ -136,6 +138,7 @@ import com.oracle.graal.python.nodes.arrow.ArrowArray;
 import com.oracle.graal.python.nodes.arrow.ArrowSchema;
 import com.oracle.graal.python.nodes.builtins.FunctionNodes.GetCallTargetNode;
 import com.oracle.graal.python.nodes.bytecode.PBytecodeRootNode;
+import com.oracle.graal.python.nodes.bytecode.QuickeningStatistics;
 import com.oracle.graal.python.nodes.bytecode_dsl.PBytecodeDSLRootNode;
 import com.oracle.graal.python.nodes.call.CallNode;
 import com.oracle.graal.python.nodes.classes.IsSubtypeNode;
@@ -149,6 +152,7 @@ import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProv
 import com.oracle.graal.python.nodes.object.GetClassNode;
 import com.oracle.graal.python.nodes.object.GetOrCreateDictNode;
 import com.oracle.graal.python.nodes.statement.AbstractImportNode;
+import com.oracle.graal.python.nodes.util.CannotCastException;
 import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
 import com.oracle.graal.python.nodes.util.ToNativePrimitiveStorageNode;
 import com.oracle.graal.python.runtime.ExecutionContext;
@@ -940,6 +944,21 @@ public final class GraalPythonModuleBuiltins extends PythonBuiltins {
 
     }
 
+    @Builtin(name = "is_interned_string", minNumOfPositionalArgs = 1, doc = "Whether the string is the very instance kept in the string intern table of the engine.")
+    @GenerateNodeFactory
+    abstract static class IsInternedString extends PythonUnaryBuiltinNode {
+        @Specialization
+        @TruffleBoundary
+        static boolean doGeneric(Object object) {
+            try {
+                TruffleString string = CastToTruffleStringNode.executeUncached(object);
+                return PythonLanguage.get(null).getStringInternTable().isCanonical(string);
+            } catch (CannotCastException e) {
+                return false;
+            }
+        }
+    }
+
     @Builtin(name = "get_handle_table_id", minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
     abstract static class GetHandleTableID extends PythonUnaryBuiltinNode {
@@ -1084,6 +1103,49 @@ public final class GraalPythonModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "get_reference_queue_stats", maxNumOfPositionalArgs = 0, doc = "Statistics about releasing dead C API references.")
+    @GenerateNodeFactory
+    public abstract static class GetReferenceQueueStats extends PythonBuiltinNode {
+
+        @Specialization
+        @TruffleBoundary
+        Object stats() {
+            return PFactory.createDictFromMap(getLanguage(), getContext().nativeContext.getReferenceQueueStats());
+        }
+    }
+
+    @Builtin(name = "get_quickening_statistics", maxNumOfPositionalArgs = 0, doc = "Counts of bytecode quickening and generalization events as (quickened, generalized) pairs, " +
+                    "per opcode and per code object. Returns None unless the QuickeningStatistics option is enabled.")
+    @GenerateNodeFactory
+    public abstract static class GetQuickeningStatistics extends PythonBuiltinNode {
+
+        @Specialization
+        @TruffleBoundary
+        Object stats() {
+            PythonLanguage language = getLanguage();
+            QuickeningStatistics statistics = language.getQuickeningStatistics();
+            if (statistics == null) {
+                return PNone.NONE;
+            }
+            LinkedHashMap<String, Object> byCode = new LinkedHashMap<>();
+            for (Map.Entry<String, Map<String, long[]>> entry : statistics.getCodeStatistics().entrySet()) {
+                byCode.put(entry.getKey(), toDict(language, entry.getValue()));
+            }
+            LinkedHashMap<String, Object> result = new LinkedHashMap<>();
+            result.put("opcodes", toDict(language, statistics.getOpcodeStatistics()));
+            result.put("code", PFactory.createDictFromMap(language, byCode));
+            return PFactory.createDictFromMap(language, result);
+        }
+
+        private static PDict toDict(PythonLanguage language, Map<String, long[]> counts) {
+            LinkedHashMap<String, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<String, long[]> entry : counts.entrySet()) {
+                map.put(entry.getKey(), PFactory.createTuple(language, new Object[]{entry.getValue()[0], entry.getValue()[1]}));
+            }
+            return PFactory.createDictFromMap(language, map);
+        }
+    }
+
     @Builtin(name = "replicate_extensions_in_venv", minNumOfPositionalArgs = 2)
     @GenerateNodeFactory
     public abstract static class ReplicateExtNode extends PythonBuiltinNode {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026, Oracle and/or its affiliates.
  * Copyright (c) 2013, Regents of the University of California
  *
  * All rights reserved.
@@ -1548,7 +1548,11 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
     public static CodeUnit deserializeCodeUnit(Node node, PythonContext context, byte[] bytes) {
         try {
             Marshal marshal = new Marshal(context, bytes, bytes.length);
-            return marshal.readCodeUnit();
+            CodeUnit code = marshal.readCodeUnit();
+            // code from .pyc files and frozen modules must share the identifiers with runtime
+            // strings just like freshly compiled code
+            context.getLanguage().getStringInternTable().internIdentifiers(code);
+            return code;
         } catch (Marshal.MarshalError me) {
             throw PRaiseNode.raiseStatic(node, me.type, me.message, me.arguments);
         } catch (NumberFormatException e) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -82,6 +82,7 @@ import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.Python3Core;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.PolyglotModuleBuiltinsClinicProviders.BufferedNodeClinicProviderGen;
 import com.oracle.graal.python.builtins.modules.PolyglotModuleBuiltinsClinicProviders.RegisterInteropTypeNodeClinicProviderGen;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.PythonAbstractObject;
@@ -91,6 +92,7 @@ import com.oracle.graal.python.builtins.objects.function.PBuiltinFunction;
 import com.oracle.graal.python.builtins.objects.function.PFunction;
 import com.oracle.graal.python.builtins.objects.function.Signature;
 import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.builtins.objects.iterator.IteratorNodes.NextIntoForeignArrayNode;
 import com.oracle.graal.python.builtins.objects.list.PList;
 import com.oracle.graal.python.builtins.objects.method.PBuiltinMethod;
 import com.oracle.graal.python.builtins.objects.method.PMethod;
@@ -98,6 +100,7 @@ import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.type.PythonClass;
 import com.oracle.graal.python.builtins.objects.type.PythonManagedClass;
 import com.oracle.graal.python.builtins.objects.type.TypeNodes;
+import com.oracle.graal.python.lib.PyObjectGetIter;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.HiddenAttr;
 import com.oracle.graal.python.nodes.PRaiseNode;
@@ -105,6 +108,8 @@ import com.oracle.graal.python.nodes.SpecialAttributeNames;
 import com.oracle.graal.python.nodes.attributes.GetFixedAttributeNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
@@ -113,6 +118,7 @@ import com.oracle.graal.python.nodes.interop.InteropBehavior;
 import com.oracle.graal.python.nodes.interop.InteropBehaviorMethod;
 import com.oracle.graal.python.nodes.interop.PForeignToPTypeNode;
 import com.oracle.graal.python.nodes.object.GetForeignObjectClassNode;
+import com.oracle.graal.python.nodes.object.IsForeignObjectNode;
 import com.oracle.graal.python.nodes.statement.AbstractImportNode;
 import com.oracle.graal.python.nodes.truffle.PythonIntegerTypes;
 import com.oracle.graal.python.nodes.util.CannotCastException;
@@ -1169,6 +1175,57 @@ public final class PolyglotModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "next_into", minNumOfPositionalArgs = 2, parameterNames = {"iterator", "array"})
+    @GenerateNodeFactory
+    public abstract static class NextIntoNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static int nextInto(VirtualFrame frame, Object iterator, Object array,
+                        @Cached NextIntoForeignArrayNode nextIntoNode) {
+            return nextIntoNode.execute(frame, iterator, array);
+        }
+    }
+
+    @Builtin(name = "buffered", minNumOfPositionalArgs = 1, parameterNames = {"iterable", "batch_size"}, doc = """
+                    buffered(iterable, batch_size=1024)
+
+                    Returns an iterator over a foreign iterable or iterator that fetches up to batch_size
+                    elements from the foreign iterator at a time, instead of calling into the foreign
+                    language for every single element. Since the elements are fetched ahead, only use this
+                    when that cannot be observed: the foreign iterator must not block, the underlying
+                    collection must not be modified during the iteration, and the foreign iterator must not
+                    be used by anyone else. Python for loops over foreign iterables fetch one element at a
+                    time.
+                    """)
+    @ArgumentClinic(name = "batch_size", conversion = ClinicConversion.Int, defaultValue = "1024", useDefaultForNone = true)
+    @GenerateNodeFactory
+    public abstract static class BufferedNode extends PythonBinaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return BufferedNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static Object buffered(VirtualFrame frame, Object iterable, int batchSize,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
+                        @Cached IsForeignObjectNode isForeignObjectNode,
+                        @CachedLibrary(limit = "2") InteropLibrary interop,
+                        @Cached PyObjectGetIter getIter,
+                        @Cached PRaiseNode raiseNode) {
+            if (batchSize <= 0) {
+                throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.S_MUST_BE_GREATER_THAN_ZERO, "batch_size");
+            }
+            Object iterator = iterable;
+            if (!isForeignObjectNode.execute(inliningTarget, iterable) || !interop.isIterator(iterable)) {
+                iterator = getIter.execute(frame, inliningTarget, iterable);
+            }
+            if (!isForeignObjectNode.execute(inliningTarget, iterator) || !interop.isIterator(iterator)) {
+                throw raiseNode.raise(inliningTarget, TypeError, S_ARG_MUST_BE_S_NOT_P, "first", "a foreign iterable or iterator", iterable);
+            }
+            return PFactory.createBufferedForeignIterator(language, iterator, batchSize);
+        }
+    }
+
     @Builtin(name = "storage", minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
     public abstract static class StorageNode extends PythonUnaryBuiltinNode {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -1275,7 +1275,7 @@ public final class PythonCextBuiltins {
                 // Restore interrupt status
                 Thread.currentThread().interrupt();
             }
-            CApiTransitions.pollReferenceQueue();
+            CApiTransitions.pollReferenceQueue(true);
             PythonContext.triggerAsyncActions(this);
             return PNone.NO_VALUE;
         }
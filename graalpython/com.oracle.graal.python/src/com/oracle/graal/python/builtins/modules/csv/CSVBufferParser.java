@@ -0,0 +1,669 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules.csv;
+
+import static com.oracle.graal.python.builtins.modules.csv.CSVReader.ReaderState.AFTER_ESCAPED_CRNL;
+import static com.oracle.graal.python.builtins.modules.csv.CSVReader.ReaderState.EAT_CRNL;
+import static com.oracle.graal.python.builtins.modules.csv.CSVReader.ReaderState.ESCAPED_CHAR;
+import static com.oracle.graal.python.builtins.modules.csv.CSVReader.ReaderState.ESCAPE_IN_QUOTED_FIELD;
+import static com.oracle.graal.python.builtins.modules.csv.CSVReader.ReaderState.IN_FIELD;
+import static com.oracle.graal.python.builtins.modules.csv.CSVReader.ReaderState.IN_QUOTED_FIELD;
+import static com.oracle.graal.python.builtins.modules.csv.CSVReader.ReaderState.QUOTE_IN_QUOTED_FIELD;
+import static com.oracle.graal.python.builtins.modules.csv.CSVReader.ReaderState.START_FIELD;
+import static com.oracle.graal.python.builtins.modules.csv.CSVReader.ReaderState.START_RECORD;
+import static com.oracle.graal.python.builtins.modules.csv.QuoteStyle.QUOTE_NONE;
+import static com.oracle.graal.python.builtins.modules.csv.QuoteStyle.QUOTE_NONNUMERIC;
+import static com.oracle.graal.python.nodes.BuiltinNames.T_DECODE;
+import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Locale;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.modules.csv.CSVReader.ReaderState;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.floats.FloatUtils;
+import com.oracle.graal.python.builtins.objects.floats.FloatUtils.StringToDoubleResult;
+import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.lib.PyObjectCallMethodObjArgs;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.call.CallNode;
+import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinClassExactProfile;
+import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.ObjectSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.strings.TruffleString;
+import com.oracle.truffle.api.strings.TruffleString.CodeRange;
+
+/**
+ * Parser behind {@code _csv.read_buffer}. It runs the same state machine as
+ * {@link CSVReaderBuiltins.NextReaderNode}, but directly over the bytes of a buffer, so that a
+ * field is only decoded (or converted to a number) once it is complete. Physical lines are split
+ * like a text file opened with {@code newline=''}, which is what {@code csv.reader} expects of its
+ * input. Since all the dialect characters must be single bytes in the input encoding, they can
+ * never appear inside a multi-byte UTF-8 sequence.
+ * <p>
+ * The parser does not stream: the caller passes the whole document, and all rows or columns are
+ * materialized before they are returned. Both therefore need to fit into memory at the same time.
+ */
+final class CSVBufferParser {
+
+    private static final int EOL = -2;
+    private static final int NEWLINE = '\n';
+    private static final int CARRIAGE_RETURN = '\r';
+    private static final int SPACE = ' ';
+
+    private final Node node;
+    private final PythonLanguage language;
+    private final CSVDialect dialect;
+    private final TruffleString.Encoding encoding;
+    private final TruffleString encodingName;
+    private final long fieldLimit;
+    private final Object[] converters;
+    private final Sink sink;
+
+    private ReaderState state = START_RECORD;
+    private byte[] field = new byte[64];
+    private int fieldLength;
+    private long fieldCodePoints;
+    private boolean numericField;
+    private int fieldIndex;
+    private int lineNum;
+
+    private CSVBufferParser(Node node, PythonLanguage language, CSVDialect dialect, TruffleString.Encoding encoding, TruffleString encodingName, long fieldLimit, Object[] converters,
+                    Sink sink) {
+        this.node = node;
+        this.language = language;
+        this.dialect = dialect;
+        this.encoding = encoding;
+        this.encodingName = encodingName;
+        this.fieldLimit = fieldLimit;
+        this.converters = converters;
+        this.sink = sink;
+    }
+
+    /**
+     * Parses {@code length} bytes of {@code data} and returns either a list of rows or, if
+     * {@code columnar} is set, a list of columns.
+     */
+    @TruffleBoundary
+    static PList parse(Node node, PythonLanguage language, CSVDialect dialect, TruffleString encodingName, long fieldLimit, Object[] converters, boolean columnar, byte[] data, int length) {
+        TruffleString.Encoding encoding = lookupEncoding(encodingName.toJavaStringUncached());
+        if (encoding == null) {
+            throw PRaiseNode.raiseStatic(node, PythonBuiltinClassType.ValueError, ErrorMessages.CSV_UNSUPPORTED_BUFFER_ENCODING, encodingName);
+        }
+        int limit = encoding == TruffleString.Encoding.ISO_8859_1 ? 0x100 : 0x80;
+        checkSingleByte(node, "delimiter", dialect.delimiterCodePoint, limit, encodingName);
+        checkSingleByte(node, "quotechar", dialect.quoteCharCodePoint, limit, encodingName);
+        checkSingleByte(node, "escapechar", dialect.escapeCharCodePoint, limit, encodingName);
+        Sink sink = columnar ? new ColumnSink(node, language) : new RowSink(language);
+        CSVBufferParser parser = new CSVBufferParser(node, language, dialect, encoding, encodingName, fieldLimit, converters, sink);
+        parser.parse(data, length);
+        return sink.finish();
+    }
+
+    private static TruffleString.Encoding lookupEncoding(String name) {
+        switch (name.toLowerCase(Locale.ROOT).replace('_', '-')) {
+            case "utf-8":
+            case "utf8":
+            case "u8":
+                return TruffleString.Encoding.UTF_8;
+            case "ascii":
+            case "us-ascii":
+            case "646":
+                return TruffleString.Encoding.US_ASCII;
+            case "latin-1":
+            case "latin1":
+            case "iso-8859-1":
+            case "iso8859-1":
+            case "l1":
+                return TruffleString.Encoding.ISO_8859_1;
+            default:
+                return null;
+        }
+    }
+
+    private static void checkSingleByte(Node node, String name, int codePoint, int limit, TruffleString encodingName) {
+        if (codePoint >= limit) {
+            throw PRaiseNode.raiseStatic(node, PythonBuiltinClassType.ValueError, ErrorMessages.CSV_DIALECT_CHAR_NOT_SINGLE_BYTE, name, encodingName);
+        }
+    }
+
+    private void parse(byte[] data, int length) {
+        int start = 0;
+        while (start < length) {
+            int end = start;
+            while (end < length) {
+                byte b = data[end++];
+                if (b == NEWLINE) {
+                    break;
+                } else if (b == CARRIAGE_RETURN) {
+                    if (end < length && data[end] == NEWLINE) {
+                        end++;
+                    }
+                    break;
+                }
+            }
+            lineNum++;
+            for (int i = start; i < end; i++) {
+                processByte(data[i] & 0xFF);
+            }
+            processByte(EOL);
+            if (state == START_RECORD) {
+                endRecord();
+            }
+            start = end;
+        }
+        if (fieldLength != 0 || state == IN_QUOTED_FIELD) {
+            if (dialect.strict) {
+                throw PRaiseNode.raiseStatic(node, PythonBuiltinClassType.CSVError, ErrorMessages.UNEXPECTED_END_OF_DATA);
+            }
+            saveField();
+            endRecord();
+        }
+    }
+
+    @SuppressWarnings("fallthrough")
+    private void processByte(int c) {
+        switch (state) {
+            case START_RECORD:
+                if (c == EOL) {
+                    /* empty line - return [] */
+                    break;
+                } else if (c == NEWLINE || c == CARRIAGE_RETURN) {
+                    state = EAT_CRNL;
+                    break;
+                }
+                state = START_FIELD;
+                /* fallthru */
+
+            case START_FIELD:
+                if (c == NEWLINE || c == CARRIAGE_RETURN || c == EOL) {
+                    saveField();
+                    state = (c == EOL) ? START_RECORD : EAT_CRNL;
+                } else if (c == dialect.quoteCharCodePoint && dialect.quoting != QUOTE_NONE) {
+                    state = IN_QUOTED_FIELD;
+                } else if (c == dialect.escapeCharCodePoint) {
+                    if (dialect.quoting == QUOTE_NONNUMERIC) {
+                        numericField = true;
+                    }
+                    state = ESCAPED_CHAR;
+                } else if (c == SPACE && dialect.skipInitialSpace) {
+                    /* ignore space at start of field */
+                } else if (c == dialect.delimiterCodePoint) {
+                    saveField();
+                } else {
+                    if (dialect.quoting == QUOTE_NONNUMERIC) {
+                        numericField = true;
+                    }
+                    addByte(c);
+                    state = IN_FIELD;
+                }
+                break;
+
+            case ESCAPED_CHAR:
+                if (c == NEWLINE || c == CARRIAGE_RETURN) {
+                    addByte(c);
+                    state = AFTER_ESCAPED_CRNL;
+                    break;
+                }
+                addByte(c == EOL ? NEWLINE : c);
+                state = IN_FIELD;
+                break;
+
+            case AFTER_ESCAPED_CRNL:
+                if (c == EOL) {
+                    break;
+                }
+                /* fallthru */
+
+            case IN_FIELD:
+                if (c == NEWLINE || c == CARRIAGE_RETURN || c == EOL) {
+                    saveField();
+                    state = (c == EOL) ? START_RECORD : EAT_CRNL;
+                } else if (c == dialect.escapeCharCodePoint) {
+                    state = ESCAPED_CHAR;
+                } else if (c == dialect.delimiterCodePoint) {
+                    saveField();
+                    state = START_FIELD;
+                } else {
+                    addByte(c);
+                }
+                break;
+
+            case IN_QUOTED_FIELD:
+                if (c == EOL) {
+                    /* ignore */
+                } else if (c == dialect.escapeCharCodePoint) {
+                    state = ESCAPE_IN_QUOTED_FIELD;
+                } else if (c == dialect.quoteCharCodePoint && dialect.quoting != QUOTE_NONE) {
+                    state = dialect.doubleQuote ? QUOTE_IN_QUOTED_FIELD : IN_FIELD;
+                } else {
+                    addByte(c);
+                }
+                break;
+
+            case ESCAPE_IN_QUOTED_FIELD:
+                addByte(c == EOL ? NEWLINE : c);
+                state = IN_QUOTED_FIELD;
+                break;
+
+            case QUOTE_IN_QUOTED_FIELD:
+                if (dialect.quoting != QUOTE_NONE && c == dialect.quoteCharCodePoint) {
+                    addByte(c);
+                    state = IN_QUOTED_FIELD;
+                } else if (c == dialect.delimiterCodePoint) {
+                    saveField();
+                    state = START_FIELD;
+                } else if (c == NEWLINE || c == CARRIAGE_RETURN || c == EOL) {
+                    saveField();
+                    state = (c == EOL) ? START_RECORD : EAT_CRNL;
+                } else if (!dialect.strict) {
+                    addByte(c);
+                    state = IN_FIELD;
+                } else {
+                    throw PRaiseNode.raiseStatic(node, PythonBuiltinClassType.CSVError, ErrorMessages.S_EXPECTED_AFTER_S, dialect.delimiter, dialect.quoteChar);
+                }
+                break;
+
+            case EAT_CRNL:
+                if (c == NEWLINE || c == CARRIAGE_RETURN) {
+                    /* ignore */
+                } else if (c == EOL) {
+                    state = START_RECORD;
+                } else {
+                    throw PRaiseNode.raiseStatic(node, PythonBuiltinClassType.CSVError, ErrorMessages.NEWLINE_IN_UNQOUTED_FIELD);
+                }
+                break;
+        }
+    }
+
+    private void addByte(int c) {
+        // the field limit counts code points, UTF-8 continuation bytes do not start a new one
+        if (encoding != TruffleString.Encoding.UTF_8 || (c & 0xC0) != 0x80) {
+            if (fieldCodePoints + 1 > fieldLimit) {
+                throw PRaiseNode.raiseStatic(node, PythonBuiltinClassType.CSVError, ErrorMessages.LARGER_THAN_FIELD_SIZE_LIMIT, fieldLimit);
+            }
+            fieldCodePoints++;
+        }
+        if (fieldLength == field.length) {
+            field = Arrays.copyOf(field, fieldLength * 2);
+        }
+        field[fieldLength++] = (byte) c;
+    }
+
+    private void saveField() {
+        int column = fieldIndex++;
+        Object converter = converters != null && column < converters.length ? converters[column] : PNone.NONE;
+        if (converter != PNone.NONE) {
+            if (IsBuiltinClassExactProfile.profileClassSlowPath(converter, PythonBuiltinClassType.PInt) && isSimpleInteger()) {
+                sink.addLong(column, parseSimpleInteger());
+            } else if (IsBuiltinClassExactProfile.profileClassSlowPath(converter, PythonBuiltinClassType.PFloat) && parseDouble() instanceof StringToDoubleResult result) {
+                sink.addDouble(column, result.value);
+            } else {
+                sink.addObject(column, CallNode.executeUncached(converter, decodeField()));
+            }
+        } else if (numericField) {
+            if (parseDouble() instanceof StringToDoubleResult result) {
+                sink.addDouble(column, result.value);
+            } else {
+                sink.addObject(column, CallNode.executeUncached(PythonBuiltinClassType.PFloat, decodeField()));
+            }
+        } else {
+            sink.addObject(column, decodeField());
+        }
+        numericField = false;
+        fieldLength = 0;
+        fieldCodePoints = 0;
+    }
+
+    private void endRecord() {
+        sink.endRecord(fieldIndex, lineNum);
+        fieldIndex = 0;
+    }
+
+    private static boolean isAsciiWhitespace(byte b) {
+        return b == ' ' || (b >= '\t' && b <= '\r');
+    }
+
+    /**
+     * Index of the first byte of the field that is not ASCII whitespace. Like {@code int()} and
+     * {@code float()}, the numeric fast paths ignore surrounding whitespace.
+     */
+    private int numberStart() {
+        int start = 0;
+        while (start < fieldLength && isAsciiWhitespace(field[start])) {
+            start++;
+        }
+        return start;
+    }
+
+    private int numberEnd(int start) {
+        int end = fieldLength;
+        while (end > start && isAsciiWhitespace(field[end - 1])) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Anything of the form {@code [+-]digits} with at most 18 digits, optionally surrounded by ASCII
+     * whitespace, fits into a long. Other spellings that {@code int()} accepts (underscores, big
+     * values) go through the converter.
+     */
+    private boolean isSimpleInteger() {
+        int i = numberStart();
+        int end = numberEnd(i);
+        if (i < end && (field[i] == '+' || field[i] == '-')) {
+            i++;
+        }
+        int digits = end - i;
+        if (digits == 0 || digits > 18) {
+            return false;
+        }
+        for (; i < end; i++) {
+            if (field[i] < '0' || field[i] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long parseSimpleInteger() {
+        int start = numberStart();
+        int end = numberEnd(start);
+        boolean negative = field[start] == '-';
+        int i = negative || field[start] == '+' ? start + 1 : start;
+        long value = 0;
+        for (; i < end; i++) {
+            value = value * 10 + (field[i] - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Parses the field if it is a plain ASCII float literal, optionally surrounded by ASCII
+     * whitespace, otherwise returns {@code null} and leaves it to {@code float()}.
+     */
+    private StringToDoubleResult parseDouble() {
+        for (int i = 0; i < fieldLength; i++) {
+            if (field[i] < 0) {
+                return null;
+            }
+        }
+        int start = numberStart();
+        int end = numberEnd(start);
+        if (start == end) {
+            return null;
+        }
+        StringToDoubleResult result = FloatUtils.stringToDouble(new String(field, start, end - start, StandardCharsets.ISO_8859_1), 0, end - start);
+        return result != null && result.position == end - start ? result : null;
+    }
+
+    private TruffleString decodeField() {
+        TruffleString value = TruffleString.fromByteArrayUncached(field, 0, fieldLength, encoding, true);
+        if (value.getCodeRangeUncached(encoding) == CodeRange.BROKEN) {
+            // let the codec produce the usual UnicodeDecodeError
+            Object decoded = PyObjectCallMethodObjArgs.executeUncached(PFactory.createBytes(language, Arrays.copyOf(field, fieldLength)), T_DECODE, encodingName);
+            return CastToTruffleStringNode.executeUncached(decoded);
+        }
+        return value.switchEncodingUncached(TS_ENCODING);
+    }
+
+    private abstract static class Sink {
+        abstract void addLong(int column, long value);
+
+        abstract void addDouble(int column, double value);
+
+        abstract void addObject(int column, Object value);
+
+        abstract void endRecord(int fieldCount, int lineNum);
+
+        abstract PList finish();
+    }
+
+    private static final class RowSink extends Sink {
+        private final PythonLanguage language;
+        private final ArrayList<Object> rows = new ArrayList<>();
+        private final ArrayList<Object> row = new ArrayList<>();
+
+        RowSink(PythonLanguage language) {
+            this.language = language;
+        }
+
+        @Override
+        void addLong(int column, long value) {
+            row.add(PInt.isIntRange(value) ? (Object) (int) value : (Object) value);
+        }
+
+        @Override
+        void addDouble(int column, double value) {
+            row.add(value);
+        }
+
+        @Override
+        void addObject(int column, Object value) {
+            row.add(value);
+        }
+
+        @Override
+        void endRecord(int fieldCount, int lineNum) {
+            rows.add(PFactory.createList(language, row.toArray()));
+            row.clear();
+        }
+
+        @Override
+        PList finish() {
+            return PFactory.createList(language, rows.toArray());
+        }
+    }
+
+    /**
+     * Collects the fields column by column. The first record determines the number of columns,
+     * every other non-empty record must have the same number of fields. Blank lines are skipped.
+     */
+    private static final class ColumnSink extends Sink {
+        private final Node node;
+        private final PythonLanguage language;
+        private final ArrayList<Column> columns = new ArrayList<>();
+        private int records;
+
+        ColumnSink(Node node, PythonLanguage language) {
+            this.node = node;
+            this.language = language;
+        }
+
+        private Column getColumn(int column) {
+            if (column < columns.size()) {
+                return columns.get(column);
+            } else if (records == 0) {
+                Column c = new Column();
+                columns.add(c);
+                return c;
+            }
+            // extra field in a later record, reported in endRecord
+            return null;
+        }
+
+        @Override
+        void addLong(int column, long value) {
+            Column c = getColumn(column);
+            if (c != null) {
+                c.addLong(value);
+            }
+        }
+
+        @Override
+        void addDouble(int column, double value) {
+            Column c = getColumn(column);
+            if (c != null) {
+                c.addDouble(value);
+            }
+        }
+
+        @Override
+        void addObject(int column, Object value) {
+            Column c = getColumn(column);
+            if (c != null) {
+                c.addObject(value);
+            }
+        }
+
+        @Override
+        void endRecord(int fieldCount, int lineNum) {
+            if (fieldCount == 0) {
+                return;
+            }
+            if (fieldCount != columns.size()) {
+                throw PRaiseNode.raiseStatic(node, PythonBuiltinClassType.CSVError, ErrorMessages.CSV_ROW_HAS_D_FIELDS_EXPECTED_D, lineNum, fieldCount, columns.size());
+            }
+            records++;
+        }
+
+        @Override
+        PList finish() {
+            Object[] result = new Object[columns.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = PFactory.createList(language, columns.get(i).toStorage());
+            }
+            return PFactory.createList(language, result);
+        }
+    }
+
+    /**
+     * A growable column that stays in an {@code int}, {@code long} or {@code double} array for as
+     * long as all of its values allow it, and falls back to boxed objects otherwise.
+     */
+    private static final class Column {
+        private int[] ints;
+        private long[] longs;
+        private double[] doubles;
+        private Object[] objects;
+        private int length;
+
+        void addLong(long value) {
+            if (length == 0 && objects == null && doubles == null && longs == null && ints == null) {
+                ints = new int[16];
+            }
+            if (ints != null) {
+                if (PInt.isIntRange(value)) {
+                    if (length == ints.length) {
+                        ints = Arrays.copyOf(ints, length * 2);
+                    }
+                    ints[length++] = (int) value;
+                    return;
+                }
+                longs = new long[Math.max(16, ints.length)];
+                for (int i = 0; i < length; i++) {
+                    longs[i] = ints[i];
+                }
+                ints = null;
+            }
+            if (longs != null) {
+                if (length == longs.length) {
+                    longs = Arrays.copyOf(longs, length * 2);
+                }
+                longs[length++] = value;
+                return;
+            }
+            addObject(PInt.isIntRange(value) ? (Object) (int) value : (Object) value);
+        }
+
+        void addDouble(double value) {
+            if (length == 0 && objects == null && doubles == null && longs == null && ints == null) {
+                doubles = new double[16];
+            }
+            if (doubles != null) {
+                if (length == doubles.length) {
+                    doubles = Arrays.copyOf(doubles, length * 2);
+                }
+                doubles[length++] = value;
+                return;
+            }
+            addObject(value);
+        }
+
+        void addObject(Object value) {
+            if (objects == null) {
+                objects = new Object[Math.max(16, length * 2)];
+                for (int i = 0; i < length; i++) {
+                    if (ints != null) {
+                        objects[i] = ints[i];
+                    } else if (longs != null) {
+                        objects[i] = PInt.isIntRange(longs[i]) ? (Object) (int) longs[i] : (Object) longs[i];
+                    } else {
+                        objects[i] = doubles[i];
+                    }
+                }
+                ints = null;
+                longs = null;
+                doubles = null;
+            }
+            if (length == objects.length) {
+                objects = Arrays.copyOf(objects, length * 2);
+            }
+            objects[length++] = value;
+        }
+
+        SequenceStorage toStorage() {
+            if (ints != null) {
+                return new IntSequenceStorage(ints, length);
+            } else if (longs != null) {
+                return new LongSequenceStorage(longs, length);
+            } else if (doubles != null) {
+                return new DoubleSequenceStorage(doubles, length);
+            } else {
+                return new ObjectSequenceStorage(objects, length);
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -46,6 +46,7 @@ import static com.oracle.graal.python.builtins.modules.csv.QuoteStyle.QUOTE_NONE
 import static com.oracle.graal.python.builtins.modules.csv.QuoteStyle.QUOTE_NONNUMERIC;
 import static com.oracle.graal.python.builtins.modules.csv.QuoteStyle.QUOTE_NOTNULL;
 import static com.oracle.graal.python.builtins.modules.csv.QuoteStyle.QUOTE_STRINGS;
+import static com.oracle.graal.python.builtins.modules.io.IONodes.T_READ;
 import static com.oracle.graal.python.builtins.modules.io.IONodes.T_WRITE;
 import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
 
@@ -58,9 +59,12 @@ import com.oracle.graal.python.builtins.Python3Core;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
+import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAcquireLibrary;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageGetItem;
 import com.oracle.graal.python.builtins.objects.dict.PDict;
 import com.oracle.graal.python.builtins.objects.function.PKeyword;
+import com.oracle.graal.python.builtins.objects.iterator.IteratorNodes;
 import com.oracle.graal.python.builtins.objects.list.PList;
 import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.lib.PyCallableCheckNode;
@@ -69,9 +73,12 @@ import com.oracle.graal.python.lib.PyDictGetItem;
 import com.oracle.graal.python.lib.PyDictSetItem;
 import com.oracle.graal.python.lib.PyLongAsLongNode;
 import com.oracle.graal.python.lib.PyLongCheckExactNode;
+import com.oracle.graal.python.lib.PyObjectCallMethodObjArgs;
 import com.oracle.graal.python.lib.PyObjectGetIter;
+import com.oracle.graal.python.lib.PyObjectIsTrueNode;
 import com.oracle.graal.python.lib.PyObjectLookupAttr;
 import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PGuards;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.SpecialAttributeNames;
 import com.oracle.graal.python.nodes.attributes.ReadAttributeFromModuleNode;
@@ -81,6 +88,7 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.util.CannotCastException;
 import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
+import com.oracle.graal.python.runtime.IndirectCallData;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
@@ -89,6 +97,7 @@ import com.oracle.truffle.api.dsl.NeverDefault;
 import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.strings.TruffleString;
 
@@ -96,6 +105,7 @@ import com.oracle.truffle.api.strings.TruffleString;
 public final class CSVModuleBuiltins extends PythonBuiltins {
 
     private static final TruffleString T__DIALECTS = tsLiteral("_dialects");
+    private static final TruffleString T_UTF_8 = tsLiteral("utf-8");
     static final String J_ATTR_DELIMITER = "delimiter";
 
     static final String J__CSV = "_csv";
@@ -243,6 +253,54 @@ public final class CSVModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    @Builtin(name = "read_buffer", doc = READ_BUFFER_DOC, parameterNames = {"$mod", "data", "dialect"}, keywordOnlyNames = {"encoding", "converters",
+                    "columnar"}, minNumOfPositionalArgs = 2, declaresExplicitSelf = true)
+    @GenerateNodeFactory
+    public abstract static class CSVReadBufferNode extends PythonBuiltinNode {
+        @Specialization
+        static Object readBuffer(VirtualFrame frame, PythonModule module, Object data, Object dialectObj, Object encodingObj, Object convertersObj, Object columnarObj,
+                        @Bind Node inliningTarget,
+                        @Cached("createFor($node)") IndirectCallData indirectCallData,
+                        @CachedLibrary(limit = "3") PythonBufferAcquireLibrary acquireLib,
+                        @CachedLibrary(limit = "1") PythonBufferAccessLibrary accessLib,
+                        @Cached PyObjectCallMethodObjArgs callRead,
+                        @Cached CallNode callNode,
+                        @Cached CastToTruffleStringNode castEncodingNode,
+                        @Cached IteratorNodes.ToArrayNode toArrayNode,
+                        @Cached PyObjectIsTrueNode isTrueNode,
+                        @Bind PythonLanguage language,
+                        @Cached PRaiseNode raiseNode) {
+            CSVDialect dialect = (CSVDialect) callNode.execute(frame, PythonBuiltinClassType.CSVDialect, new Object[]{dialectObj}, PKeyword.EMPTY_KEYWORDS);
+            TruffleString encoding = T_UTF_8;
+            if (encodingObj != PNone.NO_VALUE) {
+                try {
+                    encoding = castEncodingNode.execute(inliningTarget, encodingObj);
+                } catch (CannotCastException e) {
+                    throw raiseNode.raise(inliningTarget, PythonBuiltinClassType.TypeError, ErrorMessages.MUST_BE_STRING, "encoding");
+                }
+            }
+            Object[] converters = PGuards.isPNone(convertersObj) ? null : toArrayNode.execute(frame, convertersObj);
+            boolean columnar = columnarObj != PNone.NO_VALUE && isTrueNode.execute(frame, columnarObj);
+            Object source = data;
+            if (!acquireLib.hasBuffer(source)) {
+                // a binary file, read it in one go
+                source = callRead.execute(frame, inliningTarget, data, T_READ);
+                if (!acquireLib.hasBuffer(source)) {
+                    throw raiseNode.raise(inliningTarget, PythonBuiltinClassType.TypeError, ErrorMessages.BYTESLIKE_OBJ_REQUIRED, source);
+                }
+            }
+            long fieldLimit = ((CSVModuleBuiltins) module.getBuiltins()).fieldLimit;
+            Object buffer = acquireLib.acquireReadonly(source, frame, indirectCallData);
+            try {
+                byte[] bytes = accessLib.getInternalOrCopiedByteArray(buffer);
+                int length = accessLib.getBufferLength(buffer);
+                return CSVBufferParser.parse(inliningTarget, language, dialect, encoding, fieldLimit, converters, columnar, bytes, length);
+            } finally {
+                accessLib.release(buffer, frame, indirectCallData);
+            }
+        }
+    }
+
     @Builtin(name = "writer", doc = WRITER_DOC, parameterNames = {"outputfile", "dialect"}, minNumOfPositionalArgs = 1, takesVarKeywordArgs = true)
     @GenerateNodeFactory
     public abstract static class CSVWriterNode extends PythonBuiltinNode {
@@ -366,6 +424,29 @@ public final class CSVModuleBuiltins extends PythonBuiltins {
                     "The returned object is an iterator.  Each iteration returns a row\n" +
                     "of the CSV file (which can span multiple input lines)";
 
+    private static final String READ_BUFFER_DOC = "\n" +
+                    "rows = read_buffer(data [, dialect='excel'], *, encoding='utf-8',\n" +
+                    "                   converters=None, columnar=False)\n" +
+                    "\n" +
+                    "Parses a whole CSV document from a bytes-like object, or from a binary\n" +
+                    "file which is read completely, and returns the rows as a list of lists.\n" +
+                    "Lines are split as if the data was opened in text mode with newline=''.\n" +
+                    "The encoding must be one of utf-8, ascii or latin-1 and the dialect\n" +
+                    "characters must be single bytes in it.\n" +
+                    "\n" +
+                    "\"converters\" is a sequence of callables (or None) applied to the fields\n" +
+                    "of the respective column. The int and float types are applied without\n" +
+                    "creating intermediate strings.\n" +
+                    "\n" +
+                    "When \"columnar\" is true, a list of columns is returned instead. All\n" +
+                    "non-empty records must then have the same number of fields and blank\n" +
+                    "lines are skipped. Columns converted with int or float are stored\n" +
+                    "unboxed.\n" +
+                    "\n" +
+                    "The whole input is held in memory together with the result, so this\n" +
+                    "is not suitable for documents that must be processed as a stream; use\n" +
+                    "csv.reader over a file for those.";
+
     private static final String WRITER_DOC = "    csv_writer = csv.writer(fileobj [, dialect='excel']\n" +
                     "                            [optional keyword args])\n" +
                     "    for row in sequence:\n" +
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -110,6 +110,14 @@ public final class PTextIO extends PTextIOBase {
     /* Cache raw object if it's a FileIO object */
     private PFileIO raw;
 
+    /*
+     * Encoding used by readline to decode lines scanned directly in the underlying PBuffered, or
+     * null if lines always have to go through the decoder. The fast path is suspended while the
+     * decoder may hold buffered input, i.e. after a chunk was read for read(n).
+     */
+    private TruffleString.Encoding fastReadlineEncoding;
+    private boolean fastReadlineSuspended;
+
     public PTextIO(Object cls, Shape instanceShape) {
         super(cls, instanceShape);
         pendingBytes = createOutputStream();
@@ -129,6 +137,8 @@ public final class PTextIO extends PTextIOBase {
         clearSnapshot();
         encodefunc = null;
         b2cratio = 0.0;
+        fastReadlineEncoding = null;
+        fastReadlineSuspended = false;
     }
 
     public boolean isDetached() {
@@ -390,6 +400,22 @@ public final class PTextIO extends PTextIOBase {
         this.raw = raw;
     }
 
+    public TruffleString.Encoding getFastReadlineEncoding() {
+        return fastReadlineEncoding;
+    }
+
+    public void setFastReadlineEncoding(TruffleString.Encoding fastReadlineEncoding) {
+        this.fastReadlineEncoding = fastReadlineEncoding;
+    }
+
+    public void setFastReadlineSuspended(boolean fastReadlineSuspended) {
+        this.fastReadlineSuspended = fastReadlineSuspended;
+    }
+
+    public boolean canReadlineFromBuffer() {
+        return fastReadlineEncoding != null && !fastReadlineSuspended && !hasDecodedCharsAvailable();
+    }
+
     public static PTextIO createTextIO(Object cls, Shape instanceShape) {
         return new PTextIO(cls, instanceShape);
     }
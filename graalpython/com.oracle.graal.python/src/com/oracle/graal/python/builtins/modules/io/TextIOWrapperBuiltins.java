@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -734,6 +734,7 @@ public final class TextIOWrapperBuiltins extends PythonBuiltins {
                     if (self.hasDecoder()) {
                         decoderResetNode.execute(frame, inliningTarget, self);
                     }
+                    self.setFastReadlineSuspended(false);
 
                     Object res = callMethodSeek.execute(frame, inliningTarget, self.getBuffer(), T_SEEK, 0, 2);
                     if (self.hasEncoder()) {
@@ -779,6 +780,8 @@ public final class TextIOWrapperBuiltins extends PythonBuiltins {
 
             /* Restore the decoder to its state from the safe start point. */
             decoderSetStateNode.execute(frame, inliningTarget, self, cookie);
+            /* Lines can be read from the buffer only if the decoder has no pending input. */
+            self.setFastReadlineSuspended(cookie.decFlags != 0 || cookie.charsToSkip != 0);
 
             if (cookie.charsToSkip != 0) {
                 /* Just like _read_chunk, feed the decoder and save a snapshot. */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -77,6 +77,8 @@ import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueErr
 import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
 
+import java.util.Locale;
+
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.annotations.PythonOS;
 import com.oracle.graal.python.builtins.modules.CodecsTruffleModuleBuiltins;
@@ -103,6 +105,9 @@ import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.ArrayUtils;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Exclusive;
@@ -163,6 +168,28 @@ public abstract class TextIOWrapperNodes {
         }
     }
 
+    /**
+     * Decides whether {@link ReadlineNode} may scan the underlying buffer for line endings and
+     * decode single lines directly. This is the case for a vanilla buffered reader over a file,
+     * the strict UTF-8, ASCII or Latin-1 codecs, and newline modes in which {@code '\n'} always
+     * terminates a line. Must be called whenever a new decoder was installed.
+     */
+    @TruffleBoundary
+    protected static void updateFastReadline(PTextIO self) {
+        TruffleString.Encoding encoding = null;
+        if (self.hasDecoder() && self.isFileIO() && self.getErrors() != null && T_STRICT.equalsUncached(self.getErrors(), TS_ENCODING) &&
+                        (self.isReadUniversal() || T_NEWLINE.equalsUncached(self.getReadNewline(), TS_ENCODING))) {
+            switch (self.getEncoding().toJavaStringUncached().toLowerCase(Locale.ROOT).replace('_', '-')) {
+                case "utf-8", "utf8", "u8" -> encoding = TruffleString.Encoding.UTF_8;
+                case "ascii", "us-ascii", "646" -> encoding = TruffleString.Encoding.US_ASCII;
+                case "latin-1", "latin1", "iso-8859-1", "iso8859-1", "l1" -> encoding = TruffleString.Encoding.ISO_8859_1;
+                default -> encoding = null;
+            }
+        }
+        self.setFastReadlineEncoding(encoding);
+        self.setFastReadlineSuspended(false);
+    }
+
     @GenerateInline(false)       // footprint reduction 28 -> 9
     abstract static class CheckClosedNode extends Node {
 
@@ -214,6 +241,88 @@ public abstract class TextIOWrapperNodes {
         }
     }
 
+    /**
+     * Reads a line by scanning the underlying {@link PBuffered} for {@code '\n'} and decoding only
+     * the bytes of that line, without going through the decoder object. Only applicable when
+     * {@link PTextIO#canReadlineFromBuffer()} holds, in which case the decoder has no pending
+     * input and the bytes of a complete line can be decoded independently. Lines containing a
+     * lone {@code '\r'} (a line ending in universal newlines mode) or undecodable bytes are fed
+     * to the decoder instead, as if they were read by {@link ReadChunkNode}; {@code null} is
+     * returned in that case and the caller continues with the decoded characters.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    protected abstract static class ReadlineFromBufferNode extends Node {
+
+        public abstract TruffleString execute(VirtualFrame frame, Node inliningTarget, PTextIO self);
+
+        @Specialization
+        static TruffleString readline(VirtualFrame frame, Node inliningTarget, PTextIO self,
+                        @Bind PythonLanguage language,
+                        @Cached BufferedReaderMixinBuiltins.BufferedReadlineNode bufferedReadlineNode,
+                        @Cached InlinedConditionProfile crProfile,
+                        @Cached InlinedConditionProfile invalidProfile,
+                        @Cached TruffleString.FromByteArrayNode fromByteArrayNode,
+                        @Cached TruffleString.GetCodeRangeNode getCodeRangeNode,
+                        @Cached TruffleString.SwitchEncodingNode switchEncodingNode,
+                        @Cached(inline = false) DecodeNode decodeNode,
+                        @Cached TruffleString.CodePointLengthNode codePointLengthNode) {
+            byte[] bytes = bufferedReadlineNode.execute(frame, inliningTarget, (PBuffered) self.getBuffer(), -1);
+            self.clearSnapshot();
+            int len = bytes.length;
+            if (len == 0) {
+                return T_EMPTY_STRING;
+            }
+            boolean endsWithLF = bytes[len - 1] == '\n';
+            byte[] lineBytes = bytes;
+            int seen = IncrementalNewlineDecoderBuiltins.SEEN_LF;
+            if (self.isReadUniversal()) {
+                int cr = ArrayUtils.indexOf(bytes, 0, len, (byte) '\r');
+                if (crProfile.profile(inliningTarget, cr >= 0)) {
+                    if (cr != len - 2 || !endsWithLF) {
+                        feedDecoder(frame, self, bytes, !endsWithLF, language, decodeNode, codePointLengthNode);
+                        return null;
+                    }
+                    seen = IncrementalNewlineDecoderBuiltins.SEEN_CRLF;
+                    if (self.isReadTranslate()) {
+                        lineBytes = PythonUtils.arrayCopyOf(bytes, len - 1);
+                        lineBytes[len - 2] = '\n';
+                    }
+                }
+            }
+            TruffleString.Encoding encoding = self.getFastReadlineEncoding();
+            TruffleString line = fromByteArrayNode.execute(lineBytes, 0, lineBytes.length, encoding, false);
+            if (invalidProfile.profile(inliningTarget, getCodeRangeNode.execute(line, encoding) == TruffleString.CodeRange.BROKEN)) {
+                // let the decoder report the error (or handle the truncated character at EOF)
+                feedDecoder(frame, self, bytes, !endsWithLF, language, decodeNode, codePointLengthNode);
+                return null;
+            }
+            if (endsWithLF && self.getDecoder() instanceof PNLDecoder nlDecoder) {
+                nlDecoder.setSeenNewline(nlDecoder.getSeenNewline() | seen);
+            }
+            return switchEncodingNode.execute(line, TS_ENCODING);
+        }
+
+        private static void feedDecoder(VirtualFrame frame, PTextIO self, byte[] bytes, boolean eof, PythonLanguage language, DecodeNode decodeNode,
+                        TruffleString.CodePointLengthNode codePointLengthNode) {
+            /*
+             * Same as read_chunk with the line as input chunk. The decoder has no buffered input
+             * here, so the snapshot is (b'', 0) just before the line.
+             */
+            self.setFastReadlineSuspended(true);
+            TruffleString decoded = decodeNode.execute(frame, self.getDecoder(), PFactory.createBytes(language, bytes), eof);
+            self.clearDecodedChars();
+            int nchars = self.setDecodedChars(decoded, codePointLengthNode);
+            self.setB2cratio(nchars > 0 ? ((double) bytes.length) / nchars : 0.0);
+            if (self.isTelling()) {
+                self.setSnapshotDecFlags(0);
+                self.setSnapshotNextInput(bytes);
+            }
+            // the line ends with a complete line ending or at EOF, so nothing stays in the decoder
+            self.setFastReadlineSuspended(false);
+        }
+    }
+
     /*
      * cpython/Modules/_io/textio.c:textiowrapper_read_chunk
      */
@@ -259,6 +368,7 @@ public abstract class TextIOWrapperNodes {
             setEncoderNode.execute(frame, inliningTarget, self, codecInfo, errors);
             self.setEncoding(encoding);
             self.setErrors(errors);
+            updateFastReadline(self);
 
             fixEncoderStateNode.execute(frame, inliningTarget, self);
         }
@@ -377,9 +487,19 @@ public abstract class TextIOWrapperNodes {
                         @Cached TruffleStringBuilder.ToStringNode toStringNode,
                         @Cached TruffleString.CodePointLengthNode codePointLengthNode,
                         @Cached TruffleString.SubstringNode substringNode,
-                        @Cached TruffleString.ConcatNode concatNode) {
+                        @Cached TruffleString.ConcatNode concatNode,
+                        @Cached InlinedConditionProfile fastPathProfile,
+                        @Cached ReadlineFromBufferNode readlineFromBufferNode) {
             writeFlushNode.execute(frame, inliningTarget, self);
 
+            if (fastPathProfile.profile(inliningTarget, limit < 0 && self.canReadlineFromBuffer())) {
+                TruffleString fastLine = readlineFromBufferNode.execute(frame, inliningTarget, self);
+                if (fastLine != null) {
+                    return fastLine;
+                }
+                // the line was handed to the decoder, continue with the decoded characters
+            }
+
             int chunked = 0;
             int start, endpos, offsetToBuffer;
             TruffleString line = null;
@@ -517,6 +637,7 @@ public abstract class TextIOWrapperNodes {
              * the decoder, though some of it may remain buffered in the decoder, yet to be
              * converted.
              */
+            self.setFastReadlineSuspended(true);
             PBytes decBuffer = null;
             Object decFlags = null;
             if (self.isTelling()) {
@@ -898,6 +1019,7 @@ public abstract class TextIOWrapperNodes {
 
             self.setEncodingStartOfStream(false);
             fixEncoderStateNode.execute(frame, inliningTarget, self);
+            updateFastReadline(self);
 
             self.setOK(true);
         }
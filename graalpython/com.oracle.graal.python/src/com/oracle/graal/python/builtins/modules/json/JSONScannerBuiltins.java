@@ -1,4 +1,4 @@
-/* Copyright (c) 2020, 2025, Oracle and/or its affiliates.
+/* Copyright (c) 2020, 2026, Oracle and/or its affiliates.
  * Copyright (C) 1996-2020 Python Software Foundation
  *
  * Licensed under the PYTHON SOFTWARE FOUNDATION LICENSE VERSION 2
@@ -165,9 +165,11 @@ public final class JSONScannerBuiltins extends PythonBuiltins {
                         throw decodeError(this, string, idx, ErrorMessages.EXPECTING_PROP_NAME_ECLOSED_IN_DBL_QUOTES);
                     }
                     TruffleString newKey = scanStringUnicode(string, idx + 1, scanner.strict, nextIdx, this);
-                    TruffleString key = scanner.memo.putIfAbsent(newKey, newKey);
+                    TruffleString key = scanner.memo.get(newKey);
                     if (key == null) {
-                        key = newKey;
+                        // object keys usually end up as attribute or keyword names
+                        key = PythonLanguage.get(this).getStringInternTable().intern(newKey);
+                        scanner.memo.put(key, key);
                     }
                     idx = nextIdx.value;
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026, Oracle and/or its affiliates.
  * Copyright (c) 2014, Regents of the University of California
  *
  * All rights reserved.
@@ -506,9 +506,26 @@ public final class ArrayBuiltins extends PythonBuiltins {
 
     @Slot(value = SlotKind.tp_richcompare, isComplex = true)
     @GenerateNodeFactory
-    @ImportStatic({BufferFormat.class, PGuards.class})
+    @ImportStatic({BufferFormat.class, PGuards.class, ArrayKernels.class})
     abstract static class ArrayRichCmpNode extends TpSlotRichCompare.RichCmpBuiltinNode {
 
+        @Specialization(guards = {"isIntegral(left.getFormat())", "left.getFormat() == right.getFormat()", "isByteStorage(left)", "isByteStorage(right)"})
+        static boolean cmpIntegral(PArray left, PArray right, RichCmpOp op) {
+            if (left.getLength() != right.getLength() && op.isEqOrNe()) {
+                // the same fast-path as CPython
+                return op == RichCmpOp.Py_NE;
+            }
+            int commonLength = Math.min(left.getLength(), right.getLength());
+            int i = ArrayKernels.mismatch(left, right, commonLength);
+            if (i >= 0) {
+                return op.compareResultToBool(ArrayKernels.compareItems(left, right, i));
+            }
+            if (op.isEqOrNe()) {
+                return op.isEq();
+            }
+            return op.compareResultToBool(left.getLength() - right.getLength());
+        }
+
         @Specialization(guards = "!isFloatingPoint(left.getFormat()) || (left.getFormat() != right.getFormat())")
         static Object cmpItems(VirtualFrame frame, PArray left, PArray right, RichCmpOp op,
                         @Bind Node inliningTarget,
@@ -594,7 +611,13 @@ public final class ArrayBuiltins extends PythonBuiltins {
 
     @Slot(value = SlotKind.sq_contains, isComplex = true)
     @GenerateNodeFactory
+    @ImportStatic(ArrayKernels.class)
     abstract static class ContainsNode extends SqContainsBuiltinNode {
+        @Specialization(guards = "canSearch(self, value)")
+        static boolean containsPrimitive(PArray self, Object value) {
+            return ArrayKernels.indexOf(self, 0, self.getLength(), value) >= 0;
+        }
+
         @Specialization
         static boolean contains(VirtualFrame frame, PArray self, Object value,
                         @Bind Node inliningTarget,
@@ -1443,6 +1466,7 @@ public final class ArrayBuiltins extends PythonBuiltins {
 
     @Builtin(name = "byteswap", minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
+    @ImportStatic(ArrayKernels.class)
     public abstract static class ByteSwapNode extends PythonUnaryBuiltinNode {
 
         @Specialization(guards = "self.getFormat().bytesize == 1")
@@ -1450,6 +1474,12 @@ public final class ArrayBuiltins extends PythonBuiltins {
             return PNone.NONE;
         }
 
+        @Specialization(guards = {"self.getFormat().bytesize > 1", "isByteStorage(self)"})
+        static Object byteswapManaged(PArray self) {
+            ArrayKernels.byteswap(self);
+            return PNone.NONE;
+        }
+
         @Specialization(guards = "self.getFormat().bytesize == 2")
         static Object byteswap2(PArray self,
                         @Shared @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib) {
@@ -1491,23 +1521,31 @@ public final class ArrayBuiltins extends PythonBuiltins {
     @ArgumentClinic(name = "start", conversion = ArgumentClinic.ClinicConversion.SliceIndex, defaultValue = "0")
     @ArgumentClinic(name = "end", conversion = ArgumentClinic.ClinicConversion.SliceIndex, defaultValue = "Integer.MAX_VALUE")
     @GenerateNodeFactory
+    @ImportStatic(ArrayKernels.class)
     abstract static class IndexNode extends PythonQuaternaryClinicBuiltinNode {
+        @Specialization(guards = "canSearch(self, value)")
+        static int indexPrimitive(PArray self, Object value, int start, int stop,
+                        @Bind Node inliningTarget,
+                        @Shared @Cached PRaiseNode raiseNode) {
+            int length = self.getLength();
+            int from = adjustStart(start, length);
+            int to = Math.min(adjustStop(stop, length), length);
+            int i = from < to ? ArrayKernels.indexOf(self, from, to, value) : -1;
+            if (i < 0) {
+                throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.ARRAY_INDEX_X_NOT_IN_ARRAY);
+            }
+            return i;
+        }
+
         @Specialization
         static int index(VirtualFrame frame, PArray self, Object value, int start, int stop,
                         @Bind Node inliningTarget,
                         @Cached PyObjectRichCompareBool eqNode,
                         @Cached ArrayNodes.GetValueNode getValueNode,
-                        @Cached PRaiseNode raiseNode) {
+                        @Shared @Cached PRaiseNode raiseNode) {
             int length = self.getLength();
-            if (start < 0) {
-                start += length;
-                if (start < 0) {
-                    start = 0;
-                }
-            }
-            if (stop < 0) {
-                stop += length;
-            }
+            start = adjustStart(start, length);
+            stop = adjustStop(stop, length);
             for (int i = start; i < stop && i < length; i++) {
                 if (eqNode.execute(frame, inliningTarget, getValueNode.execute(inliningTarget, self, i), value, RichCmpOp.Py_EQ)) {
                     return i;
@@ -1516,6 +1554,17 @@ public final class ArrayBuiltins extends PythonBuiltins {
             throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.ARRAY_INDEX_X_NOT_IN_ARRAY);
         }
 
+        private static int adjustStart(int start, int length) {
+            if (start < 0) {
+                return Math.max(start + length, 0);
+            }
+            return start;
+        }
+
+        private static int adjustStop(int stop, int length) {
+            return stop < 0 ? stop + length : stop;
+        }
+
         @Override
         protected ArgumentClinicProvider getArgumentClinic() {
             return ArrayBuiltinsClinicProviders.IndexNodeClinicProviderGen.INSTANCE;
@@ -1524,7 +1573,13 @@ public final class ArrayBuiltins extends PythonBuiltins {
 
     @Builtin(name = "count", minNumOfPositionalArgs = 2)
     @GenerateNodeFactory
+    @ImportStatic(ArrayKernels.class)
     abstract static class CountNode extends PythonBinaryBuiltinNode {
+        @Specialization(guards = "canSearch(self, value)")
+        static int countPrimitive(PArray self, Object value) {
+            return ArrayKernels.count(self, value);
+        }
+
         @Specialization
         static int count(VirtualFrame frame, PArray self, Object value,
                         @Bind Node inliningTarget,
@@ -0,0 +1,372 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.array;
+
+import java.util.Arrays;
+
+import com.oracle.graal.python.runtime.sequence.storage.ByteSequenceStorage;
+import com.oracle.graal.python.util.BufferFormat;
+import com.oracle.graal.python.util.OverflowException;
+import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.memory.ByteArraySupport;
+
+/**
+ * Bulk loops over the managed byte storage of {@link PArray}. They work on the primitive values
+ * directly instead of boxing every item and going through the generic comparison and arithmetic
+ * nodes. The loops are kept trivial, such that the compiler can unroll and vectorize them.
+ * <p>
+ * All the helpers expect that {@link #isByteStorage(PArray)} holds.
+ */
+public final class ArrayKernels {
+    private static final ByteArraySupport ACCESSOR = PythonUtils.ARRAY_ACCESSOR;
+
+    /** Largest magnitude of a long that converts to a double without rounding. */
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    private ArrayKernels() {
+    }
+
+    public static boolean isByteStorage(PArray array) {
+        return array.getSequenceStorage() instanceof ByteSequenceStorage;
+    }
+
+    private static byte[] data(PArray array) {
+        return ((ByteSequenceStorage) array.getSequenceStorage()).getInternalByteArray();
+    }
+
+    public static boolean isIntegral(BufferFormat format) {
+        return switch (format) {
+            case UINT_8, INT_8, UINT_16, INT_16, UINT_32, INT_32, UINT_64, INT_64 -> true;
+            default -> false;
+        };
+    }
+
+    public static boolean isFloatOrDouble(BufferFormat format) {
+        return format == BufferFormat.FLOAT || format == BufferFormat.DOUBLE;
+    }
+
+    /**
+     * Whether {@link #indexOf(PArray, int, int, Object)} can search for {@code value} in the given
+     * array. Other values need the generic equality.
+     */
+    public static boolean canSearch(PArray array, Object value) {
+        if (!isByteStorage(array)) {
+            return false;
+        }
+        BufferFormat format = array.getFormat();
+        if (value instanceof Integer || value instanceof Long || value instanceof Boolean) {
+            return isIntegral(format) || isFloatOrDouble(format);
+        }
+        // unsigned 64-bit items may exceed the long range where doubles are still exact
+        return value instanceof Double && format != BufferFormat.UINT_64 && (isIntegral(format) || isFloatOrDouble(format));
+    }
+
+    /**
+     * Returns the index of the first item in {@code [from, to)} that is equal to {@code value}, or
+     * {@code -1}.
+     */
+    public static int indexOf(PArray array, int from, int to, Object value) {
+        assert canSearch(array, value);
+        BufferFormat format = array.getFormat();
+        if (value instanceof Double d) {
+            double v = d;
+            if (isFloatOrDouble(format)) {
+                return indexOfDouble(data(array), from, to, format, v);
+            }
+            // an integral item can only be equal to a double without fractional part
+            if (v >= -0x1p63 && v < 0x1p63 && v == (long) v) {
+                return indexOfLong(data(array), from, to, format, (long) v);
+            }
+            return -1;
+        }
+        long v = value instanceof Boolean b ? (b ? 1 : 0) : value instanceof Integer i ? i : (long) value;
+        if (isIntegral(format)) {
+            return indexOfLong(data(array), from, to, format, v);
+        }
+        if (v > MAX_EXACT_DOUBLE || v < -MAX_EXACT_DOUBLE) {
+            // rare enough, we would need to compare the exact values
+            return indexOfLongInFloats(array, from, to, v);
+        }
+        return indexOfDouble(data(array), from, to, format, v);
+    }
+
+    public static int count(PArray array, Object value) {
+        int length = array.getLength();
+        int count = 0;
+        int i = indexOf(array, 0, length, value);
+        while (i >= 0) {
+            count++;
+            i = indexOf(array, i + 1, length, value);
+        }
+        return count;
+    }
+
+    private static boolean fits(BufferFormat format, long value) {
+        return switch (format) {
+            case INT_8 -> value == (byte) value;
+            case UINT_8 -> (value & ~0xFFL) == 0;
+            case INT_16 -> value == (short) value;
+            case UINT_16 -> (value & ~0xFFFFL) == 0;
+            case INT_32 -> value == (int) value;
+            case UINT_32 -> (value & ~0xFFFFFFFFL) == 0;
+            case INT_64 -> true;
+            // values above Long.MAX_VALUE are never passed in as long
+            case UINT_64 -> value >= 0;
+            default -> false;
+        };
+    }
+
+    @TruffleBoundary
+    private static int indexOfLong(byte[] data, int from, int to, BufferFormat format, long value) {
+        if (!fits(format, value)) {
+            return -1;
+        }
+        switch (format.bytesize) {
+            case 1: {
+                byte v = (byte) value;
+                for (int i = from; i < to; i++) {
+                    if (data[i] == v) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+            case 2: {
+                short v = (short) value;
+                for (int i = from; i < to; i++) {
+                    if (ACCESSOR.getShort(data, i << 1) == v) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+            case 4: {
+                int v = (int) value;
+                for (int i = from; i < to; i++) {
+                    if (ACCESSOR.getInt(data, i << 2) == v) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+            default: {
+                for (int i = from; i < to; i++) {
+                    if (ACCESSOR.getLong(data, i << 3) == value) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+        }
+    }
+
+    @TruffleBoundary
+    private static int indexOfDouble(byte[] data, int from, int to, BufferFormat format, double value) {
+        // NaN is never equal, not even to itself, because array items have no identity
+        if (format == BufferFormat.FLOAT) {
+            for (int i = from; i < to; i++) {
+                if (ACCESSOR.getFloat(data, i << 2) == value) {
+                    return i;
+                }
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                if (ACCESSOR.getDouble(data, i << 3) == value) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @TruffleBoundary
+    private static int indexOfLongInFloats(PArray array, int from, int to, long value) {
+        byte[] data = data(array);
+        boolean isFloat = array.getFormat() == BufferFormat.FLOAT;
+        for (int i = from; i < to; i++) {
+            double item = isFloat ? ACCESSOR.getFloat(data, i << 2) : ACCESSOR.getDouble(data, i << 3);
+            // an integral double of this magnitude converts to long exactly
+            if (item >= -0x1p63 && item < 0x1p63 && (long) item == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first item (below {@code length}) that differs in the two integral
+     * arrays of the same format, or {@code -1}.
+     */
+    @TruffleBoundary
+    public static int mismatch(PArray left, PArray right, int length) {
+        assert left.getFormat() == right.getFormat() && isIntegral(left.getFormat());
+        int byteLength = length << left.getItemSizeShift();
+        int idx = Arrays.mismatch(data(left), 0, byteLength, data(right), 0, byteLength);
+        return idx < 0 ? -1 : idx >> left.getItemSizeShift();
+    }
+
+    /**
+     * Three-way comparison of the items at {@code index} in the two integral arrays of the same
+     * format.
+     */
+    public static int compareItems(PArray left, PArray right, int index) {
+        BufferFormat format = left.getFormat();
+        byte[] l = data(left);
+        byte[] r = data(right);
+        return switch (format) {
+            case INT_8 -> Byte.compare(l[index], r[index]);
+            case UINT_8 -> Byte.compareUnsigned(l[index], r[index]);
+            case INT_16 -> Short.compare(ACCESSOR.getShort(l, index << 1), ACCESSOR.getShort(r, index << 1));
+            case UINT_16 -> Short.compareUnsigned(ACCESSOR.getShort(l, index << 1), ACCESSOR.getShort(r, index << 1));
+            case INT_32 -> Integer.compare(ACCESSOR.getInt(l, index << 2), ACCESSOR.getInt(r, index << 2));
+            case UINT_32 -> Integer.compareUnsigned(ACCESSOR.getInt(l, index << 2), ACCESSOR.getInt(r, index << 2));
+            case INT_64 -> Long.compare(ACCESSOR.getLong(l, index << 3), ACCESSOR.getLong(r, index << 3));
+            case UINT_64 -> Long.compareUnsigned(ACCESSOR.getLong(l, index << 3), ACCESSOR.getLong(r, index << 3));
+            default -> throw new IllegalArgumentException(format.name());
+        };
+    }
+
+    /**
+     * Sums the items in {@code [from, to)} of an integral array. Throws {@link OverflowException}
+     * if the sum (or an unsigned 64-bit item) does not fit into a long.
+     */
+    @TruffleBoundary
+    public static long sumLong(PArray array, int from, int to, long start) throws OverflowException {
+        byte[] data = data(array);
+        long sum = 0;
+        switch (array.getFormat()) {
+            case INT_8:
+                for (int i = from; i < to; i++) {
+                    sum += data[i];
+                }
+                break;
+            case UINT_8:
+                for (int i = from; i < to; i++) {
+                    sum += data[i] & 0xFF;
+                }
+                break;
+            case INT_16:
+                for (int i = from; i < to; i++) {
+                    sum += ACCESSOR.getShort(data, i << 1);
+                }
+                break;
+            case UINT_16:
+                for (int i = from; i < to; i++) {
+                    sum += ACCESSOR.getShort(data, i << 1) & 0xFFFF;
+                }
+                break;
+            case INT_32:
+                for (int i = from; i < to; i++) {
+                    sum += ACCESSOR.getInt(data, i << 2);
+                }
+                break;
+            case UINT_32:
+                for (int i = from; i < to; i++) {
+                    sum += ACCESSOR.getInt(data, i << 2) & 0xFFFFFFFFL;
+                }
+                break;
+            default:
+                boolean unsigned = array.getFormat() == BufferFormat.UINT_64;
+                sum = start;
+                for (int i = from; i < to; i++) {
+                    long item = ACCESSOR.getLong(data, i << 3);
+                    if (unsigned && item < 0) {
+                        throw OverflowException.INSTANCE;
+                    }
+                    sum = PythonUtils.addExact(sum, item);
+                }
+                return sum;
+        }
+        // less than 2^31 items of at most 32 bits cannot overflow the accumulator, only the start
+        return PythonUtils.addExact(start, sum);
+    }
+
+    /**
+     * Sums the items in {@code [from, to)} of a float or double array. The items are added in
+     * order, so the result is the same as adding them one by one.
+     */
+    @TruffleBoundary
+    public static double sumDouble(PArray array, int from, int to, double start) {
+        byte[] data = data(array);
+        double sum = start;
+        if (array.getFormat() == BufferFormat.FLOAT) {
+            for (int i = from; i < to; i++) {
+                sum += ACCESSOR.getFloat(data, i << 2);
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                sum += ACCESSOR.getDouble(data, i << 3);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Reverses the byte order of every item of the array in place.
+     */
+    public static void byteswap(PArray array) {
+        byteswap(data(array), array.getBytesLength(), array.getFormat().bytesize);
+    }
+
+    @TruffleBoundary
+    private static void byteswap(byte[] data, int byteLength, int itemsize) {
+        switch (itemsize) {
+            case 2:
+                for (int i = 0; i < byteLength; i += 2) {
+                    ACCESSOR.putShort(data, i, Short.reverseBytes(ACCESSOR.getShort(data, i)));
+                }
+                break;
+            case 4:
+                for (int i = 0; i < byteLength; i += 4) {
+                    ACCESSOR.putInt(data, i, Integer.reverseBytes(ACCESSOR.getInt(data, i)));
+                }
+                break;
+            case 8:
+                for (int i = 0; i < byteLength; i += 8) {
+                    ACCESSOR.putLong(data, i, Long.reverseBytes(ACCESSOR.getLong(data, i)));
+                }
+                break;
+            default:
+                assert itemsize == 1;
+        }
+    }
+}
@@ -0,0 +1,703 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.asyncio;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.RuntimeError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.ValueError;
+import static com.oracle.graal.python.builtins.modules.AsyncioModuleBuiltins.getModuleState;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.J___CLASS_GETITEM__;
+import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
+import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.annotations.Builtin;
+import com.oracle.graal.python.annotations.Slot;
+import com.oracle.graal.python.annotations.Slot.SlotKind;
+import com.oracle.graal.python.annotations.Slot.SlotSignature;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.AsyncioModuleBuiltins.GetEventLoop;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.asyncio.PFuture.State;
+import com.oracle.graal.python.builtins.objects.exception.ExceptionNodes;
+import com.oracle.graal.python.builtins.objects.function.PKeyword;
+import com.oracle.graal.python.builtins.objects.type.TpSlots;
+import com.oracle.graal.python.builtins.objects.type.TypeNodes;
+import com.oracle.graal.python.lib.PyContextCopyCurrent;
+import com.oracle.graal.python.lib.PyExceptionInstanceCheckNode;
+import com.oracle.graal.python.lib.PyObjectCallMethodObjArgs;
+import com.oracle.graal.python.lib.PyObjectGetAttr;
+import com.oracle.graal.python.lib.PyObjectIsTrueNode;
+import com.oracle.graal.python.lib.PyObjectRichCompareBool;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.WriteUnraisableNode;
+import com.oracle.graal.python.nodes.call.CallNode;
+import com.oracle.graal.python.nodes.classes.IsSubtypeNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonVarargsBuiltinNode;
+import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinObjectProfile;
+import com.oracle.graal.python.nodes.object.GetClassNode;
+import com.oracle.graal.python.runtime.AsyncHandler;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateCached;
+import com.oracle.truffle.api.dsl.GenerateInline;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedConditionProfile;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Builtins of {@code _asyncio.Future}. The behavior follows {@code FutureObj} in CPython's
+ * {@code _asynciomodule.c}, so that {@code asyncio.futures} can use this class instead of the pure
+ * Python implementation.
+ */
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PFuture)
+public final class FutureBuiltins extends PythonBuiltins {
+
+    public static final TpSlots SLOTS = FutureBuiltinsSlotsGen.SLOTS;
+
+    private static final TruffleString T_GET_DEBUG = tsLiteral("get_debug");
+    static final TruffleString T_CALL_SOON = tsLiteral("call_soon");
+    static final TruffleString T_CONTEXT = tsLiteral("context");
+    private static final TruffleString T_CALL_EXCEPTION_HANDLER = tsLiteral("call_exception_handler");
+    private static final TruffleString T_MESSAGE = tsLiteral("message");
+    private static final TruffleString T_EXCEPTION = tsLiteral("exception");
+    private static final TruffleString T_SOURCE_TRACEBACK = tsLiteral("source_traceback");
+    private static final TruffleString T_EXCEPTION_WAS_NEVER_RETRIEVED = tsLiteral(" exception was never retrieved");
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return FutureBuiltinsFactory.getFactories();
+    }
+
+    @TruffleBoundary
+    static PException raiseInvalidStateError(Node inliningTarget, TruffleString message) {
+        Object exception = CallNode.executeUncached(getModuleState(PythonContext.get(inliningTarget)).getInvalidStateError(), message);
+        throw PRaiseNode.raiseExceptionObjectStatic(inliningTarget, exception);
+    }
+
+    /**
+     * Equivalent of {@code create_cancelled_error}. A previously stored exception (from a
+     * cancelled task) is returned only once.
+     */
+    @TruffleBoundary
+    static Object makeCancelledError(PFuture self) {
+        Object exception = self.getCancelledException();
+        if (exception != null) {
+            self.setCancelledException(null);
+            return exception;
+        }
+        Object message = self.getCancelMessage();
+        Object cancelledError = getModuleState(PythonContext.get(null)).getCancelledError();
+        if (message == null || message == PNone.NONE) {
+            return CallNode.executeUncached(cancelledError);
+        }
+        return CallNode.executeUncached(cancelledError, message);
+    }
+
+    static PException raiseCancelledError(Node inliningTarget, PFuture self) {
+        throw PRaiseNode.raiseExceptionObjectStatic(inliningTarget, makeCancelledError(self));
+    }
+
+    static void ensureAlive(Node inliningTarget, PFuture self, PRaiseNode raiseNode) {
+        if (!self.isAlive()) {
+            throw raiseNode.raise(inliningTarget, RuntimeError, ErrorMessages.FUTURE_NOT_INITIALIZED);
+        }
+    }
+
+    /**
+     * Equivalent of {@code FutureObj_finalize} and {@code TaskObj_finalize}: if a future dies while
+     * it still holds an exception that nobody retrieved, or a task dies while it is still pending,
+     * the {@code message} is passed to {@code loop.call_exception_handler}. The reference is
+     * disarmed as soon as the condition no longer holds. Since the future itself is already gone
+     * when this runs, the context has no {@code 'future'} or {@code 'task'} entry.
+     */
+    static final class ExceptionHandlerReference extends AsyncHandler.SharedFinalizer.FinalizableReference {
+        private TruffleString message;
+        // null if the report is not about an exception
+        private Object exception;
+        private Object sourceTraceback;
+
+        ExceptionHandlerReference(PFuture future, TruffleString message, Object exception, PythonContext context) {
+            super(future, future.getLoop(), context.getSharedFinalizer());
+            this.message = message;
+            this.exception = exception;
+            this.sourceTraceback = future.getSourceTraceback();
+        }
+
+        void disarm() {
+            markReleased();
+            message = null;
+            exception = null;
+            sourceTraceback = null;
+        }
+
+        @Override
+        public AsyncHandler.AsyncAction release() {
+            if (isReleased()) {
+                return null;
+            }
+            markReleased();
+            ArrayList<PKeyword> entries = new ArrayList<>(3);
+            entries.add(new PKeyword(T_MESSAGE, message));
+            if (exception != null) {
+                entries.add(new PKeyword(T_EXCEPTION, exception));
+            }
+            if (sourceTraceback != null) {
+                entries.add(new PKeyword(T_SOURCE_TRACEBACK, sourceTraceback));
+            }
+            Object loop = getReference();
+            return new AsyncHandler.AsyncPythonAction() {
+                @Override
+                protected Object callable() {
+                    return PyObjectGetAttr.executeUncached(loop, T_CALL_EXCEPTION_HANDLER);
+                }
+
+                @Override
+                protected Object[] arguments() {
+                    return new Object[]{PFactory.createDict(PythonLanguage.get(null), entries.toArray(new PKeyword[0]))};
+                }
+
+                @Override
+                protected void handleException(PException e) {
+                    WriteUnraisableNode.getUncached().execute(e.getEscapedException(), null, loop);
+                }
+            };
+        }
+    }
+
+    @TruffleBoundary
+    static void armUnretrievedExceptionReference(PFuture self) {
+        TruffleString name = TypeNodes.GetNameNode.executeUncached(GetClassNode.executeUncached(self));
+        TruffleString message = name.concatUncached(T_EXCEPTION_WAS_NEVER_RETRIEVED, TS_ENCODING, false);
+        self.setUnretrievedExceptionReference(new ExceptionHandlerReference(self, message, self.getException(), PythonContext.get(null)));
+    }
+
+    // future_schedule_callbacks
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class ScheduleCallbacksNode extends Node {
+        abstract void execute(VirtualFrame frame, Node inliningTarget, PFuture self);
+
+        @Specialization
+        static void schedule(VirtualFrame frame, Node inliningTarget, PFuture self,
+                        @Cached InlinedConditionProfile hasCallbacksProfile,
+                        @Cached PyObjectGetAttr getCallSoon,
+                        @Cached(inline = false) CallNode callNode) {
+            int count = self.getCallbacksCount();
+            if (hasCallbacksProfile.profile(inliningTarget, count == 0)) {
+                return;
+            }
+            Object[] callbacks = new Object[count];
+            Object[] contexts = new Object[count];
+            for (int i = 0; i < count; i++) {
+                callbacks[i] = self.getCallback(i);
+                contexts[i] = self.getCallbackContext(i);
+            }
+            self.clearCallbacks();
+            Object callSoon = getCallSoon.execute(frame, inliningTarget, self.getLoop(), T_CALL_SOON);
+            for (int i = 0; i < count; i++) {
+                callNode.execute(frame, callSoon, new Object[]{callbacks[i], self}, new PKeyword[]{new PKeyword(T_CONTEXT, contexts[i])});
+            }
+        }
+    }
+
+    // future_get_result
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class GetResultNode extends Node {
+        abstract Object execute(Node inliningTarget, PFuture self);
+
+        @Specialization
+        static Object get(Node inliningTarget, PFuture self,
+                        @Cached ExceptionNodes.SetTracebackNode setTracebackNode,
+                        @Cached PRaiseNode raiseNode) {
+            if (self.getState() == State.CANCELLED) {
+                throw raiseCancelledError(inliningTarget, self);
+            }
+            if (self.getState() != State.FINISHED) {
+                throw raiseInvalidStateError(inliningTarget, ErrorMessages.FUTURE_RESULT_IS_NOT_SET);
+            }
+            self.setLogTraceback(false);
+            Object exception = self.getException();
+            if (exception != null) {
+                if (self.getExceptionTraceback() != null) {
+                    setTracebackNode.execute(inliningTarget, exception, self.getExceptionTraceback());
+                }
+                throw raiseNode.raiseExceptionObject(inliningTarget, exception);
+            }
+            return self.getResult();
+        }
+    }
+
+    @Slot(value = SlotKind.tp_new, isComplex = true)
+    @SlotSignature(name = "Future", minNumOfPositionalArgs = 1, takesVarArgs = true, takesVarKeywordArgs = true)
+    @GenerateNodeFactory
+    abstract static class FutureNewNode extends PythonVarargsBuiltinNode {
+        @Specialization
+        @SuppressWarnings("unused")
+        static PFuture doNew(Object cls, Object[] args, PKeyword[] kwargs,
+                        @Bind PythonLanguage language,
+                        @Cached TypeNodes.GetInstanceShape getInstanceShape) {
+            return PFactory.createFuture(language, cls, getInstanceShape.execute(cls));
+        }
+    }
+
+    // future_init
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class InitFutureNode extends Node {
+        abstract void execute(VirtualFrame frame, Node inliningTarget, PFuture self, Object loop);
+
+        @Specialization
+        static void init(VirtualFrame frame, Node inliningTarget, PFuture self, Object loopArg,
+                        @Cached(inline = false) GetEventLoop getEventLoop,
+                        @Cached PyObjectCallMethodObjArgs callGetDebug,
+                        @Cached PyObjectIsTrueNode isTrueNode,
+                        @Cached(inline = false) CallNode callExtractStack) {
+            Object loop = loopArg;
+            if (PGuards.isPNone(loop)) {
+                loop = getEventLoop.execute(frame, PNone.NONE);
+            }
+            self.init(loop);
+            if (isTrueNode.execute(frame, callGetDebug.execute(frame, inliningTarget, loop, T_GET_DEBUG))) {
+                self.setSourceTraceback(callExtractStack.execute(frame, getModuleState(PythonContext.get(inliningTarget)).getExtractStack()));
+            }
+        }
+    }
+
+    @Slot(value = SlotKind.tp_init, isComplex = true)
+    @SlotSignature(name = "Future", minNumOfPositionalArgs = 1, parameterNames = {"$self"}, keywordOnlyNames = {"loop"})
+    @GenerateNodeFactory
+    abstract static class FutureInitNode extends PythonBuiltinNode {
+        @Specialization
+        static Object init(VirtualFrame frame, PFuture self, Object loop,
+                        @Bind Node inliningTarget,
+                        @Cached InitFutureNode initFutureNode) {
+            initFutureNode.execute(frame, inliningTarget, self, loop);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "result", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class ResultNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object result(PFuture self,
+                        @Bind Node inliningTarget,
+                        @Cached GetResultNode getResultNode,
+                        @Cached PRaiseNode raiseNode) {
+            ensureAlive(inliningTarget, self, raiseNode);
+            return getResultNode.execute(inliningTarget, self);
+        }
+    }
+
+    @Builtin(name = "exception", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class ExceptionNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object exception(PFuture self,
+                        @Bind Node inliningTarget) {
+            if (!self.isAlive()) {
+                throw raiseInvalidStateError(inliningTarget, ErrorMessages.FUTURE_NOT_INITIALIZED);
+            }
+            if (self.getState() == State.CANCELLED) {
+                throw raiseCancelledError(inliningTarget, self);
+            }
+            if (self.getState() != State.FINISHED) {
+                throw raiseInvalidStateError(inliningTarget, ErrorMessages.FUTURE_EXCEPTION_IS_NOT_SET);
+            }
+            self.setLogTraceback(false);
+            Object exception = self.getException();
+            return exception != null ? exception : PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "set_result", minNumOfPositionalArgs = 2, parameterNames = {"$self", "result"})
+    @GenerateNodeFactory
+    abstract static class SetResultNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object setResult(VirtualFrame frame, PFuture self, Object result,
+                        @Bind Node inliningTarget,
+                        @Cached ScheduleCallbacksNode scheduleCallbacksNode,
+                        @Cached PRaiseNode raiseNode) {
+            ensureAlive(inliningTarget, self, raiseNode);
+            if (self.getState() != State.PENDING) {
+                throw raiseInvalidStateError(inliningTarget, ErrorMessages.FUTURE_INVALID_STATE);
+            }
+            self.setResult(result);
+            scheduleCallbacksNode.execute(frame, inliningTarget, self);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "set_exception", minNumOfPositionalArgs = 2, parameterNames = {"$self", "exception"})
+    @GenerateNodeFactory
+    abstract static class SetExceptionNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object setException(VirtualFrame frame, PFuture self, Object exceptionArg,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
+                        @Cached TypeNodes.IsTypeNode isTypeNode,
+                        @Cached IsSubtypeNode isSubtypeNode,
+                        @Cached CallNode callNode,
+                        @Cached PyExceptionInstanceCheckNode exceptionCheckNode,
+                        @Cached IsBuiltinObjectProfile isStopIterationProfile,
+                        @Cached ExceptionNodes.SetCauseNode setCauseNode,
+                        @Cached ExceptionNodes.SetContextNode setContextNode,
+                        @Cached ExceptionNodes.GetTracebackNode getTracebackNode,
+                        @Cached ScheduleCallbacksNode scheduleCallbacksNode,
+                        @Cached PRaiseNode raiseNode) {
+            ensureAlive(inliningTarget, self, raiseNode);
+            if (self.getState() != State.PENDING) {
+                throw raiseInvalidStateError(inliningTarget, ErrorMessages.FUTURE_INVALID_STATE);
+            }
+            Object exception = exceptionArg;
+            if (isTypeNode.execute(inliningTarget, exception) && isSubtypeNode.execute(exception, PythonBuiltinClassType.PBaseException)) {
+                exception = callNode.execute(frame, exception);
+                if (self.getState() != State.PENDING) {
+                    throw raiseInvalidStateError(inliningTarget, ErrorMessages.FUTURE_INVALID_STATE);
+                }
+            }
+            if (!exceptionCheckNode.execute(inliningTarget, exception)) {
+                throw raiseNode.raise(inliningTarget, TypeError, ErrorMessages.FUTURE_INVALID_EXCEPTION_OBJECT);
+            }
+            if (isStopIterationProfile.profileObject(inliningTarget, exception, PythonBuiltinClassType.StopIteration)) {
+                Object newException = PFactory.createBaseException(language, RuntimeError, ErrorMessages.FUTURE_STOP_ITERATION_INTERACTS_BADLY, PythonUtils.EMPTY_OBJECT_ARRAY);
+                setCauseNode.execute(inliningTarget, newException, exception);
+                setContextNode.execute(inliningTarget, newException, exception);
+                exception = newException;
+            }
+            self.setException(exception, getTracebackNode.execute(inliningTarget, exception));
+            scheduleCallbacksNode.execute(frame, inliningTarget, self);
+            self.setLogTraceback(true);
+            armUnretrievedExceptionReference(self);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "add_done_callback", minNumOfPositionalArgs = 2, parameterNames = {"$self", "fn"}, keywordOnlyNames = {"context"})
+    @GenerateNodeFactory
+    abstract static class AddDoneCallbackNode extends PythonBuiltinNode {
+        @Specialization
+        static Object add(VirtualFrame frame, PFuture self, Object fn, Object contextArg,
+                        @Bind Node inliningTarget,
+                        @Cached PyContextCopyCurrent copyContext,
+                        @Cached PyObjectGetAttr getCallSoon,
+                        @Cached CallNode callNode,
+                        @Cached PRaiseNode raiseNode) {
+            ensureAlive(inliningTarget, self, raiseNode);
+            Object context = contextArg;
+            if (PGuards.isPNone(context)) {
+                context = copyContext.execute(inliningTarget);
+            }
+            if (self.getState() != State.PENDING) {
+                Object callSoon = getCallSoon.execute(frame, inliningTarget, self.getLoop(), T_CALL_SOON);
+                callNode.execute(frame, callSoon, new Object[]{fn, self}, new PKeyword[]{new PKeyword(T_CONTEXT, context)});
+            } else {
+                self.addCallback(fn, context);
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "remove_done_callback", minNumOfPositionalArgs = 2, parameterNames = {"$self", "fn"})
+    @GenerateNodeFactory
+    abstract static class RemoveDoneCallbackNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static int remove(VirtualFrame frame, PFuture self, Object fn,
+                        @Bind Node inliningTarget,
+                        @Cached PyObjectRichCompareBool eqNode,
+                        @Cached PRaiseNode raiseNode) {
+            ensureAlive(inliningTarget, self, raiseNode);
+            int count = self.getCallbacksCount();
+            Object[] callbacks = new Object[count];
+            Object[] contexts = new Object[count];
+            for (int i = 0; i < count; i++) {
+                callbacks[i] = self.getCallback(i);
+                contexts[i] = self.getCallbackContext(i);
+            }
+            int kept = 0;
+            for (int i = 0; i < count; i++) {
+                if (!eqNode.executeEq(frame, inliningTarget, callbacks[i], fn)) {
+                    callbacks[kept] = callbacks[i];
+                    contexts[kept] = contexts[i];
+                    kept++;
+                }
+            }
+            if (kept != count) {
+                self.setCallbacks(callbacks, contexts, kept);
+            }
+            return count - kept;
+        }
+    }
+
+    @Builtin(name = "cancel", minNumOfPositionalArgs = 1, parameterNames = {"$self", "msg"})
+    @GenerateNodeFactory
+    abstract static class CancelNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static boolean cancel(VirtualFrame frame, PFuture self, Object msg,
+                        @Bind Node inliningTarget,
+                        @Cached ScheduleCallbacksNode scheduleCallbacksNode,
+                        @Cached PRaiseNode raiseNode) {
+            ensureAlive(inliningTarget, self, raiseNode);
+            self.setLogTraceback(false);
+            if (self.getState() != State.PENDING) {
+                return false;
+            }
+            self.setCancelled(PGuards.isNoValue(msg) ? PNone.NONE : msg);
+            scheduleCallbacksNode.execute(frame, inliningTarget, self);
+            return true;
+        }
+    }
+
+    @Builtin(name = "cancelled", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class CancelledNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static boolean cancelled(PFuture self) {
+            return self.isAlive() && self.getState() == State.CANCELLED;
+        }
+    }
+
+    @Builtin(name = "done", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class DoneNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static boolean done(PFuture self) {
+            return self.isAlive() && self.getState() != State.PENDING;
+        }
+    }
+
+    @Builtin(name = "get_loop", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class GetLoopNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object getLoop(PFuture self,
+                        @Bind Node inliningTarget,
+                        @Cached PRaiseNode raiseNode) {
+            ensureAlive(inliningTarget, self, raiseNode);
+            return self.getLoop();
+        }
+    }
+
+    @Builtin(name = "_make_cancelled_error", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class MakeCancelledErrorNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object make(PFuture self) {
+            return makeCancelledError(self);
+        }
+    }
+
+    @Builtin(name = "_state", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class StateNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object state(PFuture self) {
+            return self.isAlive() ? self.getState().getName() : PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "_asyncio_future_blocking", minNumOfPositionalArgs = 1, maxNumOfPositionalArgs = 2, isGetter = true, isSetter = true)
+    @GenerateNodeFactory
+    abstract static class BlockingNode extends PythonBinaryBuiltinNode {
+        @Specialization(guards = "isNoValue(value)")
+        static boolean get(PFuture self, @SuppressWarnings("unused") PNone value) {
+            return self.isAlive() && self.isBlocking();
+        }
+
+        @Specialization(guards = "!isNoValue(value)")
+        static Object set(VirtualFrame frame, PFuture self, Object value,
+                        @Bind Node inliningTarget,
+                        @Cached PyObjectIsTrueNode isTrueNode,
+                        @Cached PRaiseNode raiseNode) {
+            ensureAlive(inliningTarget, self, raiseNode);
+            self.setBlocking(isTrueNode.execute(frame, value));
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "_log_traceback", minNumOfPositionalArgs = 1, maxNumOfPositionalArgs = 2, isGetter = true, isSetter = true)
+    @GenerateNodeFactory
+    abstract static class LogTracebackNode extends PythonBinaryBuiltinNode {
+        @Specialization(guards = "isNoValue(value)")
+        static boolean get(PFuture self, @SuppressWarnings("unused") PNone value) {
+            return self.isAlive() && self.isLogTraceback();
+        }
+
+        @Specialization(guards = "!isNoValue(value)")
+        static Object set(VirtualFrame frame, PFuture self, Object value,
+                        @Bind Node inliningTarget,
+                        @Cached PyObjectIsTrueNode isTrueNode,
+                        @Cached PRaiseNode raiseNode) {
+            if (isTrueNode.execute(frame, value)) {
+                throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.LOG_TRACEBACK_CAN_ONLY_BE_SET_TO_FALSE);
+            }
+            self.setLogTraceback(false);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "_loop", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class LoopNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object loop(PFuture self) {
+            return self.isAlive() ? self.getLoop() : PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "_callbacks", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class CallbacksNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object callbacks(PFuture self,
+                        @Bind PythonLanguage language) {
+            int count = self.getCallbacksCount();
+            if (count == 0) {
+                return PNone.NONE;
+            }
+            Object[] items = new Object[count];
+            for (int i = 0; i < count; i++) {
+                items[i] = PFactory.createTuple(language, new Object[]{self.getCallback(i), self.getCallbackContext(i)});
+            }
+            return PFactory.createList(language, items);
+        }
+    }
+
+    @Builtin(name = "_result", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class ResultGetterNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object result(PFuture self) {
+            Object result = self.getResult();
+            return result != null ? result : PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "_exception", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class ExceptionGetterNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object exception(PFuture self) {
+            Object exception = self.getException();
+            return exception != null ? exception : PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "_source_traceback", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class SourceTracebackNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object sourceTraceback(PFuture self) {
+            Object sourceTraceback = self.getSourceTraceback();
+            return sourceTraceback != null ? sourceTraceback : PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "_cancel_message", minNumOfPositionalArgs = 1, maxNumOfPositionalArgs = 2, isGetter = true, isSetter = true)
+    @GenerateNodeFactory
+    abstract static class CancelMessageNode extends PythonBinaryBuiltinNode {
+        @Specialization(guards = "isNoValue(value)")
+        static Object get(PFuture self, @SuppressWarnings("unused") PNone value) {
+            Object message = self.getCancelMessage();
+            return message != null ? message : PNone.NONE;
+        }
+
+        @Specialization(guards = "!isNoValue(value)")
+        static Object set(PFuture self, Object value) {
+            self.setCancelMessage(value);
+            return PNone.NONE;
+        }
+    }
+
+    @Slot(value = SlotKind.tp_repr, isComplex = true)
+    @GenerateNodeFactory
+    abstract static class ReprNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object repr(VirtualFrame frame, PFuture self,
+                        @Bind PythonContext context,
+                        @Cached CallNode callFutureRepr) {
+            return callFutureRepr.execute(frame, getModuleState(context).getFutureRepr(), self);
+        }
+    }
+
+    @Slot(value = SlotKind.am_await, isComplex = true)
+    @Slot(value = SlotKind.tp_iter, isComplex = true)
+    @GenerateNodeFactory
+    abstract static class AwaitNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object await(PFuture self,
+                        @Bind PythonLanguage language) {
+            return PFactory.createFutureIter(language, self);
+        }
+    }
+
+    @Builtin(name = J___CLASS_GETITEM__, minNumOfPositionalArgs = 2, isClassmethod = true)
+    @GenerateNodeFactory
+    abstract static class ClassGetItemNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object classGetItem(Object cls, Object key,
+                        @Bind PythonLanguage language) {
+            return PFactory.createGenericAlias(language, cls, key);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.asyncio;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.RuntimeError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
+
+import java.util.List;
+
+import com.oracle.graal.python.annotations.Builtin;
+import com.oracle.graal.python.annotations.Slot;
+import com.oracle.graal.python.annotations.Slot.SlotKind;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.asyncio.PFuture.State;
+import com.oracle.graal.python.builtins.objects.exception.ExceptionNodes;
+import com.oracle.graal.python.builtins.objects.exception.PrepareExceptionNode;
+import com.oracle.graal.python.builtins.objects.traceback.PTraceback;
+import com.oracle.graal.python.builtins.objects.type.TpSlots;
+import com.oracle.graal.python.builtins.objects.type.slots.TpSlotIterNext.TpIterNextBuiltin;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateCached;
+import com.oracle.truffle.api.dsl.GenerateInline;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.Node;
+
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PFutureIter)
+public final class FutureIterBuiltins extends PythonBuiltins {
+
+    public static final TpSlots SLOTS = FutureIterBuiltinsSlotsGen.SLOTS;
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return FutureIterBuiltinsFactory.getFactories();
+    }
+
+    /**
+     * Implements {@code FutureIter_iternext}: the first step yields the future itself to the task
+     * driving the coroutine, the next step finishes with the future's result. Returns {@code null}
+     * when the iterator was already exhausted.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class StepNode extends Node {
+        abstract Object execute(Node inliningTarget, PFutureIter self);
+
+        @Specialization
+        static Object step(Node inliningTarget, PFutureIter self,
+                        @Cached FutureBuiltins.GetResultNode getResultNode,
+                        @Cached PRaiseNode raiseNode) {
+            PFuture future = self.getFuture();
+            if (future == null) {
+                return null;
+            }
+            if (future.getState() == State.PENDING) {
+                if (!future.isBlocking()) {
+                    future.setBlocking(true);
+                    return future;
+                }
+                throw raiseNode.raise(inliningTarget, RuntimeError, ErrorMessages.AWAIT_WASNT_USED_WITH_FUTURE);
+            }
+            self.clearFuture();
+            Object result = getResultNode.execute(inliningTarget, future);
+            throw raiseNode.raiseStopIteration(inliningTarget, result);
+        }
+    }
+
+    @Slot(value = SlotKind.tp_iter, isComplex = true)
+    @GenerateNodeFactory
+    abstract static class IterNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object iter(PFutureIter self) {
+            return self;
+        }
+    }
+
+    @Slot(value = SlotKind.tp_iternext, isComplex = true)
+    @GenerateNodeFactory
+    abstract static class IterNextNode extends TpIterNextBuiltin {
+        @Specialization
+        static Object next(PFutureIter self,
+                        @Bind Node inliningTarget,
+                        @Cached StepNode stepNode) {
+            Object result = stepNode.execute(inliningTarget, self);
+            if (result == null) {
+                throw iteratorExhausted();
+            }
+            return result;
+        }
+    }
+
+    @Builtin(name = "send", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    abstract static class SendNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object send(PFutureIter self, @SuppressWarnings("unused") Object arg,
+                        @Bind Node inliningTarget,
+                        @Cached StepNode stepNode,
+                        @Cached PRaiseNode raiseNode) {
+            // Future.__iter__ doesn't care about the sent value, it just returns the result
+            Object result = stepNode.execute(inliningTarget, self);
+            if (result == null) {
+                throw raiseNode.raise(inliningTarget, PythonBuiltinClassType.StopIteration);
+            }
+            return result;
+        }
+    }
+
+    @Builtin(name = "throw", minNumOfPositionalArgs = 2, maxNumOfPositionalArgs = 4)
+    @GenerateNodeFactory
+    abstract static class ThrowNode extends PythonBuiltinNode {
+        @Specialization
+        static Object doThrow(VirtualFrame frame, PFutureIter self, Object typ, Object val, Object tb,
+                        @Bind Node inliningTarget,
+                        @Cached PrepareExceptionNode prepareExceptionNode,
+                        @Cached ExceptionNodes.SetTracebackNode setTracebackNode,
+                        @Cached PRaiseNode raiseNode) {
+            boolean hasTb = !(tb instanceof PNone);
+            if (hasTb && !(tb instanceof PTraceback)) {
+                throw raiseNode.raise(inliningTarget, TypeError, ErrorMessages.THROW_THIRD_ARG_MUST_BE_TRACEBACK);
+            }
+            Object instance = prepareExceptionNode.execute(frame, typ, val);
+            if (hasTb) {
+                setTracebackNode.execute(inliningTarget, instance, tb);
+            }
+            self.clearFuture();
+            throw raiseNode.raiseExceptionObject(inliningTarget, instance);
+        }
+    }
+
+    @Builtin(name = "close", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class CloseNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object close(PFutureIter self) {
+            self.clearFuture();
+            return PNone.NONE;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.asyncio;
+
+import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.object.Shape;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Native implementation of {@code asyncio.Future}, following {@code FutureObj} from CPython's
+ * {@code _asynciomodule.c}. Like there, the first callback is stored in dedicated fields, because
+ * most futures only ever get a single callback (the wakeup of the awaiting task).
+ */
+public class PFuture extends PythonBuiltinObject {
+
+    public enum State {
+        PENDING("PENDING"),
+        CANCELLED("CANCELLED"),
+        FINISHED("FINISHED");
+
+        private final TruffleString name;
+
+        State(String name) {
+            this.name = PythonUtils.tsLiteral(name);
+        }
+
+        public TruffleString getName() {
+            return name;
+        }
+    }
+
+    private State state = State.PENDING;
+    // null if the future was not initialized yet
+    private Object loop;
+    private Object callback0;
+    private Object context0;
+    private Object[] callbacks;
+    private Object[] contexts;
+    private int callbacksCount;
+    private Object result;
+    private Object exception;
+    private Object exceptionTraceback;
+    private Object sourceTraceback;
+    private Object cancelMessage;
+    private Object cancelledException;
+    private boolean logTraceback;
+    private boolean blocking;
+    // reports the stored exception if the future dies before it was retrieved
+    private FutureBuiltins.ExceptionHandlerReference unretrievedExceptionReference;
+
+    public PFuture(Object cls, Shape instanceShape) {
+        super(cls, instanceShape);
+    }
+
+    /**
+     * Resets the future into the pending state bound to the given loop. Corresponds to
+     * {@code future_init}, which may be called repeatedly by re-running {@code __init__}.
+     */
+    public void init(Object newLoop) {
+        state = State.PENDING;
+        loop = newLoop;
+        clearCallbacks();
+        result = null;
+        exception = null;
+        exceptionTraceback = null;
+        sourceTraceback = null;
+        cancelMessage = null;
+        cancelledException = null;
+        setLogTraceback(false);
+        blocking = false;
+    }
+
+    public boolean isAlive() {
+        return loop != null;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Object getLoop() {
+        return loop;
+    }
+
+    public Object getResult() {
+        return result;
+    }
+
+    public Object getException() {
+        return exception;
+    }
+
+    public Object getExceptionTraceback() {
+        return exceptionTraceback;
+    }
+
+    public void setResult(Object result) {
+        assert state == State.PENDING;
+        this.result = result;
+        this.state = State.FINISHED;
+    }
+
+    public void setException(Object exception, Object traceback) {
+        assert state == State.PENDING;
+        this.exception = exception;
+        this.exceptionTraceback = traceback;
+        this.state = State.FINISHED;
+    }
+
+    public void setCancelled(Object message) {
+        assert state == State.PENDING;
+        this.cancelMessage = message;
+        this.state = State.CANCELLED;
+    }
+
+    public Object getSourceTraceback() {
+        return sourceTraceback;
+    }
+
+    public void setSourceTraceback(Object sourceTraceback) {
+        this.sourceTraceback = sourceTraceback;
+    }
+
+    public Object getCancelMessage() {
+        return cancelMessage;
+    }
+
+    public void setCancelMessage(Object cancelMessage) {
+        this.cancelMessage = cancelMessage;
+    }
+
+    public Object getCancelledException() {
+        return cancelledException;
+    }
+
+    public void setCancelledException(Object cancelledException) {
+        this.cancelledException = cancelledException;
+    }
+
+    public boolean isLogTraceback() {
+        return logTraceback;
+    }
+
+    public void setLogTraceback(boolean logTraceback) {
+        this.logTraceback = logTraceback;
+        if (!logTraceback && unretrievedExceptionReference != null) {
+            unretrievedExceptionReference.disarm();
+            unretrievedExceptionReference = null;
+        }
+    }
+
+    void setUnretrievedExceptionReference(FutureBuiltins.ExceptionHandlerReference reference) {
+        assert logTraceback && unretrievedExceptionReference == null;
+        this.unretrievedExceptionReference = reference;
+    }
+
+    public boolean isBlocking() {
+        return blocking;
+    }
+
+    public void setBlocking(boolean blocking) {
+        this.blocking = blocking;
+    }
+
+    /**
+     * Number of callbacks registered on this future.
+     */
+    public int getCallbacksCount() {
+        return (callback0 != null ? 1 : 0) + callbacksCount;
+    }
+
+    /**
+     * Get the i-th registered callback, in the order of registration.
+     */
+    public Object getCallback(int i) {
+        if (callback0 != null) {
+            return i == 0 ? callback0 : callbacks[i - 1];
+        }
+        return callbacks[i];
+    }
+
+    /**
+     * Get the context associated with the i-th registered callback.
+     */
+    public Object getCallbackContext(int i) {
+        if (callback0 != null) {
+            return i == 0 ? context0 : contexts[i - 1];
+        }
+        return contexts[i];
+    }
+
+    public void addCallback(Object callback, Object context) {
+        if (callback0 == null && callbacksCount == 0) {
+            callback0 = callback;
+            context0 = context;
+            return;
+        }
+        if (callbacks == null) {
+            callbacks = new Object[4];
+            contexts = new Object[4];
+        } else if (callbacksCount == callbacks.length) {
+            callbacks = PythonUtils.arrayCopyOf(callbacks, callbacksCount * 2);
+            contexts = PythonUtils.arrayCopyOf(contexts, callbacksCount * 2);
+        }
+        callbacks[callbacksCount] = callback;
+        contexts[callbacksCount] = context;
+        callbacksCount++;
+    }
+
+    /**
+     * Replace the registered callbacks by the given ones. Used when removing callbacks.
+     */
+    public void setCallbacks(Object[] newCallbacks, Object[] newContexts, int count) {
+        clearCallbacks();
+        for (int i = 0; i < count; i++) {
+            addCallback(newCallbacks[i], newContexts[i]);
+        }
+    }
+
+    public void clearCallbacks() {
+        callback0 = null;
+        context0 = null;
+        callbacks = null;
+        contexts = null;
+        callbacksCount = 0;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.asyncio;
+
+import com.oracle.truffle.api.object.Shape;
+
+/**
+ * Native implementation of {@code asyncio.Task}, following {@code TaskObj} from CPython's
+ * {@code _asynciomodule.c}.
+ */
+public final class PTask extends PFuture {
+
+    // null if the task was not initialized yet or once it finished after an eager start
+    private Object coro;
+    private Object context;
+    // the value of the name counter until the name is first requested
+    private Object name;
+    private Object futWaiter;
+    private int numCancelsRequested;
+    private boolean mustCancel;
+    private boolean logDestroyPending = true;
+    // reports the task if it dies while still pending
+    private FutureBuiltins.ExceptionHandlerReference pendingReference;
+
+    public PTask(Object cls, Shape instanceShape) {
+        super(cls, instanceShape);
+    }
+
+    public void initTask(Object newCoro, Object newContext, Object newName) {
+        disarmPendingReference();
+        coro = newCoro;
+        context = newContext;
+        name = newName;
+        futWaiter = null;
+        numCancelsRequested = 0;
+        mustCancel = false;
+        logDestroyPending = true;
+    }
+
+    public Object getCoro() {
+        return coro;
+    }
+
+    public void setCoro(Object coro) {
+        this.coro = coro;
+    }
+
+    public Object getContext() {
+        return context;
+    }
+
+    public Object getName() {
+        return name;
+    }
+
+    public void setName(Object name) {
+        this.name = name;
+    }
+
+    public Object getFutWaiter() {
+        return futWaiter;
+    }
+
+    public void setFutWaiter(Object futWaiter) {
+        this.futWaiter = futWaiter;
+    }
+
+    public int getNumCancelsRequested() {
+        return numCancelsRequested;
+    }
+
+    public void setNumCancelsRequested(int numCancelsRequested) {
+        this.numCancelsRequested = numCancelsRequested;
+    }
+
+    public boolean isMustCancel() {
+        return mustCancel;
+    }
+
+    public void setMustCancel(boolean mustCancel) {
+        this.mustCancel = mustCancel;
+    }
+
+    public boolean isLogDestroyPending() {
+        return logDestroyPending;
+    }
+
+    public void setLogDestroyPending(boolean logDestroyPending) {
+        this.logDestroyPending = logDestroyPending;
+        if (!logDestroyPending) {
+            disarmPendingReference();
+        }
+    }
+
+    void setPendingReference(FutureBuiltins.ExceptionHandlerReference reference) {
+        assert logDestroyPending && pendingReference == null;
+        this.pendingReference = reference;
+    }
+
+    private void disarmPendingReference() {
+        if (pendingReference != null) {
+            pendingReference.disarm();
+            pendingReference = null;
+        }
+    }
+
+    @Override
+    public void setResult(Object result) {
+        super.setResult(result);
+        disarmPendingReference();
+    }
+
+    @Override
+    public void setException(Object exception, Object traceback) {
+        super.setException(exception, traceback);
+        disarmPendingReference();
+    }
+
+    @Override
+    public void setCancelled(Object message) {
+        super.setCancelled(message);
+        disarmPendingReference();
+    }
+}
@@ -0,0 +1,919 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.asyncio;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.KeyboardInterrupt;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.RuntimeError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.StopIteration;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.SystemExit;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
+import static com.oracle.graal.python.builtins.modules.AsyncioModuleBuiltins.getModuleState;
+import static com.oracle.graal.python.builtins.objects.asyncio.FutureBuiltins.T_CALL_SOON;
+import static com.oracle.graal.python.builtins.objects.asyncio.FutureBuiltins.T_CONTEXT;
+import static com.oracle.graal.python.builtins.objects.asyncio.FutureBuiltins.armUnretrievedExceptionReference;
+import static com.oracle.graal.python.builtins.objects.asyncio.FutureBuiltins.makeCancelledError;
+import static com.oracle.graal.python.builtins.objects.asyncio.FutureBuiltins.raiseInvalidStateError;
+import static com.oracle.graal.python.nodes.BuiltinNames.T_ADD;
+import static com.oracle.graal.python.nodes.BuiltinNames.T_SEND;
+import static com.oracle.graal.python.nodes.BuiltinNames.T_THROW;
+import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
+
+import java.util.List;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.annotations.Builtin;
+import com.oracle.graal.python.annotations.Slot;
+import com.oracle.graal.python.annotations.Slot.SlotKind;
+import com.oracle.graal.python.annotations.Slot.SlotSignature;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.AsyncioModuleBuiltins.ModuleState;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.asyncio.FutureBuiltins.GetResultNode;
+import com.oracle.graal.python.builtins.objects.asyncio.FutureBuiltins.InitFutureNode;
+import com.oracle.graal.python.builtins.objects.asyncio.FutureBuiltins.ScheduleCallbacksNode;
+import com.oracle.graal.python.builtins.objects.asyncio.PFuture.State;
+import com.oracle.graal.python.builtins.objects.contextvars.PContextVarsContext;
+import com.oracle.graal.python.builtins.objects.dict.PDict;
+import com.oracle.graal.python.builtins.objects.exception.ExceptionNodes;
+import com.oracle.graal.python.builtins.objects.exception.PBaseException;
+import com.oracle.graal.python.builtins.objects.exception.StopIterationBuiltins;
+import com.oracle.graal.python.builtins.objects.function.PKeyword;
+import com.oracle.graal.python.builtins.objects.generator.CommonGeneratorBuiltins;
+import com.oracle.graal.python.builtins.objects.generator.PGenerator;
+import com.oracle.graal.python.builtins.objects.set.SetNodes;
+import com.oracle.graal.python.builtins.objects.type.TpSlots;
+import com.oracle.graal.python.builtins.objects.type.TypeNodes;
+import com.oracle.graal.python.lib.PyContextCopyCurrent;
+import com.oracle.graal.python.lib.PyDictDelItem;
+import com.oracle.graal.python.lib.PyDictGetItem;
+import com.oracle.graal.python.lib.PyDictSetItem;
+import com.oracle.graal.python.lib.PyErrExceptionMatchesNode;
+import com.oracle.graal.python.lib.PyObjectCallMethodObjArgs;
+import com.oracle.graal.python.lib.PyObjectGetAttr;
+import com.oracle.graal.python.lib.PyObjectIsTrueNode;
+import com.oracle.graal.python.lib.PyObjectLookupAttr;
+import com.oracle.graal.python.lib.PyObjectReprAsTruffleStringNode;
+import com.oracle.graal.python.lib.PyObjectSetAttr;
+import com.oracle.graal.python.lib.PyObjectStrAsObjectNode;
+import com.oracle.graal.python.lib.PyUnicodeCheckExactNode;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.call.CallNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonVarargsBuiltinNode;
+import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinObjectExactProfile;
+import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinObjectProfile;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonContext.GetThreadStateNode;
+import com.oracle.graal.python.runtime.PythonContext.PythonThreadState;
+import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateCached;
+import com.oracle.truffle.api.dsl.GenerateInline;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Builtins of {@code _asyncio.Task}. The behavior follows {@code TaskObj} in CPython's
+ * {@code _asynciomodule.c}: stepping the coroutine, waking up on the awaited future and the eager
+ * start all run natively, so that {@code asyncio.tasks} can use this class instead of the pure
+ * Python implementation.
+ */
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PTask)
+public final class TaskBuiltins extends PythonBuiltins {
+
+    public static final TpSlots SLOTS = TaskBuiltinsSlotsGen.SLOTS;
+
+    private static final TruffleString T__TASK_STEP = tsLiteral("_Task__step");
+    private static final TruffleString T__TASK_WAKEUP = tsLiteral("_Task__wakeup");
+    private static final TruffleString T__ASYNCIO_FUTURE_BLOCKING = tsLiteral("_asyncio_future_blocking");
+    private static final TruffleString T_ADD_DONE_CALLBACK = tsLiteral("add_done_callback");
+    private static final TruffleString T_CANCEL = tsLiteral("cancel");
+    private static final TruffleString T_RESULT = tsLiteral("result");
+    private static final TruffleString T_GET_LOOP = tsLiteral("get_loop");
+    private static final TruffleString T__LOOP = tsLiteral("_loop");
+    private static final TruffleString T_IS_RUNNING = tsLiteral("is_running");
+    private static final TruffleString T_TASK_WAS_DESTROYED_BUT_IT_IS_PENDING = tsLiteral("Task was destroyed but it is pending!");
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return TaskBuiltinsFactory.getFactories();
+    }
+
+    /**
+     * Creates a {@code RuntimeError} that is thrown into the coroutine on its next step. The
+     * arguments are formatted with their {@code repr}.
+     */
+    @TruffleBoundary
+    private static Object createRuntimeError(TruffleString format, Object... args) {
+        Object[] reprs = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            reprs[i] = PyObjectReprAsTruffleStringNode.executeUncached(args[i]);
+        }
+        return PFactory.createBaseException(PythonLanguage.get(null), RuntimeError, format, reprs);
+    }
+
+    @TruffleBoundary
+    private static PException raiseStepAlreadyDone(Node inliningTarget, PTask task, Object exception) {
+        TruffleString taskRepr = PyObjectReprAsTruffleStringNode.executeUncached(task);
+        TruffleString exceptionRepr = PyObjectReprAsTruffleStringNode.executeUncached(exception != null ? exception : PNone.NONE);
+        String message = PythonUtils.formatJString(ErrorMessages.TASK_STEP_ALREADY_DONE.toJavaStringUncached(), taskRepr, exceptionRepr);
+        throw raiseInvalidStateError(inliningTarget, PythonUtils.toTruffleStringUncached(message));
+    }
+
+    @TruffleBoundary
+    private static PException raiseCoroutineExpected(Node inliningTarget, Object coro) {
+        throw PRaiseNode.raiseStatic(inliningTarget, TypeError, ErrorMessages.TASK_COROUTINE_EXPECTED, PyObjectReprAsTruffleStringNode.executeUncached(coro));
+    }
+
+    @TruffleBoundary
+    private static void armPendingReference(PTask self) {
+        self.setPendingReference(new FutureBuiltins.ExceptionHandlerReference(self, T_TASK_WAS_DESTROYED_BUT_IT_IS_PENDING, null, PythonContext.get(null)));
+    }
+
+    @TruffleBoundary
+    private static TruffleString formatTaskName(long counter) {
+        return PythonUtils.toTruffleStringUncached("Task-" + counter);
+    }
+
+    // future_set_result as called by the task on itself
+    private static void futureSetResult(VirtualFrame frame, Node inliningTarget, PTask task, Object result, ScheduleCallbacksNode scheduleCallbacksNode) {
+        if (task.getState() != State.PENDING) {
+            throw raiseInvalidStateError(inliningTarget, ErrorMessages.FUTURE_INVALID_STATE);
+        }
+        task.setResult(result);
+        scheduleCallbacksNode.execute(frame, inliningTarget, task);
+    }
+
+    // future_set_exception as called by the task on itself
+    private static void futureSetException(VirtualFrame frame, Node inliningTarget, PTask task, Object exception, ExceptionNodes.GetTracebackNode getTracebackNode,
+                    ScheduleCallbacksNode scheduleCallbacksNode) {
+        if (task.getState() != State.PENDING) {
+            throw raiseInvalidStateError(inliningTarget, ErrorMessages.FUTURE_INVALID_STATE);
+        }
+        task.setException(exception, getTracebackNode.execute(inliningTarget, exception));
+        scheduleCallbacksNode.execute(frame, inliningTarget, task);
+        task.setLogTraceback(true);
+        armUnretrievedExceptionReference(task);
+    }
+
+    // future_cancel as called by the task on itself
+    private static void futureCancel(VirtualFrame frame, Node inliningTarget, PTask task, Object message, ScheduleCallbacksNode scheduleCallbacksNode) {
+        task.setLogTraceback(false);
+        if (task.getState() != State.PENDING) {
+            return;
+        }
+        task.setCancelled(message);
+        scheduleCallbacksNode.execute(frame, inliningTarget, task);
+    }
+
+    // is_coroutine
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class IsCoroutineNode extends Node {
+        abstract boolean execute(VirtualFrame frame, Node inliningTarget, ModuleState state, Object coro);
+
+        @Specialization
+        static boolean check(VirtualFrame frame, Node inliningTarget, ModuleState state, Object coro,
+                        @Cached IsBuiltinObjectExactProfile isCoroutineProfile,
+                        @Cached(inline = false) CallNode callIsCoroutine,
+                        @Cached PyObjectIsTrueNode isTrueNode) {
+            if (isCoroutineProfile.profileObject(inliningTarget, coro, PythonBuiltinClassType.PCoroutine)) {
+                return true;
+            }
+            return isTrueNode.execute(frame, callIsCoroutine.execute(frame, state.getIsCoroutine(), coro));
+        }
+    }
+
+    // register_task
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class RegisterTaskNode extends Node {
+        abstract void execute(VirtualFrame frame, Node inliningTarget, ModuleState state, PTask task);
+
+        @Specialization
+        static void register(VirtualFrame frame, Node inliningTarget, ModuleState state, PTask task,
+                        @Cached PyObjectCallMethodObjArgs callAdd) {
+            callAdd.execute(frame, inliningTarget, state.getScheduledTasks(), T_ADD, task);
+        }
+    }
+
+    // enter_task
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class EnterTaskNode extends Node {
+        abstract void execute(VirtualFrame frame, Node inliningTarget, ModuleState state, Object loop, PTask task);
+
+        @Specialization
+        static void enter(VirtualFrame frame, Node inliningTarget, ModuleState state, Object loop, PTask task,
+                        @Cached PyDictGetItem getItem,
+                        @Cached PyDictSetItem setItem,
+                        @Cached PRaiseNode raiseNode) {
+            PDict currentTasks = state.getCurrentTasks();
+            Object item = getItem.execute(frame, inliningTarget, currentTasks, loop);
+            if (item != null) {
+                throw raiseNode.raise(inliningTarget, RuntimeError, ErrorMessages.CANT_ENTER_TASK_ALREADY_RUNNING, task, item);
+            }
+            setItem.execute(frame, inliningTarget, currentTasks, loop, task);
+        }
+    }
+
+    // leave_task
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class LeaveTaskNode extends Node {
+        abstract void execute(VirtualFrame frame, Node inliningTarget, ModuleState state, Object loop, PTask task);
+
+        @Specialization
+        static void leave(VirtualFrame frame, Node inliningTarget, ModuleState state, Object loop, PTask task,
+                        @Cached PyDictGetItem getItem,
+                        @Cached PyDictDelItem delItem,
+                        @Cached PRaiseNode raiseNode) {
+            PDict currentTasks = state.getCurrentTasks();
+            Object item = getItem.execute(frame, inliningTarget, currentTasks, loop);
+            if (item != task) {
+                throw raiseNode.raise(inliningTarget, RuntimeError, ErrorMessages.TASK_NOT_ENTERED, task, item != null ? item : PNone.NONE);
+            }
+            delItem.execute(frame, inliningTarget, currentTasks, loop);
+        }
+    }
+
+    // swap_current_task
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class SwapCurrentTaskNode extends Node {
+        abstract Object execute(VirtualFrame frame, Node inliningTarget, ModuleState state, Object loop, Object task);
+
+        @Specialization
+        static Object swap(VirtualFrame frame, Node inliningTarget, ModuleState state, Object loop, Object task,
+                        @Cached PyDictGetItem getItem,
+                        @Cached PyDictSetItem setItem,
+                        @Cached PyDictDelItem delItem) {
+            PDict currentTasks = state.getCurrentTasks();
+            Object prevTask = getItem.execute(frame, inliningTarget, currentTasks, loop);
+            if (PGuards.isPNone(task)) {
+                if (prevTask != null) {
+                    delItem.execute(frame, inliningTarget, currentTasks, loop);
+                }
+            } else {
+                setItem.execute(frame, inliningTarget, currentTasks, loop, task);
+            }
+            return prevTask != null ? prevTask : PNone.NONE;
+        }
+    }
+
+    // task_call_step_soon
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class CallStepSoonNode extends Node {
+        /**
+         * Schedules the next step of the task. The {@code exception}, if not {@code null}, is
+         * thrown into the coroutine.
+         */
+        abstract void execute(VirtualFrame frame, Node inliningTarget, PTask task, Object exception);
+
+        @Specialization
+        static void call(VirtualFrame frame, Node inliningTarget, PTask task, Object exception,
+                        @Cached PyObjectGetAttr getStep,
+                        @Cached PyObjectGetAttr getCallSoon,
+                        @Cached(inline = false) CallNode callNode) {
+            Object step = getStep.execute(frame, inliningTarget, task, T__TASK_STEP);
+            Object callSoon = getCallSoon.execute(frame, inliningTarget, task.getLoop(), T_CALL_SOON);
+            Object[] args = exception == null ? new Object[]{step} : new Object[]{step, exception};
+            callNode.execute(frame, callSoon, args, new PKeyword[]{new PKeyword(T_CONTEXT, task.getContext())});
+        }
+    }
+
+    /**
+     * Registers the wakeup of the task on a future it now waits for. The caller has already
+     * checked that the future is blocking and belongs to the loop of the task.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class WaitForNode extends Node {
+        abstract void execute(VirtualFrame frame, Node inliningTarget, PTask task, Object future);
+
+        @Specialization
+        static void waitFor(VirtualFrame frame, Node inliningTarget, PTask task, Object future,
+                        @Cached IsBuiltinObjectExactProfile isFutureProfile,
+                        @Cached IsBuiltinObjectExactProfile isTaskProfile,
+                        @Cached PyObjectGetAttr getWakeup,
+                        @Cached PyObjectSetAttr setBlocking,
+                        @Cached PyObjectGetAttr getAddDoneCallback,
+                        @Cached(inline = false) CallNode callNode,
+                        @Cached PyObjectCallMethodObjArgs callCancel,
+                        @Cached PyObjectIsTrueNode isTrueNode) {
+            Object wakeup = getWakeup.execute(frame, inliningTarget, task, T__TASK_WAKEUP);
+            if (future instanceof PFuture fut && fut.getState() == State.PENDING &&
+                            (isFutureProfile.profileObject(inliningTarget, fut, PythonBuiltinClassType.PFuture) || isTaskProfile.profileObject(inliningTarget, fut, PythonBuiltinClassType.PTask))) {
+                fut.setBlocking(false);
+                fut.addCallback(wakeup, task.getContext());
+            } else {
+                setBlocking.execute(frame, inliningTarget, future, T__ASYNCIO_FUTURE_BLOCKING, false);
+                Object addDoneCallback = getAddDoneCallback.execute(frame, inliningTarget, future, T_ADD_DONE_CALLBACK);
+                callNode.execute(frame, addDoneCallback, new Object[]{wakeup}, new PKeyword[]{new PKeyword(T_CONTEXT, task.getContext())});
+            }
+            task.setFutWaiter(future);
+            if (task.isMustCancel()) {
+                Object message = task.getCancelMessage();
+                if (isTrueNode.execute(frame, callCancel.execute(frame, inliningTarget, future, T_CANCEL, message != null ? message : PNone.NONE))) {
+                    task.setMustCancel(false);
+                }
+            }
+        }
+    }
+
+    // get_future_loop
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class GetFutureLoopNode extends Node {
+        abstract Object execute(VirtualFrame frame, Node inliningTarget, Object future);
+
+        @Specialization
+        static Object getLoop(VirtualFrame frame, Node inliningTarget, Object future,
+                        @Cached IsBuiltinObjectExactProfile isFutureProfile,
+                        @Cached IsBuiltinObjectExactProfile isTaskProfile,
+                        @Cached PyObjectLookupAttr lookupGetLoop,
+                        @Cached(inline = false) CallNode callGetLoop,
+                        @Cached PyObjectGetAttr getLoopAttr) {
+            if (future instanceof PFuture fut &&
+                            (isFutureProfile.profileObject(inliningTarget, fut, PythonBuiltinClassType.PFuture) || isTaskProfile.profileObject(inliningTarget, fut, PythonBuiltinClassType.PTask))) {
+                return fut.getLoop();
+            }
+            Object getLoop = lookupGetLoop.execute(frame, inliningTarget, future, T_GET_LOOP);
+            if (getLoop != PNone.NO_VALUE) {
+                return callGetLoop.execute(frame, getLoop);
+            }
+            return getLoopAttr.execute(frame, inliningTarget, future, T__LOOP);
+        }
+    }
+
+    // task_step_handle_result_impl
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class HandleResultNode extends Node {
+        abstract void execute(VirtualFrame frame, Node inliningTarget, PTask task, Object result);
+
+        @Specialization
+        static void handle(VirtualFrame frame, Node inliningTarget, PTask task, Object result,
+                        @Cached PyObjectLookupAttr lookupBlocking,
+                        @Cached PyObjectIsTrueNode isTrueNode,
+                        @Cached GetFutureLoopNode getFutureLoopNode,
+                        @Cached WaitForNode waitForNode,
+                        @Cached IsBuiltinObjectExactProfile isGeneratorProfile,
+                        @Cached CallStepSoonNode callStepSoonNode) {
+            Object error;
+            if (result == PNone.NONE) {
+                // bare yield relinquishes control for one event loop iteration
+                callStepSoonNode.execute(frame, inliningTarget, task, null);
+                return;
+            }
+            boolean blocking;
+            if (result instanceof PFuture future) {
+                blocking = future.isBlocking();
+            } else {
+                Object blockingAttr = lookupBlocking.execute(frame, inliningTarget, result, T__ASYNCIO_FUTURE_BLOCKING);
+                if (blockingAttr == PNone.NO_VALUE || blockingAttr == PNone.NONE) {
+                    if (isGeneratorProfile.profileObject(inliningTarget, result, PythonBuiltinClassType.PGenerator)) {
+                        error = createRuntimeError(ErrorMessages.TASK_YIELD_INSTEAD_OF_YIELD_FROM_FOR_GENERATOR, task, result);
+                    } else {
+                        error = createRuntimeError(ErrorMessages.TASK_GOT_BAD_YIELD, result);
+                    }
+                    callStepSoonNode.execute(frame, inliningTarget, task, error);
+                    return;
+                }
+                blocking = isTrueNode.execute(frame, blockingAttr);
+            }
+            // the result is a future, check that it came from the future's __await__
+            if (getFutureLoopNode.execute(frame, inliningTarget, result) != task.getLoop()) {
+                error = createRuntimeError(ErrorMessages.TASK_FUTURE_ATTACHED_TO_DIFFERENT_LOOP, task, result);
+            } else if (!blocking) {
+                error = createRuntimeError(ErrorMessages.TASK_YIELD_INSTEAD_OF_YIELD_FROM, task, result);
+            } else if (result == task) {
+                error = createRuntimeError(ErrorMessages.TASK_CANNOT_AWAIT_ON_ITSELF, task);
+            } else {
+                waitForNode.execute(frame, inliningTarget, task, result);
+                return;
+            }
+            callStepSoonNode.execute(frame, inliningTarget, task, error);
+        }
+    }
+
+    /**
+     * Sends a value or throws an exception into the coroutine and completes the task or lets it
+     * wait according to the outcome. This is the part of {@code task_step_impl} that the eager
+     * start shares with regular steps.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class StepRunAndHandleResultNode extends Node {
+        abstract void execute(VirtualFrame frame, Node inliningTarget, ModuleState state, PTask task, Object exception);
+
+        @Specialization
+        static void run(VirtualFrame frame, Node inliningTarget, ModuleState state, PTask task, Object exception,
+                        @Cached(inline = false) CommonGeneratorBuiltins.SendNode sendNode,
+                        @Cached PyObjectCallMethodObjArgs callMethodNode,
+                        @Cached IsBuiltinObjectProfile errorProfile,
+                        @Cached(inline = false) StopIterationBuiltins.StopIterationValueNode getValue,
+                        @Cached PyErrExceptionMatchesNode matchesCancelledNode,
+                        @Cached ExceptionNodes.GetTracebackNode getTracebackNode,
+                        @Cached ScheduleCallbacksNode scheduleCallbacksNode,
+                        @Cached HandleResultNode handleResultNode,
+                        @Cached PRaiseNode raiseNode) {
+            Object coro = task.getCoro();
+            if (coro == null) {
+                throw raiseNode.raise(inliningTarget, RuntimeError, ErrorMessages.TASK_NOT_INITIALIZED);
+            }
+            Object result;
+            try {
+                if (exception != null) {
+                    result = callMethodNode.execute(frame, inliningTarget, coro, T_THROW, exception);
+                } else if (coro instanceof PGenerator generator) {
+                    result = sendNode.execute(frame, generator, PNone.NONE);
+                } else {
+                    result = callMethodNode.execute(frame, inliningTarget, coro, T_SEND, PNone.NONE);
+                }
+            } catch (PException e) {
+                if (errorProfile.profileException(inliningTarget, e, StopIteration)) {
+                    if (task.isMustCancel()) {
+                        // the task is cancelled right before the coroutine stops
+                        task.setMustCancel(false);
+                        Object message = task.getCancelMessage();
+                        futureCancel(frame, inliningTarget, task, message != null ? message : PNone.NONE, scheduleCallbacksNode);
+                    } else {
+                        futureSetResult(frame, inliningTarget, task, getValue.execute((PBaseException) e.getUnreifiedException()), scheduleCallbacksNode);
+                    }
+                    return;
+                }
+                Object raised = e.getEscapedException();
+                if (matchesCancelledNode.execute(inliningTarget, raised, state.getCancelledError())) {
+                    // save the original exception so that it can be chained later
+                    task.setCancelledException(raised);
+                    futureCancel(frame, inliningTarget, task, PNone.NONE, scheduleCallbacksNode);
+                    return;
+                }
+                futureSetException(frame, inliningTarget, task, raised, getTracebackNode, scheduleCallbacksNode);
+                if (errorProfile.profileException(inliningTarget, e, KeyboardInterrupt) || errorProfile.profileException(inliningTarget, e, SystemExit)) {
+                    throw e;
+                }
+                return;
+            }
+            handleResultNode.execute(frame, inliningTarget, task, result);
+        }
+    }
+
+    // task_step_impl
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class StepImplNode extends Node {
+        abstract void execute(VirtualFrame frame, Node inliningTarget, ModuleState state, PTask task, Object exception);
+
+        @Specialization
+        static void step(VirtualFrame frame, Node inliningTarget, ModuleState state, PTask task, Object exceptionArg,
+                        @Cached PyErrExceptionMatchesNode matchesCancelledNode,
+                        @Cached StepRunAndHandleResultNode runNode) {
+            if (task.getState() != State.PENDING) {
+                throw raiseStepAlreadyDone(inliningTarget, task, exceptionArg);
+            }
+            Object exception = exceptionArg;
+            if (task.isMustCancel()) {
+                if (exception == null || !matchesCancelledNode.execute(inliningTarget, exception, state.getCancelledError())) {
+                    exception = makeCancelledError(task);
+                }
+                task.setMustCancel(false);
+            }
+            task.setFutWaiter(null);
+            runNode.execute(frame, inliningTarget, state, task, exception);
+        }
+    }
+
+    // task_step
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class StepNode extends Node {
+        abstract void execute(VirtualFrame frame, Node inliningTarget, PTask task, Object exception);
+
+        @Specialization
+        static void step(VirtualFrame frame, Node inliningTarget, PTask task, Object exception,
+                        @Cached EnterTaskNode enterTaskNode,
+                        @Cached StepImplNode stepImplNode,
+                        @Cached LeaveTaskNode leaveTaskNode) {
+            ModuleState state = getModuleState(PythonContext.get(inliningTarget));
+            Object loop = task.getLoop();
+            enterTaskNode.execute(frame, inliningTarget, state, loop, task);
+            try {
+                stepImplNode.execute(frame, inliningTarget, state, task, exception);
+            } finally {
+                leaveTaskNode.execute(frame, inliningTarget, state, loop, task);
+            }
+        }
+    }
+
+    // task_eager_start
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class EagerStartNode extends Node {
+        abstract void execute(VirtualFrame frame, Node inliningTarget, ModuleState state, PTask task);
+
+        @Specialization
+        static void start(VirtualFrame frame, Node inliningTarget, ModuleState state, PTask task,
+                        @Cached SwapCurrentTaskNode swapCurrentTaskNode,
+                        @Cached(inline = false) SetNodes.AddNode addEagerTaskNode,
+                        @Cached(inline = false) SetNodes.DiscardNode discardEagerTaskNode,
+                        @Cached GetThreadStateNode getThreadStateNode,
+                        @Cached StepImplNode stepImplNode,
+                        @Cached RegisterTaskNode registerTaskNode,
+                        @Cached PRaiseNode raiseNode) {
+            if (!(task.getContext() instanceof PContextVarsContext context)) {
+                throw raiseNode.raise(inliningTarget, TypeError, ErrorMessages.INSTANCE_OF_CONTEXT_EXPECTED);
+            }
+            Object loop = task.getLoop();
+            Object prevTask = swapCurrentTaskNode.execute(frame, inliningTarget, state, loop, task);
+            try {
+                addEagerTaskNode.execute(frame, state.getEagerTasks(), task);
+                try {
+                    PythonThreadState threadState = getThreadStateNode.execute(inliningTarget);
+                    context.enter(inliningTarget, threadState, raiseNode);
+                    try {
+                        stepImplNode.execute(frame, inliningTarget, state, task, null);
+                    } finally {
+                        context.leave(threadState);
+                    }
+                } finally {
+                    discardEagerTaskNode.execute(frame, state.getEagerTasks(), task);
+                }
+            } finally {
+                swapCurrentTaskNode.execute(frame, inliningTarget, state, loop, prevTask);
+                if (task.getState() == State.PENDING) {
+                    registerTaskNode.execute(frame, inliningTarget, state, task);
+                } else {
+                    task.setCoro(null);
+                }
+            }
+        }
+    }
+
+    @Slot(value = SlotKind.tp_new, isComplex = true)
+    @SlotSignature(name = "Task", minNumOfPositionalArgs = 1, takesVarArgs = true, takesVarKeywordArgs = true)
+    @GenerateNodeFactory
+    abstract static class TaskNewNode extends PythonVarargsBuiltinNode {
+        @Specialization
+        @SuppressWarnings("unused")
+        static PTask doNew(Object cls, Object[] args, PKeyword[] kwargs,
+                        @Bind PythonLanguage language,
+                        @Cached TypeNodes.GetInstanceShape getInstanceShape) {
+            return PFactory.createTask(language, cls, getInstanceShape.execute(cls));
+        }
+    }
+
+    @Slot(value = SlotKind.tp_init, isComplex = true)
+    @SlotSignature(name = "Task", minNumOfPositionalArgs = 2, parameterNames = {"$self", "coro"}, keywordOnlyNames = {"loop", "name", "context", "eager_start"})
+    @GenerateNodeFactory
+    abstract static class TaskInitNode extends PythonBuiltinNode {
+        @Specialization
+        static Object init(VirtualFrame frame, PTask self, Object coro, Object loop, Object name, Object context, Object eagerStart,
+                        @Bind Node inliningTarget,
+                        @Bind PythonContext pythonContext,
+                        @Cached InitFutureNode initFutureNode,
+                        @Cached IsCoroutineNode isCoroutineNode,
+                        @Cached PyUnicodeCheckExactNode isStringNode,
+                        @Cached PyObjectStrAsObjectNode strNode,
+                        @Cached PyContextCopyCurrent copyContext,
+                        @Cached PyObjectIsTrueNode isTrueNode,
+                        @Cached PyObjectCallMethodObjArgs callIsRunning,
+                        @Cached EagerStartNode eagerStartNode,
+                        @Cached CallStepSoonNode callStepSoonNode,
+                        @Cached RegisterTaskNode registerTaskNode) {
+            initFutureNode.execute(frame, inliningTarget, self, loop);
+            ModuleState state = getModuleState(pythonContext);
+            if (!isCoroutineNode.execute(frame, inliningTarget, state, coro)) {
+                // prevent reporting the task as destroyed while pending
+                self.setLogDestroyPending(false);
+                throw raiseCoroutineExpected(inliningTarget, coro);
+            }
+            Object taskName;
+            if (PGuards.isPNone(name)) {
+                taskName = state.nextTaskNameCounter();
+            } else if (isStringNode.execute(inliningTarget, name)) {
+                taskName = name;
+            } else {
+                taskName = strNode.execute(frame, inliningTarget, name);
+            }
+            self.initTask(coro, PGuards.isPNone(context) ? copyContext.execute(inliningTarget) : context, taskName);
+            if (!PGuards.isPNone(eagerStart) && isTrueNode.execute(frame, eagerStart) &&
+                            isTrueNode.execute(frame, callIsRunning.execute(frame, inliningTarget, self.getLoop(), T_IS_RUNNING))) {
+                eagerStartNode.execute(frame, inliningTarget, state, self);
+            } else {
+                callStepSoonNode.execute(frame, inliningTarget, self, null);
+                registerTaskNode.execute(frame, inliningTarget, state, self);
+            }
+            if (self.getState() == State.PENDING) {
+                armPendingReference(self);
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Slot(value = SlotKind.tp_repr, isComplex = true)
+    @GenerateNodeFactory
+    abstract static class ReprNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object repr(VirtualFrame frame, PTask self,
+                        @Bind PythonContext context,
+                        @Cached CallNode callTaskRepr) {
+            return callTaskRepr.execute(frame, getModuleState(context).getTaskRepr(), self);
+        }
+    }
+
+    @Builtin(name = "_Task__step", minNumOfPositionalArgs = 1, parameterNames = {"$self", "exc"})
+    @GenerateNodeFactory
+    abstract static class StepBuiltinNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object step(VirtualFrame frame, PTask self, Object exception,
+                        @Bind Node inliningTarget,
+                        @Cached StepNode stepNode) {
+            stepNode.execute(frame, inliningTarget, self, PGuards.isPNone(exception) ? null : exception);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "_Task__wakeup", minNumOfPositionalArgs = 2, parameterNames = {"$self", "future"})
+    @GenerateNodeFactory
+    abstract static class WakeupNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object wakeup(VirtualFrame frame, PTask self, Object future,
+                        @Bind Node inliningTarget,
+                        @Cached IsBuiltinObjectExactProfile isFutureProfile,
+                        @Cached IsBuiltinObjectExactProfile isTaskProfile,
+                        @Cached GetResultNode getResultNode,
+                        @Cached PyObjectCallMethodObjArgs callResult,
+                        @Cached StepNode stepNode) {
+            Object exception = null;
+            try {
+                if (future instanceof PFuture fut &&
+                                (isFutureProfile.profileObject(inliningTarget, fut, PythonBuiltinClassType.PFuture) || isTaskProfile.profileObject(inliningTarget, fut, PythonBuiltinClassType.PTask))) {
+                    getResultNode.execute(inliningTarget, fut);
+                } else {
+                    callResult.execute(frame, inliningTarget, future, T_RESULT);
+                }
+            } catch (PException e) {
+                // this may also be a cancellation
+                exception = e.getEscapedException();
+            }
+            /*
+             * The result is not passed on, because the coroutine gets it from the future's
+             * __await__ when it resumes.
+             */
+            stepNode.execute(frame, inliningTarget, self, exception);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "cancel", minNumOfPositionalArgs = 1, parameterNames = {"$self", "msg"})
+    @GenerateNodeFactory
+    abstract static class CancelNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static boolean cancel(VirtualFrame frame, PTask self, Object msg,
+                        @Bind Node inliningTarget,
+                        @Cached PyObjectCallMethodObjArgs callCancel,
+                        @Cached PyObjectIsTrueNode isTrueNode) {
+            Object message = PGuards.isNoValue(msg) ? PNone.NONE : msg;
+            self.setLogTraceback(false);
+            if (self.getState() != State.PENDING) {
+                return false;
+            }
+            self.setNumCancelsRequested(self.getNumCancelsRequested() + 1);
+            Object futWaiter = self.getFutWaiter();
+            if (futWaiter != null && isTrueNode.execute(frame, callCancel.execute(frame, inliningTarget, futWaiter, T_CANCEL, message))) {
+                /*
+                 * Leave the waiter, it may be a task that catches and ignores the cancellation, so
+                 * it may have to be cancelled again later.
+                 */
+                return true;
+            }
+            // the step of the task must already be scheduled
+            self.setMustCancel(true);
+            self.setCancelMessage(message);
+            return true;
+        }
+    }
+
+    @Builtin(name = "cancelling", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class CancellingNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int cancelling(PTask self) {
+            return self.getNumCancelsRequested();
+        }
+    }
+
+    @Builtin(name = "uncancel", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class UncancelNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int uncancel(PTask self) {
+            if (self.getNumCancelsRequested() > 0) {
+                self.setNumCancelsRequested(self.getNumCancelsRequested() - 1);
+            }
+            return self.getNumCancelsRequested();
+        }
+    }
+
+    @Builtin(name = "set_result", minNumOfPositionalArgs = 2, parameterNames = {"$self", "result"})
+    @GenerateNodeFactory
+    abstract static class SetResultNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        @SuppressWarnings("unused")
+        static Object setResult(PTask self, Object result,
+                        @Bind Node inliningTarget) {
+            throw PRaiseNode.raiseStatic(inliningTarget, RuntimeError, ErrorMessages.TASK_DOES_NOT_SUPPORT_SET_RESULT);
+        }
+    }
+
+    @Builtin(name = "set_exception", minNumOfPositionalArgs = 2, parameterNames = {"$self", "exception"})
+    @GenerateNodeFactory
+    abstract static class SetExceptionNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        @SuppressWarnings("unused")
+        static Object setException(PTask self, Object exception,
+                        @Bind Node inliningTarget) {
+            throw PRaiseNode.raiseStatic(inliningTarget, RuntimeError, ErrorMessages.TASK_DOES_NOT_SUPPORT_SET_EXCEPTION);
+        }
+    }
+
+    @Builtin(name = "get_coro", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class GetCoroNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object getCoro(PTask self) {
+            Object coro = self.getCoro();
+            return coro != null ? coro : PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_context", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class GetContextNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object getContext(PTask self) {
+            Object context = self.getContext();
+            return context != null ? context : PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_name", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    abstract static class GetNameNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object getName(PTask self) {
+            Object name = self.getName();
+            if (name instanceof Long counter) {
+                name = formatTaskName(counter);
+                self.setName(name);
+            }
+            return name != null ? name : PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "set_name", minNumOfPositionalArgs = 2, parameterNames = {"$self", "value"})
+    @GenerateNodeFactory
+    abstract static class SetNameNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object setName(VirtualFrame frame, PTask self, Object value,
+                        @Bind Node inliningTarget,
+                        @Cached PyUnicodeCheckExactNode isStringNode,
+                        @Cached PyObjectStrAsObjectNode strNode) {
+            self.setName(isStringNode.execute(inliningTarget, value) ? value : strNode.execute(frame, inliningTarget, value));
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_stack", minNumOfPositionalArgs = 1, parameterNames = {"$self"}, keywordOnlyNames = {"limit"})
+    @GenerateNodeFactory
+    abstract static class GetStackNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object getStack(VirtualFrame frame, PTask self, Object limit,
+                        @Bind PythonContext context,
+                        @Cached CallNode callGetStack) {
+            return callGetStack.execute(frame, getModuleState(context).getTaskGetStack(), self, PGuards.isNoValue(limit) ? PNone.NONE : limit);
+        }
+    }
+
+    @Builtin(name = "print_stack", minNumOfPositionalArgs = 1, parameterNames = {"$self"}, keywordOnlyNames = {"limit", "file"})
+    @GenerateNodeFactory
+    abstract static class PrintStackNode extends PythonTernaryBuiltinNode {
+        @Specialization
+        static Object printStack(VirtualFrame frame, PTask self, Object limit, Object file,
+                        @Bind PythonContext context,
+                        @Cached CallNode callPrintStack) {
+            return callPrintStack.execute(frame, getModuleState(context).getTaskPrintStack(), self, PGuards.isNoValue(limit) ? PNone.NONE : limit, PGuards.isNoValue(file) ? PNone.NONE : file);
+        }
+    }
+
+    @Builtin(name = "_log_destroy_pending", minNumOfPositionalArgs = 1, maxNumOfPositionalArgs = 2, isGetter = true, isSetter = true)
+    @GenerateNodeFactory
+    abstract static class LogDestroyPendingNode extends PythonBinaryBuiltinNode {
+        @Specialization(guards = "isNoValue(value)")
+        static boolean get(PTask self, @SuppressWarnings("unused") PNone value) {
+            return self.isLogDestroyPending();
+        }
+
+        @Specialization(guards = "!isNoValue(value)")
+        static Object set(VirtualFrame frame, PTask self, Object value,
+                        @Cached PyObjectIsTrueNode isTrueNode) {
+            self.setLogDestroyPending(isTrueNode.execute(frame, value));
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "_must_cancel", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class MustCancelNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static boolean mustCancel(PTask self) {
+            return self.isMustCancel();
+        }
+    }
+
+    @Builtin(name = "_coro", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class CoroNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object coro(PTask self) {
+            Object coro = self.getCoro();
+            return coro != null ? coro : PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "_fut_waiter", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class FutWaiterNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object futWaiter(PTask self) {
+            Object futWaiter = self.getFutWaiter();
+            return futWaiter != null ? futWaiter : PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "_num_cancels_requested", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    abstract static class NumCancelsRequestedNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int numCancelsRequested(PTask self) {
+            return self.getNumCancelsRequested();
+        }
+    }
+}
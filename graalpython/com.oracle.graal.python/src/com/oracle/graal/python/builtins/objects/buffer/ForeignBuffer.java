@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.buffer;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.IndexError;
+
+import java.nio.ByteOrder;
+
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.runtime.GilNode;
+import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.truffle.api.HostCompilerDirectives.InliningCutoff;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Cached.Shared;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.InvalidBufferOffsetException;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.library.ExportLibrary;
+import com.oracle.truffle.api.library.ExportMessage;
+import com.oracle.truffle.api.nodes.Node;
+
+/**
+ * Buffer over a foreign object with interop buffer elements (e.g., a Java {@code ByteBuffer}). The
+ * foreign memory is accessed in place using the interop buffer messages, so such objects can be
+ * consumed by {@code memoryview}, {@code struct}, {@code hashlib}, etc. without copying them into
+ * {@code bytes} first. Acquired through {@link ForeignBufferAcquireExports}.
+ */
+@ExportLibrary(PythonBufferAccessLibrary.class)
+public final class ForeignBuffer {
+    private final Object delegate;
+    private final int length;
+    private final boolean readonly;
+
+    ForeignBuffer(Object delegate, int length, boolean readonly) {
+        this.delegate = delegate;
+        this.length = length;
+        this.readonly = readonly;
+    }
+
+    @ExportMessage
+    @SuppressWarnings("static-method")
+    boolean isBuffer() {
+        return true;
+    }
+
+    @ExportMessage
+    int getBufferLength() {
+        return length;
+    }
+
+    @ExportMessage
+    boolean isReadonly() {
+        return readonly;
+    }
+
+    @ExportMessage
+    Object getOwner() {
+        return delegate;
+    }
+
+    @InliningCutoff
+    private static PException raiseNotReadable(Node inliningTarget, long byteOffset, Object delegate) {
+        throw PRaiseNode.raiseStatic(inliningTarget, IndexError, ErrorMessages.ITEM_S_OF_S_OBJ_IS_NOT_READABLE, byteOffset, delegate);
+    }
+
+    @InliningCutoff
+    private static PException raiseNotWritable(Node inliningTarget, long byteOffset, Object delegate) {
+        throw PRaiseNode.raiseStatic(inliningTarget, IndexError, ErrorMessages.ITEM_S_OF_S_OBJ_IS_NOT_WRITABLE, byteOffset, delegate);
+    }
+
+    @ExportMessage
+    byte readByte(int byteOffset,
+                    @Bind Node inliningTarget,
+                    @Shared("interop") @CachedLibrary(limit = "3") InteropLibrary interop) {
+        try {
+            return interop.readBufferByte(delegate, byteOffset);
+        } catch (UnsupportedMessageException | InvalidBufferOffsetException e) {
+            throw raiseNotReadable(inliningTarget, byteOffset, delegate);
+        }
+    }
+
+    @ExportMessage
+    short readShortByteOrder(int byteOffset, ByteOrder byteOrder,
+                    @Bind Node inliningTarget,
+                    @Shared("interop") @CachedLibrary(limit = "3") InteropLibrary interop) {
+        try {
+            return interop.readBufferShort(delegate, byteOrder, byteOffset);
+        } catch (UnsupportedMessageException | InvalidBufferOffsetException e) {
+            throw raiseNotReadable(inliningTarget, byteOffset, delegate);
+        }
+    }
+
+    @ExportMessage
+    int readIntByteOrder(int byteOffset, ByteOrder byteOrder,
+                    @Bind Node inliningTarget,
+                    @Shared("interop") @CachedLibrary(limit = "3") InteropLibrary interop) {
+        try {
+            return interop.readBufferInt(delegate, byteOrder, byteOffset);
+        } catch (UnsupportedMessageException | InvalidBufferOffsetException e) {
+            throw raiseNotReadable(inliningTarget, byteOffset, delegate);
+        }
+    }
+
+    @ExportMessage
+    long readLongByteOrder(int byteOffset, ByteOrder byteOrder,
+                    @Bind Node inliningTarget,
+                    @Shared("interop") @CachedLibrary(limit = "3") InteropLibrary interop) {
+        try {
+            return interop.readBufferLong(delegate, byteOrder, byteOffset);
+        } catch (UnsupportedMessageException | InvalidBufferOffsetException e) {
+            throw raiseNotReadable(inliningTarget, byteOffset, delegate);
+        }
+    }
+
+    @ExportMessage
+    float readFloatByteOrder(int byteOffset, ByteOrder byteOrder,
+                    @Bind Node inliningTarget,
+                    @Shared("interop") @CachedLibrary(limit = "3") InteropLibrary interop) {
+        try {
+            return interop.readBufferFloat(delegate, byteOrder, byteOffset);
+        } catch (UnsupportedMessageException | InvalidBufferOffsetException e) {
+            throw raiseNotReadable(inliningTarget, byteOffset, delegate);
+        }
+    }
+
+    @ExportMessage
+    double readDoubleByteOrder(int byteOffset, ByteOrder byteOrder,
+                    @Bind Node inliningTarget,
+                    @Shared("interop") @CachedLibrary(limit = "3") InteropLibrary interop) {
+        try {
+            return interop.readBufferDouble(delegate, byteOrder, byteOffset);
+        } catch (UnsupportedMessageException | InvalidBufferOffsetException e) {
+            throw raiseNotReadable(inliningTarget, byteOffset, delegate);
+        }
+    }
+
+    @ExportMessage
+    void readIntoByteArray(int srcOffset, byte[] dest, int destOffset, int len,
+                    @Bind Node inliningTarget,
+                    @Shared("interop") @CachedLibrary(limit = "3") InteropLibrary interop,
+                    @Shared("gil") @Cached(inline = false) GilNode gil) {
+        // bulk copies are one interop call, so it is worth letting other threads run meanwhile
+        gil.release(true);
+        try {
+            interop.readBuffer(delegate, srcOffset, dest, destOffset, len);
+        } catch (UnsupportedMessageException | InvalidBufferOffsetException e) {
+            throw raiseNotReadable(inliningTarget, srcOffset, delegate);
+        } finally {
+            gil.acquire();
+        }
+    }
+
+    @ExportMessage
+    void readIntoBuffer(int srcOffset, Object dest, int destOffset, int len, PythonBufferAccessLibrary otherLib,
+                    @Bind Node inliningTarget,
+                    @Shared("interop") @CachedLibrary(limit = "3") InteropLibrary interop,
+                    @Shared("gil") @Cached(inline = false) GilNode gil) {
+        if (otherLib.hasInternalByteArray(dest)) {
+            readIntoByteArray(srcOffset, otherLib.getInternalByteArray(dest), destOffset, len, inliningTarget, interop, gil);
+        } else {
+            for (int i = 0; i < len; i++) {
+                otherLib.writeByte(dest, destOffset + i, readByte(srcOffset + i, inliningTarget, interop));
+            }
+        }
+    }
+
+    @ExportMessage
+    void writeByte(int byteOffset, byte value,
+                    @Bind Node inliningTarget,
+                    @Shared("interop") @CachedLibrary(limit = "3") InteropLibrary interop) {
+        try {
+            interop.writeBufferByte(delegate, byteOffset, value);
+        } catch (UnsupportedMessageException | InvalidBufferOffsetException e) {
+            throw raiseNotWritable(inliningTarget, byteOffset, delegate);
+        }
+    }
+
+    @ExportMessage
+    void writeShortByteOrder(int byteOffset, short value, ByteOrder byteOrder,
+                    @Bind Node inliningTarget,
+                    @Shared("interop") @CachedLibrary(limit = "3") InteropLibrary interop) {
+        try {
+            interop.writeBufferShort(delegate, byteOrder, byteOffset, value);
+        } catch (UnsupportedMessageException | InvalidBufferOffsetException e) {
+            throw raiseNotWritable(inliningTarget, byteOffset, delegate);
+        }
+    }
+
+    @ExportMessage
+    void writeIntByteOrder(int byteOffset, int value, ByteOrder byteOrder,
+                    @Bind Node inliningTarget,
+                    @Shared("interop") @CachedLibrary(limit = "3") InteropLibrary interop) {
+        try {
+            interop.writeBufferInt(delegate, byteOrder, byteOffset, value);
+        } catch (UnsupportedMessageException | InvalidBufferOffsetException e) {
+            throw raiseNotWritable(inliningTarget, byteOffset, delegate);
+        }
+    }
+
+    @ExportMessage
+    void writeLongByteOrder(int byteOffset, long value, ByteOrder byteOrder,
+                    @Bind Node inliningTarget,
+                    @Shared("interop") @CachedLibrary(limit = "3") InteropLibrary interop) {
+        try {
+            interop.writeBufferLong(delegate, byteOrder, byteOffset, value);
+        } catch (UnsupportedMessageException | InvalidBufferOffsetException e) {
+            throw raiseNotWritable(inliningTarget, byteOffset, delegate);
+        }
+    }
+
+    @ExportMessage
+    void writeFloatByteOrder(int byteOffset, float value, ByteOrder byteOrder,
+                    @Bind Node inliningTarget,
+                    @Shared("interop") @CachedLibrary(limit = "3") InteropLibrary interop) {
+        try {
+            interop.writeBufferFloat(delegate, byteOrder, byteOffset, value);
+        } catch (UnsupportedMessageException | InvalidBufferOffsetException e) {
+            throw raiseNotWritable(inliningTarget, byteOffset, delegate);
+        }
+    }
+
+    @ExportMessage
+    void writeDoubleByteOrder(int byteOffset, double value, ByteOrder byteOrder,
+                    @Bind Node inliningTarget,
+                    @Shared("interop") @CachedLibrary(limit = "3") InteropLibrary interop) {
+        try {
+            interop.writeBufferDouble(delegate, byteOrder, byteOffset, value);
+        } catch (UnsupportedMessageException | InvalidBufferOffsetException e) {
+            throw raiseNotWritable(inliningTarget, byteOffset, delegate);
+        }
+    }
+}
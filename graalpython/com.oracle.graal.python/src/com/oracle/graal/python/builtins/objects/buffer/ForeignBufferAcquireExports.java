@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.buffer;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.BufferError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
+
+import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.object.IsForeignObjectNode;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Cached.Shared;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.library.ExportLibrary;
+import com.oracle.truffle.api.library.ExportMessage;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedBranchProfile;
+
+/**
+ * Default implementation of {@link PythonBufferAcquireLibrary} for all receivers that do not export
+ * it themselves. Foreign objects with interop buffer elements are acquired as a
+ * {@link ForeignBuffer}, everything else behaves as if the library was not implemented.
+ */
+@ExportLibrary(value = PythonBufferAcquireLibrary.class, receiverType = Object.class)
+final class ForeignBufferAcquireExports {
+
+    @ExportMessage
+    static boolean hasBuffer(Object receiver,
+                    @Bind Node inliningTarget,
+                    @Shared @Cached IsForeignObjectNode isForeignObjectNode,
+                    @Shared @CachedLibrary(limit = "3") InteropLibrary interop) {
+        return isForeignObjectNode.execute(inliningTarget, receiver) && interop.hasBufferElements(receiver);
+    }
+
+    @ExportMessage
+    static Object acquire(Object receiver, int flags,
+                    @Bind Node inliningTarget,
+                    @Shared @Cached IsForeignObjectNode isForeignObjectNode,
+                    @Shared @CachedLibrary(limit = "3") InteropLibrary interop,
+                    @Cached InlinedBranchProfile errorProfile) {
+        if (!hasBuffer(receiver, inliningTarget, isForeignObjectNode, interop)) {
+            throw PRaiseNode.raiseStatic(inliningTarget, TypeError, ErrorMessages.BYTESLIKE_OBJ_REQUIRED, receiver);
+        }
+        try {
+            boolean readonly = !interop.isBufferWritable(receiver);
+            if (readonly && (flags & BufferFlags.PyBUF_WRITABLE) != 0) {
+                throw PRaiseNode.raiseStatic(inliningTarget, BufferError, ErrorMessages.OBJ_IS_NOT_WRITABLE);
+            }
+            int length = PInt.long2int(inliningTarget, interop.getBufferSize(receiver), errorProfile);
+            return new ForeignBuffer(receiver, length, readonly);
+        } catch (UnsupportedMessageException e) {
+            throw CompilerDirectives.shouldNotReachHere(e);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026, Oracle and/or its affiliates.
  * Copyright (c) 2014, Regents of the University of California
  *
  * All rights reserved.
@@ -63,7 +63,6 @@ import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes.GetInternalByteArrayNode;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes.SequenceStorageMpSubscriptNode;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes.SequenceStorageSqItemNode;
-import com.oracle.graal.python.builtins.objects.iterator.IteratorNodes;
 import com.oracle.graal.python.builtins.objects.list.PList;
 import com.oracle.graal.python.builtins.objects.slice.PSlice;
 import com.oracle.graal.python.builtins.objects.slice.PSlice.SliceInfo;
@@ -447,21 +446,25 @@ public final class ByteArrayBuiltins extends PythonBuiltins {
                 bufferLib.release(otherBuffer, frame, indirectCallData);
             }
         }
+    }
 
-        private static PByteArray extendWithBuffer(PByteArray self, Object otherBuffer, Node inliningTarget, SequenceStorageNodes.EnsureCapacityNode ensureCapacityNode,
-                        PythonBufferAccessLibrary bufferLib, PRaiseNode raiseNode) {
-            self.checkCanResize(inliningTarget, raiseNode);
-            try {
-                int len = self.getSequenceStorage().length();
-                int otherLen = bufferLib.getBufferLength(otherBuffer);
-                int newLen = PythonUtils.addExact(len, otherLen);
-                ensureCapacityNode.execute(inliningTarget, self.getSequenceStorage(), newLen);
-                self.getSequenceStorage().setNewLength(newLen);
-                bufferLib.readIntoBuffer(otherBuffer, 0, self, len, otherLen, bufferLib);
-                return self;
-            } catch (OverflowException e) {
-                throw raiseNode.raise(inliningTarget, MemoryError);
-            }
+    /**
+     * Appends the contents of a buffer in place, growing the storage by the amortized policy of
+     * {@link SequenceStorageNodes.EnsureCapacityNode} and copying straight from the buffer.
+     */
+    static PByteArray extendWithBuffer(PByteArray self, Object otherBuffer, Node inliningTarget, SequenceStorageNodes.EnsureCapacityNode ensureCapacityNode,
+                    PythonBufferAccessLibrary bufferLib, PRaiseNode raiseNode) {
+        self.checkCanResize(inliningTarget, raiseNode);
+        try {
+            int len = self.getSequenceStorage().length();
+            int otherLen = bufferLib.getBufferLength(otherBuffer);
+            int newLen = PythonUtils.addExact(len, otherLen);
+            ensureCapacityNode.execute(inliningTarget, self.getSequenceStorage(), newLen);
+            self.getSequenceStorage().setNewLength(newLen);
+            bufferLib.readIntoBuffer(otherBuffer, 0, self, len, otherLen, bufferLib);
+            return self;
+        } catch (OverflowException e) {
+            throw raiseNode.raise(inliningTarget, MemoryError);
         }
     }
 
@@ -596,14 +599,12 @@ public final class ByteArrayBuiltins extends PythonBuiltins {
     public abstract static class ExtendNode extends PythonBinaryBuiltinNode {
 
         @Specialization
-        static PNone doBytes(VirtualFrame frame, PByteArray self, PBytesLike source,
+        static PNone doBytes(PByteArray self, PBytesLike source,
                         @Bind Node inliningTarget,
-                        @Cached IteratorNodes.GetLength lenNode,
-                        @Cached("createExtend()") @Shared SequenceStorageNodes.ExtendNode extendNode,
+                        @Shared @Cached SequenceStorageNodes.EnsureCapacityNode ensureCapacityNode,
+                        @Shared @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
                         @Exclusive @Cached PRaiseNode raiseNode) {
-            self.checkCanResize(inliningTarget, raiseNode);
-            int len = lenNode.execute(frame, inliningTarget, source);
-            extend(frame, self, source, len, extendNode);
+            extendWithBuffer(self, source, inliningTarget, ensureCapacityNode, bufferLib, raiseNode);
             return PNone.NONE;
         }
 
@@ -613,29 +614,29 @@ public final class ByteArrayBuiltins extends PythonBuiltins {
                         @Bind PythonLanguage language,
                         @Cached("createFor($node)") IndirectCallData indirectCallData,
                         @CachedLibrary("source") PythonBufferAcquireLibrary bufferAcquireLib,
-                        @CachedLibrary(limit = "1") PythonBufferAccessLibrary bufferLib,
+                        @Shared @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
                         @Cached InlinedConditionProfile bufferProfile,
                         @Cached BytesNodes.IterableToByteNode iterableToByteNode,
                         @Cached IsBuiltinObjectProfile errorProfile,
-                        @Cached("createExtend()") @Shared SequenceStorageNodes.ExtendNode extendNode,
+                        @Shared @Cached SequenceStorageNodes.EnsureCapacityNode ensureCapacityNode,
+                        @Cached("createExtend()") SequenceStorageNodes.ExtendNode extendNode,
                         @Exclusive @Cached PRaiseNode raiseNode) {
             self.checkCanResize(inliningTarget, raiseNode);
-            byte[] b;
             if (bufferProfile.profile(inliningTarget, bufferAcquireLib.hasBuffer(source))) {
                 Object buffer = bufferAcquireLib.acquireReadonly(source, frame, indirectCallData);
                 try {
-                    // TODO avoid copying
-                    b = bufferLib.getCopiedByteArray(buffer);
+                    extendWithBuffer(self, buffer, inliningTarget, ensureCapacityNode, bufferLib, raiseNode);
                 } finally {
                     bufferLib.release(buffer, frame, indirectCallData);
                 }
-            } else {
-                try {
-                    b = iterableToByteNode.execute(frame, source);
-                } catch (PException e) {
-                    e.expect(inliningTarget, TypeError, errorProfile);
-                    throw raiseNode.raise(inliningTarget, TypeError, ErrorMessages.CANT_EXTEND_BYTEARRAY_WITH_P, source);
-                }
+                return PNone.NONE;
+            }
+            byte[] b;
+            try {
+                b = iterableToByteNode.execute(frame, source);
+            } catch (PException e) {
+                e.expect(inliningTarget, TypeError, errorProfile);
+                throw raiseNode.raise(inliningTarget, TypeError, ErrorMessages.CANT_EXTEND_BYTEARRAY_WITH_P, source);
             }
             PByteArray bytes = PFactory.createByteArray(language, b);
             extend(frame, self, bytes, b.length, extendNode);
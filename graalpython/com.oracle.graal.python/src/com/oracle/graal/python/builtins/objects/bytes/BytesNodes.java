@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -49,13 +49,13 @@ import static com.oracle.graal.python.nodes.ErrorMessages.NON_HEX_NUMBER_IN_FROM
 import static com.oracle.graal.python.nodes.StringLiterals.T_EMPTY_STRING;
 import static com.oracle.graal.python.nodes.StringLiterals.T_STRICT;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.MemoryError;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.OverflowError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.TypeError;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
 import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 import static com.oracle.graal.python.util.PythonUtils.arrayCopyOf;
 import static com.oracle.truffle.api.CompilerDirectives.shouldNotReachHere;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 
 import com.oracle.graal.python.PythonLanguage;
@@ -72,6 +72,7 @@ import com.oracle.graal.python.builtins.objects.bytes.BytesNodesFactory.ToBytesN
 import com.oracle.graal.python.builtins.objects.bytes.BytesNodesFactory.ToBytesWithoutFrameNodeGen;
 import com.oracle.graal.python.builtins.objects.cext.PythonAbstractNativeObject;
 import com.oracle.graal.python.builtins.objects.cext.structs.CStructAccess;
+import com.oracle.graal.python.builtins.objects.common.SequenceNodes.GetObjectArrayNode;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes.GetInternalByteArrayNode;
 import com.oracle.graal.python.builtins.objects.iterator.IteratorNodes;
@@ -82,10 +83,12 @@ import com.oracle.graal.python.lib.PyByteArrayCheckNode;
 import com.oracle.graal.python.lib.PyBytesCheckNode;
 import com.oracle.graal.python.lib.PyIndexCheckNode;
 import com.oracle.graal.python.lib.PyIterNextNode;
+import com.oracle.graal.python.lib.PyListCheckExactNode;
 import com.oracle.graal.python.lib.PyNumberAsSizeNode;
 import com.oracle.graal.python.lib.PyOSFSPathNode;
 import com.oracle.graal.python.lib.PyObjectGetIter;
 import com.oracle.graal.python.lib.PyUnicodeCheckNode;
+import com.oracle.graal.python.lib.PyTupleCheckExactNode;
 import com.oracle.graal.python.lib.RichCmpOp;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PGuards;
@@ -173,55 +176,121 @@ public abstract class BytesNodes {
         }
     }
 
-    @GenerateInline
-    @GenerateCached(false)
+    /**
+     * Joins bytes-like objects with a separator. Like CPython, the items are collected first, then
+     * the buffers of all items are acquired so that the result can be allocated with its exact
+     * size, and finally each part is copied into the result straight from its buffer.
+     */
+    @GenerateInline(false)
     @ImportStatic(PythonOptions.class)
     public abstract static class BytesJoinNode extends PNodeWithContext {
 
-        public abstract byte[] execute(VirtualFrame frame, Node inliningTarget, byte[] sep, Object iterable);
+        public abstract byte[] execute(VirtualFrame frame, byte[] sep, Object iterable);
 
         @Specialization
-        static byte[] join(VirtualFrame frame, Node inliningTarget, byte[] sep, Object iterable,
+        static byte[] join(VirtualFrame frame, byte[] sep, Object iterable,
+                        @Bind Node inliningTarget,
+                        @Cached("createFor($node)") IndirectCallData indirectCallData,
+                        @Cached JoinItemsNode getItems,
+                        @Cached InlinedConditionProfile isBytesLikeProfile,
+                        @CachedLibrary(limit = "3") PythonBufferAcquireLibrary bufferAcquireLib,
+                        @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                        @Cached PRaiseNode raiseNode) {
+            Object[] items = getItems.execute(frame, inliningTarget, iterable);
+            int count = items.length;
+            Object[] buffers = new Object[count];
+            int[] lengths = new int[count];
+            int acquired = 0;
+            try {
+                long total = count > 0 ? (long) (count - 1) * sep.length : 0;
+                for (; acquired < count; acquired++) {
+                    Object item = items[acquired];
+                    Object buffer;
+                    if (isBytesLikeProfile.profile(inliningTarget, item instanceof PBytesLike)) {
+                        // bytes and bytearray are their own buffers
+                        buffer = item;
+                    } else {
+                        try {
+                            buffer = bufferAcquireLib.acquireReadonly(item, frame, indirectCallData);
+                        } catch (PException e) {
+                            throw raiseNode.raise(inliningTarget, TypeError, EXPECTED_BYTESLIKE_GOT_P, item);
+                        }
+                    }
+                    buffers[acquired] = buffer;
+                    lengths[acquired] = bufferLib.getBufferLength(buffer);
+                    total += lengths[acquired];
+                }
+                if (total > Integer.MAX_VALUE) {
+                    throw raiseNode.raise(inliningTarget, OverflowError, ErrorMessages.RESULT_TOO_LONG);
+                }
+                byte[] result = new byte[(int) total];
+                int offset = 0;
+                for (int i = 0; i < count; i++) {
+                    if (i > 0) {
+                        PythonUtils.arraycopy(sep, 0, result, offset, sep.length);
+                        offset += sep.length;
+                    }
+                    // a bytearray could have been resized by an acquire of a later item
+                    int len = Math.min(lengths[i], bufferLib.getBufferLength(buffers[i]));
+                    bufferLib.readIntoByteArray(buffers[i], 0, result, offset, len);
+                    offset += lengths[i];
+                }
+                return result;
+            } finally {
+                for (int i = 0; i < acquired; i++) {
+                    if (!(buffers[i] instanceof PBytesLike)) {
+                        bufferLib.release(buffers[i], frame, indirectCallData);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Equivalent of {@code PySequence_Fast} for join: returns the items of exact lists and tuples
+     * without iterating over them, other iterables are consumed into a new array.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class JoinItemsNode extends Node {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        public abstract Object[] execute(VirtualFrame frame, Node inliningTarget, Object iterable);
+
+        @Specialization(guards = "isExactListOrTuple(inliningTarget, iterable, checkList, checkTuple)")
+        static Object[] doSequence(Node inliningTarget, Object iterable,
+                        @SuppressWarnings("unused") @Shared @Cached PyListCheckExactNode checkList,
+                        @SuppressWarnings("unused") @Shared @Cached PyTupleCheckExactNode checkTuple,
+                        @Cached GetObjectArrayNode getObjectArrayNode) {
+            return getObjectArrayNode.execute(inliningTarget, iterable);
+        }
+
+        @Specialization(guards = "!isExactListOrTuple(inliningTarget, iterable, checkList, checkTuple)")
+        static Object[] doIterable(VirtualFrame frame, Node inliningTarget, Object iterable,
+                        @SuppressWarnings("unused") @Shared @Cached PyListCheckExactNode checkList,
+                        @SuppressWarnings("unused") @Shared @Cached PyTupleCheckExactNode checkTuple,
                         @Cached PyObjectGetIter getIter,
-                        @Cached PyIterNextNode nextNode,
-                        @Cached(inline = false) ToBytesNode toBytesNode) {
-            ArrayList<byte[]> parts = new ArrayList<>();
-            int partsTotalSize = 0;
+                        @Cached PyIterNextNode nextNode) {
             Object iterator = getIter.execute(frame, inliningTarget, iterable);
+            Object[] items = new Object[INITIAL_CAPACITY];
+            int count = 0;
             while (true) {
                 Object next;
                 try {
                     next = nextNode.execute(frame, inliningTarget, iterator);
                 } catch (IteratorExhausted e) {
-                    return joinArrays(sep, parts, partsTotalSize);
+                    return count == items.length ? items : arrayCopyOf(items, count);
+                }
+                if (count == items.length) {
+                    items = arrayCopyOf(items, count * 2);
                 }
-                partsTotalSize += append(parts, toBytesNode.execute(frame, next));
+                items[count++] = next;
             }
         }
 
-        @TruffleBoundary(allowInlining = true)
-        private static int append(ArrayList<byte[]> parts, byte[] barr) {
-            parts.add(barr);
-            return barr.length;
-        }
-
-        @TruffleBoundary(allowInlining = true)
-        private static byte[] joinArrays(byte[] sep, ArrayList<byte[]> parts, int partsTotalSize) {
-            byte[] joinedBytes = new byte[Math.max(0, partsTotalSize + (parts.size() - 1) * sep.length)];
-            if (parts.size() > 0) {
-                int offset = 0;
-                byte[] array = parts.get(0);
-                PythonUtils.arraycopy(array, 0, joinedBytes, offset, array.length);
-                offset += array.length;
-                for (int i = 1; i < parts.size(); i++) {
-                    array = parts.get(i);
-                    PythonUtils.arraycopy(sep, 0, joinedBytes, offset, sep.length);
-                    offset += sep.length;
-                    PythonUtils.arraycopy(array, 0, joinedBytes, offset, array.length);
-                    offset += array.length;
-                }
-            }
-            return joinedBytes;
+        static boolean isExactListOrTuple(Node inliningTarget, Object iterable, PyListCheckExactNode checkList, PyTupleCheckExactNode checkTuple) {
+            return checkList.execute(inliningTarget, iterable) || checkTuple.execute(inliningTarget, iterable);
         }
     }
 
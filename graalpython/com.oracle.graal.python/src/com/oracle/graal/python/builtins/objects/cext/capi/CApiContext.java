@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -55,6 +55,10 @@ import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.lang.invoke.VarHandle;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -69,6 +73,12 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
 import org.graalvm.collections.Pair;
 import org.graalvm.shadowed.com.ibm.icu.impl.Punycode;
 import org.graalvm.shadowed.com.ibm.icu.text.StringPrepParseException;
@@ -138,6 +148,7 @@ import com.oracle.truffle.api.TruffleLogger;
 import com.oracle.truffle.api.TruffleSafepoint;
 import com.oracle.truffle.api.exception.AbstractTruffleException;
 import com.oracle.truffle.api.interop.ArityException;
+import com.oracle.truffle.api.interop.InteropException;
 import com.oracle.truffle.api.interop.InteropLibrary;
 import com.oracle.truffle.api.interop.InvalidArrayIndexException;
 import com.oracle.truffle.api.interop.TruffleObject;
@@ -338,6 +349,7 @@ public final class CApiContext extends CExtContext {
 
     public final BackgroundGCTask gcTask;
     private Thread backgroundGCTaskThread;
+    private Thread backgroundReferenceQueueThread;
 
     public static TruffleLogger getLogger(Class<?> clazz) {
         return PythonLanguage.getLogger(LOGGER_CAPI_NAME + "." + clazz.getSimpleName());
@@ -715,58 +727,143 @@ public final class CApiContext extends CExtContext {
         // TODO(fa): implement untracking of container objects
     }
 
-    private static final class BackgroundGCTask extends PythonSystemThreadTask {
+    /**
+     * Watches the native memory of the process. Native memory is often only kept alive by managed
+     * objects that are already dead, or by reference cycles that go through native objects. The
+     * Java GC does not see any pressure in such cases because the managed objects are small.
+     * <p>
+     * The primary signal is the memory allocated through the GraalPy raw allocator (see
+     * {@code obmalloc.c}). Extensions may also allocate with {@code malloc} or {@code mmap}
+     * directly, so the resident set size (RSS) is watched as a fallback with its own, higher
+     * minimum. If either grows by more than {@link #growthThreshold}, we first let the Python
+     * thread run the native cycle collector over the objects tracked by {@link CApiGCSupport} and
+     * release the dead references. Only if this reduces neither, we fall back to a full Java GC.
+     * <p>
+     * A major Java GC reported through the {@link GarbageCollectorMXBean} notifications already
+     * enqueued the dead references, so it only resets the baselines. Minor collections are ignored
+     * because they rarely free the managed objects that keep native memory alive.
+     */
+    private static final class BackgroundGCTask extends PythonSystemThreadTask implements NotificationListener {
+
+        private static final String GC_NOTIFICATION = "com.sun.management.gc.notification";
+        private static final String END_OF_MAJOR_GC = "end of major GC";
 
         private BackgroundGCTask(PythonContext context) {
             super("Python GC", LOGGER);
             this.ctx = new WeakReference<>(context);
-            this.rssInterval = context.getOption(PythonOptions.BackgroundGCTaskInterval);
-            this.gcRSSThreshold = context.getOption(PythonOptions.BackgroundGCTaskThreshold) / (double) 100;
-            this.gcRSSMinimum = context.getOption(PythonOptions.BackgroundGCTaskMinimum);
+            this.interval = context.getOption(PythonOptions.BackgroundGCTaskInterval);
+            this.growthThreshold = context.getOption(PythonOptions.BackgroundGCTaskThreshold) / (double) 100;
+            this.nativeMinimum = context.getOption(PythonOptions.BackgroundGCTaskNativeMinimum) * 1024L * 1024L;
+            this.rssMinimum = context.getOption(PythonOptions.BackgroundGCTaskMinimum);
         }
 
         Object nativeSymbol = null;
         InteropLibrary callNative = null;
-
-        long currentRSS = -1;
-        long previousRSS = -1;
-        int previousWeakrefCount = -1;
+        Object rssSymbol = null;
+        InteropLibrary callRSS = null;
 
         final WeakReference<PythonContext> ctx;
 
-        // RSS monitor interval in ms
-        final int rssInterval;
+        // monitor interval in ms
+        final int interval;
+
         /**
-         * RSS percentage increase between System.gc() calls. Low percentage will trigger
-         * System.gc() more often which can cause unnecessary overhead.
+         * Percentage increase of native memory or RSS since the last collection that triggers the
+         * next one. A low percentage will collect more often which can cause unnecessary overhead.
          *
          * <ul>
-         * Based on the {@code huggingface} example:
+         * Based on the {@code huggingface} example (RSS only):
          * <li>less than 30%: max RSS ~22GB (>200 second per iteration)</li>
          * <li>30%: max RSS ~24GB (~150 second per iteration)</li>
          * <li>larger than 30%: max RSS ~38GB (~140 second per iteration)</li>
          * </ul>
-         *
-         * <pre>
          */
-        final double gcRSSThreshold;
+        final double growthThreshold;
 
         /**
-         * RSS minimum memory (in megabytes) start calling System.gc(). Default is 4GB.
+         * Native memory (in bytes) allocated through the GraalPy raw allocator below which we never
+         * collect.
          */
-        final double gcRSSMinimum;
+        final long nativeMinimum;
+
+        /**
+         * RSS (in megabytes) below which the RSS fallback never collects. Default is 4GB.
+         */
+        final long rssMinimum;
+
+        /** Native memory after the last collection. */
+        long baseline = -1;
+        /** RSS (in megabytes) after the last collection. */
+        long rssBaseline = -1;
+        int baselineWeakrefCount = -1;
+
+        /** Native memory and RSS at the time the cycle collection was requested, or {@code -1}. */
+        long cycleCollectionRequestedAt = -1;
+        long cycleCollectionRequestedAtRSS = -1;
+
+        /** Set by this task and cleared by the Python thread once it collected the cycles. */
+        volatile boolean cycleCollectionRequested;
 
-        Long getCurrentRSS() {
+        /** Set by the GC notification listener after a major Java GC. */
+        volatile boolean majorGCOccurred;
+
+        long getAllocatedMemory() {
             if (nativeSymbol == null) {
-                nativeSymbol = CApiContext.getNativeSymbol(null, NativeCAPISymbol.FUN_GET_CURRENT_RSS);
+                nativeSymbol = CApiContext.getNativeSymbol(null, NativeCAPISymbol.FUN_GET_ALLOCATED_MEMORY);
                 callNative = InteropLibrary.getUncached(nativeSymbol);
             }
-            Long rss = 0L;
             try {
-                rss = (Long) callNative.execute(nativeSymbol);
+                return (long) callNative.execute(nativeSymbol);
+            } catch (Exception ignored) {
+                return -1;
+            }
+        }
+
+        long getCurrentRSS() {
+            if (rssSymbol == null) {
+                rssSymbol = CApiContext.getNativeSymbol(null, NativeCAPISymbol.FUN_GET_CURRENT_RSS);
+                callRSS = InteropLibrary.getUncached(rssSymbol);
+            }
+            try {
+                return (long) callRSS.execute(rssSymbol);
             } catch (Exception ignored) {
+                return 0;
+            }
+        }
+
+        @Override
+        public void handleNotification(Notification notification, Object handback) {
+            if (GC_NOTIFICATION.equals(notification.getType()) && notification.getUserData() instanceof CompositeData info &&
+                            END_OF_MAJOR_GC.equals(info.get("gcAction"))) {
+                majorGCOccurred = true;
+            }
+        }
+
+        void addGCNotificationListener() {
+            try {
+                for (GarbageCollectorMXBean gcbean : ManagementFactory.getGarbageCollectorMXBeans()) {
+                    if (gcbean instanceof NotificationEmitter emitter) {
+                        emitter.addNotificationListener(this, null, null);
+                    }
+                }
+            } catch (RuntimeException | LinkageError e) {
+                // notifications are not available on every VM, we then only rely on sampling
+                LOGGER.finer(() -> "Background GC Task -- cannot listen to GC notifications: " + e);
+            }
+        }
+
+        void removeGCNotificationListener() {
+            try {
+                for (GarbageCollectorMXBean gcbean : ManagementFactory.getGarbageCollectorMXBeans()) {
+                    if (gcbean instanceof NotificationEmitter emitter) {
+                        try {
+                            emitter.removeNotificationListener(this);
+                        } catch (ListenerNotFoundException ignored) {
+                        }
+                    }
+                }
+            } catch (RuntimeException | LinkageError ignored) {
             }
-            return rss;
         }
 
         @Override
@@ -776,7 +873,7 @@ public final class CApiContext extends CExtContext {
                 return;
             }
             while (true) {
-                TruffleSafepoint.setBlockedThreadInterruptible(location, Thread::sleep, rssInterval);
+                TruffleSafepoint.setBlockedThreadInterruptible(location, Thread::sleep, interval);
                 perform();
             }
         }
@@ -789,81 +886,169 @@ public final class CApiContext extends CExtContext {
             return context.getLanguage().unavailableSafepointLocation;
         }
 
+        private void resetBaseline(PythonContext context, long allocated, long rss) {
+            baseline = allocated;
+            rssBaseline = rss;
+            baselineWeakrefCount = context.nativeContext.nativeLookup.size();
+            cycleCollectionRequestedAt = -1;
+            cycleCollectionRequestedAtRSS = -1;
+        }
+
+        private boolean exceedsThreshold(long current, long base, long min) {
+            return current >= min && current - base >= (long) (base * growthThreshold);
+        }
+
         private void perform() {
             PythonContext context = ctx.get();
             if (context == null) {
                 return;
             }
 
-            long rss = currentRSS = getCurrentRSS();
-            if (rss == 0) {
-                LOGGER.finer("We are unable to get resident set size (RSS) from the system. " +
-                                "We will skip the java collection routine.");
+            long allocated = getAllocatedMemory();
+            long rss = getCurrentRSS();
+            if (allocated < 0 && rss == 0) {
+                LOGGER.finer("We are unable to get the allocated native memory or the resident set size (RSS). We will skip the collection routine.");
                 Thread.currentThread().interrupt();
                 return;
             }
 
-            // reset RSS baseline
-            if (rss < this.previousRSS || this.previousRSS == -1) {
-                this.previousRSS = rss;
+            /*
+             * After a major Java GC, the dead references are already enqueued and will be released
+             * by the Python thread. Another collection would only add pauses. Otherwise, only a
+             * drop moves a baseline down.
+             */
+            if (majorGCOccurred) {
+                majorGCOccurred = false;
+                resetBaseline(context, allocated, rss);
+                return;
+            }
+            if (baseline == -1 && rssBaseline == -1) {
+                resetBaseline(context, allocated, rss);
                 return;
             }
+            baseline = Math.min(baseline, allocated);
+            rssBaseline = Math.min(rssBaseline, rss);
 
-            if (rss < gcRSSMinimum) {
+            boolean nativeGrew = allocated >= 0 && exceedsThreshold(allocated, baseline, nativeMinimum);
+            boolean rssGrew = rss > 0 && exceedsThreshold(rss, rssBaseline, rssMinimum);
+            if (!nativeGrew && !rssGrew) {
                 return;
             }
 
-            // skip GC if no new native weakrefs have been created.
-            int currentWeakrefCount = context.nativeContext.nativeLookup.size();
-            if (currentWeakrefCount < this.previousWeakrefCount || this.previousWeakrefCount == -1) {
-                this.previousWeakrefCount = currentWeakrefCount;
+            if (cycleCollectionRequestedAt == -1 && cycleCollectionRequestedAtRSS == -1) {
+                LOGGER.finer(() -> PythonUtils.formatJString("Background GC Task -- native memory [%d MB]->[%d MB] RSS [%d MB]->[%d MB], requesting cycle collection",
+                                baseline >> 20, allocated >> 20, rssBaseline, rss));
+                cycleCollectionRequestedAt = allocated;
+                cycleCollectionRequestedAtRSS = rss;
+                cycleCollectionRequested = true;
+                return;
+            }
+            if (cycleCollectionRequested) {
+                // the Python thread did not get to it yet
+                return;
+            }
+            if ((nativeGrew && allocated < cycleCollectionRequestedAt) || (!nativeGrew && rss < cycleCollectionRequestedAtRSS)) {
+                resetBaseline(context, allocated, rss);
                 return;
             }
 
-            double ratio = ((rss - this.previousRSS) / (double) this.previousRSS);
-            if (ratio >= gcRSSThreshold) {
-                this.previousWeakrefCount = currentWeakrefCount;
+            // skip GC if no new native weakrefs have been created.
+            if (context.nativeContext.nativeLookup.size() <= baselineWeakrefCount) {
+                resetBaseline(context, allocated, rss);
+                return;
+            }
 
-                long start = System.nanoTime();
-                PythonUtils.forceFullGC();
-                long gcTime = (System.nanoTime() - start) / 1000000;
+            long start = System.nanoTime();
+            PythonUtils.forceFullGC();
+            long gcTime = (System.nanoTime() - start) / 1000000;
+            if (LOGGER.isLoggable(Level.FINER)) {
+                LOGGER.finer(PythonUtils.formatJString("Background GC Task -- GC [%d ms] native memory [%d MB]->[%d MB] RSS [%d MB]->[%d MB]",
+                                gcTime, baseline >> 20, allocated >> 20, rssBaseline, rss));
+            }
+            // the forced GC is a major GC, too
+            majorGCOccurred = false;
+            /*
+             * RSS includes file mappings that the GC cannot reduce, so it does not go down easily.
+             * Cap its baseline increase to the threshold such that we collect again if it keeps
+             * growing; a lower RSS in subsequent samples moves the baseline down anyway.
+             */
+            long nextRSSBaseline = rssBaseline + (long) (rssBaseline * growthThreshold);
+            resetBaseline(context, allocated, Math.min(rss, nextRSSBaseline));
+        }
 
-                if (LOGGER.isLoggable(Level.FINER)) {
-                    LOGGER.info(PythonUtils.formatJString("Background GC Task -- GC [%d ms] RSS [%d MB]->[%d MB](%.1f%%)",
-                                    gcTime, previousRSS, rss, ratio * 100));
+        /**
+         * Runs on the Python thread (holding the GIL) if {@link #cycleCollectionRequested} is set.
+         */
+        private void collectCycles(PythonContext context) {
+            try {
+                if (context.getLanguage().getEngineOption(PythonOptions.PythonGC)) {
+                    Object nativeThreadState = PThreadState.getNativeThreadState(context.getThreadState(context.getLanguage()));
+                    if (nativeThreadState != null) {
+                        PCallCapiFunction.callUncached(NativeCAPISymbol.FUN_PY_GC_COLLECT_NO_FAIL, nativeThreadState);
+                    }
                 }
-                /*
-                 * cap the previous RSS increase to GC_RSS_THRESHOLD. If the ratio is much larger
-                 * than GC_RSS_THRESHOLD, then we should do GC more frequently. Though, if we get a
-                 * lower RSS in subsequent runs, the lower RSS will be set as previous RSS (see
-                 * above).
-                 *
-                 * Note: Resident Set Size (RSS) in the system isn't always an accurate indication
-                 * of used memory but rather a combination of anonymous memory (RssAnon), file
-                 * mappings (RssFile) and shmem memory (RssShmem). GC can only reduce RssAnon while
-                 * RssFile is managed by the operating system which doesn't go down easily.
-                 */
-                this.previousRSS += (long) (this.previousRSS * gcRSSThreshold);
+                CApiTransitions.pollReferenceQueue(true);
+            } finally {
+                cycleCollectionRequested = false;
+            }
+        }
+    }
+
+    /**
+     * Removes dead references from {@link HandleContext#referenceQueue} as soon as the Java GC
+     * enqueues them, such that the Python thread never needs to wait for the reference queue's
+     * lock. Releasing the native resources needs the GIL and is done in batches by
+     * {@link CApiTransitions#pollReferenceQueue(boolean)}.
+     */
+    private static final class BackgroundReferenceQueueTask extends PythonSystemThreadTask {
+
+        private final HandleContext handleContext;
+        private final Node location;
+
+        private BackgroundReferenceQueueTask(PythonContext context) {
+            super("Python C API reference queue", LOGGER);
+            this.handleContext = context.nativeContext;
+            this.location = context.getLanguage().unavailableSafepointLocation;
+        }
+
+        @Override
+        protected void doRun() {
+            ReferenceQueue<Object> queue = handleContext.referenceQueue;
+            while (true) {
+                Reference<?> reference = TruffleSafepoint.setBlockedThreadInterruptibleFunction(location, ReferenceQueue::remove, queue);
+                do {
+                    handleContext.addCollectedReference(reference);
+                    reference = queue.poll();
+                } while (reference != null);
             }
         }
     }
 
+    void runBackgroundReferenceQueueTask(PythonContext context) {
+        CompilerAsserts.neverPartOfCompilation();
+        if (context.getEnv().isPreInitialization() //
+                        || context.getOption(PythonOptions.NoAsyncActions) //
+                        || !context.getOption(PythonOptions.BackgroundReferenceQueueTask)) {
+            return;
+        }
+        HandleContext handleContext = context.nativeContext;
+        handleContext.enableBackgroundCollection(Math.max(1, context.getOption(PythonOptions.BackgroundReferenceQueueBatchSize)));
+        backgroundReferenceQueueThread = context.createSystemThread(new BackgroundReferenceQueueTask(context));
+        backgroundReferenceQueueThread.start();
+        /*
+         * A partial batch must not stay around forever if there are no upcalls or downcalls, so we
+         * also release the collected references when async actions are processed.
+         */
+        context.registerAsyncAction(() -> handleContext.getCollectedReferencesCount() > 0 ? ctx -> CApiTransitions.pollReferenceQueue(true) : null);
+    }
+
     @TruffleBoundary
     public long getCurrentRSS() {
-        if (backgroundGCTaskThread != null && backgroundGCTaskThread.isAlive()) {
-            long rss = gcTask.currentRSS;
-            if (rss == -1) {
-                try {
-                    // in case it just started
-                    Thread.sleep(gcTask.rssInterval);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-                rss = gcTask.currentRSS;
-            }
-            return rss;
+        try {
+            return (long) InteropLibrary.getUncached().execute(getNativeSymbol(null, NativeCAPISymbol.FUN_GET_CURRENT_RSS));
+        } catch (InteropException e) {
+            return 0L;
         }
-        return 0L;
     }
 
     @SuppressFBWarnings(value = "NP_NULL_ON_SOME_PATH") // context.get() is never null here
@@ -877,6 +1062,8 @@ public final class CApiContext extends CExtContext {
         }
         backgroundGCTaskThread = context.createSystemThread(gcTask);
         backgroundGCTaskThread.start();
+        gcTask.addGCNotificationListener();
+        context.registerAsyncAction(() -> gcTask.cycleCollectionRequested ? gcTask::collectCycles : null);
     }
 
     /**
@@ -1021,6 +1208,7 @@ public final class CApiContext extends CExtContext {
             try {
                 cApiContext.addNativeFinalizer(context, finalizingPointer);
                 cApiContext.runBackgroundGCTask(context);
+                cApiContext.runBackgroundReferenceQueueTask(context);
             } catch (RuntimeException e) {
                 // This can happen when other languages restrict multithreading
                 LOGGER.warning(() -> "didn't register a native finalizer due to: " + e.getMessage());
@@ -1196,12 +1384,12 @@ public final class CApiContext extends CExtContext {
              * deallocating objects may run arbitrary guest code that can again call into the
              * interpreter.
              */
-            pollReferenceQueue();
+            pollReferenceQueue(true);
             PythonThreadState threadState = getContext().getThreadState(getContext().getLanguage());
             Object nativeThreadState = PThreadState.getNativeThreadState(threadState);
             if (nativeThreadState != null) {
                 PCallCapiFunction.callUncached(NativeCAPISymbol.FUN_PY_GC_COLLECT_NO_FAIL, nativeThreadState);
-                pollReferenceQueue();
+                pollReferenceQueue(true);
             }
             CApiTransitions.deallocateNativeWeakRefs(getContext());
         }
@@ -1212,6 +1400,7 @@ public final class CApiContext extends CExtContext {
         CompilerAsserts.neverPartOfCompilation();
         PythonContext context = getContext();
         HandleContext handleContext = context.nativeContext;
+        gcTask.removeGCNotificationListener();
         if (backgroundGCTaskThread != null && backgroundGCTaskThread.isAlive()) {
             context.killSystemThread(backgroundGCTaskThread);
             try {
@@ -1221,6 +1410,16 @@ public final class CApiContext extends CExtContext {
             }
             backgroundGCTaskThread = null;
         }
+        if (backgroundReferenceQueueThread != null && backgroundReferenceQueueThread.isAlive()) {
+            context.killSystemThread(backgroundReferenceQueueThread);
+            try {
+                backgroundReferenceQueueThread.join(10);
+            } catch (InterruptedException e) {
+                LOGGER.finest("got interrupt while joining reference queue thread before cleaning up C API state");
+            }
+            backgroundReferenceQueueThread = null;
+        }
+        handleContext.disableBackgroundCollection();
 
         /*
          * Disable reference queue polling because during finalization, we will free any known
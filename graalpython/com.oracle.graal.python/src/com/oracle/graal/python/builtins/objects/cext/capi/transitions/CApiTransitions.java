@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -43,14 +43,18 @@ package com.oracle.graal.python.builtins.objects.cext.capi.transitions;
 import static com.oracle.graal.python.builtins.objects.cext.capi.PythonNativeWrapper.PythonAbstractObjectNativeWrapper.IMMORTAL_REFCNT;
 import static com.oracle.graal.python.builtins.objects.cext.capi.PythonNativeWrapper.PythonAbstractObjectNativeWrapper.MANAGED_REFCNT;
 
+import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Set;
 import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
 import com.oracle.graal.python.PythonLanguage;
@@ -181,6 +185,79 @@ public abstract class CApiTransitions {
 
         volatile boolean referenceQueuePollActive = false;
 
+        /**
+         * Dead references that were already removed from {@link #referenceQueue} by the background
+         * reference queue task (see {@link PythonOptions#BackgroundReferenceQueueTask}). They are
+         * released in batches by {@link #pollReferenceQueue(boolean)}.
+         */
+        private final ConcurrentLinkedQueue<Reference<?>> collectedReferences = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger collectedReferencesCount = new AtomicInteger();
+        private volatile int collectedReferencesBatchSize = -1;
+
+        /*
+         * Statistics of 'pollReferenceQueue'. Those are only updated while holding the GIL, except
+         * of 'maxCollectedReferences' which is only written by the background task.
+         */
+        private long releasedReferences;
+        private long releaseBatches;
+        private long releaseNanos;
+        private long maxReleaseNanos;
+        private int maxCollectedReferences;
+
+        /**
+         * Enables batched releasing of references that are collected by a background thread. Until
+         * {@code batchSize} dead references are available, {@link #pollReferenceQueue()} will
+         * return immediately.
+         */
+        public void enableBackgroundCollection(int batchSize) {
+            assert batchSize > 0;
+            collectedReferencesBatchSize = batchSize;
+        }
+
+        public void disableBackgroundCollection() {
+            collectedReferencesBatchSize = -1;
+        }
+
+        /**
+         * Called from the background reference queue task for every reference it removed from
+         * {@link #referenceQueue}. Returns the number of references that are waiting to be
+         * released.
+         */
+        public int addCollectedReference(Reference<?> reference) {
+            collectedReferences.add(reference);
+            int pending = collectedReferencesCount.incrementAndGet();
+            if (pending > maxCollectedReferences) {
+                maxCollectedReferences = pending;
+            }
+            return pending;
+        }
+
+        public int getCollectedReferencesCount() {
+            return collectedReferencesCount.get();
+        }
+
+        private Reference<?> pollCollectedReference() {
+            Reference<?> reference = collectedReferences.poll();
+            if (reference != null) {
+                collectedReferencesCount.decrementAndGet();
+                return reference;
+            }
+            return referenceQueue.poll();
+        }
+
+        @TruffleBoundary
+        public LinkedHashMap<String, Object> getReferenceQueueStats() {
+            LinkedHashMap<String, Object> stats = new LinkedHashMap<>();
+            stats.put("background_collection", collectedReferencesBatchSize > 0);
+            stats.put("pending", collectedReferencesCount.get());
+            stats.put("max_pending", maxCollectedReferences);
+            stats.put("released", releasedReferences);
+            stats.put("batches", releaseBatches);
+            stats.put("time_ns", releaseNanos);
+            stats.put("max_batch_time_ns", maxReleaseNanos);
+            return stats;
+        }
+
         @TruffleBoundary
         public static <T> T putShadowTable(HashMap<Long, T> table, long pointer, T ref) {
             return table.put(pointer, ref);
@@ -406,25 +483,43 @@ public abstract class CApiTransitions {
     }
 
     @TruffleBoundary
-    @SuppressWarnings("try")
     public static int pollReferenceQueue() {
+        return pollReferenceQueue(false);
+    }
+
+    /**
+     * Releases the native resources of all dead references. If the background reference queue task
+     * is running, the references it collected are only released once a full batch is available,
+     * unless {@code force} is {@code true}.
+     */
+    @TruffleBoundary
+    @SuppressWarnings("try")
+    public static int pollReferenceQueue(boolean force) {
         PythonContext context = PythonContext.get(null);
         HandleContext handleContext = context.nativeContext;
         int manuallyCollected = 0;
+        int batchSize = handleContext.collectedReferencesBatchSize;
+        if (!force && batchSize > 0 && handleContext.collectedReferencesCount.get() < batchSize) {
+            return manuallyCollected;
+        }
         if (!handleContext.referenceQueuePollActive) {
             try (GilNode.UncachedAcquire ignored = GilNode.uncachedAcquire()) {
-                ReferenceQueue<Object> queue = handleContext.referenceQueue;
                 int count = 0;
                 long start = 0;
                 NativeObjectReferenceArrayWrapper referencesToBeFreed = handleContext.referencesToBeFreed;
                 while (true) {
-                    Object entry = queue.poll();
+                    Object entry = handleContext.pollCollectedReference();
                     if (entry == null) {
                         if (count > 0) {
                             assert handleContext.referenceQueuePollActive;
                             releaseNativeObjects(context, referencesToBeFreed);
                             handleContext.referenceQueuePollActive = false;
-                            LOGGER.fine("collected " + count + " references from native reference queue in " + ((System.nanoTime() - start) / 1000000) + "ms");
+                            long time = System.nanoTime() - start;
+                            handleContext.releasedReferences += count;
+                            handleContext.releaseBatches++;
+                            handleContext.releaseNanos += time;
+                            handleContext.maxReleaseNanos = Math.max(handleContext.maxReleaseNanos, time);
+                            LOGGER.fine("collected " + count + " references from native reference queue in " + (time / 1000000) + "ms");
                         }
                         return manuallyCollected;
                     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026, Oracle and/or its affiliates.
  * Copyright (c) 2013, Regents of the University of California
  *
  * All rights reserved.
@@ -824,12 +824,8 @@ public abstract class SequenceStorageNodes {
         @Specialization
         protected static SequenceStorage doForeign(ForeignSequenceStorage storage, int start, @SuppressWarnings("unused") int stop, int step, int length,
                         @Bind Node inliningTarget,
-                        @Cached ForeignSequenceStorage.ReadNode readNode) {
-            Object[] newArray = new Object[length];
-            for (int i = start, j = 0; j < length; i += step, j++) {
-                newArray[j] = readNode.execute(inliningTarget, storage, i);
-            }
-            return new ObjectSequenceStorage(newArray);
+                        @Cached ForeignSequenceStorage.ToSequenceStorageNode toSequenceStorageNode) {
+            return toSequenceStorageNode.execute(inliningTarget, storage, start, step, length);
         }
 
         private static NativeBuffer doNativePrimitiveSliceInBound(PythonContext pythonCtx, int start, int step, int sliceLength, NativePrimitiveSequenceStorage storage) {
@@ -1531,10 +1527,25 @@ public abstract class SequenceStorageNodes {
             PythonUtils.arraycopy(srcArray, srcPos, distArray, distPos, length);
         }
 
-        @Specialization(guards = {"length > 0", "!isArrayBasedSequenceStorage(dist) || dist.getClass() != src.getClass()"})
+        @Specialization(guards = "length > 0")
+        protected static void doForeign(Node inliningTarget, ForeignSequenceStorage dist, int distPos, SequenceStorage src, int srcPos, int length,
+                        @Cached ForeignSequenceStorage.WriteFromStorageNode writeFromStorageNode,
+                        @Shared @Cached SetItemScalarNode setLeftItemNode,
+                        @Shared @Cached GetItemScalarNode getRightItemNode) {
+            if (!writeFromStorageNode.execute(inliningTarget, dist, distPos, src, srcPos, length)) {
+                copyElements(inliningTarget, dist, distPos, src, srcPos, length, setLeftItemNode, getRightItemNode);
+            }
+        }
+
+        @Specialization(guards = {"length > 0", "!isForeignSequenceStorage(dist)", "!isArrayBasedSequenceStorage(dist) || dist.getClass() != src.getClass()"})
         protected static void doOther(Node inliningTarget, SequenceStorage dist, int distPos, SequenceStorage src, int srcPos, int length,
-                        @Cached SetItemScalarNode setLeftItemNode,
-                        @Cached GetItemScalarNode getRightItemNode) {
+                        @Shared @Cached SetItemScalarNode setLeftItemNode,
+                        @Shared @Cached GetItemScalarNode getRightItemNode) {
+            copyElements(inliningTarget, dist, distPos, src, srcPos, length, setLeftItemNode, getRightItemNode);
+        }
+
+        private static void copyElements(Node inliningTarget, SequenceStorage dist, int distPos, SequenceStorage src, int srcPos, int length,
+                        SetItemScalarNode setLeftItemNode, GetItemScalarNode getRightItemNode) {
             for (int cur = distPos, j = srcPos, i = 0; i < length; cur += 1, j++, i++) {
                 setLeftItemNode.execute(inliningTarget, dist, cur, getRightItemNode.execute(inliningTarget, src, j));
             }
@@ -1543,6 +1554,10 @@ public abstract class SequenceStorageNodes {
         protected static boolean isArrayBasedSequenceStorage(Object o) {
             return o instanceof ArrayBasedSequenceStorage;
         }
+
+        protected static boolean isForeignSequenceStorage(Object o) {
+            return o instanceof ForeignSequenceStorage;
+        }
     }
 
     @GenerateUncached
@@ -3364,12 +3379,8 @@ public abstract class SequenceStorageNodes {
 
         @Specialization
         static SequenceStorage doForeign(Node inliningTarget, ForeignSequenceStorage s,
-                        @Cached ForeignSequenceStorage.ReadNode readNode) {
-            Object[] objects = new Object[s.length()];
-            for (int i = 0; i < objects.length; i++) {
-                objects[i] = readNode.execute(inliningTarget, s, i);
-            }
-            return new ObjectSequenceStorage(objects);
+                        @Cached ForeignSequenceStorage.ToSequenceStorageNode toSequenceStorageNode) {
+            return toSequenceStorageNode.execute(inliningTarget, s);
         }
     }
 
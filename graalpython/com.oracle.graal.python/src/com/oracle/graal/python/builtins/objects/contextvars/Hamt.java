@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -128,6 +128,14 @@ public final class Hamt {
         }
     }
 
+    /**
+     * Keys are almost always {@link PContextVar}s, which compare by identity, so we avoid the
+     * generic rich comparison for the common case.
+     */
+    private static boolean keysEqual(Object a, Object b) {
+        return a == b || PyObjectRichCompareBool.executeEqUncached(a, b);
+    }
+
     private static BitmapPart bitmapPartsForPair(TreePart one, int hashOne, TreePart two, int hashTwo, int hashShift) {
         assert hashOne != hashTwo : "cannot work with colliding parts";
         int oneIdx = hashIdx(hashOne, hashShift);
@@ -147,7 +155,7 @@ public final class Hamt {
         if (original instanceof Entry) {
             Entry existing = (Entry) original;
             if (newEntry.hash == existing.hash) {
-                if (PyObjectRichCompareBool.executeEqUncached(newEntry.key, existing.key)) {
+                if (keysEqual(newEntry.key, existing.key)) {
                     return newEntry;
                 } else {
                     return new CollisionPart(existing.hash, existing, newEntry);
@@ -230,7 +238,7 @@ public final class Hamt {
         }
         if (part instanceof Entry) {
             Entry existing = (Entry) part;
-            if (existing.hash == hash && PyObjectRichCompareBool.executeEqUncached(existing.key, key)) {
+            if (existing.hash == hash && keysEqual(existing.key, key)) {
                 return existing.value;
             }
             return null;
@@ -256,7 +264,7 @@ public final class Hamt {
                 return null;
             }
             for (Entry entry : existing.elems) {
-                if (PyObjectRichCompareBool.executeEqUncached(entry.key, key)) {
+                if (keysEqual(entry.key, key)) {
                     return entry.value;
                 }
             }
@@ -325,7 +333,7 @@ public final class Hamt {
         }
         if (root instanceof Entry) {
             Entry existing = (Entry) root;
-            if (existing.hash == hash && PyObjectRichCompareBool.executeEqUncached(existing.key, key)) {
+            if (existing.hash == hash && keysEqual(existing.key, key)) {
                 return null;
             }
             return root;
@@ -369,7 +377,7 @@ public final class Hamt {
             CollisionPart existing = (CollisionPart) root;
             if (existing.hash == hash) {
                 for (int i = 0; i < existing.elems.length; ++i) {
-                    if (PyObjectRichCompareBool.executeEqUncached(existing.elems[i].key, key)) {
+                    if (keysEqual(existing.elems[i].key, key)) {
                         if (existing.elems.length == 1) {
                             return null;
                         }
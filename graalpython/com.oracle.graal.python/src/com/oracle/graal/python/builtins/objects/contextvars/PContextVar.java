@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2022, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -72,13 +72,42 @@ public final class PContextVar extends PythonBuiltinObject {
         return def;
     }
 
+    /**
+     * Result of the last lookup of this variable, the equivalent of CPython's {@code var_cached}.
+     * Since {@link Hamt} is immutable, the cached value is valid as long as the current context
+     * still holds the very same {@link Hamt} instance. Any {@code set} or {@code reset} in that
+     * context, or switching to a different context, replaces the instance and thus invalidates the
+     * cache. The pair is kept in a single immutable object so that threads sharing the variable
+     * never observe a value that doesn't belong to the {@link Hamt}.
+     */
+    private CachedLookup cachedLookup;
+
+    private static final class CachedLookup {
+        final Hamt hamt;
+        final Object value;
+
+        CachedLookup(Hamt hamt, Object value) {
+            this.hamt = hamt;
+            this.value = value;
+        }
+    }
+
     public Object getValue(Node node, PythonContext.PythonThreadState state) {
-        return state.getContextVarsContext(node).contextVarValues.lookup(this, getHash());
+        Hamt hamt = state.getContextVarsContext(node).contextVarValues;
+        CachedLookup cached = cachedLookup;
+        if (cached != null && cached.hamt == hamt) {
+            return cached.value;
+        }
+        Object value = hamt.lookup(this, getHash());
+        cachedLookup = new CachedLookup(hamt, value);
+        return value;
     }
 
     public void setValue(Node node, PythonContext.PythonThreadState state, Object value) {
         PContextVarsContext current = state.getContextVarsContext(node);
-        current.contextVarValues = current.contextVarValues.withEntry(new Hamt.Entry(this, getHash(), value));
+        Hamt newValues = current.contextVarValues.withEntry(new Hamt.Entry(this, getHash(), value));
+        current.contextVarValues = newValues;
+        cachedLookup = new CachedLookup(newValues, value);
     }
 
     public Object get(Node node, PythonContext.PythonThreadState state, Object defaultValue) {
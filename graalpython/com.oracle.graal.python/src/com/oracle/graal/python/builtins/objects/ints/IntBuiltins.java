@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -80,6 +80,7 @@ import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary
 import com.oracle.graal.python.builtins.objects.bytes.BytesNodes;
 import com.oracle.graal.python.builtins.objects.bytes.BytesNodes.BytesFromObject;
 import com.oracle.graal.python.builtins.objects.bytes.PBytes;
+import com.oracle.graal.python.builtins.objects.bytes.PBytesLike;
 import com.oracle.graal.python.builtins.objects.cext.PythonAbstractNativeObject;
 import com.oracle.graal.python.builtins.objects.cext.PythonNativeVoidPtr;
 import com.oracle.graal.python.builtins.objects.cext.capi.CExtNodes.FromNativeSubclassNode;
@@ -174,7 +175,6 @@ import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 import com.oracle.truffle.api.profiles.InlinedIntValueProfile;
 import com.oracle.truffle.api.strings.TruffleString;
 import com.oracle.truffle.api.strings.TruffleString.EqualNode;
-import com.oracle.truffle.api.strings.TruffleString.FromJavaStringNode;
 import com.oracle.truffle.api.strings.TruffleString.FromLongNode;
 
 @CoreFunctions(extendClasses = PythonBuiltinClassType.PInt)
@@ -2538,59 +2538,37 @@ public final class IntBuiltins extends PythonBuiltins {
                         PRaiseNode raiseNode) {
             BigInteger value = self.getValue();
             byte signByte = getSignByte(value, signed, inliningTarget);
+            // minimal big endian two's complement, we write it out with a single copy at most
             byte[] bytes = getBytes(value);
-            if (bytes.length > byteCount) {
-                // Check, whether we need to cut unneeded sign bytes.
-                int len = bytes.length;
-                int startIndex = 0;
-                if (!signed) {
-                    for (startIndex = 0; startIndex < bytes.length; startIndex++) {
-                        if (bytes[startIndex] != 0) {
-                            break;
-                        }
-                    }
-                    len = Math.max(bytes.length - startIndex, byteCount);
-                }
-                if (overflowProfile.profile(inliningTarget, len > byteCount)) {
-                    // the corrected len is still bigger then we need.
-                    throw raiseNode.raise(inliningTarget, PythonErrorType.OverflowError, ErrorMessages.MESSAGE_INT_TO_BIG);
-                }
-                // the array starts with sign bytes and has to be truncated to the requested
-                // size
-                byte[] tmp = bytes;
-                bytes = new byte[len];
-                PythonUtils.arraycopy(tmp, startIndex, bytes, 0, len);
+            int start = 0;
+            if (bytes[0] == 0 && (!signed || bytes.length == 1)) {
+                // the sign byte of a positive value is not needed when unsigned, zero needs no bytes
+                start = 1;
             }
-
+            int len = bytes.length - start;
+            if (overflowProfile.profile(inliningTarget, len > byteCount)) {
+                throw raiseNode.raise(inliningTarget, PythonErrorType.OverflowError, ErrorMessages.MESSAGE_INT_TO_BIG);
+            }
+            if (isBigEndian && start == 0 && len == byteCount) {
+                return bytes;
+            }
+            byte[] resultBytes = new byte[byteCount];
             if (isBigEndian) {
-                if (byteCount > bytes.length) {
-                    // requested array is bigger then we obtained from BigInteger
-                    byte[] resultBytes = new byte[byteCount];
-                    PythonUtils.arraycopy(bytes, 0, resultBytes, resultBytes.length - bytes.length, bytes.length);
-                    if (signByte == -1) {
-                        // add sign bytes
-                        for (int i = 0; i < resultBytes.length - bytes.length; i++) {
-                            resultBytes[i] = signByte;
-                        }
-                    }
-                    return resultBytes;
-                } else {
-                    return bytes;
+                int padding = byteCount - len;
+                for (int i = 0; i < padding; i++) {
+                    resultBytes[i] = signByte;
                 }
+                PythonUtils.arraycopy(bytes, start, resultBytes, padding, len);
             } else {
                 // little endian -> need to switch bytes
-                byte[] resultBytes = new byte[byteCount];
-                for (int i = 0; i < bytes.length; i++) {
+                for (int i = 0; i < len; i++) {
                     resultBytes[i] = bytes[bytes.length - 1 - i];
                 }
-                if (byteCount > bytes.length && signByte == -1) {
-                    // add sign negative bytes
-                    for (int i = bytes.length; i < resultBytes.length; i++) {
-                        resultBytes[i] = signByte;
-                    }
+                for (int i = len; i < byteCount; i++) {
+                    resultBytes[i] = signByte;
                 }
-                return resultBytes;
             }
+            return resultBytes;
         }
 
         @Override
@@ -2602,30 +2580,43 @@ public final class IntBuiltins extends PythonBuiltins {
     @Builtin(name = "from_bytes", minNumOfPositionalArgs = 2, parameterNames = {"cls", "bytes", "byteorder"}, keywordOnlyNames = {"signed"}, isClassmethod = true)
     @ArgumentClinic(name = "byteorder", conversion = ClinicConversion.TString, defaultValue = "T_BIG")
     @ArgumentClinic(name = "signed", conversion = ClinicConversion.Boolean, defaultValue = "false")
-    @ImportStatic(SpecialMethodNames.class)
+    @ImportStatic({SpecialMethodNames.class, PGuards.class})
     @GenerateNodeFactory
     public abstract static class FromBytesNode extends PythonClinicBuiltinNode {
 
-        @Specialization
+        @Specialization(guards = "isBuiltinBytesLike(object)")
+        static Object fromBuiltinBytes(VirtualFrame frame, Object cl, PBytesLike object, TruffleString byteorder, boolean signed,
+                        @Bind Node inliningTarget,
+                        @Shared @CachedLibrary(limit = "1") PythonBufferAccessLibrary bufferLib,
+                        @Shared @Cached IsBuiltinClassExactProfile isBuiltinIntProfile,
+                        @Shared @Cached EqualNode equalNode,
+                        @Shared @Cached PyLongFromByteArray fromByteArray,
+                        @Shared @Cached CallNode callCtor,
+                        @Shared @Cached PRaiseNode raiseNode) {
+            boolean littleEndian = isLittleEndian(inliningTarget, byteorder, equalNode, raiseNode);
+            // bytes.__bytes__ returns self and bytearray has none, so we can read the storage
+            // directly, without going through __bytes__ and without a copy in the common case
+            byte[] bytes = bufferLib.getInternalOrCopiedByteArray(object);
+            int length = bufferLib.getBufferLength(object);
+            if (bytes.length != length) {
+                bytes = PythonUtils.arrayCopyOf(bytes, length);
+            }
+            return createResult(frame, inliningTarget, cl, fromByteArray.execute(inliningTarget, bytes, littleEndian, signed), isBuiltinIntProfile, callCtor);
+        }
+
+        @Specialization(replaces = "fromBuiltinBytes")
         static Object fromObject(VirtualFrame frame, Object cl, Object object, TruffleString byteorder, boolean signed,
                         @Bind Node inliningTarget,
                         @Cached("create(T___BYTES__)") LookupAndCallUnaryNode callBytes,
-                        @CachedLibrary(limit = "1") PythonBufferAccessLibrary bufferLib,
-                        @Cached IsBuiltinClassExactProfile isBuiltinIntProfile,
+                        @Shared @CachedLibrary(limit = "1") PythonBufferAccessLibrary bufferLib,
+                        @Shared @Cached IsBuiltinClassExactProfile isBuiltinIntProfile,
                         @Cached InlinedBranchProfile hasBytesProfile,
-                        @Cached EqualNode equalNode,
+                        @Shared @Cached EqualNode equalNode,
                         @Cached BytesFromObject bytesFromObject,
-                        @Cached PyLongFromByteArray fromByteArray,
-                        @Cached CallNode callCtor,
-                        @Cached PRaiseNode raiseNode) {
-            boolean littleEndian;
-            if (equalNode.execute(byteorder, T_BIG, TS_ENCODING)) {
-                littleEndian = false;
-            } else if (equalNode.execute(byteorder, T_LITTLE, TS_ENCODING)) {
-                littleEndian = true;
-            } else {
-                throw raiseNode.raise(inliningTarget, PythonErrorType.ValueError, ErrorMessages.BYTEORDER_MUST_BE_LITTLE_OR_BIG);
-            }
+                        @Shared @Cached PyLongFromByteArray fromByteArray,
+                        @Shared @Cached CallNode callCtor,
+                        @Shared @Cached PRaiseNode raiseNode) {
+            boolean littleEndian = isLittleEndian(inliningTarget, byteorder, equalNode, raiseNode);
             byte[] bytes;
             Object bytesObj = callBytes.executeObject(frame, object);
             if (bytesObj != PNone.NO_VALUE) {
@@ -2637,7 +2628,20 @@ public final class IntBuiltins extends PythonBuiltins {
             } else {
                 bytes = bytesFromObject.execute(frame, object);
             }
-            Object result = fromByteArray.execute(inliningTarget, bytes, littleEndian, signed);
+            return createResult(frame, inliningTarget, cl, fromByteArray.execute(inliningTarget, bytes, littleEndian, signed), isBuiltinIntProfile, callCtor);
+        }
+
+        private static boolean isLittleEndian(Node inliningTarget, TruffleString byteorder, EqualNode equalNode, PRaiseNode raiseNode) {
+            if (equalNode.execute(byteorder, T_BIG, TS_ENCODING)) {
+                return false;
+            } else if (equalNode.execute(byteorder, T_LITTLE, TS_ENCODING)) {
+                return true;
+            } else {
+                throw raiseNode.raise(inliningTarget, PythonErrorType.ValueError, ErrorMessages.BYTEORDER_MUST_BE_LITTLE_OR_BIG);
+            }
+        }
+
+        private static Object createResult(VirtualFrame frame, Node inliningTarget, Object cl, Object result, IsBuiltinClassExactProfile isBuiltinIntProfile, CallNode callCtor) {
             if (isBuiltinIntProfile.profileClass(inliningTarget, cl, PythonBuiltinClassType.PInt)) {
                 return result;
             } else {
@@ -2696,7 +2700,8 @@ public final class IntBuiltins extends PythonBuiltins {
         @Specialization
         static TruffleString doPInt(PInt self,
                         @Bind Node inliningTarget,
-                        @Cached FromJavaStringNode fromJavaStringNode,
+                        @Cached TruffleString.FromByteArrayNode fromByteArrayNode,
+                        @Cached TruffleString.SwitchEncodingNode switchEncodingNode,
                         @Cached InlinedIntValueProfile maxDigitsProfile,
                         @Cached InlinedIntValueProfile maxDigitsBitLengthProfile,
                         @Cached PRaiseNode raiseNode) {
@@ -2720,18 +2725,18 @@ public final class IntBuiltins extends PythonBuiltins {
                     throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.EXCEEDS_THE_LIMIT_FOR_INTEGER_STRING_CONVERSION, intMaxStrDigits);
                 }
             }
-            String value = self.toString();
+            byte[] value = context.getIntDecimalConversion().toDecimalBytes(self.getValue());
             /*
              * Post check for the exact value. It does nothing for DoS prevention anymore, it's just
              * for consistency.
              */
             if (intMaxStrDigits > 0) {
-                int digits = self.isNegative() ? value.length() - 1 : value.length();
+                int digits = self.isNegative() ? value.length - 1 : value.length;
                 if (digits > intMaxStrDigits) {
                     throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.EXCEEDS_THE_LIMIT_FOR_INTEGER_STRING_CONVERSION);
                 }
             }
-            return fromJavaStringNode.execute(value, TS_ENCODING);
+            return switchEncodingNode.execute(fromByteArrayNode.execute(value, TruffleString.Encoding.US_ASCII, false), TS_ENCODING);
         }
 
         @TruffleBoundary
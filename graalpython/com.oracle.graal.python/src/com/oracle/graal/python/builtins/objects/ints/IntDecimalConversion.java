@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.ints;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * Divide-and-conquer conversions between {@link BigInteger} and digit strings.
+ * {@code new BigInteger(String, int)} is quadratic in the number of digits for every radix, which
+ * makes parsing million-digit integers impractical. Decimal strings are split in halves at
+ * {@code 10^(LEAF_DIGITS * 2^i)}, so that the cost is dominated by a logarithmic number of
+ * (Karatsuba/Toom-Cook) multiplications. Power-of-two radixes are packed into bytes in linear time.
+ * Formatting goes the other way, by dividing by the same powers and writing the digits of each half
+ * straight into the output array.
+ * <p>
+ * The powers of ten are cached, one instance of this class is kept per context.
+ */
+public final class IntDecimalConversion {
+
+    /** Chunks of at most this many digits are left to {@link BigInteger} itself. */
+    private static final int LEAF_DIGITS = 1000;
+    private static final double LOG10_2 = Math.log10(2);
+
+    /** {@code pow10[i] == 10^(LEAF_DIGITS << i)}, filled lazily. */
+    private final BigInteger[] pow10 = new BigInteger[32];
+
+    private BigInteger pow10(int level) {
+        BigInteger result = pow10[level];
+        if (result == null) {
+            // racy initialization is fine, all threads compute the same immutable value
+            result = level == 0 ? BigInteger.TEN.pow(LEAF_DIGITS) : pow10(level - 1).pow(2);
+            pow10[level] = result;
+        }
+        return result;
+    }
+
+    /**
+     * Parses a string consisting only of digits in the given radix (as accepted by
+     * {@link Character#digit(char, int)}).
+     */
+    @TruffleBoundary
+    public BigInteger parse(String digits, int radix, boolean negative) {
+        BigInteger result;
+        if (radix == 10 && digits.length() > LEAF_DIGITS) {
+            result = parseDecimal(digits, 0, digits.length());
+        } else if (Integer.bitCount(radix) == 1 && digits.length() > LEAF_DIGITS) {
+            result = parsePowerOfTwo(digits, Integer.numberOfTrailingZeros(radix));
+        } else {
+            return new BigInteger(negative ? "-" + digits : digits, radix);
+        }
+        return negative ? result.negate() : result;
+    }
+
+    private BigInteger parseDecimal(String digits, int start, int end) {
+        int length = end - start;
+        if (length <= LEAF_DIGITS) {
+            return new BigInteger(digits.substring(start, end));
+        }
+        // the low half is the largest chunk of LEAF_DIGITS * 2^level digits that leaves some
+        // digits for the high half
+        int level = 0;
+        while ((long) LEAF_DIGITS << (level + 1) < length) {
+            level++;
+        }
+        int split = end - (LEAF_DIGITS << level);
+        BigInteger high = parseDecimal(digits, start, split);
+        BigInteger low = parseDecimal(digits, split, end);
+        return high.multiply(pow10(level)).add(low);
+    }
+
+    private static BigInteger parsePowerOfTwo(String digits, int bitsPerDigit) {
+        int length = digits.length();
+        byte[] magnitude = new byte[(int) (((long) length * bitsPerDigit + 7) / 8)];
+        int byteIndex = magnitude.length - 1;
+        int accumulator = 0;
+        int bits = 0;
+        int radix = 1 << bitsPerDigit;
+        for (int i = length - 1; i >= 0; i--) {
+            int digit = Character.digit(digits.charAt(i), radix);
+            if (digit < 0) {
+                throw new NumberFormatException();
+            }
+            accumulator |= digit << bits;
+            bits += bitsPerDigit;
+            while (bits >= 8) {
+                magnitude[byteIndex--] = (byte) accumulator;
+                accumulator >>>= 8;
+                bits -= 8;
+            }
+        }
+        if (bits > 0) {
+            magnitude[byteIndex] = (byte) accumulator;
+        }
+        return new BigInteger(1, magnitude);
+    }
+
+    /**
+     * Formats the value in decimal. The result is ASCII, one byte per character.
+     */
+    @TruffleBoundary
+    public byte[] toDecimalBytes(BigInteger value) {
+        BigInteger abs = value.abs();
+        int sign = value.signum() < 0 ? 1 : 0;
+        // an upper bound on the number of digits, the estimate from bitLength is at most one off
+        int maxDigits = (int) (abs.bitLength() * LOG10_2) + 1;
+        if (maxDigits <= LEAF_DIGITS) {
+            String s = value.toString();
+            byte[] result = new byte[s.length()];
+            copyAscii(s, result, 0);
+            return result;
+        }
+        int level = 0;
+        while ((long) LEAF_DIGITS << (level + 1) < maxDigits) {
+            level++;
+        }
+        byte[] buffer = new byte[sign + maxDigits];
+        buffer[0] = '-';
+        int end = writeDecimal(abs, level, false, buffer, sign);
+        return end == buffer.length ? buffer : Arrays.copyOf(buffer, end);
+    }
+
+    /**
+     * Writes {@code value < 10^(LEAF_DIGITS << (level + 1))} at {@code offset}, left-padded with
+     * zeros to the full width if {@code pad} is set, and returns the end offset.
+     */
+    private int writeDecimal(BigInteger value, int level, boolean pad, byte[] buffer, int offset) {
+        if (level < 0) {
+            String s = value.toString();
+            int position = offset;
+            if (pad) {
+                for (int i = s.length(); i < LEAF_DIGITS; i++) {
+                    buffer[position++] = '0';
+                }
+            }
+            return copyAscii(s, buffer, position);
+        }
+        BigInteger divisor = pow10(level);
+        if (!pad && value.compareTo(divisor) < 0) {
+            return writeDecimal(value, level - 1, false, buffer, offset);
+        }
+        BigInteger[] qr = value.divideAndRemainder(divisor);
+        int position = writeDecimal(qr[0], level - 1, pad, buffer, offset);
+        return writeDecimal(qr[1], level - 1, true, buffer, position);
+    }
+
+    private static int copyAscii(String s, byte[] buffer, int offset) {
+        for (int i = 0; i < s.length(); i++) {
+            buffer[offset + i] = (byte) s.charAt(i);
+        }
+        return offset + s.length();
+    }
+}
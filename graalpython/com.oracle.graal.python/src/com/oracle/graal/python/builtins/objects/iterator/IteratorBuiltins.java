@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026, Oracle and/or its affiliates.
  * Copyright (c) 2014, Regents of the University of California
  *
  * All rights reserved.
@@ -95,6 +95,7 @@ import com.oracle.truffle.api.dsl.GenerateInline;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.exception.AbstractTruffleException;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.interop.InteropLibrary;
 import com.oracle.truffle.api.interop.StopIterationException;
@@ -274,12 +275,59 @@ public final class IteratorBuiltins extends PythonBuiltins {
             }
         }
 
+        @Specialization(guards = "!self.isExhausted()")
+        static Object next(Node inliningTarget, PBufferedForeignIterator self,
+                        @Exclusive @Cached InlinedConditionProfile refillProfile,
+                        @Exclusive @CachedLibrary(limit = "getCallSiteInlineCacheMaxDepth()") InteropLibrary interop,
+                        @Exclusive @Cached(inline = false) GilNode gil,
+                        @Exclusive @Cached(inline = false) PForeignToPTypeNode toPythonNode) {
+            if (refillProfile.profile(inliningTarget, !self.hasBufferedElement())) {
+                fillBuffer(self, interop, gil);
+                if (!self.hasBufferedElement()) {
+                    return stopIteration(self);
+                }
+            }
+            return toPythonNode.executeConvert(self.nextBufferedElement());
+        }
+
+        private static void fillBuffer(PBufferedForeignIterator self, InteropLibrary interop, GilNode gil) {
+            AbstractTruffleException pending = self.takePendingException();
+            if (pending != null) {
+                throw pending;
+            }
+            if (self.isIteratorExhausted()) {
+                return;
+            }
+            Object[] buffer = self.prepareBuffer();
+            int count = 0;
+            gil.release(true);
+            try {
+                while (count < buffer.length) {
+                    buffer[count] = interop.getIteratorNextElement(self.iterator);
+                    count++;
+                }
+            } catch (StopIterationException e) {
+                self.setIteratorExhausted();
+            } catch (UnsupportedMessageException e) {
+                throw CompilerDirectives.shouldNotReachHere("iterator claimed to be iterator but wasn't");
+            } catch (AbstractTruffleException e) {
+                if (count == 0) {
+                    throw e;
+                }
+                // deliver the elements fetched so far first
+                self.setPendingException(e);
+            } finally {
+                gil.acquire();
+                self.setBufferedCount(count);
+            }
+        }
+
         @Specialization(guards = {"isForeignObjectNode.execute(inliningTarget, self)", "interop.isIterator(self)"}, limit = "1")
         static Object foreign(@SuppressWarnings("unused") Node inliningTarget, Object self,
                         @SuppressWarnings("unused") @Cached IsForeignObjectNode isForeignObjectNode,
-                        @CachedLibrary(limit = "getCallSiteInlineCacheMaxDepth()") InteropLibrary interop,
-                        @Cached(inline = false) GilNode gil,
-                        @Cached(inline = false) PForeignToPTypeNode toPythonNode) {
+                        @Exclusive @CachedLibrary(limit = "getCallSiteInlineCacheMaxDepth()") InteropLibrary interop,
+                        @Exclusive @Cached(inline = false) GilNode gil,
+                        @Exclusive @Cached(inline = false) PForeignToPTypeNode toPythonNode) {
             final Object element;
 
             gil.release(true);
@@ -435,6 +483,14 @@ public final class IteratorBuiltins extends PythonBuiltins {
             return len < 0 ? 0 : len;
         }
 
+        @Specialization(guards = "!self.isExhausted()")
+        static int lengthHint(PBufferedForeignIterator self) {
+            if (self.hasBufferedElement()) {
+                return self.getBufferedCount();
+            }
+            return self.isIteratorExhausted() ? 0 : 1;
+        }
+
         @Specialization(guards = {"isForeignObjectNode.execute(inliningTarget, self)", "interop.isIterator(self)"}, limit = "1")
         static int foreign(Object self,
                         @Bind Node inliningTarget,
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -40,6 +40,7 @@
  */
 package com.oracle.graal.python.builtins.objects.iterator;
 
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.IndexError;
 import static com.oracle.graal.python.builtins.PythonBuiltinClassType.PIterator;
 import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
 import static com.oracle.graal.python.nodes.SpecialMethodNames.T___LENGTH_HINT__;
@@ -82,6 +83,7 @@ import com.oracle.graal.python.nodes.object.GetClassNode.GetPythonObjectClassNod
 import com.oracle.graal.python.nodes.util.CastBuiltinStringToTruffleStringNode;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.sequence.PSequence;
+import com.oracle.graal.python.runtime.sequence.storage.ForeignSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
@@ -96,6 +98,11 @@ import com.oracle.truffle.api.dsl.GenerateUncached;
 import com.oracle.truffle.api.dsl.ImportStatic;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.interop.InteropLibrary;
+import com.oracle.truffle.api.interop.InvalidArrayIndexException;
+import com.oracle.truffle.api.interop.UnsupportedMessageException;
+import com.oracle.truffle.api.interop.UnsupportedTypeException;
+import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 import com.oracle.truffle.api.profiles.InlinedLoopConditionProfile;
@@ -385,4 +392,91 @@ public abstract class IteratorNodes {
             return new ArrayList<>();
         }
     }
+
+    /**
+     * Fills a foreign array with the next elements of a Python iterator and returns the number of
+     * elements written, which is less than the array size only if the iterator is exhausted. This
+     * lets foreign code consume a Python iterator in batches instead of crossing the interop
+     * boundary for every element. Iterators over {@code int} and {@code float} storages of lists and
+     * tuples are copied without boxing if the target is a compatible Java primitive array.
+     */
+    @GenerateInline(false)
+    public abstract static class NextIntoForeignArrayNode extends PNodeWithContext {
+        public abstract int execute(VirtualFrame frame, Object iterator, Object array);
+
+        @Specialization
+        static int doIt(VirtualFrame frame, Object iterator, Object array,
+                        @Bind Node inliningTarget,
+                        @CachedLibrary(limit = "getCallSiteInlineCacheMaxDepth()") InteropLibrary arrayLib,
+                        @Cached InlinedConditionProfile bulkCopyProfile,
+                        @Cached PyIterNextNode nextNode,
+                        @Cached PRaiseNode raiseNode) {
+            int length;
+            try {
+                length = (int) Math.min(arrayLib.getArraySize(array), Integer.MAX_VALUE);
+            } catch (UnsupportedMessageException e) {
+                throw raiseNode.raise(inliningTarget, TypeError, ErrorMessages.S_ARG_MUST_BE_S_NOT_P, "second", "an array", array);
+            }
+            int copied = copyFromPrimitiveStorage(inliningTarget, iterator, array, length);
+            if (bulkCopyProfile.profile(inliningTarget, copied >= 0)) {
+                return copied;
+            }
+            int count = 0;
+            while (count < length) {
+                Object element;
+                try {
+                    element = nextNode.execute(frame, inliningTarget, iterator);
+                } catch (IteratorExhausted e) {
+                    break;
+                }
+                // writing array elements does not block, so we keep the GIL for the whole batch
+                try {
+                    arrayLib.writeArrayElement(array, count, element);
+                } catch (InvalidArrayIndexException | UnsupportedMessageException e) {
+                    throw raiseNode.raise(inliningTarget, IndexError, ErrorMessages.ITEM_S_OF_S_OBJ_IS_NOT_WRITABLE, count, array);
+                } catch (UnsupportedTypeException e) {
+                    throw raiseNode.raise(inliningTarget, TypeError, ErrorMessages.TYPE_P_NOT_SUPPORTED_BY_FOREIGN_OBJ, element);
+                }
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * Returns the number of elements copied, or {@code -1} if the iterator and array do not
+         * support a bulk copy.
+         */
+        private static int copyFromPrimitiveStorage(Node inliningTarget, Object iterator, Object array, int length) {
+            SequenceStorage storage;
+            if (iterator instanceof PIntegerSequenceIterator it) {
+                storage = it.sequence;
+            } else if (iterator instanceof PLongSequenceIterator it) {
+                storage = it.sequence;
+            } else if (iterator instanceof PDoubleSequenceIterator it) {
+                storage = it.sequence;
+            } else {
+                return -1;
+            }
+            PBuiltinIterator it = (PBuiltinIterator) iterator;
+            if (it.isExhausted()) {
+                return 0;
+            }
+            Object hostArray = ForeignSequenceStorage.getHostPrimitiveArray(inliningTarget, array);
+            if (hostArray == null) {
+                return -1;
+            }
+            int n = Math.min(length, storage.length() - it.index);
+            if (n <= 0) {
+                if (length > 0) {
+                    it.setExhausted();
+                }
+                return 0;
+            }
+            if (!ForeignSequenceStorage.copyToHostPrimitiveArray(storage, it.index, hostArray, 0, n)) {
+                return -1;
+            }
+            it.index += n;
+            return n;
+        }
+    }
 }
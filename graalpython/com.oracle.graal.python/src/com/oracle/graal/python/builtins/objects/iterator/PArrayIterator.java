@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2021, Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026, Oracle and/or its affiliates.
  * Copyright (c) 2014, Regents of the University of California
  *
  * All rights reserved.
@@ -35,4 +35,8 @@ public final class PArrayIterator extends PBuiltinIterator {
         super(clazz, instanceShape);
         this.array = array;
     }
+
+    public PArray getArray() {
+        return array;
+    }
 }
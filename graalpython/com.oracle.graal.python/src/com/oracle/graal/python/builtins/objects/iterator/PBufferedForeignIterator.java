@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.iterator;
+
+import com.oracle.truffle.api.exception.AbstractTruffleException;
+import com.oracle.truffle.api.object.Shape;
+
+/**
+ * Iterator over a foreign (interop) iterator that fetches elements in batches. Every batch is read
+ * with a single release of the GIL, which makes loops over host iterators much cheaper than
+ * fetching one element at a time. Since elements are fetched ahead, blocking iterators, concurrent
+ * modifications and other users of the foreign iterator would observe the difference. This
+ * iterator is therefore only created on request through {@code polyglot.buffered}.
+ */
+public final class PBufferedForeignIterator extends PBuiltinIterator {
+    final Object iterator;
+    private final int batchSize;
+    private Object[] buffer;
+    private int position;
+    private int count;
+    private boolean iteratorExhausted;
+    private AbstractTruffleException pendingException;
+
+    public PBufferedForeignIterator(Object clazz, Shape instanceShape, Object iterator, int batchSize) {
+        super(clazz, instanceShape);
+        assert batchSize > 0;
+        this.iterator = iterator;
+        this.batchSize = batchSize;
+    }
+
+    boolean hasBufferedElement() {
+        return position < count;
+    }
+
+    int getBufferedCount() {
+        return count - position;
+    }
+
+    Object nextBufferedElement() {
+        assert hasBufferedElement();
+        Object element = buffer[position];
+        buffer[position++] = null;
+        return element;
+    }
+
+    boolean isIteratorExhausted() {
+        return iteratorExhausted;
+    }
+
+    void setIteratorExhausted() {
+        iteratorExhausted = true;
+    }
+
+    /**
+     * Returns an empty buffer for the next batch.
+     */
+    Object[] prepareBuffer() {
+        assert !hasBufferedElement();
+        if (buffer == null) {
+            buffer = new Object[batchSize];
+        }
+        position = 0;
+        count = 0;
+        return buffer;
+    }
+
+    void setBufferedCount(int bufferedCount) {
+        count = bufferedCount;
+    }
+
+    /**
+     * Remembers an exception thrown by the foreign iterator after some elements of the current
+     * batch were already fetched. It is rethrown once those elements were consumed.
+     */
+    void setPendingException(AbstractTruffleException exception) {
+        pendingException = exception;
+    }
+
+    AbstractTruffleException takePendingException() {
+        AbstractTruffleException exception = pendingException;
+        pendingException = null;
+        return exception;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -125,6 +125,7 @@ import com.oracle.truffle.api.dsl.GenerateCached;
 import com.oracle.truffle.api.dsl.GenerateInline;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.GenerateUncached;
+import com.oracle.truffle.api.dsl.ImportStatic;
 import com.oracle.truffle.api.dsl.NeverDefault;
 import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.dsl.Specialization;
@@ -476,9 +477,20 @@ public final class MemoryViewBuiltins extends PythonBuiltins {
 
     @Builtin(name = "tolist", minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
+    @ImportStatic(MemoryViewNodes.ToPrimitiveStorageNode.class)
     public abstract static class ToListNode extends PythonUnaryBuiltinNode {
         @Child private CExtNodes.PCallCapiFunction callCapiFunction;
 
+        @Specialization(guards = {"self.getDimensions() == 1", "self.getBufferSuboffsets() == null", "isSupportedFormat(self.getFormat())"})
+        static Object tolistPrimitive(PMemoryView self,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
+                        @Cached MemoryViewNodes.ToPrimitiveStorageNode toPrimitiveStorageNode,
+                        @Shared @Cached PRaiseNode raiseNode) {
+            self.checkReleased(inliningTarget, raiseNode);
+            return PFactory.createList(language, toPrimitiveStorageNode.execute(inliningTarget, self));
+        }
+
         @Specialization(guards = {"self.getDimensions() == cachedDimensions", "cachedDimensions < 8"}, limit = "3")
         Object tolistCached(VirtualFrame frame, PMemoryView self,
                         @Bind Node inliningTarget,
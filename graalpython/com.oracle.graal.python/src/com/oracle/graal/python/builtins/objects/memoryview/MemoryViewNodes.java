@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -67,9 +67,13 @@ import com.oracle.graal.python.nodes.util.CastToByteNode;
 import com.oracle.graal.python.runtime.ExecutionContext.IndirectCallContext;
 import com.oracle.graal.python.runtime.IndirectCallData;
 import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.NativeByteSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.graal.python.util.BufferFormat;
+import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.CompilerDirectives.ValueType;
@@ -85,6 +89,7 @@ import com.oracle.truffle.api.dsl.NeverDefault;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.memory.ByteArraySupport;
 import com.oracle.truffle.api.nodes.ExplodeLoop;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.profiles.InlinedConditionProfile;
@@ -262,6 +267,137 @@ public class MemoryViewNodes {
         }
     }
 
+    /**
+     * Reads {@code count} items of one row that starts at {@code offset} and advances by
+     * {@code stride} bytes into a contiguous destination. Contiguous rows are read with a single
+     * bulk copy, strided rows over a managed byte array are copied straight from the array.
+     */
+    @GenerateUncached
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class ReadStridedBytesNode extends Node {
+        public abstract void execute(Node inliningTarget, byte[] dest, int destOffset, PMemoryView self, Object ptr, int offset, int count, int stride);
+
+        @Specialization(guards = "stride == self.getItemSize()")
+        static void doContiguous(Node inliningTarget, byte[] dest, int destOffset, PMemoryView self, Object ptr, int offset, int count, int stride,
+                        @Shared @Cached ReadBytesAtNode readBytesAtNode) {
+            readBytesAtNode.execute(inliningTarget, dest, destOffset, count * stride, self, ptr, offset);
+        }
+
+        @Specialization(guards = {"stride != self.getItemSize()", "ptr == null", "bufferLib.hasInternalByteArray(self.getBuffer())"}, limit = "3")
+        static void doManagedArray(Node inliningTarget, byte[] dest, int destOffset, PMemoryView self, @SuppressWarnings("unused") Object ptr, int offset, int count, int stride,
+                        @CachedLibrary("self.getBuffer()") PythonBufferAccessLibrary bufferLib) {
+            if (count == 0) {
+                return;
+            }
+            int itemSize = self.getItemSize();
+            checkBufferBounds(inliningTarget, self, bufferLib, Math.max(offset, offset + (count - 1) * stride), itemSize);
+            byte[] src = bufferLib.getInternalByteArray(self.getBuffer());
+            int srcOffset = offset;
+            int end = destOffset + count * itemSize;
+            if (itemSize == 1) {
+                for (int i = destOffset; i < end; i++) {
+                    dest[i] = src[srcOffset];
+                    srcOffset += stride;
+                }
+            } else {
+                for (int i = destOffset; i < end; i += itemSize) {
+                    PythonUtils.arraycopy(src, srcOffset, dest, i, itemSize);
+                    srcOffset += stride;
+                }
+            }
+        }
+
+        @Specialization(guards = "stride != self.getItemSize()", replaces = "doManagedArray")
+        static void doGeneric(Node inliningTarget, byte[] dest, int destOffset, PMemoryView self, Object ptr, int offset, int count, int stride,
+                        @Shared @Cached ReadBytesAtNode readBytesAtNode) {
+            int itemSize = self.getItemSize();
+            int srcOffset = offset;
+            for (int i = 0; i < count; i++) {
+                readBytesAtNode.execute(inliningTarget, dest, destOffset + i * itemSize, itemSize, self, ptr, srcOffset);
+                srcOffset += stride;
+            }
+        }
+    }
+
+    /**
+     * Unpacks all items of a one-dimensional view with a numeric format into a primitive storage,
+     * without boxing the items. The items are decoded straight from the internal byte array of
+     * managed buffers, other buffers (including native memory) are first copied in bulk.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class ToPrimitiveStorageNode extends Node {
+        public abstract SequenceStorage execute(Node inliningTarget, PMemoryView self);
+
+        static boolean isSupportedFormat(BufferFormat format) {
+            return switch (format) {
+                case UINT_8, INT_8, UINT_16, INT_16, UINT_32, INT_32, INT_64, FLOAT, DOUBLE -> true;
+                default -> false;
+            };
+        }
+
+        @Specialization
+        static SequenceStorage doIt(Node inliningTarget, PMemoryView self,
+                        @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                        @Cached InlinedConditionProfile internalArrayProfile,
+                        @Cached ReadStridedBytesNode readStridedBytesNode) {
+            assert self.getDimensions() == 1 && self.getBufferSuboffsets() == null && isSupportedFormat(self.getFormat());
+            int count = self.getBufferShape()[0];
+            int itemSize = self.getItemSize();
+            int stride = self.getBufferStrides()[0];
+            Object ptr = self.getBufferPointer();
+            byte[] src;
+            int offset;
+            if (internalArrayProfile.profile(inliningTarget, ptr == null && count > 0 && bufferLib.hasInternalByteArray(self.getBuffer()))) {
+                checkBufferBounds(inliningTarget, self, bufferLib, Math.max(self.getOffset(), self.getOffset() + (count - 1) * stride), itemSize);
+                src = bufferLib.getInternalByteArray(self.getBuffer());
+                offset = self.getOffset();
+            } else {
+                src = new byte[count * itemSize];
+                readStridedBytesNode.execute(inliningTarget, src, 0, self, ptr, self.getOffset(), count, stride);
+                offset = 0;
+                stride = itemSize;
+            }
+            return decode(self.getFormat(), src, offset, stride, count);
+        }
+
+        private static SequenceStorage decode(BufferFormat format, byte[] src, int offset, int stride, int count) {
+            ByteArraySupport accessor = PythonUtils.ARRAY_ACCESSOR;
+            int pos = offset;
+            switch (format) {
+                case DOUBLE, FLOAT: {
+                    double[] values = new double[count];
+                    for (int i = 0; i < count; i++, pos += stride) {
+                        values[i] = format == BufferFormat.DOUBLE ? accessor.getDouble(src, pos) : accessor.getFloat(src, pos);
+                    }
+                    return new DoubleSequenceStorage(values);
+                }
+                case INT_64, UINT_32: {
+                    long[] values = new long[count];
+                    for (int i = 0; i < count; i++, pos += stride) {
+                        values[i] = format == BufferFormat.INT_64 ? accessor.getLong(src, pos) : accessor.getInt(src, pos) & 0xFFFFFFFFL;
+                    }
+                    return new LongSequenceStorage(values);
+                }
+                default: {
+                    int[] values = new int[count];
+                    for (int i = 0; i < count; i++, pos += stride) {
+                        values[i] = switch (format) {
+                            case UINT_8 -> src[pos] & 0xFF;
+                            case INT_8 -> src[pos];
+                            case UINT_16 -> accessor.getShort(src, pos) & 0xFFFF;
+                            case INT_16 -> accessor.getShort(src, pos);
+                            case INT_32 -> accessor.getInt(src, pos);
+                            default -> throw CompilerDirectives.shouldNotReachHere();
+                        };
+                    }
+                    return new IntSequenceStorage(values);
+                }
+            }
+        }
+    }
+
     @GenerateInline(false)       // footprint reduction 48 -> 29
     abstract static class ReadItemAtNode extends Node {
         public abstract Object execute(VirtualFrame frame, PMemoryView self, Object ptr, int offset);
@@ -485,6 +621,7 @@ public class MemoryViewNodes {
                         @Bind Node inliningTarget,
                         @Cached("self.getDimensions()") int cachedDimensions,
                         @Shared @Cached ReadBytesAtNode readBytesAtNode,
+                        @Shared @Cached ReadStridedBytesNode readStridedBytesNode,
                         @Shared @Cached CExtNodes.PCallCapiFunction callCapiFunction,
                         @Shared @Cached PRaiseNode raiseNode) {
             self.checkReleased(inliningTarget, raiseNode);
@@ -492,7 +629,7 @@ public class MemoryViewNodes {
             if (cachedDimensions == 0) {
                 readBytesAtNode.execute(inliningTarget, bytes, 0, self.getItemSize(), self, self.getBufferPointer(), self.getOffset());
             } else {
-                convert(inliningTarget, bytes, self, cachedDimensions, readBytesAtNode, callCapiFunction);
+                convert(inliningTarget, bytes, self, cachedDimensions, readBytesAtNode, readStridedBytesNode, callCapiFunction);
             }
             return bytes;
         }
@@ -501,6 +638,7 @@ public class MemoryViewNodes {
         byte[] tobytesGeneric(PMemoryView self,
                         @Bind Node inliningTarget,
                         @Shared @Cached ReadBytesAtNode readBytesAtNode,
+                        @Shared @Cached ReadStridedBytesNode readStridedBytesNode,
                         @Shared @Cached CExtNodes.PCallCapiFunction callCapiFunction,
                         @Shared @Cached PRaiseNode raiseNode) {
             self.checkReleased(inliningTarget, raiseNode);
@@ -508,36 +646,50 @@ public class MemoryViewNodes {
             if (self.getDimensions() == 0) {
                 readBytesAtNode.execute(inliningTarget, bytes, 0, self.getItemSize(), self, self.getBufferPointer(), self.getOffset());
             } else {
-                convertBoundary(inliningTarget, bytes, self, self.getDimensions(), readBytesAtNode, callCapiFunction);
+                convertBoundary(inliningTarget, bytes, self, self.getDimensions(), readBytesAtNode, readStridedBytesNode, callCapiFunction);
             }
             return bytes;
         }
 
         @TruffleBoundary
-        private void convertBoundary(Node inliningTarget, byte[] dest, PMemoryView self, int ndim, ReadBytesAtNode readBytesAtNode, CExtNodes.PCallCapiFunction callCapiFunction) {
-            convert(inliningTarget, dest, self, ndim, readBytesAtNode, callCapiFunction);
+        private void convertBoundary(Node inliningTarget, byte[] dest, PMemoryView self, int ndim, ReadBytesAtNode readBytesAtNode, ReadStridedBytesNode readStridedBytesNode,
+                        CExtNodes.PCallCapiFunction callCapiFunction) {
+            convert(inliningTarget, dest, self, ndim, readBytesAtNode, readStridedBytesNode, callCapiFunction);
         }
 
-        protected void convert(Node inliningTarget, byte[] dest, PMemoryView self, int ndim, ReadBytesAtNode readBytesAtNode, CExtNodes.PCallCapiFunction callCapiFunction) {
-            recursive(inliningTarget, dest, 0, self, 0, ndim, self.getBufferPointer(), self.getOffset(), readBytesAtNode, callCapiFunction);
+        protected void convert(Node inliningTarget, byte[] dest, PMemoryView self, int ndim, ReadBytesAtNode readBytesAtNode, ReadStridedBytesNode readStridedBytesNode,
+                        CExtNodes.PCallCapiFunction callCapiFunction) {
+            if (self.isCContiguous()) {
+                // the items are laid out exactly as the result, copy them at once
+                readBytesAtNode.execute(inliningTarget, dest, 0, self.getLength(), self, self.getBufferPointer(), self.getOffset());
+            } else {
+                recursive(inliningTarget, dest, 0, self, 0, ndim, self.getBufferPointer(), self.getOffset(), readStridedBytesNode, callCapiFunction);
+            }
         }
 
-        private static int recursive(Node inliningTarget, byte[] dest, int initialDestOffset, PMemoryView self, int dim, int ndim, Object ptr, int initialOffset, ReadBytesAtNode readBytesAtNode,
-                        CExtNodes.PCallCapiFunction callCapiFunction) {
+        private static int recursive(Node inliningTarget, byte[] dest, int initialDestOffset, PMemoryView self, int dim, int ndim, Object ptr, int initialOffset,
+                        ReadStridedBytesNode readStridedBytesNode, CExtNodes.PCallCapiFunction callCapiFunction) {
+            int[] suboffsets = self.getBufferSuboffsets();
+            if (dim == ndim - 1 && (suboffsets == null || suboffsets[dim] < 0)) {
+                // innermost row without indirection, copy it in bulk
+                int count = self.getBufferShape()[dim];
+                readStridedBytesNode.execute(inliningTarget, dest, initialDestOffset, self, ptr, initialOffset, count, self.getBufferStrides()[dim]);
+                return initialDestOffset + count * self.getItemSize();
+            }
             int offset = initialOffset;
             int destOffset = initialDestOffset;
             for (int i = 0; i < self.getBufferShape()[dim]; i++) {
                 Object xptr = ptr;
                 int xoffset = offset;
-                if (self.getBufferSuboffsets() != null && self.getBufferSuboffsets()[dim] >= 0) {
-                    xptr = callCapiFunction.call(NativeCAPISymbol.FUN_ADD_SUBOFFSET, ptr, offset, self.getBufferSuboffsets()[dim]);
+                if (suboffsets != null && suboffsets[dim] >= 0) {
+                    xptr = callCapiFunction.call(NativeCAPISymbol.FUN_ADD_SUBOFFSET, ptr, offset, suboffsets[dim]);
                     xoffset = 0;
                 }
                 if (dim == ndim - 1) {
-                    readBytesAtNode.execute(inliningTarget, dest, destOffset, self.getItemSize(), self, xptr, xoffset);
+                    readStridedBytesNode.execute(inliningTarget, dest, destOffset, self, xptr, xoffset, 1, self.getItemSize());
                     destOffset += self.getItemSize();
                 } else {
-                    destOffset = recursive(inliningTarget, dest, destOffset, self, dim + 1, ndim, xptr, xoffset, readBytesAtNode, callCapiFunction);
+                    destOffset = recursive(inliningTarget, dest, destOffset, self, dim + 1, ndim, xptr, xoffset, readStridedBytesNode, callCapiFunction);
                 }
                 offset += self.getBufferStrides()[dim];
             }
@@ -554,8 +706,13 @@ public class MemoryViewNodes {
     @GenerateInline(false)
     public abstract static class ToJavaBytesFortranOrderNode extends ToJavaBytesNode {
         @Override
-        protected void convert(Node inliningTarget, byte[] dest, PMemoryView self, int ndim, ReadBytesAtNode readBytesAtNode, CExtNodes.PCallCapiFunction callCapiFunction) {
-            recursive(inliningTarget, dest, 0, self.getItemSize(), self, 0, ndim, self.getBufferPointer(), self.getOffset(), readBytesAtNode, callCapiFunction);
+        protected void convert(Node inliningTarget, byte[] dest, PMemoryView self, int ndim, ReadBytesAtNode readBytesAtNode, ReadStridedBytesNode readStridedBytesNode,
+                        CExtNodes.PCallCapiFunction callCapiFunction) {
+            if (self.isFortranContiguous()) {
+                readBytesAtNode.execute(inliningTarget, dest, 0, self.getLength(), self, self.getBufferPointer(), self.getOffset());
+            } else {
+                recursive(inliningTarget, dest, 0, self.getItemSize(), self, 0, ndim, self.getBufferPointer(), self.getOffset(), readBytesAtNode, callCapiFunction);
+            }
         }
 
         private static void recursive(Node inliningTarget, byte[] dest, int initialDestOffset, int destStride, PMemoryView self, int dim, int ndim, Object ptr, int initialOffset,
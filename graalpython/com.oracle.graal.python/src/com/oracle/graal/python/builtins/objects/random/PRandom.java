@@ -1,4 +1,4 @@
-/* Copyright (c) 2020, 2021, Oracle and/or its affiliates.
+/* Copyright (c) 2020, 2026, Oracle and/or its affiliates.
  * Copyright (C) 1996-2020 Python Software Foundation
  *
  * Licensed under the PYTHON SOFTWARE FOUNDATION LICENSE VERSION 2
@@ -134,6 +134,83 @@ public class PRandom extends PythonBuiltinObject {
         return (a * 67108864.0 + b) * (1.0 / 9007199254740992.0);
     }
 
+    /*
+     * The bulk variants consume the state exactly like the corresponding number of calls to
+     * random() or getrandbits(k) would.
+     */
+
+    double[] nextDoubles(int n) {
+        double[] result = new double[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = nextDouble();
+        }
+        return result;
+    }
+
+    int[] nextIntBits(int k, int n) {
+        assert k >= 0 && k <= 31;
+        int[] result = new int[n];
+        if (k > 0) {
+            for (int i = 0; i < n; i++) {
+                result[i] = nextInt() >>> (32 - k);
+            }
+        }
+        return result;
+    }
+
+    long[] nextLongBits(int k, int n) {
+        assert k >= 32 && k <= 63;
+        long[] result = new long[n];
+        if (k == 32) {
+            for (int i = 0; i < n; i++) {
+                result[i] = nextInt() & 0xFFFFFFFFL;
+            }
+        } else {
+            for (int i = 0; i < n; i++) {
+                long x = nextInt() & 0xFFFFFFFFL;
+                long y = nextInt() >>> (64 - k);
+                result[i] = (y << 32) | x;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Same as {@code floor(random() * n)} for each of the {@code k} indices.
+     */
+    int[] nextIndices(int k, int n) {
+        double size = n;
+        int[] result = new int[k];
+        for (int i = 0; i < k; i++) {
+            result[i] = (int) (nextDouble() * size);
+        }
+        return result;
+    }
+
+    /**
+     * Same as {@code bisect(cumWeights, random() * total, 0, len(cumWeights) - 1)} for each of the
+     * {@code k} indices.
+     */
+    int[] nextWeightedIndices(int k, double[] cumWeights, double total) {
+        int[] result = new int[k];
+        int last = cumWeights.length - 1;
+        for (int i = 0; i < k; i++) {
+            double x = nextDouble() * total;
+            int lo = 0;
+            int hi = last;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (x < cumWeights[mid]) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            result[i] = lo;
+        }
+        return result;
+    }
+
     int[] getState() {
         return state;
     }
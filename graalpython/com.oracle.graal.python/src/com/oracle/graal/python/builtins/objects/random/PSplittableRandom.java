@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.random;
+
+import java.util.SplittableRandom;
+
+import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.object.Shape;
+
+/**
+ * A {@link SplittableRandom} (SplitMix64) generator. Unlike {@link PRandom} it has only 64 bits of
+ * state and can be {@link #split() split} into statistically independent generators, one per
+ * thread, so that threads do not need to share a single instance.
+ * <p>
+ * The instances are not thread-safe, each thread is expected to use its own.
+ */
+public final class PSplittableRandom extends PythonBuiltinObject {
+
+    private final SplittableRandom generator;
+
+    public PSplittableRandom(Object cls, Shape instanceShape, SplittableRandom generator) {
+        super(cls, instanceShape);
+        this.generator = generator;
+    }
+
+    @TruffleBoundary
+    SplittableRandom split() {
+        return generator.split();
+    }
+
+    @TruffleBoundary
+    long nextLong() {
+        return generator.nextLong();
+    }
+
+    @TruffleBoundary
+    double nextDouble() {
+        return generator.nextDouble();
+    }
+
+    @TruffleBoundary
+    double[] nextDoubles(int n) {
+        double[] result = new double[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = generator.nextDouble();
+        }
+        return result;
+    }
+
+    /**
+     * Returns {@code k} random bits, for {@code 0 <= k <= 63}.
+     */
+    long nextBits(int k) {
+        assert k >= 0 && k <= 63;
+        return k == 0 ? 0 : nextLong() >>> (64 - k);
+    }
+
+    @TruffleBoundary
+    long[] nextLongBits(int k, int n) {
+        assert k >= 1 && k <= 63;
+        long[] result = new long[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = generator.nextLong() >>> (64 - k);
+        }
+        return result;
+    }
+
+    @TruffleBoundary
+    int[] nextIntBits(int k, int n) {
+        assert k >= 1 && k <= 31;
+        int[] result = new int[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = (int) (generator.nextLong() >>> (64 - k));
+        }
+        return result;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -63,6 +63,7 @@ import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.common.SequenceNodes.GetObjectArrayNode;
 import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.builtins.objects.list.PList;
 import com.oracle.graal.python.builtins.objects.tuple.PTuple;
 import com.oracle.graal.python.builtins.objects.type.TpSlots;
 import com.oracle.graal.python.builtins.objects.type.TypeNodes;
@@ -74,11 +75,18 @@ import com.oracle.graal.python.nodes.call.special.SpecialMethodNotFound;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
 import com.oracle.graal.python.nodes.truffle.PythonIntegerTypes;
 import com.oracle.graal.python.nodes.util.CastToJavaUnsignedLongNode;
 import com.oracle.graal.python.runtime.exception.PythonErrorType;
 import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.ObjectSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Bind;
@@ -316,4 +324,162 @@ public final class RandomBuiltins extends PythonBuiltins {
             return PFactory.createInt(PythonLanguage.get(null), new BigInteger(1, bb.array()));
         }
     }
+
+    @Builtin(name = "random_list", minNumOfPositionalArgs = 2, parameterNames = {"$self", "n"}, doc = """
+                    random_list(n)
+
+                    Return a list of n random floats, the same as [random() for _ in range(n)].""")
+    @ArgumentClinic(name = "n", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    public abstract static class RandomListNode extends PythonBinaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return RandomBuiltinsClinicProviders.RandomListNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PList randomList(PRandom random, int n,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language) {
+            if (n < 0) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.MUST_BE_NON_NEGATIVE, "n");
+            }
+            return PFactory.createList(language, new DoubleSequenceStorage(nextDoubles(random, n)));
+        }
+
+        @TruffleBoundary
+        private static double[] nextDoubles(PRandom random, int n) {
+            return random.nextDoubles(n);
+        }
+    }
+
+    @Builtin(name = "getrandbits_list", minNumOfPositionalArgs = 3, parameterNames = {"$self", "k", "n"}, doc = """
+                    getrandbits_list(k, n)
+
+                    Return a list of n random ints with k bits each, the same as
+                    [getrandbits(k) for _ in range(n)].""")
+    @ArgumentClinic(name = "k", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "n", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    public abstract static class GetRandBitsListNode extends PythonTernaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return RandomBuiltinsClinicProviders.GetRandBitsListNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PList getrandbitsList(PRandom random, int k, int n,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language) {
+            if (k < 0) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.NUMBER_OF_BITS_MUST_BE_NON_NEGATIVE);
+            }
+            if (n < 0) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.MUST_BE_NON_NEGATIVE, "n");
+            }
+            return PFactory.createList(language, generate(random, k, n));
+        }
+
+        @TruffleBoundary
+        private static SequenceStorage generate(PRandom random, int k, int n) {
+            if (k <= 31) {
+                return new IntSequenceStorage(random.nextIntBits(k, n));
+            } else if (k <= 63) {
+                return new LongSequenceStorage(random.nextLongBits(k, n));
+            }
+            Object[] values = new Object[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = GetRandBitsNode.genBigInteger(random, k);
+            }
+            return new ObjectSequenceStorage(values);
+        }
+    }
+
+    @Builtin(name = "choice_indices", minNumOfPositionalArgs = 3, parameterNames = {"$self", "k", "n", "cum_weights"}, doc = """
+                    choice_indices(k, n, cum_weights=None)
+
+                    Return a list of k random indices into a population of size n.
+
+                    The indices are the same as the ones random.choices would pick, either with
+                    equal probability or with the given cumulative weights, which must be a list
+                    or tuple of floats or ints.""")
+    @ArgumentClinic(name = "k", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "n", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    public abstract static class ChoiceIndicesNode extends PythonQuaternaryClinicBuiltinNode {
+        private static final long MAX_EXACT_LONG = 1L << 53;
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return RandomBuiltinsClinicProviders.ChoiceIndicesNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PList unweighted(PRandom random, int k, int n, @SuppressWarnings("unused") PNone cumWeights,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language) {
+            if (n < 0) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.MUST_BE_NON_NEGATIVE, "n");
+            }
+            return PFactory.createList(language, new IntSequenceStorage(nextIndices(random, Math.max(k, 0), n)));
+        }
+
+        @Specialization(guards = "!isPNone(cumWeights)")
+        static PList weighted(PRandom random, int k, int n, Object cumWeights,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
+                        @Cached GetObjectArrayNode getObjectArrayNode) {
+            if (!(cumWeights instanceof PList || cumWeights instanceof PTuple)) {
+                throw PRaiseNode.raiseStatic(inliningTarget, TypeError, ErrorMessages.CUM_WEIGHTS_MUST_BE_FLOATS_OR_INTS);
+            }
+            Object[] items = getObjectArrayNode.execute(inliningTarget, cumWeights);
+            if (items.length != n) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.NUMBER_OF_WEIGHTS_DOES_NOT_MATCH_POPULATION);
+            }
+            double[] weights = toDoubles(inliningTarget, items);
+            double total = n > 0 ? weights[n - 1] : 0.0;
+            if (total <= 0.0) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.TOTAL_OF_WEIGHTS_MUST_BE_GREATER_THAN_ZERO);
+            }
+            if (!Double.isFinite(total)) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.TOTAL_OF_WEIGHTS_MUST_BE_FINITE);
+            }
+            return PFactory.createList(language, new IntSequenceStorage(nextWeightedIndices(random, Math.max(k, 0), weights, total)));
+        }
+
+        /**
+         * Only values that compare with floats exactly like their double conversion are accepted,
+         * so that the bisection picks the same indices as random.choices.
+         */
+        private static double[] toDoubles(Node inliningTarget, Object[] items) {
+            double[] weights = new double[items.length];
+            for (int i = 0; i < items.length; i++) {
+                Object item = items[i];
+                if (item instanceof Double d) {
+                    weights[i] = d;
+                } else if (item instanceof Integer v) {
+                    weights[i] = v;
+                } else if (item instanceof Long v && Math.abs(v) <= MAX_EXACT_LONG) {
+                    weights[i] = v;
+                } else if (item instanceof Boolean b) {
+                    weights[i] = b ? 1.0 : 0.0;
+                } else {
+                    throw PRaiseNode.raiseStatic(inliningTarget, TypeError, ErrorMessages.CUM_WEIGHTS_MUST_BE_FLOATS_OR_INTS);
+                }
+            }
+            return weights;
+        }
+
+        @TruffleBoundary
+        private static int[] nextIndices(PRandom random, int k, int n) {
+            return random.nextIndices(k, n);
+        }
+
+        @TruffleBoundary
+        private static int[] nextWeightedIndices(PRandom random, int k, double[] weights, double total) {
+            return random.nextWeightedIndices(k, weights, total);
+        }
+    }
 }
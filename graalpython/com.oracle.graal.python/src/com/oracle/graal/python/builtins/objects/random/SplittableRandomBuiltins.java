@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.random;
+
+import static com.oracle.graal.python.nodes.StringLiterals.T_STRICT;
+import static com.oracle.graal.python.nodes.StringLiterals.T_UTF8;
+import static com.oracle.graal.python.runtime.exception.PythonErrorType.ValueError;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.annotations.ArgumentClinic;
+import com.oracle.graal.python.annotations.ArgumentClinic.ClinicConversion;
+import com.oracle.graal.python.annotations.Builtin;
+import com.oracle.graal.python.annotations.Slot;
+import com.oracle.graal.python.annotations.Slot.SlotKind;
+import com.oracle.graal.python.annotations.Slot.SlotSignature;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.CodecsModuleBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.type.TpSlots;
+import com.oracle.graal.python.builtins.objects.type.TypeNodes;
+import com.oracle.graal.python.lib.PyObjectHashNode;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.nodes.truffle.PythonIntegerTypes;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonImageBuildOptions;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.ObjectSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Cached.Shared;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.dsl.TypeSystemReference;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.Node;
+
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PSplittableRandom)
+public final class SplittableRandomBuiltins extends PythonBuiltins {
+
+    public static final TpSlots SLOTS = SplittableRandomBuiltinsSlotsGen.SLOTS;
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return SplittableRandomBuiltinsFactory.getFactories();
+    }
+
+    // _random.SplittableRandom([seed])
+    @Slot(value = SlotKind.tp_new, isComplex = true)
+    @SlotSignature(name = "SplittableRandom", minNumOfPositionalArgs = 1, parameterNames = {"$cls", "seed"})
+    @GenerateNodeFactory
+    @TypeSystemReference(PythonIntegerTypes.class)
+    abstract static class SplittableRandomNode extends PythonBinaryBuiltinNode {
+
+        @Specialization
+        static PSplittableRandom seedNone(Object cls, @SuppressWarnings("unused") PNone seed,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
+                        @Shared @Cached TypeNodes.GetInstanceShape getInstanceShape) {
+            long secureSeed = secureSeed(PythonContext.get(inliningTarget));
+            return PFactory.createSplittableRandom(language, cls, getInstanceShape.execute(cls), createGenerator(secureSeed));
+        }
+
+        @Specialization
+        static PSplittableRandom seedLong(Object cls, long seed,
+                        @Bind PythonLanguage language,
+                        @Shared @Cached TypeNodes.GetInstanceShape getInstanceShape) {
+            return PFactory.createSplittableRandom(language, cls, getInstanceShape.execute(cls), createGenerator(seed));
+        }
+
+        @Specialization
+        static PSplittableRandom seedBigInteger(Object cls, PInt seed,
+                        @Bind PythonLanguage language,
+                        @Shared @Cached TypeNodes.GetInstanceShape getInstanceShape) {
+            // only the lowest 64 bits are used
+            return PFactory.createSplittableRandom(language, cls, getInstanceShape.execute(cls), createGenerator(seed.longValue()));
+        }
+
+        /**
+         * Like {@code random.seed}, a string seed is reproducible across runs: its UTF-8 bytes are
+         * followed by their SHA-512 digest and read as a big-endian integer, of which only the
+         * lowest 64 bits, i.e. the end of the digest, are used.
+         */
+        @Specialization(guards = "isString(seed)")
+        static PSplittableRandom seedString(Object cls, Object seed,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
+                        @Shared @Cached TypeNodes.GetInstanceShape getInstanceShape,
+                        @Cached CodecsModuleBuiltins.CodecsEncodeToJavaBytesNode encodeNode) {
+            byte[] bytes = encodeNode.execute(seed, T_UTF8, T_STRICT);
+            return seedLong(cls, sha512Seed(inliningTarget, bytes), language, getInstanceShape);
+        }
+
+        @Specialization(guards = {"!canBeInteger(seed)", "!isPNone(seed)", "!isString(seed)"})
+        static PSplittableRandom seedGeneric(VirtualFrame frame, Object cls, Object seed,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
+                        @Shared @Cached TypeNodes.GetInstanceShape getInstanceShape,
+                        @Cached PyObjectHashNode hash) {
+            return seedLong(cls, hash.execute(frame, inliningTarget, seed), language, getInstanceShape);
+        }
+
+        @TruffleBoundary
+        private static long sha512Seed(Node inliningTarget, byte[] bytes) {
+            if (PythonImageBuildOptions.WITHOUT_DIGEST) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.UNSUPPORTED_HASH_TYPE, "sha512");
+            }
+            byte[] digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-512").digest(bytes);
+            } catch (NoSuchAlgorithmException e) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.UNSUPPORTED_HASH_TYPE, "sha512");
+            }
+            return ByteBuffer.wrap(digest, digest.length - Long.BYTES, Long.BYTES).getLong();
+        }
+
+        @TruffleBoundary
+        private static long secureSeed(PythonContext context) {
+            return context.getSecureRandom().nextLong();
+        }
+
+        @TruffleBoundary
+        private static SplittableRandom createGenerator(long seed) {
+            return new SplittableRandom(seed);
+        }
+    }
+
+    @Builtin(name = "split", minNumOfPositionalArgs = 1, doc = """
+                    split()
+
+                    Return a new generator that shares no state with this one. The two generators
+                    produce statistically independent streams, such that each thread can use its own.""")
+    @GenerateNodeFactory
+    public abstract static class SplitNode extends PythonUnaryBuiltinNode {
+
+        @Specialization
+        static PSplittableRandom split(PSplittableRandom self,
+                        @Bind PythonLanguage language) {
+            return PFactory.createSplittableRandom(language, self.split());
+        }
+    }
+
+    @Builtin(name = "random", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class RandomNode extends PythonUnaryBuiltinNode {
+
+        @Specialization
+        static double random(PSplittableRandom self) {
+            return self.nextDouble();
+        }
+    }
+
+    @Builtin(name = "getrandbits", minNumOfPositionalArgs = 2, parameterNames = {"$self", "k"})
+    @ArgumentClinic(name = "k", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    public abstract static class GetRandBitsNode extends PythonBinaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return SplittableRandomBuiltinsClinicProviders.GetRandBitsNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization(guards = "k < 0")
+        @SuppressWarnings("unused")
+        static int negative(PSplittableRandom self, int k,
+                        @Bind Node inliningTarget) {
+            throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.NUMBER_OF_BITS_MUST_BE_NON_NEGATIVE);
+        }
+
+        @Specialization(guards = {"k >= 0", "k <= 31"})
+        static int genInt(PSplittableRandom self, int k) {
+            return (int) self.nextBits(k);
+        }
+
+        @Specialization(guards = {"k >= 32", "k <= 63"})
+        static long genLong(PSplittableRandom self, int k) {
+            return self.nextBits(k);
+        }
+
+        @Specialization(guards = "k >= 64")
+        static PInt genBigInteger(PSplittableRandom self, int k,
+                        @Bind PythonLanguage language) {
+            return PFactory.createInt(language, nextBigInteger(self, k));
+        }
+
+        @TruffleBoundary
+        static BigInteger nextBigInteger(PSplittableRandom self, int k) {
+            int longs = (k + 63) / 64;
+            BigInteger result = BigInteger.ZERO;
+            for (int i = 0; i < longs; i++) {
+                int bits = Math.min(64, k - i * 64);
+                long value = bits == 64 ? self.nextLong() : self.nextBits(bits);
+                BigInteger part = BigInteger.valueOf(value);
+                if (value < 0) {
+                    part = part.add(BigInteger.ONE.shiftLeft(64));
+                }
+                result = result.or(part.shiftLeft(i * 64));
+            }
+            return result;
+        }
+    }
+
+    @Builtin(name = "random_list", minNumOfPositionalArgs = 2, parameterNames = {"$self", "n"}, doc = """
+                    random_list(n)
+
+                    Return a list of n random floats, the same as [random() for _ in range(n)].""")
+    @ArgumentClinic(name = "n", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    public abstract static class RandomListNode extends PythonBinaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return SplittableRandomBuiltinsClinicProviders.RandomListNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PList randomList(PSplittableRandom self, int n,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language) {
+            if (n < 0) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.MUST_BE_NON_NEGATIVE, "n");
+            }
+            return PFactory.createList(language, new DoubleSequenceStorage(self.nextDoubles(n)));
+        }
+    }
+
+    @Builtin(name = "getrandbits_list", minNumOfPositionalArgs = 3, parameterNames = {"$self", "k", "n"}, doc = """
+                    getrandbits_list(k, n)
+
+                    Return a list of n random ints with k bits each, the same as
+                    [getrandbits(k) for _ in range(n)].""")
+    @ArgumentClinic(name = "k", conversion = ClinicConversion.Int)
+    @ArgumentClinic(name = "n", conversion = ClinicConversion.Int)
+    @GenerateNodeFactory
+    public abstract static class GetRandBitsListNode extends PythonTernaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return SplittableRandomBuiltinsClinicProviders.GetRandBitsListNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PList getrandbitsList(PSplittableRandom self, int k, int n,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language) {
+            if (k < 0) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.NUMBER_OF_BITS_MUST_BE_NON_NEGATIVE);
+            }
+            if (n < 0) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.MUST_BE_NON_NEGATIVE, "n");
+            }
+            return PFactory.createList(language, generate(language, self, k, n));
+        }
+
+        @TruffleBoundary
+        private static SequenceStorage generate(PythonLanguage language, PSplittableRandom self, int k, int n) {
+            if (k == 0) {
+                return new IntSequenceStorage(new int[n]);
+            } else if (k <= 31) {
+                return new IntSequenceStorage(self.nextIntBits(k, n));
+            } else if (k <= 63) {
+                return new LongSequenceStorage(self.nextLongBits(k, n));
+            }
+            Object[] values = new Object[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = PFactory.createInt(language, GetRandBitsNode.nextBigInteger(self, k));
+            }
+            return new ObjectSequenceStorage(values);
+        }
+    }
+}
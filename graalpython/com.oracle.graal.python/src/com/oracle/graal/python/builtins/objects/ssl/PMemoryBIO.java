@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -158,7 +158,9 @@ public class PMemoryBIO extends PythonObject {
 
     /**
      * Make sure that at least {@code capacity} bytes can be written into this BIO. Disposes of the
-     * already read part of the buffer when applicable.
+     * already read part of the buffer when applicable. The internal array is grown geometrically
+     * and kept for the lifetime of the BIO, so that repeated writes of TLS records don't need to
+     * allocate.
      *
      * @param capacity Required capacity in bytes
      */
@@ -166,7 +168,9 @@ public class PMemoryBIO extends PythonObject {
         if (bytes.length - writePosition < capacity) {
             int pending = getPending();
             if (bytes.length - pending < capacity) {
-                byte[] newBytes = new byte[PythonUtils.addExact(capacity, pending)];
+                int minLength = PythonUtils.addExact(capacity, pending);
+                int newLength = Math.max(minLength, (int) Math.min(bytes.length * 2L, Integer.MAX_VALUE - 8));
+                byte[] newBytes = new byte[newLength];
                 PythonUtils.arraycopy(bytes, readPosition, newBytes, 0, pending);
                 bytes = newBytes;
             } else {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -157,6 +157,13 @@ public abstract class SSLOperationNode extends PNodeWithContext {
 
     private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0);
     private static final int TLS_HEADER_SIZE = 5;
+    /*
+     * Upper bound of encrypted data we accumulate in the outbound BIO before flushing it to the
+     * socket. Wrapping several TLS records before calling send amortizes the syscall overhead for
+     * large writes. Only applies to socket-backed connections, MemoryBIO users see every record as
+     * soon as it is produced.
+     */
+    private static final int MAX_BATCHED_OUTPUT = 64 * 1024;
 
     protected enum SSLOperationStatus {
         WANTS_READ,
@@ -420,8 +427,9 @@ public abstract class SSLOperationNode extends PNodeWithContext {
                 socket.setHandshakeComplete(true);
             }
             // Send the network output to socket, if any. If the output is a MemoryBIO, the
-            // output is already in it at this point
-            if (pSocket != null && networkOutboundBIO.getPending() > 0) {
+            // output is already in it at this point. When writing application data, we first try
+            // to wrap more records to be able to send them using a single syscall
+            if (pSocket != null && networkOutboundBIO.getPending() > 0 && !canBatchNextRecord(engine, result, pSocket, appInput, networkOutboundBIO, op, currentlyWrapping)) {
                 return SSLOperationStatus.WANTS_WRITE;
             }
             // Handle possible closure
@@ -518,6 +526,20 @@ public abstract class SSLOperationNode extends PNodeWithContext {
         return SSLOperationStatus.COMPLETE;
     }
 
+    /**
+     * Whether we can wrap another record of application data before flushing the outbound BIO. We
+     * don't batch for non-blocking sockets, because there the caller is expected to retry the write
+     * with the same data when we signal {@code SSLErrorWantWrite}.
+     */
+    private static boolean canBatchNextRecord(SSLEngine engine, SSLEngineResult result, PSocket pSocket, ByteBuffer appInput, PMemoryBIO networkOutboundBIO, SSLOperation op,
+                    boolean currentlyWrapping) {
+        return op == SSLOperation.WRITE && currentlyWrapping && appInput.hasRemaining() && pSocket.getTimeoutNs() != 0 &&
+                        result.getStatus() == SSLEngineResult.Status.OK &&
+                        result.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NOT_HANDSHAKING &&
+                        engine.getHandshakeStatus() == SSLEngineResult.HandshakeStatus.NOT_HANDSHAKING &&
+                        networkOutboundBIO.getPending() + engine.getSession().getPacketBufferSize() <= MAX_BATCHED_OUTPUT;
+    }
+
     private static SSLEngineResult doUnwrap(SSLEngine engine, PMemoryBIO networkInboundBIO, ByteBuffer targetBuffer, PMemoryBIO applicationInboundBIO, boolean writeDirectlyToTarget)
                     throws SSLException, OverflowException {
         ByteBuffer readBuffer = networkInboundBIO.getBufferForReading();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026, Oracle and/or its affiliates.
  * Copyright (c) 2013, Regents of the University of California
  *
  * All rights reserved.
@@ -161,6 +161,7 @@ import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
 import com.oracle.graal.python.runtime.ExecutionContext.IndirectCallContext;
 import com.oracle.graal.python.runtime.IndirectCallData;
 import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.formatting.InternalFormat;
 import com.oracle.graal.python.runtime.formatting.InternalFormat.Spec;
@@ -599,8 +600,10 @@ public final class StringBuiltins extends PythonBuiltins {
     public abstract static class ConcatNode extends SqConcatBuiltinNode {
         @Specialization
         static TruffleString doIt(TruffleString self, TruffleString other,
+                        @Bind PythonLanguage language,
                         @Shared @Cached TruffleString.ConcatNode concatNode) {
-            return concatNode.execute(self, other, TS_ENCODING, false);
+            // with LazyStrings, the result is a rope that is only flattened once it is inspected
+            return concatNode.execute(self, other, TS_ENCODING, language.getEngineOption(PythonOptions.LazyStrings));
         }
 
         @Fallback
@@ -608,6 +611,7 @@ public final class StringBuiltins extends PythonBuiltins {
                         @Bind Node inliningTarget,
                         @Cached CastToTruffleStringNode castToStringLeftNode,
                         @Cached CastToTruffleStringNode castToStringRightNode,
+                        @Bind PythonLanguage language,
                         @Shared @Cached TruffleString.ConcatNode concatNode,
                         @Cached PRaiseNode raiseNode) {
             TruffleString left;
@@ -622,7 +626,7 @@ public final class StringBuiltins extends PythonBuiltins {
             } catch (CannotCastException e) {
                 throw raiseNode.raise(inliningTarget, TypeError, ErrorMessages.CAN_ONLY_CONCAT_S_NOT_P_TO_S, "str", other, "str");
             }
-            return doIt(left, right, concatNode);
+            return doIt(left, right, language, concatNode);
         }
     }
 
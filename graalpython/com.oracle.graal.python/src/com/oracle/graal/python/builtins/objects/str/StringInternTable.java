@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.str;
+
+import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.compiler.CodeUnit;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Maps string contents to one canonical {@link TruffleString} instance. Strings that reach the
+ * runtime from outside of the compiled code (JSON object keys, {@code sys.intern}) are distinct
+ * instances from the identifiers in the code, so lookups in shapes and {@code ObjectHashMap}
+ * cannot use the identity check and have to compare the contents. Passing them through this table makes equal strings identical.
+ * <p>
+ * The table holds the strings weakly, an entry goes away once nothing else refers to its
+ * canonical instance. One instance of this class is kept per {@link PythonLanguage}, i.e., it is
+ * shared by all contexts of an engine just like the code units whose identifiers it holds.
+ */
+public final class StringInternTable {
+
+    /** Longer string constants are unlikely to be used as names. */
+    private static final int MAX_INTERNED_CONSTANT_LENGTH = 64;
+
+    private final WeakHashMap<TruffleString, WeakReference<TruffleString>> table = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance for the contents of {@code string}. If there is none yet,
+     * {@code string} itself becomes the canonical instance.
+     */
+    @TruffleBoundary
+    public synchronized TruffleString intern(TruffleString string) {
+        WeakReference<TruffleString> ref = table.get(string);
+        if (ref != null) {
+            TruffleString canonical = ref.get();
+            if (canonical != null) {
+                return canonical;
+            }
+        }
+        table.put(string, new WeakReference<>(string));
+        return string;
+    }
+
+    /**
+     * Whether {@code string} is the canonical instance for its contents, i.e., whether it was
+     * interned, and not just equal to an interned string.
+     */
+    @TruffleBoundary
+    public synchronized boolean isCanonical(TruffleString string) {
+        WeakReference<TruffleString> ref = table.get(string);
+        return ref != null && ref.get() == string;
+    }
+
+    /**
+     * Interns the identifiers (names, variable names, cell and free variable names) of the code
+     * unit and all code units nested in its constants, replacing them by the canonical instances
+     * in place. Like CPython, string constants that consist only of name characters are interned
+     * too, since those are typically keyword names or dictionary keys. This makes the names in the
+     * code identical to the equal strings interned at runtime.
+     */
+    @TruffleBoundary
+    public synchronized void internIdentifiers(CodeUnit code) {
+        internAll(code.names);
+        internAll(code.varnames);
+        internAll(code.cellvars);
+        internAll(code.freevars);
+        Object[] constants = code.constants;
+        for (int i = 0; i < constants.length; i++) {
+            if (constants[i] instanceof CodeUnit nested) {
+                internIdentifiers(nested);
+            } else if (constants[i] instanceof TruffleString string && isNameLike(string)) {
+                constants[i] = intern(string);
+            }
+        }
+    }
+
+    private static boolean isNameLike(TruffleString string) {
+        int length = string.codePointLengthUncached(TS_ENCODING);
+        if (length == 0 || length > MAX_INTERNED_CONSTANT_LENGTH) {
+            return false;
+        }
+        String s = string.toJavaStringUncached();
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void internAll(TruffleString[] strings) {
+        for (int i = 0; i < strings.length; i++) {
+            TruffleString canonical = intern(strings[i]);
+            if (canonical != strings[i]) {
+                strings[i] = canonical;
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -612,17 +612,27 @@ public abstract class StringNodes {
         static PString doString(Node inliningTarget, TruffleString string,
                         @Bind PythonLanguage language,
                         @Shared @Cached HiddenAttr.WriteNode writeNode) {
-            final PString interned = PFactory.createString(language, string);
+            TruffleString canonical = language.getStringInternTable().intern(string);
+            final PString interned = PFactory.createString(language, canonical);
             writeNode.execute(inliningTarget, interned, HiddenAttr.INTERNED, true);
             return interned;
         }
 
         @Specialization
         static PString doPString(Node inliningTarget, PString string,
+                        @Bind PythonLanguage language,
                         @Shared @Cached HiddenAttr.WriteNode writeNode) {
             if (isBuiltinPString(string)) {
-                writeNode.execute(inliningTarget, string, HiddenAttr.INTERNED, true);
-                return string;
+                PString interned = string;
+                if (string.isMaterialized()) {
+                    TruffleString canonical = language.getStringInternTable().intern(string.getMaterialized());
+                    if (canonical != string.getMaterialized()) {
+                        // an equal string was interned before, that one is the canonical instance
+                        interned = PFactory.createString(language, canonical);
+                    }
+                }
+                writeNode.execute(inliningTarget, interned, HiddenAttr.INTERNED, true);
+                return interned;
             }
             return null;
         }
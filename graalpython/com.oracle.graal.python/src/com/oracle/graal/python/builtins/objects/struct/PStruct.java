@@ -1,4 +1,4 @@
-/* Copyright (c) 2020, 2024, Oracle and/or its affiliates.
+/* Copyright (c) 2020, 2026, Oracle and/or its affiliates.
  * Copyright (C) 1996-2020 Python Software Foundation
  *
  * Licensed under the PYTHON SOFTWARE FOUNDATION LICENSE VERSION 2
@@ -18,6 +18,7 @@ public final class PStruct extends PythonBuiltinObject {
     private final int len;
     public final FormatAlignment formatAlignment;
     @CompilationFinal(dimensions = 1) private final FormatCode[] codes;
+    private final StructUnpackPlan unpackPlan;
 
     public PStruct(Object clazz, Shape instanceShape, StructInfo structInfo) {
         this(clazz, instanceShape, structInfo.format, structInfo.size, structInfo.len, structInfo.formatAlignment, structInfo.codes);
@@ -30,6 +31,7 @@ public final class PStruct extends PythonBuiltinObject {
         this.len = len;
         this.formatAlignment = formatAlignment;
         this.codes = codes;
+        this.unpackPlan = StructUnpackPlan.create(codes, len, formatAlignment);
     }
 
     public int getSize() {
@@ -44,6 +46,10 @@ public final class PStruct extends PythonBuiltinObject {
         return codes;
     }
 
+    public StructUnpackPlan getUnpackPlan() {
+        return unpackPlan;
+    }
+
     public byte[] getFormat() {
         return format;
     }
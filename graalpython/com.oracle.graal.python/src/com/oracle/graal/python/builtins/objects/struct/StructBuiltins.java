@@ -1,4 +1,4 @@
-/* Copyright (c) 2020, 2025, Oracle and/or its affiliates.
+/* Copyright (c) 2020, 2026, Oracle and/or its affiliates.
  * Copyright (C) 1996-2020 Python Software Foundation
  *
  * Licensed under the PYTHON SOFTWARE FOUNDATION LICENSE VERSION 2
@@ -95,6 +95,7 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonVarargsBuiltinNode;
@@ -102,10 +103,16 @@ import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProv
 import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
 import com.oracle.graal.python.runtime.IndirectCallData;
 import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.ObjectSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Cached.Shared;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.ImportStatic;
 import com.oracle.truffle.api.dsl.NeverDefault;
@@ -114,6 +121,7 @@ import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedLoopConditionProfile;
 import com.oracle.truffle.api.strings.TruffleString;
 
 @CoreFunctions(extendClasses = PythonBuiltinClassType.PStruct)
@@ -132,16 +140,10 @@ public class StructBuiltins extends PythonBuiltins {
     }
 
     public static Object[] unpackInternal(PStruct self, StructNodes.UnpackValueNode unpackValueNode, byte[] bytes, int offset) {
-        Object[] values = new Object[self.getLen()];
-        FormatCode[] codes = self.getCodes();
-        int pos = 0;
-        for (FormatCode code : codes) {
-            int buffer_offset = offset + code.offset;
-            for (int j = 0; j < code.repeat; j++, pos++) {
-                Object value = unpackValueNode.execute(code, self.formatAlignment, bytes, buffer_offset);
-                values[pos] = value;
-                buffer_offset += code.size;
-            }
+        StructUnpackPlan plan = self.getUnpackPlan();
+        Object[] values = new Object[plan.getFieldCount()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = unpackValueNode.execute(plan.getFieldCode(i), plan.getFormatAlignment(), bytes, offset + plan.getFieldOffset(i));
         }
         return values;
     }
@@ -548,14 +550,34 @@ public class StructBuiltins extends PythonBuiltins {
             return StructBuiltinsClinicProviders.StructUnpackNodeClinicProviderGen.INSTANCE;
         }
 
-        @Specialization(limit = "3")
+        @Specialization(guards = {"self.getUnpackPlan().isExplodable()", "self.getUnpackPlan() == unpackRecordNode.getPlan()"}, limit = "2")
+        static Object unpackCached(VirtualFrame frame, PStruct self, Object buffer,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
+                        @Shared @Cached("createFor($node)") IndirectCallData indirectCallData,
+                        @Shared @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                        @Cached("create(self.getUnpackPlan())") StructNodes.UnpackRecordNode unpackRecordNode,
+                        @Shared @Cached PRaiseNode raiseNode) {
+            try {
+                int bytesLen = bufferLib.getBufferLength(buffer);
+                byte[] bytes = bufferLib.getInternalOrCopiedByteArray(buffer);
+                if (bytesLen != self.getSize()) {
+                    throw raiseNode.raise(inliningTarget, StructError, UNPACK_REQ_A_BUFFER_OF_N_BYTES, self.getSize());
+                }
+                return PFactory.createTuple(language, unpackRecordNode.execute(bytes, 0));
+            } finally {
+                bufferLib.release(buffer, frame, indirectCallData);
+            }
+        }
+
+        @Specialization(replaces = "unpackCached")
         static Object unpack(VirtualFrame frame, PStruct self, Object buffer,
                         @Bind Node inliningTarget,
                         @Bind PythonLanguage language,
-                        @Cached("createFor($node)") IndirectCallData indirectCallData,
-                        @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
+                        @Shared @Cached("createFor($node)") IndirectCallData indirectCallData,
+                        @Shared @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
                         @Cached StructNodes.UnpackValueNode unpackValueNode,
-                        @Cached PRaiseNode raiseNode) {
+                        @Shared @Cached PRaiseNode raiseNode) {
             try {
                 int bytesLen = bufferLib.getBufferLength(buffer);
                 byte[] bytes = bufferLib.getInternalOrCopiedByteArray(buffer);
@@ -619,40 +641,149 @@ public class StructBuiltins extends PythonBuiltins {
             return StructBuiltinsClinicProviders.StructUnpackFromNodeClinicProviderGen.INSTANCE;
         }
 
-        @Specialization(limit = "3")
+        @Specialization(guards = {"self.getUnpackPlan().isExplodable()", "self.getUnpackPlan() == unpackRecordNode.getPlan()"}, limit = "2")
+        static Object unpackFromCached(VirtualFrame frame, PStruct self, Object buffer, int offset,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
+                        @Shared @Cached("createFor($node)") IndirectCallData indirectCallData,
+                        @Shared @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                        @Cached("create(self.getUnpackPlan())") StructNodes.UnpackRecordNode unpackRecordNode,
+                        @Shared @Cached PRaiseNode raiseNode) {
+            try {
+                int bytesLen = bufferLib.getBufferLength(buffer);
+                byte[] bytes = bufferLib.getInternalOrCopiedByteArray(buffer);
+                int bufferOffset = checkOffset(inliningTarget, self, offset, bytesLen, raiseNode);
+                return PFactory.createTuple(language, unpackRecordNode.execute(bytes, bufferOffset));
+            } finally {
+                bufferLib.release(buffer, frame, indirectCallData);
+            }
+        }
+
+        @Specialization(replaces = "unpackFromCached")
         static Object unpackFrom(VirtualFrame frame, PStruct self, Object buffer, int offset,
+                        @Bind Node inliningTarget,
+                        @Bind PythonLanguage language,
+                        @Shared @Cached("createFor($node)") IndirectCallData indirectCallData,
+                        @Shared @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
+                        @Cached StructNodes.UnpackValueNode unpackValueNode,
+                        @Shared @Cached PRaiseNode raiseNode) {
+            try {
+                int bytesLen = bufferLib.getBufferLength(buffer);
+                byte[] bytes = bufferLib.getInternalOrCopiedByteArray(buffer);
+                int bufferOffset = checkOffset(inliningTarget, self, offset, bytesLen, raiseNode);
+                return PFactory.createTuple(language, unpackInternal(self, unpackValueNode, bytes, bufferOffset));
+            } finally {
+                bufferLib.release(buffer, frame, indirectCallData);
+            }
+        }
+
+        private static int checkOffset(Node inliningTarget, PStruct self, int offset, int bytesLen, PRaiseNode raiseNode) {
+            int bufferOffset = offset;
+            final long size = self.getUnsignedSize();
+            if (bufferOffset < 0) {
+                if (bufferOffset + size > 0) {
+                    throw raiseNode.raise(inliningTarget, StructError, STRUCT_NOT_ENOUGH_DATA_TO_UNPACK_N_BYTES, size, bufferOffset);
+                }
+
+                if (bufferOffset + bytesLen < 0) {
+                    throw raiseNode.raise(inliningTarget, StructError, STRUCT_OFFSET_OUT_OF_RANGE, bufferOffset, bytesLen);
+                }
+                bufferOffset += bytesLen;
+            }
+
+            if ((bytesLen - bufferOffset) < size) {
+                throw raiseNode.raise(inliningTarget, StructError, STRUCT_UNPACK_FROM_REQ_AT_LEAST_N_BYTES, size + bufferOffset, size, bufferOffset, bytesLen);
+            }
+            return bufferOffset;
+        }
+    }
+
+    @Builtin(name = "unpack_columns", minNumOfPositionalArgs = 2, parameterNames = {"$self", "buffer", "offset", "count"}, forceSplitDirectCalls = true)
+    @ArgumentClinic(name = "buffer", conversion = ArgumentClinic.ClinicConversion.ReadableBuffer)
+    @ArgumentClinic(name = "offset", conversion = ArgumentClinic.ClinicConversion.Int, defaultValue = "0")
+    @ArgumentClinic(name = "count", conversion = ArgumentClinic.ClinicConversion.Int, defaultValue = "-1")
+    @GenerateNodeFactory
+    public abstract static class StructUnpackColumnsNode extends PythonQuaternaryClinicBuiltinNode {
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return StructBuiltinsClinicProviders.StructUnpackColumnsNodeClinicProviderGen.INSTANCE;
+        }
+
+        /**
+         * Unpacks {@code count} consecutive records (all the remaining ones if negative) starting
+         * at {@code offset} into a tuple with one list per field. Integer and float fields are
+         * decoded column by column directly into int, long or double list storages.
+         */
+        @Specialization(limit = "3")
+        static Object unpackColumns(VirtualFrame frame, PStruct self, Object buffer, int offset, int count,
                         @Bind Node inliningTarget,
                         @Bind PythonLanguage language,
                         @Cached("createFor($node)") IndirectCallData indirectCallData,
                         @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
                         @Cached StructNodes.UnpackValueNode unpackValueNode,
+                        @Cached InlinedLoopConditionProfile loopProfile,
                         @Cached PRaiseNode raiseNode) {
             try {
-                int bufferOffset = offset;
+                int size = self.getSize();
+                if (size == 0) {
+                    throw raiseNode.raise(inliningTarget, StructError, STRUCT_ITER_CANNOT_UNPACK_FROM_STRUCT_OF_SIZE_0);
+                }
                 int bytesLen = bufferLib.getBufferLength(buffer);
                 byte[] bytes = bufferLib.getInternalOrCopiedByteArray(buffer);
-
-                final long size = self.getUnsignedSize();
-                if (bufferOffset < 0) {
-                    if (bufferOffset + size > 0) {
-                        throw raiseNode.raise(inliningTarget, StructError, STRUCT_NOT_ENOUGH_DATA_TO_UNPACK_N_BYTES, size, bufferOffset);
-                    }
-
-                    if (bufferOffset + bytesLen < 0) {
-                        throw raiseNode.raise(inliningTarget, StructError, STRUCT_OFFSET_OUT_OF_RANGE, bufferOffset, bytesLen);
+                if (offset < 0 || offset > bytesLen) {
+                    throw raiseNode.raise(inliningTarget, StructError, STRUCT_OFFSET_OUT_OF_RANGE, offset, bytesLen);
+                }
+                int available = bytesLen - offset;
+                int records = count;
+                if (records < 0) {
+                    if (available % size != 0) {
+                        throw raiseNode.raise(inliningTarget, StructError, STRUCT_ITER_UNPACK_REQ_A_BUFFER_OF_A_MUL_OF_BYTES, size);
                     }
-                    bufferOffset += bytesLen;
+                    records = available / size;
+                } else if ((long) records * size > available) {
+                    long needed = (long) records * size;
+                    throw raiseNode.raise(inliningTarget, StructError, STRUCT_UNPACK_FROM_REQ_AT_LEAST_N_BYTES, needed + offset, needed, offset, bytesLen);
                 }
-
-                if ((bytesLen - bufferOffset) < size) {
-                    throw raiseNode.raise(inliningTarget, StructError, STRUCT_UNPACK_FROM_REQ_AT_LEAST_N_BYTES, size + bufferOffset, size, bufferOffset, bytesLen);
+                StructUnpackPlan plan = self.getUnpackPlan();
+                Object[] columns = new Object[plan.getFieldCount()];
+                for (int field = 0; field < columns.length; field++) {
+                    SequenceStorage storage = unpackColumn(inliningTarget, plan, field, bytes, offset, size, records, unpackValueNode, loopProfile);
+                    columns[field] = PFactory.createList(language, storage);
                 }
-
-                return PFactory.createTuple(language, unpackInternal(self, unpackValueNode, bytes, bufferOffset));
+                return PFactory.createTuple(language, columns);
             } finally {
                 bufferLib.release(buffer, frame, indirectCallData);
             }
         }
+
+        private static SequenceStorage unpackColumn(Node inliningTarget, StructUnpackPlan plan, int field, byte[] bytes, int offset, int stride, int count,
+                        StructNodes.UnpackValueNode unpackValueNode, InlinedLoopConditionProfile loopProfile) {
+            switch (plan.getColumnKind(field)) {
+                case StructUnpackPlan.KIND_INT:
+                    return new IntSequenceStorage(plan.unpackIntColumn(field, bytes, offset, stride, count));
+                case StructUnpackPlan.KIND_LONG:
+                    return new LongSequenceStorage(plan.unpackLongColumn(field, bytes, offset, stride, count));
+                case StructUnpackPlan.KIND_UNSIGNED_LONG:
+                    long[] longs = plan.unpackUnsignedLongColumn(field, bytes, offset, stride, count);
+                    if (longs != null) {
+                        return new LongSequenceStorage(longs);
+                    }
+                    break;
+                case StructUnpackPlan.KIND_DOUBLE:
+                    return new DoubleSequenceStorage(plan.unpackDoubleColumn(field, bytes, offset, stride, count));
+                default:
+                    assert plan.getColumnKind(field) == StructUnpackPlan.KIND_OBJECT;
+            }
+            FormatCode code = plan.getFieldCode(field);
+            Object[] values = new Object[count];
+            int pos = offset + plan.getFieldOffset(field);
+            loopProfile.profileCounted(inliningTarget, count);
+            for (int i = 0; loopProfile.inject(inliningTarget, i < count); i++, pos += stride) {
+                values[i] = unpackValueNode.execute(code, plan.getFormatAlignment(), bytes, pos);
+            }
+            return new ObjectSequenceStorage(values);
+        }
     }
 
     @Builtin(name = "calcsize", minNumOfPositionalArgs = 1)
@@ -1,4 +1,4 @@
-/* Copyright (c) 2020, 2025, Oracle and/or its affiliates.
+/* Copyright (c) 2020, 2026, Oracle and/or its affiliates.
  * Copyright (C) 1996-2020 Python Software Foundation
  *
  * Licensed under the PYTHON SOFTWARE FOUNDATION LICENSE VERSION 2
@@ -55,9 +55,11 @@ import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Shared;
 import com.oracle.truffle.api.dsl.GenerateInline;
 import com.oracle.truffle.api.dsl.ImportStatic;
+import com.oracle.truffle.api.dsl.NeverDefault;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 import com.oracle.truffle.api.profiles.PrimitiveValueProfile;
@@ -499,4 +501,39 @@ public final class StructNodes {
         }
     }
 
+    /**
+     * Unpacks whole records of one {@link StructUnpackPlan}. The loop over the fields is unrolled
+     * and every field gets its own {@link UnpackValueNode}, so that each of them stays monomorphic.
+     */
+    public static final class UnpackRecordNode extends Node {
+        private final StructUnpackPlan plan;
+        @Children private final UnpackValueNode[] unpackValueNodes;
+
+        private UnpackRecordNode(StructUnpackPlan plan) {
+            assert plan.isExplodable();
+            this.plan = plan;
+            this.unpackValueNodes = new UnpackValueNode[plan.getFieldCount()];
+            for (int i = 0; i < unpackValueNodes.length; i++) {
+                unpackValueNodes[i] = StructNodesFactory.UnpackValueNodeGen.create();
+            }
+        }
+
+        @NeverDefault
+        public static UnpackRecordNode create(StructUnpackPlan plan) {
+            return new UnpackRecordNode(plan);
+        }
+
+        public StructUnpackPlan getPlan() {
+            return plan;
+        }
+
+        @ExplodeLoop
+        public Object[] execute(byte[] bytes, int offset) {
+            Object[] values = new Object[unpackValueNodes.length];
+            for (int i = 0; i < unpackValueNodes.length; i++) {
+                values[i] = unpackValueNodes[i].execute(plan.getFieldCode(i), plan.getFormatAlignment(), bytes, offset + plan.getFieldOffset(i));
+            }
+            return values;
+        }
+    }
 }
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.struct;
+
+import static com.oracle.graal.python.builtins.objects.struct.FormatCode.FMT_VOID_PTR;
+
+import com.oracle.graal.python.builtins.objects.struct.StructNodes.StructBaseNode;
+import com.oracle.graal.python.util.NumericSupport;
+import com.oracle.truffle.api.CompilerDirectives.CompilationFinal;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * Flattened description of the values a {@link PStruct} unpacks: one entry per value with its
+ * format code and offset within the record, repeat counts already expanded. Besides driving the
+ * unrolled {@link StructNodes.UnpackRecordNode}, it selects a primitive column type for each field
+ * for the columnar unpacking.
+ */
+public final class StructUnpackPlan {
+    /**
+     * Structs with more fields than this are not unrolled.
+     */
+    public static final int MAX_EXPLODED_FIELDS = 32;
+
+    /** Signed integers of at most 4 bytes and unsigned integers of at most 2 bytes. */
+    public static final byte KIND_INT = 0;
+    /** Signed 8-byte integers and unsigned 4-byte integers. */
+    public static final byte KIND_LONG = 1;
+    /** Unsigned 8-byte integers, which only fit into a long if the highest bit is not set. */
+    public static final byte KIND_UNSIGNED_LONG = 2;
+    /** Half floats, floats and doubles. */
+    public static final byte KIND_DOUBLE = 3;
+    /** Everything else, unpacked value by value. */
+    public static final byte KIND_OBJECT = 4;
+
+    private final FormatAlignment formatAlignment;
+    @CompilationFinal(dimensions = 1) private final FormatCode[] fieldCodes;
+    @CompilationFinal(dimensions = 1) private final int[] fieldOffsets;
+    @CompilationFinal(dimensions = 1) private final byte[] columnKinds;
+
+    private StructUnpackPlan(FormatAlignment formatAlignment, FormatCode[] fieldCodes, int[] fieldOffsets, byte[] columnKinds) {
+        this.formatAlignment = formatAlignment;
+        this.fieldCodes = fieldCodes;
+        this.fieldOffsets = fieldOffsets;
+        this.columnKinds = columnKinds;
+    }
+
+    static StructUnpackPlan create(FormatCode[] codes, int len, FormatAlignment formatAlignment) {
+        FormatCode[] fieldCodes = new FormatCode[len];
+        int[] fieldOffsets = new int[len];
+        byte[] columnKinds = new byte[len];
+        int pos = 0;
+        for (FormatCode code : codes) {
+            byte kind = columnKind(code, formatAlignment);
+            for (int j = 0; j < code.repeat; j++, pos++) {
+                fieldCodes[pos] = code;
+                fieldOffsets[pos] = code.offset + j * code.size;
+                columnKinds[pos] = kind;
+            }
+        }
+        assert pos == len;
+        return new StructUnpackPlan(formatAlignment, fieldCodes, fieldOffsets, columnKinds);
+    }
+
+    private static byte columnKind(FormatCode code, FormatAlignment formatAlignment) {
+        if (StructBaseNode.isFmtInteger(code)) {
+            int numBytes = code.numBytes();
+            if (code.isUnsigned() ? numBytes <= 2 : numBytes <= 4) {
+                return KIND_INT;
+            }
+            return code.isUnsigned() && numBytes == 8 ? KIND_UNSIGNED_LONG : KIND_LONG;
+        } else if (StructBaseNode.isFmtFloat(code)) {
+            return KIND_DOUBLE;
+        } else if (code.formatDef.format == FMT_VOID_PTR && formatAlignment.isNative() && code.numBytes() == 8) {
+            return KIND_UNSIGNED_LONG;
+        }
+        return KIND_OBJECT;
+    }
+
+    public FormatAlignment getFormatAlignment() {
+        return formatAlignment;
+    }
+
+    public int getFieldCount() {
+        return fieldCodes.length;
+    }
+
+    public FormatCode getFieldCode(int field) {
+        return fieldCodes[field];
+    }
+
+    public int getFieldOffset(int field) {
+        return fieldOffsets[field];
+    }
+
+    public byte getColumnKind(int field) {
+        return columnKinds[field];
+    }
+
+    public boolean isExplodable() {
+        return fieldCodes.length <= MAX_EXPLODED_FIELDS;
+    }
+
+    private NumericSupport numericSupport() {
+        return StructBaseNode.getNumericSupport(formatAlignment);
+    }
+
+    /*
+     * The column kernels below read one field of {@code count} consecutive records of the given
+     * {@code stride} starting at {@code offset}. The caller checks the bounds.
+     */
+
+    @TruffleBoundary
+    public int[] unpackIntColumn(int field, byte[] bytes, int offset, int stride, int count) {
+        NumericSupport support = numericSupport();
+        FormatCode code = fieldCodes[field];
+        int numBytes = code.numBytes();
+        int[] column = new int[count];
+        int pos = offset + fieldOffsets[field];
+        if (code.isUnsigned()) {
+            for (int i = 0; i < count; i++, pos += stride) {
+                column[i] = (int) support.getLongUnsigned(bytes, pos, numBytes);
+            }
+        } else {
+            for (int i = 0; i < count; i++, pos += stride) {
+                column[i] = (int) support.getLong(bytes, pos, numBytes);
+            }
+        }
+        return column;
+    }
+
+    @TruffleBoundary
+    public long[] unpackLongColumn(int field, byte[] bytes, int offset, int stride, int count) {
+        NumericSupport support = numericSupport();
+        FormatCode code = fieldCodes[field];
+        int numBytes = code.numBytes();
+        long[] column = new long[count];
+        int pos = offset + fieldOffsets[field];
+        if (code.isUnsigned() && numBytes < 8) {
+            for (int i = 0; i < count; i++, pos += stride) {
+                column[i] = support.getLongUnsigned(bytes, pos, numBytes);
+            }
+        } else {
+            for (int i = 0; i < count; i++, pos += stride) {
+                column[i] = support.getLong(bytes, pos, numBytes);
+            }
+        }
+        return column;
+    }
+
+    /**
+     * Like {@link #unpackLongColumn} for unsigned 8-byte fields, but returns {@code null} if any of
+     * the values does not fit into a long.
+     */
+    @TruffleBoundary
+    public long[] unpackUnsignedLongColumn(int field, byte[] bytes, int offset, int stride, int count) {
+        long[] column = unpackLongColumn(field, bytes, offset, stride, count);
+        for (long value : column) {
+            if (value < 0) {
+                return null;
+            }
+        }
+        return column;
+    }
+
+    @TruffleBoundary
+    public double[] unpackDoubleColumn(int field, byte[] bytes, int offset, int stride, int count) {
+        NumericSupport support = numericSupport();
+        int numBytes = fieldCodes[field].numBytes();
+        double[] column = new double[count];
+        int pos = offset + fieldOffsets[field];
+        for (int i = 0; i < count; i++, pos += stride) {
+            column[i] = support.getDouble(bytes, pos, numBytes);
+        }
+        return column;
+    }
+}
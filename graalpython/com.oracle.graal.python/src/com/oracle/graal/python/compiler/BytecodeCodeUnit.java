@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -684,7 +684,13 @@ public final class BytecodeCodeUnit extends CodeUnit {
             // These are already quickened by the compiler, so keep them quickened
             // See CompilationUnit.emitBytecode
             case LOAD_BYTE, LOAD_INT, LOAD_LONG, LOAD_DOUBLE, LOAD_TRUE, LOAD_FALSE -> op;
-            default -> op.quickens;
+            default -> isSuperinstruction(op) ? op : op.quickens;
         };
     }
+
+    // Superinstructions are also produced by the compiler
+    // See CompilationUnit.combineSuperinstructions
+    private static boolean isSuperinstruction(OpCodes op) {
+        return op == OpCodes.LOAD_FAST_LOAD_FAST || op == OpCodes.LOAD_FAST_LOAD_ATTR || op == OpCodes.RETURN_NONE;
+    }
 }
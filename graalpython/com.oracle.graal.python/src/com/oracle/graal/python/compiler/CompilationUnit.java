@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -56,8 +56,10 @@ import java.util.Comparator;
 import java.util.Deque;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
@@ -176,6 +178,8 @@ public final class CompilationUnit {
 
     public BytecodeCodeUnit assemble() {
         addImplicitReturn();
+        optimizeControlFlow();
+        combineSuperinstructions();
         calculateJumpInstructionArguments();
 
         SourceMap.Builder sourceMapBuilder = new SourceMap.Builder(startLocation.startLine, startLocation.startColumn);
@@ -230,7 +234,7 @@ public final class CompilationUnit {
                 }
                 if (i.opcode == OpCodes.STORE_FAST) {
                     variableStores.get(i.arg).add(i);
-                } else if (i.opcode == OpCodes.LOAD_FAST) {
+                } else if (i.opcode == OpCodes.LOAD_FAST || i.opcode == OpCodes.LOAD_FAST_LOAD_FAST || i.opcode == OpCodes.LOAD_FAST_LOAD_ATTR) {
                     boxingMetric[i.arg] += i.quickenOutput != 0 ? quickenMetricWeight : -quickenMetricWeight;
                 }
                 i.bci = buf.size();
@@ -283,11 +287,15 @@ public final class CompilationUnit {
             finishedCanQuickenOutput[insnBodyBci] = insn.quickenOutput;
             if (insn.quickeningGeneralizeList != null && insn.quickeningGeneralizeList.size() > 0) {
                 finishedGeneralizeInputsMap[insnBodyBci] = new int[insn.quickeningGeneralizeList.size()];
-                for (int j = 0; j < finishedGeneralizeInputsMap[insnBodyBci].length; j++) {
-                    int bci = insn.quickeningGeneralizeList.get(j).bodyBci();
-                    assert bci >= 0;
-                    finishedGeneralizeInputsMap[insnBodyBci][j] = bci;
+                int[] inputs = new int[insn.quickeningGeneralizeList.size()];
+                int inputCount = 0;
+                for (Instruction input : insn.quickeningGeneralizeList) {
+                    // inputs in eliminated dead code are never executed
+                    if (input.bci != -1) {
+                        inputs[inputCount++] = input.bodyBci();
+                    }
                 }
+                finishedGeneralizeInputsMap[insnBodyBci] = inputCount == inputs.length ? inputs : Arrays.copyOf(inputs, inputCount);
             }
         }
         if (cell2arg != null) {
@@ -349,6 +357,191 @@ public final class CompilationUnit {
 
     private static final EnumSet<OpCodes> UNCONDITIONAL_JUMP_OPCODES = EnumSet.of(OpCodes.JUMP_BACKWARD, OpCodes.JUMP_FORWARD, OpCodes.RETURN_VALUE, OpCodes.RAISE_VARARGS, OpCodes.END_EXC_HANDLER);
 
+    private static final EnumSet<OpCodes> THREADABLE_JUMP_OPCODES = EnumSet.of(OpCodes.JUMP_FORWARD, OpCodes.JUMP_BACKWARD, OpCodes.POP_AND_JUMP_IF_FALSE, OpCodes.POP_AND_JUMP_IF_TRUE,
+                    OpCodes.JUMP_IF_FALSE_OR_POP, OpCodes.JUMP_IF_TRUE_OR_POP);
+
+    /**
+     * Simple optimizations on the control flow graph, similar to what CPython's flowgraph does
+     * before assembling: jumps to unconditional jumps are redirected to the final target, jumps to
+     * the immediately following code are removed and code that cannot be reached is dropped. A jump
+     * is only skipped if that doesn't lose a line event for tracing.
+     */
+    private void optimizeControlFlow() {
+        HashMap<Block, Integer> blockOrder = new HashMap<>();
+        int index = 0;
+        for (Block b = startBlock; b != null; b = b.next) {
+            blockOrder.put(b, index++);
+        }
+        for (Block b = startBlock; b != null; b = b.next) {
+            removeCodeAfterUnconditionalJump(b);
+        }
+        for (Block b = startBlock; b != null; b = b.next) {
+            int blockIndex = blockOrder.get(b);
+            for (int i = 0; i < b.instr.size(); i++) {
+                Instruction insn = b.instr.get(i);
+                if (THREADABLE_JUMP_OPCODES.contains(insn.opcode)) {
+                    b.instr.set(i, threadJump(insn, blockIndex, blockOrder));
+                }
+            }
+        }
+        for (Block b = startBlock; b != null; b = b.next) {
+            int last = b.instr.size() - 1;
+            if (last >= 0 && b.instr.get(last).opcode == OpCodes.JUMP_FORWARD) {
+                Instruction jump = b.instr.get(last);
+                Block next = skipEmpty(b.next);
+                if (next != null && skipEmpty(jump.target) == next && (last > 0 && sameLine(b.instr.get(last - 1), jump) || sameLine(next.instr.get(0), jump))) {
+                    b.instr.remove(last);
+                }
+            }
+        }
+        removeUnreachableBlocks();
+    }
+
+    /**
+     * Replaces the first instruction of some frequent pairs with a superinstruction that executes
+     * both instructions in a single dispatch of the bytecode interpreter. The second instruction
+     * stays in the bytecode, so offsets, jump targets, line numbers and exception ranges don't
+     * change and jumping directly to the second instruction still works. Pairs are only combined
+     * when they are on the same line (so that no line event is skipped), in the same exception
+     * handler range (the interpreter looks up the handler by the first instruction) and when the
+     * arguments fit into a single byte. Locals are loaded boxed by the superinstructions, so loads
+     * whose consumer could take an unboxed value are left alone.
+     */
+    private void combineSuperinstructions() {
+        Block prevBlock = null;
+        int prevIndex = -1;
+        for (Block b = startBlock; b != null; b = b.next) {
+            for (int i = 0; i < b.instr.size(); i++) {
+                Instruction insn = b.instr.get(i);
+                if (prevBlock != null) {
+                    Instruction prev = prevBlock.instr.get(prevIndex);
+                    OpCodes superinstruction = null;
+                    if (prevBlock.findExceptionHandler() == b.findExceptionHandler() && sameLine(prev, insn) && prev.extensions() == 0 && insn.extensions() == 0) {
+                        superinstruction = findSuperinstruction(prev, insn);
+                    }
+                    if (superinstruction != null) {
+                        // attribute errors are reported at the first bci, so give it the full range
+                        SourceRange location = superinstruction == OpCodes.LOAD_FAST_LOAD_ATTR ? insn.location : prev.location;
+                        prevBlock.instr.set(prevIndex, new Instruction(superinstruction, prev.arg, prev.followingArgs, null, location));
+                        // the second instruction cannot start another pair
+                        prevBlock = null;
+                        continue;
+                    }
+                }
+                prevBlock = b;
+                prevIndex = i;
+            }
+        }
+    }
+
+    private static OpCodes findSuperinstruction(Instruction first, Instruction second) {
+        if (first.opcode == OpCodes.LOAD_FAST && first.quickenOutput == 0) {
+            if (second.opcode == OpCodes.LOAD_FAST && second.quickenOutput == 0) {
+                return OpCodes.LOAD_FAST_LOAD_FAST;
+            } else if (second.opcode == OpCodes.LOAD_ATTR) {
+                return OpCodes.LOAD_FAST_LOAD_ATTR;
+            }
+        } else if (first.opcode == OpCodes.LOAD_NONE && second.opcode == OpCodes.RETURN_VALUE) {
+            return OpCodes.RETURN_NONE;
+        }
+        return null;
+    }
+
+    private static boolean sameLine(Instruction a, Instruction b) {
+        return a.location.startLine == b.location.startLine;
+    }
+
+    private static void removeCodeAfterUnconditionalJump(Block b) {
+        for (int i = 0; i < b.instr.size() - 1; i++) {
+            if (UNCONDITIONAL_JUMP_OPCODES.contains(b.instr.get(i).opcode)) {
+                b.instr.subList(i + 1, b.instr.size()).clear();
+                return;
+            }
+        }
+    }
+
+    private static Block skipEmpty(Block block) {
+        Block b = block;
+        while (b != null && b.instr.isEmpty()) {
+            b = b.next;
+        }
+        return b;
+    }
+
+    /**
+     * Returns the first instruction executed when jumping to the given block.
+     */
+    private static Instruction firstInstruction(Block target) {
+        Block b = skipEmpty(target);
+        return b != null ? b.instr.get(0) : null;
+    }
+
+    private static Instruction threadJump(Instruction insn, int blockIndex, HashMap<Block, Integer> blockOrder) {
+        Block target = insn.target;
+        Set<Block> seen = new HashSet<>();
+        while (seen.add(target)) {
+            Instruction first = firstInstruction(target);
+            if (first == null || (first.opcode != OpCodes.JUMP_FORWARD && first.opcode != OpCodes.JUMP_BACKWARD)) {
+                break;
+            }
+            Instruction afterJump = firstInstruction(first.target);
+            if (!sameLine(insn, first) && (afterJump == null || !sameLine(afterJump, first))) {
+                break;
+            }
+            target = first.target;
+        }
+        if (target == insn.target) {
+            return insn;
+        }
+        boolean forward = blockOrder.get(target) > blockIndex;
+        if (insn.opcode == OpCodes.JUMP_FORWARD || insn.opcode == OpCodes.JUMP_BACKWARD) {
+            OpCodes opcode = forward ? OpCodes.JUMP_FORWARD : OpCodes.JUMP_BACKWARD;
+            return new Instruction(opcode, 0, insn.followingArgs, target, insn.location);
+        }
+        if (forward) {
+            // conditional jumps can only go forward
+            insn.target = target;
+        }
+        return insn;
+    }
+
+    private void removeUnreachableBlocks() {
+        Set<Block> reachable = new HashSet<>();
+        Deque<Block> todo = new ArrayDeque<>();
+        todo.push(startBlock);
+        while (!todo.isEmpty()) {
+            Block block = todo.pop();
+            if (!reachable.add(block)) {
+                continue;
+            }
+            BlockInfo.AbstractExceptionHandler handler = block.findExceptionHandler();
+            if (handler != null) {
+                todo.push(handler.exceptionHandler);
+            }
+            boolean fallthrough = true;
+            for (Instruction i : block.instr) {
+                if (i.target != null) {
+                    todo.push(i.target);
+                }
+                if (UNCONDITIONAL_JUMP_OPCODES.contains(i.opcode)) {
+                    fallthrough = false;
+                    break;
+                }
+            }
+            if (fallthrough && block.next != null) {
+                todo.push(block.next);
+            }
+        }
+        Block prev = startBlock;
+        for (Block b = startBlock.next; b != null; b = b.next) {
+            if (reachable.contains(b)) {
+                prev.next = b;
+                prev = b;
+            }
+        }
+        prev.next = null;
+    }
+
     private void computeStackLevels() {
         Deque<Block> todo = new ArrayDeque<>();
         todo.add(startBlock);
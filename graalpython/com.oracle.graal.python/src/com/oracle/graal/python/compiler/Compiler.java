@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -181,6 +181,7 @@ import com.oracle.graal.python.compiler.OpCodes.CollectionBits;
 import com.oracle.graal.python.compiler.OpCodes.MakeTypeParamKind;
 import com.oracle.graal.python.lib.PyObjectRichCompareBool;
 import com.oracle.graal.python.pegparser.AbstractParser;
+import com.oracle.graal.python.pegparser.AstOptimizer;
 import com.oracle.graal.python.pegparser.FutureFeature;
 import com.oracle.graal.python.pegparser.InputType;
 import com.oracle.graal.python.pegparser.Parser;
@@ -227,7 +228,7 @@ import com.oracle.truffle.api.strings.TruffleString;
  * Compiler for bytecode interpreter.
  */
 public class Compiler implements SSTreeVisitor<Void> {
-    public static final int BYTECODE_VERSION = 30;
+    public static final int BYTECODE_VERSION = 31;
 
     private final ParserCallbacks parserCallbacks;
 
@@ -264,10 +265,11 @@ public class Compiler implements SSTreeVisitor<Void> {
             futureLineno = parseFuture(((ModTy.Interactive) mod).body, futureFeatures, parserCallbacks);
         }
         this.futureFeatures.addAll(futureFeatures);
-        this.env = ScopeEnvironment.analyze(mod, parserCallbacks, this.futureFeatures);
         this.optimizationLevel = optimizationLevel;
-        enterScope("<module>", CompilationScope.Module, mod);
-        mod.accept(this);
+        ModTy optimized = AstOptimizer.optimize(mod, optimizationLevel, this.futureFeatures);
+        this.env = ScopeEnvironment.analyze(optimized, parserCallbacks, this.futureFeatures);
+        enterScope("<module>", CompilationScope.Module, optimized);
+        optimized.accept(this);
         CompilationUnit topUnit = unit;
         exitScope();
         return topUnit;
@@ -1441,18 +1443,26 @@ public class Compiler implements SSTreeVisitor<Void> {
             case BYTES:
                 return addOp(LOAD_BYTES, addObject(unit.constants, value.getBytes()));
             case TUPLE:
-                addConstantList(value.getTupleElements());
+                ConstantValue[] elements = value.getTupleElements();
+                if (tryLoadConstantCollection(elements, CollectionBits.KIND_TUPLE)) {
+                    return null;
+                }
+                if (elements.length <= CollectionBits.KIND_MASK) {
+                    addConstantList(elements, CollectionBits.KIND_TUPLE);
+                    return null;
+                }
+                addConstantList(elements, CollectionBits.KIND_LIST);
                 return addOp(TUPLE_FROM_LIST);
             case FROZENSET:
-                addConstantList(value.getFrozensetElements());
+                addConstantList(value.getFrozensetElements(), CollectionBits.KIND_LIST);
                 return addOp(FROZENSET_FROM_LIST);
             default:
                 throw new IllegalStateException("Unknown constant kind " + value.kind);
         }
     }
 
-    private void addConstantList(ConstantValue[] values) {
-        Collector collector = new Collector(CollectionBits.KIND_LIST, 0);
+    private void addConstantList(ConstantValue[] values, int bits) {
+        Collector collector = new Collector(bits, 0);
         for (ConstantValue v : values) {
             addConstant(v);
             collector.appendItem();
@@ -1922,7 +1932,14 @@ public class Compiler implements SSTreeVisitor<Void> {
     }
 
     private boolean tryLoadConstantCollection(ExprTy[] elements, int collectionKind) {
-        ConstantCollection constantCollection = tryCollectConstantCollection(elements);
+        return loadConstantCollection(tryCollectConstantCollection(elements), collectionKind);
+    }
+
+    private boolean tryLoadConstantCollection(ConstantValue[] elements, int collectionKind) {
+        return loadConstantCollection(tryCollectConstantCollection(elements), collectionKind);
+    }
+
+    private boolean loadConstantCollection(ConstantCollection constantCollection, int collectionKind) {
         if (constantCollection == null) {
             return false;
         }
@@ -1949,36 +1966,45 @@ public class Compiler implements SSTreeVisitor<Void> {
         if (elements == null || elements.length == 0) {
             return null;
         }
+        ConstantValue[] values = new ConstantValue[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            if (!(elements[i] instanceof ExprTy.Constant c)) {
+                return null;
+            }
+            values[i] = c.value;
+        }
+        return tryCollectConstantCollection(values);
+    }
+
+    public static ConstantCollection tryCollectConstantCollection(ConstantValue[] values) {
+        if (values.length == 0) {
+            return null;
+        }
 
         int constantType = -1;
         List<Object> constants = new ArrayList<>();
 
-        for (ExprTy e : elements) {
-            if (e instanceof ExprTy.Constant) {
-                ExprTy.Constant c = (ExprTy.Constant) e;
-                if (c.value.kind == ConstantValue.Kind.BOOLEAN) {
-                    constantType = determineConstantType(constantType, CollectionBits.ELEMENT_BOOLEAN);
-                    constants.add(c.value.getBoolean());
-                } else if (c.value.kind == ConstantValue.Kind.LONG) {
-                    long val = c.value.getLong();
-                    if (val == (int) val) {
-                        constantType = determineConstantType(constantType, CollectionBits.ELEMENT_INT);
-                    } else {
-                        constantType = determineConstantType(constantType, CollectionBits.ELEMENT_LONG);
-                    }
-                    constants.add(val);
-                } else if (c.value.kind == ConstantValue.Kind.DOUBLE) {
-                    constantType = determineConstantType(constantType, CollectionBits.ELEMENT_DOUBLE);
-                    constants.add(c.value.getDouble());
-                } else if (c.value.kind == ConstantValue.Kind.CODEPOINTS) {
-                    constantType = determineConstantType(constantType, CollectionBits.ELEMENT_OBJECT);
-                    constants.add(codePointsToTruffleString(c.value.getCodePoints()));
-                } else if (c.value.kind == ConstantValue.Kind.NONE) {
-                    constantType = determineConstantType(constantType, CollectionBits.ELEMENT_OBJECT);
-                    constants.add(PNone.NONE);
+        for (ConstantValue value : values) {
+            if (value.kind == ConstantValue.Kind.BOOLEAN) {
+                constantType = determineConstantType(constantType, CollectionBits.ELEMENT_BOOLEAN);
+                constants.add(value.getBoolean());
+            } else if (value.kind == ConstantValue.Kind.LONG) {
+                long val = value.getLong();
+                if (val == (int) val) {
+                    constantType = determineConstantType(constantType, CollectionBits.ELEMENT_INT);
                 } else {
-                    return null;
+                    constantType = determineConstantType(constantType, CollectionBits.ELEMENT_LONG);
                 }
+                constants.add(val);
+            } else if (value.kind == ConstantValue.Kind.DOUBLE) {
+                constantType = determineConstantType(constantType, CollectionBits.ELEMENT_DOUBLE);
+                constants.add(value.getDouble());
+            } else if (value.kind == ConstantValue.Kind.CODEPOINTS) {
+                constantType = determineConstantType(constantType, CollectionBits.ELEMENT_OBJECT);
+                constants.add(codePointsToTruffleString(value.getCodePoints()));
+            } else if (value.kind == ConstantValue.Kind.NONE) {
+                constantType = determineConstantType(constantType, CollectionBits.ELEMENT_OBJECT);
+                constants.add(PNone.NONE);
             } else {
                 return null;
             }
@@ -2848,17 +2874,98 @@ public class Compiler implements SSTreeVisitor<Void> {
         return null;
     }
 
+    /**
+     * Emits a jump to {@code next} if the test evaluates to {@code jumpIfTrue}. Like
+     * {@code compiler_jump_if} in CPython, boolean operators, negations and chained comparisons in
+     * the test are compiled directly into jumps instead of first materializing the intermediate
+     * values. The target block must come after the current block.
+     */
     private void jumpIf(ExprTy test, Block next, boolean jumpIfTrue) {
-        // TODO Optimize for various test types, such as short-circuit operators
-        // See compiler_jump_if in CPython
-        if (test instanceof ExprTy.Compare) {
-            checkCompare(parserCallbacks, (ExprTy.Compare) test);
-        }
-        test.accept(this);
-        if (jumpIfTrue) {
-            addConditionalJump(POP_AND_JUMP_IF_TRUE, next);
+        if (test instanceof ExprTy.UnaryOp unaryOp && unaryOp.op == UnaryOpTy.Not) {
+            jumpIf(unaryOp.operand, next, !jumpIfTrue);
+        } else if (test instanceof ExprTy.BoolOp boolOp) {
+            boolean jumpIfTrue2 = boolOp.op == BoolOpTy.Or;
+            Block next2 = jumpIfTrue2 == jumpIfTrue ? next : new Block();
+            ExprTy[] values = boolOp.values;
+            for (int i = 0; i < values.length - 1; i++) {
+                jumpIf(values[i], next2, jumpIfTrue2);
+            }
+            jumpIf(values[values.length - 1], next, jumpIfTrue);
+            if (next2 != next) {
+                unit.useNextBlock(next2);
+            }
+        } else if (test instanceof ExprTy.IfExp ifExp) {
+            Block end = new Block();
+            Block next2 = new Block();
+            jumpIf(ifExp.test, next2, false);
+            jumpIf(ifExp.body, next, jumpIfTrue);
+            addOp(JUMP_FORWARD, end);
+            unit.useNextBlock(next2);
+            jumpIf(ifExp.orElse, next, jumpIfTrue);
+            unit.useNextBlock(end);
+        } else if (test instanceof ExprTy.Compare compare && compare.ops.length > 1) {
+            jumpIfCompare(compare, next, jumpIfTrue);
+        } else if (test instanceof ExprTy.Compare compare && (compare.ops[0] == CmpOpTy.NotIn || compare.ops[0] == CmpOpTy.IsNot)) {
+            // "not in" and "is not" are compiled as a negation, fold it into the jump
+            SourceRange savedLocation = setLocation(compare);
+            checkCompare(parserCallbacks, compare);
+            try {
+                compare.left.accept(this);
+                compare.comparators[0].accept(this);
+                addOp(BINARY_OP, (compare.ops[0] == CmpOpTy.NotIn ? BinaryOps.IN : BinaryOps.IS).ordinal());
+            } finally {
+                setLocation(savedLocation);
+            }
+            addConditionalJump(jumpIfTrue ? POP_AND_JUMP_IF_FALSE : POP_AND_JUMP_IF_TRUE, next);
+        } else if (test instanceof ExprTy.Constant constant) {
+            SourceRange savedLocation = setLocation(test);
+            try {
+                if (constant.value.isTruthy() == jumpIfTrue) {
+                    addOp(JUMP_FORWARD, next);
+                }
+            } finally {
+                setLocation(savedLocation);
+            }
         } else {
-            addConditionalJump(POP_AND_JUMP_IF_FALSE, next);
+            if (test instanceof ExprTy.Compare) {
+                checkCompare(parserCallbacks, (ExprTy.Compare) test);
+            }
+            test.accept(this);
+            if (jumpIfTrue) {
+                addConditionalJump(POP_AND_JUMP_IF_TRUE, next);
+            } else {
+                addConditionalJump(POP_AND_JUMP_IF_FALSE, next);
+            }
+        }
+    }
+
+    private void jumpIfCompare(ExprTy.Compare node, Block next, boolean jumpIfTrue) {
+        SourceRange savedLocation = setLocation(node);
+        checkCompare(parserCallbacks, node);
+        try {
+            node.left.accept(this);
+            Block cleanup = new Block();
+            int i;
+            for (i = 0; i < node.comparators.length - 1; i++) {
+                node.comparators[i].accept(this);
+                addOp(DUP_TOP);
+                addOp(ROT_THREE);
+                addCompareOp(node.ops[i]);
+                addConditionalJump(POP_AND_JUMP_IF_FALSE, cleanup);
+            }
+            node.comparators[i].accept(this);
+            addCompareOp(node.ops[i]);
+            addConditionalJump(jumpIfTrue ? POP_AND_JUMP_IF_TRUE : POP_AND_JUMP_IF_FALSE, next);
+            Block end = new Block();
+            addOp(JUMP_FORWARD, end);
+            unit.useNextBlock(cleanup);
+            addOp(POP_TOP);
+            if (!jumpIfTrue) {
+                addOp(JUMP_FORWARD, next);
+            }
+            unit.useNextBlock(end);
+        } finally {
+            setLocation(savedLocation);
         }
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -902,7 +902,21 @@ public enum OpCodes {
     POP_AND_JUMP_IF_FALSE_O(POP_AND_JUMP_IF_FALSE, QuickeningTypes.OBJECT, 0),
     POP_AND_JUMP_IF_FALSE_B(POP_AND_JUMP_IF_FALSE, QuickeningTypes.BOOLEAN, 0, POP_AND_JUMP_IF_FALSE_O),
     POP_AND_JUMP_IF_TRUE_O(POP_AND_JUMP_IF_TRUE, QuickeningTypes.OBJECT, 0),
-    POP_AND_JUMP_IF_TRUE_B(POP_AND_JUMP_IF_TRUE, QuickeningTypes.BOOLEAN, 0, POP_AND_JUMP_IF_TRUE_O);
+    POP_AND_JUMP_IF_TRUE_B(POP_AND_JUMP_IF_TRUE, QuickeningTypes.BOOLEAN, 0, POP_AND_JUMP_IF_TRUE_O),
+
+    /*
+     * Superinstructions. They are produced by the compiler in place of the first instruction of a
+     * frequent pair (see CompilationUnit#combineSuperinstructions). The second instruction is kept
+     * in the bytecode unchanged, so all offsets stay the same, but the interpreter executes it as
+     * part of the superinstruction and skips over it. They are declared as variants of the first
+     * instruction so that stack effects and argument lengths are those of the first instruction.
+     */
+    /** {@link #LOAD_FAST} followed by another {@link #LOAD_FAST}. Both locals are loaded boxed. */
+    LOAD_FAST_LOAD_FAST(LOAD_FAST, 0, 0),
+    /** {@link #LOAD_FAST} followed by {@link #LOAD_ATTR} on the loaded (boxed) local. */
+    LOAD_FAST_LOAD_ATTR(LOAD_FAST, 0, 0),
+    /** {@link #LOAD_NONE} followed by {@link #RETURN_VALUE}. */
+    RETURN_NONE(LOAD_NONE, 0, 0);
 
     public static final class CollectionBits {
         public static final int KIND_MASK = 0b00011111;
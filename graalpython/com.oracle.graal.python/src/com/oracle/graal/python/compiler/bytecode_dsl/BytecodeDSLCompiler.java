@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2025, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -47,6 +47,7 @@ import com.oracle.graal.python.compiler.Compiler;
 import com.oracle.graal.python.compiler.ParserCallbacksImpl;
 import com.oracle.graal.python.nodes.bytecode_dsl.BytecodeDSLCodeUnit;
 import com.oracle.graal.python.nodes.bytecode_dsl.PBytecodeDSLRootNode;
+import com.oracle.graal.python.pegparser.AstOptimizer;
 import com.oracle.graal.python.pegparser.FutureFeature;
 import com.oracle.graal.python.pegparser.scope.Scope;
 import com.oracle.graal.python.pegparser.scope.ScopeEnvironment;
@@ -67,9 +68,10 @@ public class BytecodeDSLCompiler {
          * when __future__.annotations is imported.
          */
         int futureLineNumber = parseFuture(mod, futureFeatures, parserCallbacks);
-        ScopeEnvironment scopeEnvironment = ScopeEnvironment.analyze(mod, parserCallbacks, futureFeatures);
-        BytecodeDSLCompilerContext ctx = new BytecodeDSLCompilerContext(language, context, mod, source, optimize, futureFeatures, futureLineNumber, parserCallbacks, scopeEnvironment);
-        RootNodeCompiler compiler = new RootNodeCompiler(ctx, null, mod, futureFeatures);
+        ModTy optimized = AstOptimizer.optimize(mod, optimize, futureFeatures);
+        ScopeEnvironment scopeEnvironment = ScopeEnvironment.analyze(optimized, parserCallbacks, futureFeatures);
+        BytecodeDSLCompilerContext ctx = new BytecodeDSLCompilerContext(language, context, optimized, source, optimize, futureFeatures, futureLineNumber, parserCallbacks, scopeEnvironment);
+        RootNodeCompiler compiler = new RootNodeCompiler(ctx, null, optimized, futureFeatures);
         return compiler.compile();
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -2017,13 +2017,19 @@ public final class RootNodeCompiler implements BaseBytecodeDSLVisitor<BytecodeDS
                     addConstant(value.getBytes());
                     b.emitLoadBytes(value.getBytes());
                     break;
-                case TUPLE:
+                case TUPLE: {
+                    ConstantCollection constantCollection = Compiler.tryCollectConstantCollection(value.getTupleElements());
+                    if (constantCollection != null) {
+                        emitConstantTuple(constantCollection);
+                        break;
+                    }
                     b.beginMakeTuple();
                     for (ConstantValue cv : value.getTupleElements()) {
                         createConstant(cv);
                     }
                     b.endMakeTuple();
                     break;
+                }
                 case FROZENSET:
                     b.beginMakeFrozenSet();
                     for (ConstantValue cv : value.getFrozensetElements()) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2025, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -241,12 +241,7 @@ public abstract class PyLongFromUnicodeObject extends Node {
 
             checkMaxDigits(inliningTarget, context, s.length(), base);
 
-            BigInteger bi;
-            if (sign == '-') {
-                bi = new BigInteger("-" + s, base);
-            } else {
-                bi = new BigInteger(s, base);
-            }
+            BigInteger bi = context.getIntDecimalConversion().parse(s, base, sign == '-');
 
             if (raiseIfNotZero && !bi.equals(BigInteger.ZERO)) {
                 throw new NumberFormatException("Obsolete octal int literal");
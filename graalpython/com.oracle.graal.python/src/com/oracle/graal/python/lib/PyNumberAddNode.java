@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -55,6 +55,7 @@ import com.oracle.graal.python.builtins.objects.type.slots.TpSlotBinaryOp.Revers
 import com.oracle.graal.python.lib.fastpath.PyNumberAddFastPathsBase;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.object.GetClassNode;
+import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.truffle.api.bytecode.OperationProxy;
@@ -97,8 +98,9 @@ public abstract class PyNumberAddNode extends PyNumberAddFastPathsBase {
 
     @Specialization
     public static TruffleString doIt(TruffleString left, TruffleString right,
+                    @Bind PythonLanguage language,
                     @Cached TruffleString.ConcatNode concatNode) {
-        return concatNode.execute(left, right, TS_ENCODING, false);
+        return concatNode.execute(left, right, TS_ENCODING, language.getEngineOption(PythonOptions.LazyStrings));
     }
 
     @Fallback
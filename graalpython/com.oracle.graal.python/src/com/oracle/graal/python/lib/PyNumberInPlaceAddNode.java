@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2025, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -41,7 +41,9 @@
 package com.oracle.graal.python.lib;
 
 import static com.oracle.graal.python.lib.CallBinaryOpNode.raiseNotSupported;
+import static com.oracle.graal.python.util.PythonUtils.TS_ENCODING;
 
+import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.objects.PNotImplemented;
 import com.oracle.graal.python.builtins.objects.type.TpSlots;
 import com.oracle.graal.python.builtins.objects.type.TpSlots.GetCachedTpSlotsNode;
@@ -51,6 +53,7 @@ import com.oracle.graal.python.builtins.objects.type.slots.TpSlotBinaryOp.Inplac
 import com.oracle.graal.python.lib.fastpath.PyNumberAddFastPathsBase;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.object.GetClassNode;
+import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.truffle.api.HostCompilerDirectives.InliningCutoff;
 import com.oracle.truffle.api.bytecode.OperationProxy;
 import com.oracle.truffle.api.dsl.Bind;
@@ -60,15 +63,24 @@ import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.GenerateInline;
 import com.oracle.truffle.api.dsl.GenerateUncached;
 import com.oracle.truffle.api.dsl.NeverDefault;
+import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.profiles.InlinedBranchProfile;
+import com.oracle.truffle.api.strings.TruffleString;
 
 @GenerateInline(false)
 @GenerateUncached
 @OperationProxy.Proxyable
 public abstract class PyNumberInPlaceAddNode extends PyNumberAddFastPathsBase {
 
+    @Specialization
+    public static TruffleString doIt(TruffleString left, TruffleString right,
+                    @Bind PythonLanguage language,
+                    @Cached TruffleString.ConcatNode concatNode) {
+        return concatNode.execute(left, right, TS_ENCODING, language.getEngineOption(PythonOptions.LazyStrings));
+    }
+
     @Fallback
     @InliningCutoff
     public static Object doIt(VirtualFrame frame, Object v, Object w,
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -42,6 +42,8 @@ package com.oracle.graal.python.lib;
 
 import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
 
+import java.util.stream.BaseStream;
+
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.objects.range.PIntRange;
 import com.oracle.graal.python.builtins.objects.type.TpSlots;
@@ -50,8 +52,11 @@ import com.oracle.graal.python.builtins.objects.type.slots.TpSlotUnaryFunc.CallS
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.object.GetClassNode;
+import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.HostCompilerDirectives.InliningCutoff;
+import com.oracle.truffle.api.TruffleLanguage.Env;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.GenerateCached;
@@ -61,6 +66,8 @@ import com.oracle.truffle.api.dsl.NeverDefault;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.Frame;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.interop.InteropException;
+import com.oracle.truffle.api.interop.InteropLibrary;
 import com.oracle.truffle.api.nodes.Node;
 
 /**
@@ -107,10 +114,34 @@ public abstract class PyObjectGetIter extends Node {
             if (sequenceCheckNode.execute(inliningTarget, receiver)) {
                 return PFactory.createSequenceIterator(PythonLanguage.get(inliningTarget), receiver);
             }
+            Object streamIterator = getHostStreamIterator(inliningTarget, receiver);
+            if (streamIterator != null) {
+                return streamIterator;
+            }
         }
         throw raise.raise(inliningTarget, TypeError, ErrorMessages.OBJ_NOT_ITERABLE, receiver);
     }
 
+    /**
+     * Java streams are neither interop iterables nor iterators, but they can be consumed only once
+     * anyway. We iterate over {@code stream.iterator()}.
+     */
+    @TruffleBoundary
+    private static Object getHostStreamIterator(Node inliningTarget, Object receiver) {
+        Env env = PythonContext.get(inliningTarget).getEnv();
+        if (env.isHostObject(receiver) && env.asHostObject(receiver) instanceof BaseStream<?, ?>) {
+            try {
+                Object iterator = InteropLibrary.getUncached().invokeMember(receiver, "iterator");
+                if (InteropLibrary.getUncached().isIterator(iterator)) {
+                    return iterator;
+                }
+            } catch (InteropException e) {
+                // not accessible with the current host access policy
+            }
+        }
+        return null;
+    }
+
     @NeverDefault
     public static PyObjectGetIter create() {
         return PyObjectGetIterNodeGen.create();
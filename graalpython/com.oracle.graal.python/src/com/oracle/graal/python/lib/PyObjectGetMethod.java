@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -43,6 +43,7 @@ package com.oracle.graal.python.lib;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.PythonAbstractObject;
+import com.oracle.graal.python.builtins.objects.foreign.ForeignObjectBuiltins;
 import com.oracle.graal.python.builtins.objects.object.ObjectBuiltins;
 import com.oracle.graal.python.builtins.objects.type.TpSlots;
 import com.oracle.graal.python.builtins.objects.type.TpSlots.GetCachedTpSlotsNode;
@@ -64,6 +65,7 @@ import com.oracle.graal.python.nodes.object.GetClassNode;
 import com.oracle.graal.python.nodes.object.IsForeignObjectNode;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.truffle.api.HostCompilerDirectives.InliningCutoff;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Exclusive;
@@ -71,6 +73,7 @@ import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.GenerateCached;
 import com.oracle.truffle.api.dsl.GenerateInline;
 import com.oracle.truffle.api.dsl.GenerateUncached;
+import com.oracle.truffle.api.dsl.NeverDefault;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.Frame;
 import com.oracle.truffle.api.frame.VirtualFrame;
@@ -159,14 +162,59 @@ public abstract class PyObjectGetMethod extends Node {
         throw raiseNode.raiseAttributeError(inliningTarget, ErrorMessages.OBJ_P_HAS_NO_ATTR_S, receiver, name);
     }
 
-    @Specialization(guards = "isForeignObject(inliningTarget, isForeignObjectNode, receiver)", limit = "1")
+    /**
+     * Fast path for calling methods of foreign (typically host) objects with a constant name. If
+     * the Python type of the receiver uses the default foreign {@code __getattribute__} and nothing
+     * in its MRO shadows the name, the generic lookup would only raise an {@code AttributeError}
+     * and then read the member through interop. We skip that and return a {@link ForeignMethod}
+     * with a constant member name instead, so that {@code invokeMember} in {@link CallNode} can
+     * keep its overload resolution and argument conversion cached per call site.
+     */
+    @Specialization(guards = {"isForeignObject(inliningTarget, isForeignObjectNode, receiver)", "name == cachedName"}, limit = "1")
+    @InliningCutoff
+    static Object getForeignMethodCached(VirtualFrame frame, Node inliningTarget, Object receiver, @SuppressWarnings("unused") TruffleString name,
+                    @SuppressWarnings("unused") @Exclusive @Cached IsForeignObjectNode isForeignObjectNode,
+                    @Cached("name") TruffleString cachedName,
+                    @Cached("toJavaString(name)") String cachedJName,
+                    @Exclusive @Cached GetClassNode getClass,
+                    @Exclusive @Cached GetCachedTpSlotsNode getTypeSlotsNode,
+                    @Exclusive @Cached LookupAttributeInMRONode.Dynamic lookupNode,
+                    @Exclusive @Cached PyObjectGetAttr getAttr,
+                    @Exclusive @Cached InlinedBranchProfile slowPath,
+                    @Exclusive @Cached BuiltinClassProfiles.IsBuiltinObjectProfile isAttrError,
+                    @Exclusive @CachedLibrary("receiver") InteropLibrary lib) {
+        Object lazyClass = getClass.execute(inliningTarget, receiver);
+        if (getTypeSlotsNode.execute(inliningTarget, lazyClass).tp_getattro() == ForeignObjectBuiltins.SLOTS.tp_getattro() &&
+                        lookupNode.execute(lazyClass, cachedName) == PNone.NO_VALUE && lib.isMemberInvocable(receiver, cachedJName)) {
+            return new BoundDescriptor(new ForeignMethod(receiver, cachedJName));
+        }
+        slowPath.enter(inliningTarget);
+        try {
+            return getGenericAttr(frame, inliningTarget, receiver, cachedName, getAttr);
+        } catch (PException e) {
+            e.expect(inliningTarget, PythonBuiltinClassType.AttributeError, isAttrError);
+            if (lib.isMemberInvocable(receiver, cachedJName)) {
+                return new BoundDescriptor(new ForeignMethod(receiver, cachedJName));
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    @NeverDefault
+    @TruffleBoundary
+    static String toJavaString(TruffleString name) {
+        return name.toJavaStringUncached();
+    }
+
+    @Specialization(guards = "isForeignObject(inliningTarget, isForeignObjectNode, receiver)", replaces = "getForeignMethodCached", limit = "1")
     @InliningCutoff
     static Object getForeignMethod(VirtualFrame frame, Node inliningTarget, Object receiver, TruffleString name,
-                    @SuppressWarnings("unused") @Cached IsForeignObjectNode isForeignObjectNode,
+                    @SuppressWarnings("unused") @Exclusive @Cached IsForeignObjectNode isForeignObjectNode,
                     @Exclusive @Cached PyObjectGetAttr getAttr,
-                    @Cached BuiltinClassProfiles.IsBuiltinObjectProfile isAttrError,
+                    @Exclusive @Cached BuiltinClassProfiles.IsBuiltinObjectProfile isAttrError,
                     @Cached TruffleString.ToJavaStringNode toJavaString,
-                    @CachedLibrary("receiver") InteropLibrary lib) {
+                    @Exclusive @CachedLibrary("receiver") InteropLibrary lib) {
         try {
             return getGenericAttr(frame, inliningTarget, receiver, name, getAttr);
         } catch (PException e) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -679,6 +679,10 @@ public abstract class ErrorMessages {
     public static final TruffleString STATE_IS_NOT_A_DICT = tsLiteral("state is not a dictionary");
     public static final TruffleString STATE_VECTOR_INVALID = tsLiteral("state vector invalid.");
     public static final TruffleString STATE_VECTOR_MUST_BE_A_TUPLE = tsLiteral("state vector must be a tuple");
+    public static final TruffleString CUM_WEIGHTS_MUST_BE_FLOATS_OR_INTS = tsLiteral("cum_weights must be a list or tuple of floats or ints");
+    public static final TruffleString NUMBER_OF_WEIGHTS_DOES_NOT_MATCH_POPULATION = tsLiteral("The number of weights does not match the population");
+    public static final TruffleString TOTAL_OF_WEIGHTS_MUST_BE_GREATER_THAN_ZERO = tsLiteral("Total of weights must be greater than zero");
+    public static final TruffleString TOTAL_OF_WEIGHTS_MUST_BE_FINITE = tsLiteral("Total of weights must be finite");
     public static final TruffleString STEP_FOR_ISLICE_MUST_BE = tsLiteral("Step for islice() must be a positive integer or None.");
     public static final TruffleString STRING_ARG_WO_ENCODING = tsLiteral("string argument without an encoding");
     public static final TruffleString STRING_ARG_SHOULD_CONTAIN_ONLY_ASCII = tsLiteral("string argument should contain only ASCII characters");
@@ -1337,6 +1341,9 @@ public abstract class ErrorMessages {
     public static final TruffleString DELIMITER_IS_A_SPACE_AND_SKIPINITIALSPACE_IS_TRUE = tsLiteral("empty field must be quoted if delimiter is a space and skipinitialspace is true");
     public static final TruffleString ESCAPE_WITHOUT_ESCAPECHAR = tsLiteral("need to escape, but no escapechar set");
     public static final TruffleString S_MUST_HAVE_WRITE_METHOD = tsLiteral("%s must have \"write\" method");
+    public static final TruffleString CSV_UNSUPPORTED_BUFFER_ENCODING = tsLiteral("unsupported encoding for reading csv from a buffer: %s");
+    public static final TruffleString CSV_DIALECT_CHAR_NOT_SINGLE_BYTE = tsLiteral("\"%s\" must be encodable as a single byte in %s");
+    public static final TruffleString CSV_ROW_HAS_D_FIELDS_EXPECTED_D = tsLiteral("line %d has %d fields, expected %d");
 
     // frozen module errors
     public static final TruffleString NO_SUCH_FROZEN_OBJECT = tsLiteral("No such frozen object named %s");
@@ -1455,6 +1462,25 @@ public abstract class ErrorMessages {
     public static final TruffleString NO_RUNNING_EVENT_LOOP = tsLiteral("no running event loop");
     public static final TruffleString CANT_ENTER_TASK_ALREADY_RUNNING = tsLiteral("Cannot enter into task %s while another task %s is being executed.");
     public static final TruffleString TASK_NOT_ENTERED = tsLiteral("Leaving task %s does not match the current task %s.");
+    public static final TruffleString FUTURE_NOT_INITIALIZED = tsLiteral("Future object is not initialized.");
+    public static final TruffleString FUTURE_INVALID_STATE = tsLiteral("invalid state");
+    public static final TruffleString FUTURE_RESULT_IS_NOT_SET = tsLiteral("Result is not set.");
+    public static final TruffleString FUTURE_EXCEPTION_IS_NOT_SET = tsLiteral("Exception is not set.");
+    public static final TruffleString FUTURE_INVALID_EXCEPTION_OBJECT = tsLiteral("invalid exception object");
+    public static final TruffleString FUTURE_STOP_ITERATION_INTERACTS_BADLY = tsLiteral("StopIteration interacts badly with generators and cannot be raised into a Future");
+    public static final TruffleString AWAIT_WASNT_USED_WITH_FUTURE = tsLiteral("await wasn't used with future");
+    public static final TruffleString LOG_TRACEBACK_CAN_ONLY_BE_SET_TO_FALSE = tsLiteral("_log_traceback can only be set to False");
+    public static final TruffleString TASK_NOT_INITIALIZED = tsLiteral("uninitialized Task object");
+    public static final TruffleString TASK_DOES_NOT_SUPPORT_SET_RESULT = tsLiteral("Task does not support set_result operation");
+    public static final TruffleString TASK_DOES_NOT_SUPPORT_SET_EXCEPTION = tsLiteral("Task does not support set_exception operation");
+    public static final TruffleString TASK_COROUTINE_EXPECTED = tsLiteral("a coroutine was expected, got %s");
+    public static final TruffleString TASK_STEP_ALREADY_DONE = tsLiteral("_step(): already done: %s, %s");
+    public static final TruffleString TASK_FUTURE_ATTACHED_TO_DIFFERENT_LOOP = tsLiteral("Task %s got Future %s attached to a different loop");
+    public static final TruffleString TASK_CANNOT_AWAIT_ON_ITSELF = tsLiteral("Task cannot await on itself: %s");
+    public static final TruffleString TASK_YIELD_INSTEAD_OF_YIELD_FROM = tsLiteral("yield was used instead of yield from in task %s with %s");
+    public static final TruffleString TASK_YIELD_INSTEAD_OF_YIELD_FROM_FOR_GENERATOR = tsLiteral("yield was used instead of yield from for generator in task %s with %s");
+    public static final TruffleString TASK_GOT_BAD_YIELD = tsLiteral("Task got bad yield: %s");
+    public static final TruffleString INSTANCE_OF_CONTEXT_EXPECTED = tsLiteral("an instance of Context was expected");
     public static final TruffleString ENCODING_NAME_MUST_BE_A_STRING = tsLiteral("encoding name must be a string.");
     public static final TruffleString NO_SUCH_CODEC_IS_SUPPORTED = tsLiteral("no such codec is supported.");
     public static final TruffleString COULDN_T_CONVERT_THE_OBJECT_TO_UNICODE = tsLiteral("couldn't convert the object to unicode.");
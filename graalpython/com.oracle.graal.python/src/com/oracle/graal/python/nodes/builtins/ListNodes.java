@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -217,6 +217,24 @@ public abstract class ListNodes {
             return PFactory.createList(language, copyNode.execute(inliningTarget, list.getSequenceStorage()));
         }
 
+        /*
+         * Java primitive arrays are copied straight into a primitive storage instead of being
+         * iterated element by element through interop.
+         */
+        @InliningCutoff
+        @Specialization(guards = {"isForeignObjectNode.execute(inliningTarget, iterable)", "hostArray != null"})
+        static PList fromHostPrimitiveArray(@SuppressWarnings("unused") Object iterable,
+                        @Bind Node inliningTarget,
+                        @SuppressWarnings("unused") @Cached IsForeignObjectNode isForeignObjectNode,
+                        @Bind("getHostPrimitiveArray(inliningTarget, iterable)") Object hostArray,
+                        @Bind PythonLanguage language) {
+            return PFactory.createList(language, ForeignSequenceStorage.copyHostPrimitiveArray(hostArray));
+        }
+
+        static Object getHostPrimitiveArray(Node inliningTarget, Object iterable) {
+            return ForeignSequenceStorage.getHostPrimitiveArray(inliningTarget, iterable);
+        }
+
         @Specialization(guards = "!isNoValue(iterable)")
         static PList listIterable(VirtualFrame frame, Object iterable,
                         @Bind Node inliningTarget,
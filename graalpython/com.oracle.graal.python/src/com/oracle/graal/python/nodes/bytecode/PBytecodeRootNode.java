@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -586,6 +586,11 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
      * index.
      */
     private final int[][] generalizeVarsMap;
+    /**
+     * Collects quickening and generalization events, {@code null} unless
+     * {@link PythonOptions#QuickeningStatistics} is enabled.
+     */
+    private final QuickeningStatistics quickeningStatistics;
 
     /*
      * Whether this variable should be unboxed in the interpreter. We unbox all variables in
@@ -709,6 +714,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         this.variableShouldUnbox = co.variableShouldUnbox;
         this.generalizeInputsMap = co.generalizeInputsMap;
         this.generalizeVarsMap = co.generalizeVarsMap;
+        this.quickeningStatistics = language.getQuickeningStatistics();
         this.consts = co.constants;
         this.longConsts = co.primitiveConstants;
         this.names = co.names;
@@ -1588,6 +1594,25 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                         bytecodeLoadFastBBox(virtualFrame, localFrame, ++stackTop, bci++, oparg, localNodes, hasUnboxedLocals);
                         break;
                     }
+                    case OpCodesConstants.LOAD_FAST_LOAD_FAST: {
+                        // The second LOAD_FAST is still in the bytecode, we execute it and skip it
+                        oparg |= Byte.toUnsignedInt(localBC[bci + 1]);
+                        virtualFrame.setObject(++stackTop, bytecodeLoadFastBoxed(localFrame, bci, oparg, localNodes));
+                        bci += 2;
+                        virtualFrame.setObject(++stackTop, bytecodeLoadFastBoxed(localFrame, bci, Byte.toUnsignedInt(localBC[bci + 1]), localNodes));
+                        bci++;
+                        break;
+                    }
+                    case OpCodesConstants.LOAD_FAST_LOAD_ATTR: {
+                        // The LOAD_ATTR is still in the bytecode, we execute it and skip it
+                        oparg |= Byte.toUnsignedInt(localBC[bci + 1]);
+                        virtualFrame.setObject(++stackTop, bytecodeLoadFastBoxed(localFrame, bci, oparg, localNodes));
+                        bci += 2;
+                        setCurrentBci(virtualFrame, bciSlot, bci);
+                        bytecodeLoadAttr(virtualFrame, stackTop, bci, Byte.toUnsignedInt(localBC[bci + 1]), localNodes, localNames, useCachedNodes);
+                        bci++;
+                        break;
+                    }
                     case OpCodesConstants.LOAD_CLOSURE: {
                         oparg |= Byte.toUnsignedInt(localBC[++bci]);
                         PCell cell = (PCell) localFrame.getObject(localCelloffset + oparg);
@@ -1867,6 +1892,13 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                         setCurrentBci(virtualFrame, bciSlot, bci);
                         return bytecodeReturnValue(virtualFrame, isGeneratorOrCoroutine, instrumentation, mutableData, stackTop, tracingOrProfilingEnabled, beginBci);
                     }
+                    case OpCodesConstants.RETURN_NONE: {
+                        // The RETURN_VALUE is still in the bytecode, we execute it and skip it
+                        virtualFrame.setObject(++stackTop, PNone.NONE);
+                        bci++;
+                        setCurrentBci(virtualFrame, bciSlot, bci);
+                        return bytecodeReturnValue(virtualFrame, isGeneratorOrCoroutine, instrumentation, mutableData, stackTop, tracingOrProfilingEnabled, bci);
+                    }
                     case OpCodesConstants.LOAD_BUILD_CLASS: {
                         setCurrentBci(virtualFrame, bciSlot, bci);
                         bytecodeLoadBuildClass(virtualFrame, useCachedNodes, ++stackTop, localNodes, beginBci);
@@ -3095,15 +3127,15 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         if (virtualFrame.isInt(stackTop) && virtualFrame.getObject(stackTop - 1) instanceof PSequence) {
             /* Always start with object result and then try to rewrite to a more specific one */
             // TODO this would benefit from having an uncached node
-            bytecode[bci] = OpCodesConstants.BINARY_SUBSCR_SEQ_I_O;
+            quicken(bytecode, bci, OpCodesConstants.BINARY_SUBSCR_SEQ_I_O);
             stackTop = bytecodeBinarySubscrSeqIO(virtualFrame, stackTop, bci, localNodes);
             if (bytecode[bci] == OpCodesConstants.BINARY_SUBSCR_SEQ_I_O && outputCanQuicken[bci] != 0) {
                 Object result = virtualFrame.getObject(stackTop);
                 if (result instanceof Integer && (outputCanQuicken[bci] & QuickeningTypes.INT) != 0) {
-                    bytecode[bci] = OpCodesConstants.BINARY_SUBSCR_SEQ_I_I;
+                    quicken(bytecode, bci, OpCodesConstants.BINARY_SUBSCR_SEQ_I_I);
                     virtualFrame.setInt(stackTop, (Integer) result);
                 } else if (result instanceof Double && (outputCanQuicken[bci] & QuickeningTypes.DOUBLE) != 0) {
-                    bytecode[bci] = OpCodesConstants.BINARY_SUBSCR_SEQ_I_D;
+                    quicken(bytecode, bci, OpCodesConstants.BINARY_SUBSCR_SEQ_I_D);
                     virtualFrame.setDouble(stackTop, (Double) result);
                 }
             }
@@ -3113,7 +3145,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
             generalizeInputs(bci);
             generalizeFrameSlot(virtualFrame, stackTop);
         }
-        bytecode[bci] = OpCodesConstants.BINARY_SUBSCR_SEQ_O_O;
+        quicken(bytecode, bci, OpCodesConstants.BINARY_SUBSCR_SEQ_O_O);
         return bytecodeBinarySubscrOO(virtualFrame, stackTop, bci, localNodes, bciSlot);
     }
 
@@ -3201,7 +3233,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
 
     private int generalizeBinarySubscrSeqResult(VirtualFrame virtualFrame, int stackTop, int bci, Node[] localNodes) {
         CompilerDirectives.transferToInterpreterAndInvalidate();
-        bytecode[bci] = OpCodesConstants.BINARY_SUBSCR_SEQ_I_O;
+        generalize(bytecode, bci, OpCodesConstants.BINARY_SUBSCR_SEQ_I_O);
         return bytecodeBinarySubscrOO(virtualFrame, stackTop, bci, localNodes, bcioffset);
     }
 
@@ -3209,7 +3241,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         CompilerDirectives.transferToInterpreterAndInvalidate();
         generalizeInputs(bci);
         generalizeFrameSlot(virtualFrame, stackTop);
-        bytecode[bci] = OpCodesConstants.BINARY_SUBSCR_SEQ_O_O;
+        generalize(bytecode, bci, OpCodesConstants.BINARY_SUBSCR_SEQ_O_O);
         return bytecodeBinarySubscrOO(virtualFrame, stackTop, bci, localNodes, bcioffset);
     }
 
@@ -3440,7 +3472,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
     private void generalizeForIterI(int bci, QuickeningGeneralizeException e) {
         CompilerDirectives.transferToInterpreterAndInvalidate();
         if (e.type == QuickeningTypes.OBJECT) {
-            bytecode[bci] = OpCodesConstants.FOR_ITER_O;
+            generalize(bytecode, bci, OpCodesConstants.FOR_ITER_O);
         } else {
             throw CompilerDirectives.shouldNotReachHere("invalid type");
         }
@@ -3449,22 +3481,22 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
     private void bytecodeForIterAdaptive(int bci) {
         CompilerDirectives.transferToInterpreterAndInvalidate();
         if ((outputCanQuicken[bci] & QuickeningTypes.INT) != 0) {
-            bytecode[bci] = OpCodesConstants.FOR_ITER_I;
+            quicken(bytecode, bci, OpCodesConstants.FOR_ITER_I);
         } else {
-            bytecode[bci] = OpCodesConstants.FOR_ITER_O;
+            quicken(bytecode, bci, OpCodesConstants.FOR_ITER_O);
         }
     }
 
     private void generalizePopAndJumpIfTrueB(int bci) {
         CompilerDirectives.transferToInterpreterAndInvalidate();
         generalizeInputs(bci);
-        bytecode[bci] = OpCodesConstants.POP_AND_JUMP_IF_TRUE_O;
+        generalize(bytecode, bci, OpCodesConstants.POP_AND_JUMP_IF_TRUE_O);
     }
 
     private void generalizePopAndJumpIfFalseB(int bci) {
         CompilerDirectives.transferToInterpreterAndInvalidate();
         generalizeInputs(bci);
-        bytecode[bci] = OpCodesConstants.POP_AND_JUMP_IF_FALSE_O;
+        generalize(bytecode, bci, OpCodesConstants.POP_AND_JUMP_IF_FALSE_O);
     }
 
     private static void setCurrentBci(VirtualFrame virtualFrame, int bciSlot, int bci) {
@@ -3494,7 +3526,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
     private void bytecodeBinaryOpAdaptive(VirtualFrame virtualFrame, int stackTop, byte[] localBC, int bci, Node[] localNodes, int op, boolean useCachedNodes) {
         CompilerDirectives.transferToInterpreterAndInvalidate();
         if (virtualFrame.isObject(stackTop) && virtualFrame.isObject(stackTop - 1)) {
-            localBC[bci] = OpCodesConstants.BINARY_OP_OO_O;
+            quicken(localBC, bci, OpCodesConstants.BINARY_OP_OO_O);
             bytecodeBinaryOpOOO(virtualFrame, stackTop, bci, localNodes, op, bcioffset);
             return;
         } else if (virtualFrame.isInt(stackTop) && virtualFrame.isInt(stackTop - 1)) {
@@ -3522,17 +3554,17 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                 case BinaryOpsConstants.POW:
                 case BinaryOpsConstants.INPLACE_POW:
                     if ((outputCanQuicken[bci] & QuickeningTypes.INT) != 0) {
-                        localBC[bci] = OpCodesConstants.BINARY_OP_II_I;
+                        quicken(localBC, bci, OpCodesConstants.BINARY_OP_II_I);
                         bytecodeBinaryOpIII(virtualFrame, stackTop, bci, localNodes, op, useCachedNodes);
                     } else {
-                        localBC[bci] = OpCodesConstants.BINARY_OP_II_O;
+                        quicken(localBC, bci, OpCodesConstants.BINARY_OP_II_O);
                         bytecodeBinaryOpIIO(virtualFrame, stackTop, bci, localNodes, op);
                     }
                     return;
                 case BinaryOpsConstants.TRUEDIV:
                 case BinaryOpsConstants.INPLACE_TRUEDIV:
                     // TODO truediv should quicken to BINARY_OP_II_D
-                    localBC[bci] = OpCodesConstants.BINARY_OP_II_O;
+                    quicken(localBC, bci, OpCodesConstants.BINARY_OP_II_O);
                     bytecodeBinaryOpIIO(virtualFrame, stackTop, bci, localNodes, op);
                     return;
                 case BinaryOpsConstants.EQ:
@@ -3543,10 +3575,10 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                 case BinaryOpsConstants.LT:
                 case BinaryOpsConstants.IS:
                     if ((outputCanQuicken[bci] & QuickeningTypes.BOOLEAN) != 0) {
-                        localBC[bci] = OpCodesConstants.BINARY_OP_II_B;
+                        quicken(localBC, bci, OpCodesConstants.BINARY_OP_II_B);
                         bytecodeBinaryOpIIB(virtualFrame, stackTop, bci, localNodes, op);
                     } else {
-                        localBC[bci] = OpCodesConstants.BINARY_OP_II_O;
+                        quicken(localBC, bci, OpCodesConstants.BINARY_OP_II_O);
                         bytecodeBinaryOpIIO(virtualFrame, stackTop, bci, localNodes, op);
                     }
                     return;
@@ -3564,10 +3596,10 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                 case BinaryOpsConstants.POW:
                 case BinaryOpsConstants.INPLACE_POW:
                     if ((outputCanQuicken[bci] & QuickeningTypes.INT) != 0) {
-                        localBC[bci] = OpCodesConstants.BINARY_OP_DD_D;
+                        quicken(localBC, bci, OpCodesConstants.BINARY_OP_DD_D);
                         bytecodeBinaryOpDDD(virtualFrame, stackTop, bci, localNodes, op, useCachedNodes);
                     } else {
-                        localBC[bci] = OpCodesConstants.BINARY_OP_DD_O;
+                        quicken(localBC, bci, OpCodesConstants.BINARY_OP_DD_O);
                         bytecodeBinaryOpDDO(virtualFrame, stackTop, bci, localNodes, op, useCachedNodes);
                     }
                     return;
@@ -3578,10 +3610,10 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                 case BinaryOpsConstants.LE:
                 case BinaryOpsConstants.LT:
                     if ((outputCanQuicken[bci] & QuickeningTypes.BOOLEAN) != 0) {
-                        localBC[bci] = OpCodesConstants.BINARY_OP_DD_B;
+                        quicken(localBC, bci, OpCodesConstants.BINARY_OP_DD_B);
                         bytecodeBinaryOpDDB(virtualFrame, stackTop, bci, localNodes, op);
                     } else {
-                        localBC[bci] = OpCodesConstants.BINARY_OP_DD_O;
+                        quicken(localBC, bci, OpCodesConstants.BINARY_OP_DD_O);
                         bytecodeBinaryOpDDO(virtualFrame, stackTop, bci, localNodes, op, useCachedNodes);
                     }
                     return;
@@ -3591,7 +3623,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         generalizeFrameSlot(virtualFrame, stackTop);
         generalizeFrameSlot(virtualFrame, stackTop - 1);
         generalizeInputs(bci);
-        localBC[bci] = OpCodesConstants.BINARY_OP_OO_O;
+        quicken(localBC, bci, OpCodesConstants.BINARY_OP_OO_O);
         bytecodeBinaryOpOOO(virtualFrame, stackTop, bci, localNodes, op, bcioffset);
     }
 
@@ -3984,19 +4016,19 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         generalizeFrameSlot(virtualFrame, stackTop);
         generalizeFrameSlot(virtualFrame, stackTop - 1);
         generalizeInputs(bci);
-        bytecode[bci] = OpCodesConstants.BINARY_OP_OO_O;
+        generalize(bytecode, bci, OpCodesConstants.BINARY_OP_OO_O);
         bytecodeBinaryOpOOO(virtualFrame, stackTop, bci, localNodes, op, bcioffset);
     }
 
     private void generalizeBinaryOpIIIOverflow(VirtualFrame virtualFrame, int stackTop, int bci, Node[] localNodes, int op) {
         CompilerDirectives.transferToInterpreterAndInvalidate();
-        bytecode[bci] = OpCodesConstants.BINARY_OP_II_O;
+        generalize(bytecode, bci, OpCodesConstants.BINARY_OP_II_O);
         bytecodeBinaryOpIIO(virtualFrame, stackTop, bci, localNodes, op);
     }
 
     private void generalizeBinaryOpDDDOverflow(VirtualFrame virtualFrame, int stackTop, int bci, Node[] localNodes, int op, boolean useCachedNodes) {
         CompilerDirectives.transferToInterpreterAndInvalidate();
-        bytecode[bci] = OpCodesConstants.BINARY_OP_DD_O;
+        generalize(bytecode, bci, OpCodesConstants.BINARY_OP_DD_O);
         bytecodeBinaryOpDDO(virtualFrame, stackTop, bci, localNodes, op, useCachedNodes);
     }
 
@@ -4021,46 +4053,46 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         CompilerDirectives.transferToInterpreterAndInvalidate();
         int op = Byte.toUnsignedInt(localBC[bci + 1]);
         if (virtualFrame.isObject(stackTop)) {
-            localBC[bci] = OpCodesConstants.UNARY_OP_O_O;
+            quicken(localBC, bci, OpCodesConstants.UNARY_OP_O_O);
             bytecodeUnaryOpOO(virtualFrame, stackTop, bci, localNodes, op, bcioffset);
             return;
         } else if (virtualFrame.isInt(stackTop)) {
             if ((outputCanQuicken[bci] & QuickeningTypes.INT) != 0) {
                 if (op == UnaryOpsConstants.NOT) {
                     // TODO UNARY_OP_I_B
-                    localBC[bci] = OpCodesConstants.UNARY_OP_I_O;
+                    quicken(localBC, bci, OpCodesConstants.UNARY_OP_I_O);
                     bytecodeUnaryOpIO(virtualFrame, stackTop, bci, localNodes, op);
                 } else {
-                    localBC[bci] = OpCodesConstants.UNARY_OP_I_I;
+                    quicken(localBC, bci, OpCodesConstants.UNARY_OP_I_I);
                     bytecodeUnaryOpII(virtualFrame, stackTop, bci, localNodes, op);
                 }
                 return;
             }
-            localBC[bci] = OpCodesConstants.UNARY_OP_I_O;
+            quicken(localBC, bci, OpCodesConstants.UNARY_OP_I_O);
             bytecodeUnaryOpIO(virtualFrame, stackTop, bci, localNodes, op);
             return;
         } else if (virtualFrame.isDouble(stackTop)) {
             if ((outputCanQuicken[bci] & QuickeningTypes.INT) != 0) {
                 if (op == UnaryOpsConstants.NOT || op == UnaryOpsConstants.INVERT) {
                     // TODO UNARY_OP_D_B
-                    localBC[bci] = OpCodesConstants.UNARY_OP_D_O;
+                    quicken(localBC, bci, OpCodesConstants.UNARY_OP_D_O);
                     bytecodeUnaryOpDO(virtualFrame, stackTop, bci, localNodes, op);
                 } else {
-                    localBC[bci] = OpCodesConstants.UNARY_OP_D_D;
+                    quicken(localBC, bci, OpCodesConstants.UNARY_OP_D_D);
                     bytecodeUnaryOpDD(virtualFrame, stackTop, bci, localNodes, op);
                 }
                 return;
             }
-            localBC[bci] = OpCodesConstants.UNARY_OP_D_O;
+            quicken(localBC, bci, OpCodesConstants.UNARY_OP_D_O);
             bytecodeUnaryOpIO(virtualFrame, stackTop, bci, localNodes, op);
             return;
         } else if (virtualFrame.isBoolean(stackTop)) {
             if (op == UnaryOpsConstants.NOT) {
                 if ((outputCanQuicken[bci] & QuickeningTypes.BOOLEAN) != 0) {
-                    localBC[bci] = OpCodesConstants.UNARY_OP_B_B;
+                    quicken(localBC, bci, OpCodesConstants.UNARY_OP_B_B);
                     bytecodeUnaryOpBB(virtualFrame, stackTop, bci, localNodes, op);
                 } else {
-                    localBC[bci] = OpCodesConstants.UNARY_OP_B_O;
+                    quicken(localBC, bci, OpCodesConstants.UNARY_OP_B_O);
                     bytecodeUnaryOpBO(virtualFrame, stackTop, bci, localNodes, op);
                 }
                 return;
@@ -4068,7 +4100,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         }
         generalizeInputs(bci);
         generalizeFrameSlot(virtualFrame, stackTop);
-        localBC[bci] = OpCodesConstants.UNARY_OP_O_O;
+        quicken(localBC, bci, OpCodesConstants.UNARY_OP_O_O);
         bytecodeUnaryOpOO(virtualFrame, stackTop, bci, localNodes, op, bcioffset);
     }
 
@@ -4089,7 +4121,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                     virtualFrame.setInt(stackTop, Math.negateExact(value));
                 } catch (ArithmeticException e) {
                     CompilerDirectives.transferToInterpreterAndInvalidate();
-                    bytecode[bci] = OpCodesConstants.UNARY_OP_I_O;
+                    generalize(bytecode, bci, OpCodesConstants.UNARY_OP_I_O);
                     bytecodeUnaryOpIO(virtualFrame, stackTop, bci, localNodes, op);
                     return;
                 }
@@ -4214,7 +4246,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         CompilerDirectives.transferToInterpreterAndInvalidate();
         generalizeFrameSlot(virtualFrame, stackTop);
         generalizeInputs(bci);
-        bytecode[bci] = OpCodesConstants.UNARY_OP_O_O;
+        generalize(bytecode, bci, OpCodesConstants.UNARY_OP_O_O);
         bytecodeUnaryOpOO(virtualFrame, stackTop, bci, localNodes, op, bcioffset);
     }
 
@@ -4255,18 +4287,18 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                 generalizeInputs(bci);
                 generalizeFrameSlot(virtualFrame, stackTop);
             }
-            localBC[bci] = OpCodesConstants.STORE_FAST_O;
+            quicken(localBC, bci, OpCodesConstants.STORE_FAST_O);
             bytecodeStoreFastO(virtualFrame, localFrame, stackTop, index);
             return;
         }
         if (itemType == QuickeningTypes.INT) {
             if (unboxInIntepreter && stackType == QuickeningTypes.INT) {
-                localBC[bci] = OpCodesConstants.STORE_FAST_I;
+                quicken(localBC, bci, OpCodesConstants.STORE_FAST_I);
                 variableType |= UNBOXED_IN_INTERPRETER;
                 variableTypes[index] = variableType;
                 bytecodeStoreFastI(virtualFrame, localFrame, stackTop, bci, index);
             } else if (unboxInIntepreter) {
-                localBC[bci] = OpCodesConstants.STORE_FAST_UNBOX_I;
+                quicken(localBC, bci, OpCodesConstants.STORE_FAST_UNBOX_I);
                 variableType |= UNBOXED_IN_INTERPRETER;
                 variableTypes[index] = variableType;
                 bytecodeStoreFastUnboxI(virtualFrame, localFrame, stackTop, bci, index);
@@ -4276,18 +4308,18 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                     virtualFrame.setObject(stackTop, virtualFrame.getInt(stackTop));
                     generalizeInputs(bci);
                 }
-                localBC[bci] = OpCodesConstants.STORE_FAST_BOXED_I;
+                quicken(localBC, bci, OpCodesConstants.STORE_FAST_BOXED_I);
                 bytecodeStoreFastBoxedI(virtualFrame, localFrame, stackTop, bci, index, hasUnboxedLocals);
             }
             return;
         } else if (itemType == QuickeningTypes.LONG) {
             if (unboxInIntepreter && stackType == QuickeningTypes.LONG) {
-                localBC[bci] = OpCodesConstants.STORE_FAST_L;
+                quicken(localBC, bci, OpCodesConstants.STORE_FAST_L);
                 variableType |= UNBOXED_IN_INTERPRETER;
                 variableTypes[index] = variableType;
                 bytecodeStoreFastL(virtualFrame, localFrame, stackTop, bci, index);
             } else if (unboxInIntepreter) {
-                localBC[bci] = OpCodesConstants.STORE_FAST_UNBOX_L;
+                quicken(localBC, bci, OpCodesConstants.STORE_FAST_UNBOX_L);
                 variableType |= UNBOXED_IN_INTERPRETER;
                 variableTypes[index] = variableType;
                 bytecodeStoreFastUnboxL(virtualFrame, localFrame, stackTop, bci, index);
@@ -4297,18 +4329,18 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                     virtualFrame.setObject(stackTop, virtualFrame.getLong(stackTop));
                     generalizeInputs(bci);
                 }
-                localBC[bci] = OpCodesConstants.STORE_FAST_BOXED_L;
+                quicken(localBC, bci, OpCodesConstants.STORE_FAST_BOXED_L);
                 bytecodeStoreFastBoxedL(virtualFrame, localFrame, stackTop, bci, index, hasUnboxedLocals);
             }
             return;
         } else if (itemType == QuickeningTypes.DOUBLE) {
             if (unboxInIntepreter && stackType == QuickeningTypes.DOUBLE) {
-                localBC[bci] = OpCodesConstants.STORE_FAST_D;
+                quicken(localBC, bci, OpCodesConstants.STORE_FAST_D);
                 variableType |= UNBOXED_IN_INTERPRETER;
                 variableTypes[index] = variableType;
                 bytecodeStoreFastD(virtualFrame, localFrame, stackTop, bci, index);
             } else if (unboxInIntepreter) {
-                localBC[bci] = OpCodesConstants.STORE_FAST_UNBOX_D;
+                quicken(localBC, bci, OpCodesConstants.STORE_FAST_UNBOX_D);
                 variableType |= UNBOXED_IN_INTERPRETER;
                 variableTypes[index] = variableType;
                 bytecodeStoreFastUnboxD(virtualFrame, localFrame, stackTop, bci, index);
@@ -4318,18 +4350,18 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                     virtualFrame.setObject(stackTop, virtualFrame.getDouble(stackTop));
                     generalizeInputs(bci);
                 }
-                localBC[bci] = OpCodesConstants.STORE_FAST_BOXED_D;
+                quicken(localBC, bci, OpCodesConstants.STORE_FAST_BOXED_D);
                 bytecodeStoreFastBoxedD(virtualFrame, localFrame, stackTop, bci, index, hasUnboxedLocals);
             }
             return;
         } else if (itemType == QuickeningTypes.BOOLEAN) {
             if (unboxInIntepreter && stackType == QuickeningTypes.BOOLEAN) {
-                localBC[bci] = OpCodesConstants.STORE_FAST_B;
+                quicken(localBC, bci, OpCodesConstants.STORE_FAST_B);
                 variableType |= UNBOXED_IN_INTERPRETER;
                 variableTypes[index] = variableType;
                 bytecodeStoreFastB(virtualFrame, localFrame, stackTop, bci, index);
             } else if (unboxInIntepreter) {
-                localBC[bci] = OpCodesConstants.STORE_FAST_UNBOX_B;
+                quicken(localBC, bci, OpCodesConstants.STORE_FAST_UNBOX_B);
                 variableType |= UNBOXED_IN_INTERPRETER;
                 variableTypes[index] = variableType;
                 bytecodeStoreFastUnboxB(virtualFrame, localFrame, stackTop, bci, index);
@@ -4339,13 +4371,13 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                     virtualFrame.setObject(stackTop, virtualFrame.getBoolean(stackTop));
                     generalizeInputs(bci);
                 }
-                localBC[bci] = OpCodesConstants.STORE_FAST_BOXED_B;
+                quicken(localBC, bci, OpCodesConstants.STORE_FAST_BOXED_B);
                 bytecodeStoreFastBoxedB(virtualFrame, localFrame, stackTop, bci, index, hasUnboxedLocals);
             }
             return;
         } else if (itemType == QuickeningTypes.OBJECT) {
             variableTypes[index] = variableType;
-            localBC[bci] = OpCodesConstants.STORE_FAST_O;
+            quicken(localBC, bci, OpCodesConstants.STORE_FAST_O);
             bytecodeStoreFastO(virtualFrame, localFrame, stackTop, index);
             return;
         }
@@ -4556,7 +4588,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         CompilerDirectives.transferToInterpreterAndInvalidate();
         generalizeFrameSlot(virtualFrame, index);
         generalizeInputs(index);
-        bytecode[bci] = OpCodesConstants.STORE_FAST_O;
+        generalize(bytecode, bci, OpCodesConstants.STORE_FAST_O);
         generalizeVariableStores(index);
         bytecodeStoreFastO(virtualFrame, localFrame, stackTop, index);
     }
@@ -4579,38 +4611,38 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
     private void bytecodeLoadFastAdaptive(VirtualFrame virtualFrame, Frame localFrame, int stackTop, byte[] localBC, int bci, int index, Node[] localNodes, boolean hasUnboxedLocals) {
         CompilerDirectives.transferToInterpreterAndInvalidate();
         if (localFrame.isObject(index)) {
-            localBC[bci] = OpCodesConstants.LOAD_FAST_O;
+            quicken(localBC, bci, OpCodesConstants.LOAD_FAST_O);
             bytecodeLoadFastO(virtualFrame, localFrame, stackTop, bci, index, localNodes, hasUnboxedLocals);
         } else if (localFrame.isInt(index)) {
             if ((outputCanQuicken[bci] & QuickeningTypes.INT) != 0) {
-                localBC[bci] = OpCodesConstants.LOAD_FAST_I;
+                quicken(localBC, bci, OpCodesConstants.LOAD_FAST_I);
                 bytecodeLoadFastI(virtualFrame, localFrame, stackTop, bci, index, localNodes, hasUnboxedLocals);
             } else {
-                localBC[bci] = OpCodesConstants.LOAD_FAST_I_BOX;
+                quicken(localBC, bci, OpCodesConstants.LOAD_FAST_I_BOX);
                 bytecodeLoadFastIBox(virtualFrame, localFrame, stackTop, bci, index, localNodes, hasUnboxedLocals);
             }
         } else if (localFrame.isLong(index)) {
             if ((outputCanQuicken[bci] & QuickeningTypes.LONG) != 0) {
-                localBC[bci] = OpCodesConstants.LOAD_FAST_L;
+                quicken(localBC, bci, OpCodesConstants.LOAD_FAST_L);
                 bytecodeLoadFastL(virtualFrame, localFrame, stackTop, bci, index, localNodes, hasUnboxedLocals);
             } else {
-                localBC[bci] = OpCodesConstants.LOAD_FAST_L_BOX;
+                quicken(localBC, bci, OpCodesConstants.LOAD_FAST_L_BOX);
                 bytecodeLoadFastLBox(virtualFrame, localFrame, stackTop, bci, index, localNodes, hasUnboxedLocals);
             }
         } else if (localFrame.isDouble(index)) {
             if ((outputCanQuicken[bci] & QuickeningTypes.DOUBLE) != 0) {
-                localBC[bci] = OpCodesConstants.LOAD_FAST_D;
+                quicken(localBC, bci, OpCodesConstants.LOAD_FAST_D);
                 bytecodeLoadFastD(virtualFrame, localFrame, stackTop, bci, index, localNodes, hasUnboxedLocals);
             } else {
-                localBC[bci] = OpCodesConstants.LOAD_FAST_D_BOX;
+                quicken(localBC, bci, OpCodesConstants.LOAD_FAST_D_BOX);
                 bytecodeLoadFastDBox(virtualFrame, localFrame, stackTop, bci, index, localNodes, hasUnboxedLocals);
             }
         } else if (localFrame.isBoolean(index)) {
             if ((outputCanQuicken[bci] & QuickeningTypes.BOOLEAN) != 0) {
-                localBC[bci] = OpCodesConstants.LOAD_FAST_B;
+                quicken(localBC, bci, OpCodesConstants.LOAD_FAST_B);
                 bytecodeLoadFastB(virtualFrame, localFrame, stackTop, bci, index, localNodes, hasUnboxedLocals);
             } else {
-                localBC[bci] = OpCodesConstants.LOAD_FAST_B_BOX;
+                quicken(localBC, bci, OpCodesConstants.LOAD_FAST_B_BOX);
                 bytecodeLoadFastBBox(virtualFrame, localFrame, stackTop, bci, index, localNodes, hasUnboxedLocals);
             }
         } else {
@@ -4690,7 +4722,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         CompilerDirectives.transferToInterpreterAndInvalidate();
         generalizeVariableStores(index);
         generalizeFrameSlot(virtualFrame, index);
-        bytecode[bci] = OpCodesConstants.LOAD_FAST_O;
+        generalize(bytecode, bci, OpCodesConstants.LOAD_FAST_O);
         bytecodeLoadFastO(virtualFrame, localFrame, stackTop, bci, index, localNodes, hasUnboxedLocals);
     }
 
@@ -4725,6 +4757,19 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         virtualFrame.setObject(stackTop, value);
     }
 
+    /**
+     * Reads a local for the superinstructions that load it boxed. They are never quickened, so
+     * locals unboxed in the frame are boxed here instead of generalizing the variable.
+     */
+    @BytecodeInterpreterSwitch
+    private Object bytecodeLoadFastBoxed(Frame localFrame, int bci, int index, Node[] localNodes) {
+        Object value = localFrame.getValue(index);
+        if (value == null) {
+            throw raiseVarReferencedBeforeAssignment(localNodes, bci, index);
+        }
+        return value;
+    }
+
     @InliningCutoff
     private PException raiseVarReferencedBeforeAssignment(Node[] localNodes, int bci, int index) {
         PRaiseCachedNode raiseNode = insertChildNode(localNodes, bci, PRaiseCachedNodeGen.class, NODE_RAISE);
@@ -4742,6 +4787,20 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         return QuickeningTypes.fromFrameSlotTag(virtualFrame.getTag(stackTop));
     }
 
+    private void quicken(byte[] localBC, int bci, byte opcode) {
+        if (quickeningStatistics != null) {
+            quickeningStatistics.recordQuicken(this, localBC[bci], opcode);
+        }
+        localBC[bci] = opcode;
+    }
+
+    private void generalize(byte[] localBC, int bci, byte opcode) {
+        if (quickeningStatistics != null) {
+            quickeningStatistics.recordGeneralize(this, localBC[bci], opcode);
+        }
+        localBC[bci] = opcode;
+    }
+
     private void generalizeInputs(int beginBci) {
         CompilerAsserts.neverPartOfCompilation();
         if (generalizeInputsMap != null) {
@@ -4750,7 +4809,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                     int generalizeBci = generalizeInputsMap[beginBci][i];
                     OpCodes generalizeInstr = OpCodes.fromOpCode(bytecode[generalizeBci]);
                     if (generalizeInstr.generalizesTo != null) {
-                        bytecode[generalizeBci] = (byte) generalizeInstr.generalizesTo.ordinal();
+                        generalize(bytecode, generalizeBci, (byte) generalizeInstr.generalizesTo.ordinal());
                     }
                 }
             }
@@ -4788,7 +4847,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                      */
                     if (bytecode[generalizeBci] != OpCodesConstants.STORE_FAST) {
                         generalizeInputs(generalizeBci);
-                        bytecode[generalizeBci] = OpCodesConstants.STORE_FAST_O;
+                        generalize(bytecode, generalizeBci, OpCodesConstants.STORE_FAST_O);
                     }
                 }
             }
@@ -5052,13 +5111,13 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         CompilerDirectives.transferToInterpreterAndInvalidate();
         if (virtualFrame.isInt(stackTop) && virtualFrame.getObject(stackTop - 1) instanceof PList) {
             if (virtualFrame.isInt(stackTop - 2)) {
-                bytecode[bci] = OpCodesConstants.STORE_SUBSCR_SEQ_IIO;
+                quicken(bytecode, bci, OpCodesConstants.STORE_SUBSCR_SEQ_IIO);
                 return bytecodeStoreSubscrSeqIIO(virtualFrame, stackTop, bci, localNodes, useCachedNodes);
             } else if (virtualFrame.isDouble(stackTop - 2)) {
-                bytecode[bci] = OpCodesConstants.STORE_SUBSCR_SEQ_IDO;
+                quicken(bytecode, bci, OpCodesConstants.STORE_SUBSCR_SEQ_IDO);
                 return bytecodeStoreSubscrSeqIDO(virtualFrame, stackTop, bci, localNodes, useCachedNodes);
             } else {
-                bytecode[bci] = OpCodesConstants.STORE_SUBSCR_SEQ_IOO;
+                quicken(bytecode, bci, OpCodesConstants.STORE_SUBSCR_SEQ_IOO);
                 return bytecodeStoreSubscrSeqIOO(virtualFrame, stackTop, bci, localNodes, useCachedNodes);
             }
         }
@@ -5067,7 +5126,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
             generalizeFrameSlot(virtualFrame, stackTop);
             generalizeFrameSlot(virtualFrame, stackTop - 2);
         }
-        bytecode[bci] = OpCodesConstants.STORE_SUBSCR_OOO;
+        quicken(bytecode, bci, OpCodesConstants.STORE_SUBSCR_OOO);
         return bytecodeStoreSubscrOOO(virtualFrame, stackTop, bci, localNodes, useCachedNodes, bciSlot);
     }
 
@@ -5166,7 +5225,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         CompilerDirectives.transferToInterpreterAndInvalidate();
         if (virtualFrame.isInt(stackTop)) {
             generalizeFrameSlot(virtualFrame, stackTop - 2);
-            bytecode[bci] = OpCodesConstants.STORE_SUBSCR_SEQ_IOO;
+            generalize(bytecode, bci, OpCodesConstants.STORE_SUBSCR_SEQ_IOO);
             return bytecodeStoreSubscrSeqIOO(virtualFrame, stackTop, bci, localNodes, useCachedNodes);
         }
         return generalizeStoreSubscr(virtualFrame, stackTop, bci, localNodes, useCachedNodes);
@@ -5175,7 +5234,7 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
     private int generalizeStoreSubscr(VirtualFrame virtualFrame, int stackTop, int bci, Node[] localNodes, boolean useCachedNodes) {
         CompilerDirectives.transferToInterpreterAndInvalidate();
         generalizeInputs(bci);
-        bytecode[bci] = OpCodesConstants.STORE_SUBSCR_OOO;
+        generalize(bytecode, bci, OpCodesConstants.STORE_SUBSCR_OOO);
         generalizeFrameSlot(virtualFrame, stackTop);
         generalizeFrameSlot(virtualFrame, stackTop - 2);
         return bytecodeStoreSubscrOOO(virtualFrame, stackTop, bci, localNodes, useCachedNodes, bcioffset);
@@ -6110,18 +6169,18 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
     private void bytecodePopAndJumpIfFalse(VirtualFrame virtualFrame, int bci, int stackTop) {
         CompilerDirectives.transferToInterpreterAndInvalidate();
         if (virtualFrame.isBoolean(stackTop)) {
-            bytecode[bci] = OpCodesConstants.POP_AND_JUMP_IF_FALSE_B;
+            quicken(bytecode, bci, OpCodesConstants.POP_AND_JUMP_IF_FALSE_B);
         } else {
-            bytecode[bci] = OpCodesConstants.POP_AND_JUMP_IF_FALSE_O;
+            quicken(bytecode, bci, OpCodesConstants.POP_AND_JUMP_IF_FALSE_O);
         }
     }
 
     private void bytecodePopAndJumpIfTrue(VirtualFrame virtualFrame, int bci, int stackTop) {
         CompilerDirectives.transferToInterpreterAndInvalidate();
         if (virtualFrame.isBoolean(stackTop)) {
-            bytecode[bci] = OpCodesConstants.POP_AND_JUMP_IF_TRUE_B;
+            quicken(bytecode, bci, OpCodesConstants.POP_AND_JUMP_IF_TRUE_B);
         } else {
-            bytecode[bci] = OpCodesConstants.POP_AND_JUMP_IF_TRUE_O;
+            quicken(bytecode, bci, OpCodesConstants.POP_AND_JUMP_IF_TRUE_O);
         }
     }
 
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.nodes.bytecode;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.compiler.BytecodeCodeUnit;
+import com.oracle.graal.python.compiler.OpCodes;
+import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.TruffleLogger;
+
+/**
+ * Counts how often the bytecode interpreter quickens instructions to a type-specialized variant
+ * and how often it has to generalize them again. Only collected when
+ * {@link PythonOptions#QuickeningStatistics} is enabled. The counters are kept per opcode and per
+ * code object, where code objects are identified by their qualified name and source location, so
+ * that the numbers aggregate over contexts sharing the engine.
+ * <p>
+ * Quickening events are counted against the opcode the instruction was quickened to,
+ * generalization events against the opcode that was given up. Sites that show up with many
+ * generalizations, or that are quickened to a generic {@code _O} variant right away, are the ones
+ * that defeat the type specialization.
+ */
+public final class QuickeningStatistics {
+    private static final TruffleLogger LOGGER = PythonLanguage.getLogger(QuickeningStatistics.class);
+
+    private static final int OPCODE_COUNT = OpCodes.values().length;
+
+    private final ConcurrentHashMap<String, Counters> countersByCode = new ConcurrentHashMap<>();
+
+    private static final class Counters {
+        final AtomicLongArray quickened = new AtomicLongArray(OPCODE_COUNT);
+        final AtomicLongArray generalized = new AtomicLongArray(OPCODE_COUNT);
+
+        long total(AtomicLongArray array) {
+            long sum = 0;
+            for (int i = 0; i < OPCODE_COUNT; i++) {
+                sum += array.get(i);
+            }
+            return sum;
+        }
+    }
+
+    @TruffleBoundary
+    void recordQuicken(PBytecodeRootNode rootNode, byte oldOpcode, byte newOpcode) {
+        if (oldOpcode == newOpcode) {
+            return;
+        }
+        Counters counters = getCounters(rootNode);
+        if (OpCodes.fromOpCode(oldOpcode).quickens != null) {
+            /*
+             * The adaptive instructions sometimes pick a variant and refine it once they have seen
+             * the result (e.g., BINARY_SUBSCR_SEQ_I_O -> BINARY_SUBSCR_SEQ_I_I). Count that as a
+             * single quickening to the final variant.
+             */
+            counters.quickened.getAndUpdate(Byte.toUnsignedInt(oldOpcode), v -> v > 0 ? v - 1 : 0);
+        }
+        counters.quickened.incrementAndGet(Byte.toUnsignedInt(newOpcode));
+    }
+
+    @TruffleBoundary
+    void recordGeneralize(PBytecodeRootNode rootNode, byte oldOpcode, byte newOpcode) {
+        if (oldOpcode == newOpcode || OpCodes.fromOpCode(oldOpcode).quickens == null) {
+            // Nothing was given up if the instruction did not get quickened yet
+            return;
+        }
+        getCounters(rootNode).generalized.incrementAndGet(Byte.toUnsignedInt(oldOpcode));
+    }
+
+    private Counters getCounters(PBytecodeRootNode rootNode) {
+        BytecodeCodeUnit co = rootNode.getCodeUnit();
+        String key = co.qualname.toJavaStringUncached() + " (" + rootNode.getSource().getName() + ":" + co.startLine + ")";
+        return countersByCode.computeIfAbsent(key, k -> new Counters());
+    }
+
+    /**
+     * Returns the counters as {@code [quickened, generalized]} pairs by opcode name, only
+     * including opcodes that have at least one event.
+     */
+    @TruffleBoundary
+    public Map<String, long[]> getOpcodeStatistics() {
+        long[] quickened = new long[OPCODE_COUNT];
+        long[] generalized = new long[OPCODE_COUNT];
+        for (Counters counters : countersByCode.values()) {
+            for (int i = 0; i < OPCODE_COUNT; i++) {
+                quickened[i] += counters.quickened.get(i);
+                generalized[i] += counters.generalized.get(i);
+            }
+        }
+        return toMap(quickened, generalized);
+    }
+
+    /**
+     * Returns the per-opcode counters (as in {@link #getOpcodeStatistics()}) of each code object
+     * that had at least one event, keyed by {@code "qualname (file:line)"}.
+     */
+    @TruffleBoundary
+    public Map<String, Map<String, long[]>> getCodeStatistics() {
+        LinkedHashMap<String, Map<String, long[]>> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Counters> entry : sortedByGeneralizations()) {
+            Counters counters = entry.getValue();
+            long[] quickened = new long[OPCODE_COUNT];
+            long[] generalized = new long[OPCODE_COUNT];
+            for (int i = 0; i < OPCODE_COUNT; i++) {
+                quickened[i] = counters.quickened.get(i);
+                generalized[i] = counters.generalized.get(i);
+            }
+            Map<String, long[]> opcodes = toMap(quickened, generalized);
+            if (!opcodes.isEmpty()) {
+                result.put(entry.getKey(), opcodes);
+            }
+        }
+        return result;
+    }
+
+    @TruffleBoundary
+    public void clear() {
+        countersByCode.clear();
+    }
+
+    @TruffleBoundary
+    public void dump() {
+        if (countersByCode.isEmpty()) {
+            return;
+        }
+        StringBuilder sb = new StringBuilder("Bytecode quickening statistics (quickened/generalized):\n");
+        for (Map.Entry<String, long[]> entry : getOpcodeStatistics().entrySet()) {
+            sb.append(String.format("  %-32s %10d %10d%n", entry.getKey(), entry.getValue()[0], entry.getValue()[1]));
+        }
+        sb.append("Code objects by number of generalizations:\n");
+        for (Map.Entry<String, Counters> entry : sortedByGeneralizations()) {
+            Counters counters = entry.getValue();
+            long generalized = counters.total(counters.generalized);
+            if (generalized == 0) {
+                break;
+            }
+            sb.append(String.format("  %10d %10d  %s%n", counters.total(counters.quickened), generalized, entry.getKey()));
+        }
+        LOGGER.info(sb.toString());
+    }
+
+    private List<Map.Entry<String, Counters>> sortedByGeneralizations() {
+        List<Map.Entry<String, Counters>> entries = new ArrayList<>(countersByCode.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, Counters> e) -> e.getValue().total(e.getValue().generalized)).reversed());
+        return entries;
+    }
+
+    private static Map<String, long[]> toMap(long[] quickened, long[] generalized) {
+        LinkedHashMap<String, long[]> result = new LinkedHashMap<>();
+        OpCodes[] opcodes = OpCodes.values();
+        for (int i = 0; i < OPCODE_COUNT; i++) {
+            if (quickened[i] != 0 || generalized[i] != 0) {
+                result.put(opcodes[i].name(), new long[]{quickened[i], generalized[i]});
+            }
+        }
+        return result;
+    }
+}
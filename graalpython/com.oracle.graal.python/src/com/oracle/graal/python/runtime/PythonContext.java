@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026, Oracle and/or its affiliates.
  * Copyright (c) 2013, Regents of the University of California
  *
  * All rights reserved.
@@ -129,6 +129,7 @@ import com.oracle.graal.python.builtins.objects.frame.PFrame;
 import com.oracle.graal.python.builtins.objects.frame.PFrame.Reference;
 import com.oracle.graal.python.builtins.objects.function.PFunction;
 import com.oracle.graal.python.builtins.objects.function.PKeyword;
+import com.oracle.graal.python.builtins.objects.ints.IntDecimalConversion;
 import com.oracle.graal.python.builtins.objects.list.PList;
 import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.str.PString;
@@ -854,6 +855,7 @@ public final class PythonContext extends Python3Core {
 
     private int intMaxStrDigits;
     private int minIntBitLengthOverLimit;
+    private final IntDecimalConversion intDecimalConversion = new IntDecimalConversion();
     private static final double LOG2_10 = Math.log(10) / Math.log(2);
 
     // Used by CPython tests to selectively enable or disable frozen modules.
@@ -918,6 +920,10 @@ public final class PythonContext extends Python3Core {
         return minIntBitLengthOverLimit;
     }
 
+    public IntDecimalConversion getIntDecimalConversion() {
+        return intDecimalConversion;
+    }
+
     public void setIntMaxStrDigits(int intMaxStrDigits) {
         this.intMaxStrDigits = intMaxStrDigits;
         this.minIntBitLengthOverLimit = computeMinIntBitLengthOverLimit(intMaxStrDigits);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026, Oracle and/or its affiliates.
  * Copyright (c) 2013, Regents of the University of California
  *
  * All rights reserved.
@@ -287,7 +287,7 @@ public final class PythonOptions {
     @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Use the CPython sre engine as a fallback to the TRegex engine.") //
     public static final OptionKey<Boolean> TRegexUsesSREFallback = new OptionKey<>(true);
 
-    @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Switch on/off using lazy strings for performance reasons. Default true.") //
+    @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Switch on/off lazy (rope) concatenation of strings, which makes repeated str '+' linear. Default true.") //
     public static final OptionKey<Boolean> LazyStrings = new OptionKey<>(true);
 
     @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Enable forced splitting (of builtins). Default false.") //
@@ -344,15 +344,24 @@ public final class PythonOptions {
     @Option(category = OptionCategory.INTERNAL, usageSyntax = "true|false", help = "Whether the background GC task should be enabled (default) or not.") //
     public static final OptionKey<Boolean> BackgroundGCTask = new OptionKey<>(true);
 
-    @Option(category = OptionCategory.INTERNAL, usageSyntax = "<time>", help = "Specifies the interval (ms) for the background GC task to monitor the resident set size (RSS)") //
+    @Option(category = OptionCategory.INTERNAL, usageSyntax = "<time>", help = "Specifies the interval (ms) for the background GC task to monitor the allocated native memory and the resident set size (RSS)") //
     public static final OptionKey<Integer> BackgroundGCTaskInterval = new OptionKey<>(1000);
 
-    @Option(category = OptionCategory.INTERNAL, usageSyntax = "<limit>", help = "The percentage increase in RSS memory between System.gc() calls. Low percentage will trigger System.gc() more often. (default: 30).") //
+    @Option(category = OptionCategory.INTERNAL, usageSyntax = "<limit>", help = "The percentage increase in allocated native memory or RSS since the last collection that makes the background GC task collect cycles of native objects, and if that does not help, call System.gc(). (default: 30).") //
     public static final OptionKey<Integer> BackgroundGCTaskThreshold = new OptionKey<>(30);
 
-    @Option(category = OptionCategory.INTERNAL, usageSyntax = "<megabytes>", help = "The minimum RSS memory (in megabytes) to start calling System.gc(). (default: 4 GB).") //
+    @Option(category = OptionCategory.INTERNAL, usageSyntax = "<megabytes>", help = "The minimum RSS memory (in megabytes) for the background GC task to start collecting. (default: 4 GB).") //
     public static final OptionKey<Integer> BackgroundGCTaskMinimum = new OptionKey<>(4096);
 
+    @Option(category = OptionCategory.INTERNAL, usageSyntax = "<megabytes>", help = "The minimum native memory allocated through the Python allocator (in megabytes) for the background GC task to start collecting. (default: 1 GB).") //
+    public static final OptionKey<Integer> BackgroundGCTaskNativeMinimum = new OptionKey<>(1024);
+
+    @Option(category = OptionCategory.INTERNAL, usageSyntax = "true|false", help = "Remove dead C API references from the reference queue on a background thread and release them in batches on the Python thread.") //
+    public static final OptionKey<Boolean> BackgroundReferenceQueueTask = new OptionKey<>(false);
+
+    @Option(category = OptionCategory.INTERNAL, usageSyntax = "<count>", help = "The number of dead C API references collected by the background reference queue task before they are released by the next upcall or downcall (default: 1024).") //
+    public static final OptionKey<Integer> BackgroundReferenceQueueBatchSize = new OptionKey<>(1024);
+
     @EngineOption @Option(category = OptionCategory.USER, usageSyntax = "true|false", help = "Emulate some Jython features that can cause performance degradation", stability = OptionStability.STABLE) //
     public static final OptionKey<Boolean> EmulateJython = new OptionKey<>(false);
 
@@ -383,6 +392,10 @@ public final class PythonOptions {
     @Option(category = OptionCategory.EXPERT, help = "Makes bytecode instrumentation node materialization eager instead of lazy.") //
     public static final OptionKey<Boolean> EagerlyMaterializeInstrumentationNodes = new OptionKey<>(false);
 
+    @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Count how often bytecode instructions get quickened and generalized, per opcode and per code object. " +
+                    "The statistics are available via __graalpython__.get_quickening_statistics() and are logged when the context exits.") //
+    public static final OptionKey<Boolean> QuickeningStatistics = new OptionKey<>(false);
+
     @Option(category = OptionCategory.INTERNAL, help = "The list of the original command line arguments passed to the Python executable.") //
     public static final OptionKey<TruffleString> OrigArgv = new OptionKey<>(T_EMPTY_STRING, TS_OPTION_TYPE);
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026, Oracle and/or its affiliates.
  * Copyright (c) 2013, Regents of the University of California
  *
  * All rights reserved.
@@ -31,6 +31,7 @@ import static com.oracle.graal.python.util.PythonUtils.EMPTY_OBJECT_ARRAY;
 import java.lang.ref.ReferenceQueue;
 import java.math.BigInteger;
 import java.util.LinkedHashMap;
+import java.util.SplittableRandom;
 import java.util.concurrent.Semaphore;
 
 import javax.net.ssl.SSLContext;
@@ -93,6 +94,9 @@ import com.oracle.graal.python.builtins.objects.asyncio.PANextAwaitable;
 import com.oracle.graal.python.builtins.objects.asyncio.PAsyncGen;
 import com.oracle.graal.python.builtins.objects.asyncio.PAsyncGenASend;
 import com.oracle.graal.python.builtins.objects.asyncio.PAsyncGenAThrow;
+import com.oracle.graal.python.builtins.objects.asyncio.PFuture;
+import com.oracle.graal.python.builtins.objects.asyncio.PFutureIter;
+import com.oracle.graal.python.builtins.objects.asyncio.PTask;
 import com.oracle.graal.python.builtins.objects.asyncio.PAsyncGenWrappedValue;
 import com.oracle.graal.python.builtins.objects.asyncio.PCoroutineWrapper;
 import com.oracle.graal.python.builtins.objects.bytes.PByteArray;
@@ -145,6 +149,7 @@ import com.oracle.graal.python.builtins.objects.ints.PInt;
 import com.oracle.graal.python.builtins.objects.iterator.PArrayIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PBaseSetIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PBigRangeIterator;
+import com.oracle.graal.python.builtins.objects.iterator.PBufferedForeignIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PDoubleSequenceIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PIntRangeIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PIntegerSequenceIterator;
@@ -197,6 +202,7 @@ import com.oracle.graal.python.builtins.objects.posix.PScandirIterator;
 import com.oracle.graal.python.builtins.objects.property.PProperty;
 import com.oracle.graal.python.builtins.objects.queue.PSimpleQueue;
 import com.oracle.graal.python.builtins.objects.random.PRandom;
+import com.oracle.graal.python.builtins.objects.random.PSplittableRandom;
 import com.oracle.graal.python.builtins.objects.range.PBigRange;
 import com.oracle.graal.python.builtins.objects.range.PIntRange;
 import com.oracle.graal.python.builtins.objects.referencetype.PReferenceType;
@@ -456,6 +462,14 @@ public final class PFactory {
         return trace(language, new PRandom(cls, shape));
     }
 
+    public static PSplittableRandom createSplittableRandom(PythonLanguage language, SplittableRandom generator) {
+        return createSplittableRandom(language, PythonBuiltinClassType.PSplittableRandom, PythonBuiltinClassType.PSplittableRandom.getInstanceShape(language), generator);
+    }
+
+    public static PSplittableRandom createSplittableRandom(PythonLanguage language, Object cls, Shape shape, SplittableRandom generator) {
+        return trace(language, new PSplittableRandom(cls, shape, generator));
+    }
+
     /*
      * Classes, methods and functions
      */
@@ -866,6 +880,18 @@ public final class PFactory {
         return trace(language, new PANextAwaitable(PythonBuiltinClassType.PAnextAwaitable, PythonBuiltinClassType.PAnextAwaitable.getInstanceShape(language), wrapped, defaultValue));
     }
 
+    public static PFuture createFuture(PythonLanguage language, Object cls, Shape shape) {
+        return trace(language, new PFuture(cls, shape));
+    }
+
+    public static PTask createTask(PythonLanguage language, Object cls, Shape shape) {
+        return trace(language, new PTask(cls, shape));
+    }
+
+    public static PFutureIter createFutureIter(PythonLanguage language, PFuture future) {
+        return trace(language, new PFutureIter(PythonBuiltinClassType.PFutureIter, PythonBuiltinClassType.PFutureIter.getInstanceShape(language), future));
+    }
+
     public static PMappingproxy createMappingproxy(PythonLanguage language, Object object) {
         return createMappingproxy(language, PythonBuiltinClassType.PMappingproxy, PythonBuiltinClassType.PMappingproxy.getInstanceShape(language), object);
     }
@@ -1040,6 +1066,10 @@ public final class PFactory {
         return trace(language, new PObjectSequenceIterator(PythonBuiltinClassType.PIterator, PythonBuiltinClassType.PIterator.getInstanceShape(language), storage, list));
     }
 
+    public static PBufferedForeignIterator createBufferedForeignIterator(PythonLanguage language, Object iterator, int batchSize) {
+        return trace(language, new PBufferedForeignIterator(PythonBuiltinClassType.PIterator, PythonBuiltinClassType.PIterator.getInstanceShape(language), iterator, batchSize));
+    }
+
     public static PSequenceIterator createSequenceIterator(PythonLanguage language, Object sequence) {
         return trace(language, new PSequenceIterator(PythonBuiltinClassType.PIterator, PythonBuiltinClassType.PIterator.getInstanceShape(language), sequence));
     }
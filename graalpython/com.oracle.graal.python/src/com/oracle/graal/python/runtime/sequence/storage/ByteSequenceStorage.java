@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025, Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026, Oracle and/or its affiliates.
  * Copyright (c) 2013, Regents of the University of California
  *
  * All rights reserved.
@@ -38,6 +38,9 @@ import com.oracle.truffle.api.library.ExportMessage;
 @ExportLibrary(PythonBufferAccessLibrary.class)
 public final class ByteSequenceStorage extends ArrayBasedSequenceStorage {
 
+    private static final int LARGE_CAPACITY = 1 << 20;
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
     private byte[] values;
 
     public ByteSequenceStorage(byte[] elements) {
@@ -63,10 +66,22 @@ public final class ByteSequenceStorage extends ArrayBasedSequenceStorage {
 
     public void ensureCapacity(int newCapacity) throws ArithmeticException {
         if (CompilerDirectives.injectBranchProbability(CompilerDirectives.UNLIKELY_PROBABILITY, newCapacity > capacity)) {
-            increaseCapacityExactWithCopy(capacityFor(newCapacity));
+            increaseCapacityExactWithCopy(grownCapacity(capacity, newCapacity));
         }
     }
 
+    /**
+     * Amortized growth for byte buffers that are filled by many small writes (bytearray appends
+     * and extends). Small buffers double, large ones grow by half of their current capacity so
+     * that a big payload does not reserve twice its size, and the result saturates at the maximum
+     * array length instead of overflowing.
+     */
+    static int grownCapacity(int currentCapacity, int minCapacity) {
+        long grown = currentCapacity < LARGE_CAPACITY ? currentCapacity * 2L : currentCapacity + (currentCapacity >> 1);
+        long result = Math.max(Math.max(grown, minCapacity), 16);
+        return (int) Math.min(result, Math.max(minCapacity, MAX_ARRAY_LENGTH));
+    }
+
     @Override
     public ByteSequenceStorage createEmpty(int newCapacity) {
         return new ByteSequenceStorage(newCapacity);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2024, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * The Universal Permissive License (UPL), Version 1.0
@@ -50,6 +50,9 @@ import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.interop.PForeignToPTypeNode;
 import com.oracle.graal.python.nodes.object.IsForeignObjectNode;
 import com.oracle.graal.python.runtime.GilNode;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.TruffleLanguage.Env;
 import com.oracle.truffle.api.CompilerAsserts;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.HostCompilerDirectives.InliningCutoff;
@@ -65,6 +68,7 @@ import com.oracle.truffle.api.interop.UnsupportedTypeException;
 import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.profiles.InlinedBranchProfile;
+import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 
 /*
  * NOTE: We are not using IndirectCallContext here in this file because it seems unlikely that these interop messages
@@ -98,6 +102,154 @@ public final class ForeignSequenceStorage extends SequenceStorage {
         return PInt.long2int(inliningTarget, size, errorProfile);
     }
 
+    /**
+     * Returns the Java array behind {@code foreignArray} if it is a host array whose elements map
+     * directly onto one of the primitive sequence storages, {@code null} otherwise. Such arrays are
+     * copied in bulk by {@link ToSequenceStorageNode} and {@link WriteFromStorageNode} instead of
+     * element by element through interop. {@code char[]} is not included, because its elements
+     * are strings on the Python side.
+     */
+    public static Object getHostPrimitiveArray(Node inliningTarget, Object foreignArray) {
+        Env env = PythonContext.get(inliningTarget).getEnv();
+        if (env.isHostObject(foreignArray)) {
+            Object array = env.asHostObject(foreignArray);
+            if (array instanceof int[] || array instanceof long[] || array instanceof double[] || array instanceof boolean[] ||
+                            array instanceof byte[] || array instanceof short[] || array instanceof float[]) {
+                return array;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Copies all elements of a host array returned by {@link #getHostPrimitiveArray}.
+     */
+    public static SequenceStorage copyHostPrimitiveArray(Object hostArray) {
+        int length;
+        if (hostArray instanceof int[] array) {
+            length = array.length;
+        } else if (hostArray instanceof long[] array) {
+            length = array.length;
+        } else if (hostArray instanceof double[] array) {
+            length = array.length;
+        } else if (hostArray instanceof boolean[] array) {
+            length = array.length;
+        } else if (hostArray instanceof byte[] array) {
+            length = array.length;
+        } else if (hostArray instanceof short[] array) {
+            length = array.length;
+        } else {
+            length = ((float[]) hostArray).length;
+        }
+        return copyHostPrimitiveArray(hostArray, 0, 1, length);
+    }
+
+    /**
+     * Copies {@code length} elements starting at {@code start} with {@code step} out of a host
+     * array returned by {@link #getHostPrimitiveArray}. The narrower Java types are widened the
+     * same way {@link PForeignToPTypeNode} would convert the individual elements.
+     */
+    public static SequenceStorage copyHostPrimitiveArray(Object hostArray, int start, int step, int length) {
+        if (hostArray instanceof int[] array) {
+            int[] values = new int[length];
+            if (step == 1) {
+                PythonUtils.arraycopy(array, start, values, 0, length);
+            } else {
+                for (int i = start, j = 0; j < length; i += step, j++) {
+                    values[j] = array[i];
+                }
+            }
+            return new IntSequenceStorage(values);
+        } else if (hostArray instanceof long[] array) {
+            long[] values = new long[length];
+            if (step == 1) {
+                PythonUtils.arraycopy(array, start, values, 0, length);
+            } else {
+                for (int i = start, j = 0; j < length; i += step, j++) {
+                    values[j] = array[i];
+                }
+            }
+            return new LongSequenceStorage(values);
+        } else if (hostArray instanceof double[] array) {
+            double[] values = new double[length];
+            if (step == 1) {
+                PythonUtils.arraycopy(array, start, values, 0, length);
+            } else {
+                for (int i = start, j = 0; j < length; i += step, j++) {
+                    values[j] = array[i];
+                }
+            }
+            return new DoubleSequenceStorage(values);
+        } else if (hostArray instanceof boolean[] array) {
+            boolean[] values = new boolean[length];
+            if (step == 1) {
+                PythonUtils.arraycopy(array, start, values, 0, length);
+            } else {
+                for (int i = start, j = 0; j < length; i += step, j++) {
+                    values[j] = array[i];
+                }
+            }
+            return new BoolSequenceStorage(values);
+        } else if (hostArray instanceof byte[] array) {
+            int[] values = new int[length];
+            for (int i = start, j = 0; j < length; i += step, j++) {
+                values[j] = array[i];
+            }
+            return new IntSequenceStorage(values);
+        } else if (hostArray instanceof short[] array) {
+            int[] values = new int[length];
+            for (int i = start, j = 0; j < length; i += step, j++) {
+                values[j] = array[i];
+            }
+            return new IntSequenceStorage(values);
+        } else {
+            float[] array = (float[]) hostArray;
+            double[] values = new double[length];
+            for (int i = start, j = 0; j < length; i += step, j++) {
+                values[j] = array[i];
+            }
+            return new DoubleSequenceStorage(values);
+        }
+    }
+
+    /**
+     * Copies {@code length} elements of a primitive storage into a host array returned by
+     * {@link #getHostPrimitiveArray} if the array can hold them without conversion. Returns
+     * {@code false} if the combination of storage and array is not supported.
+     */
+    public static boolean copyToHostPrimitiveArray(SequenceStorage src, int srcPos, Object hostArray, int destPos, int length) {
+        if (hostArray instanceof int[] array) {
+            if (src instanceof IntSequenceStorage intStorage && destPos + length <= array.length) {
+                PythonUtils.arraycopy(intStorage.getInternalIntArray(), srcPos, array, destPos, length);
+                return true;
+            }
+        } else if (hostArray instanceof long[] array) {
+            if (destPos + length <= array.length) {
+                if (src instanceof LongSequenceStorage longStorage) {
+                    PythonUtils.arraycopy(longStorage.getInternalLongArray(), srcPos, array, destPos, length);
+                    return true;
+                } else if (src instanceof IntSequenceStorage intStorage) {
+                    int[] values = intStorage.getInternalIntArray();
+                    for (int i = 0; i < length; i++) {
+                        array[destPos + i] = values[srcPos + i];
+                    }
+                    return true;
+                }
+            }
+        } else if (hostArray instanceof double[] array) {
+            if (src instanceof DoubleSequenceStorage doubleStorage && destPos + length <= array.length) {
+                PythonUtils.arraycopy(doubleStorage.getInternalDoubleArray(), srcPos, array, destPos, length);
+                return true;
+            }
+        } else if (hostArray instanceof boolean[] array) {
+            if (src instanceof BoolSequenceStorage boolStorage && destPos + length <= array.length) {
+                PythonUtils.arraycopy(boolStorage.getInternalBoolArray(), srcPos, array, destPos, length);
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void setNewLength(int length) {
         this.length = length;
@@ -161,6 +313,61 @@ public final class ForeignSequenceStorage extends SequenceStorage {
         }
     }
 
+    /**
+     * Copies a slice of the foreign array into a new storage. Host primitive arrays are copied in
+     * bulk into the matching primitive storage, other foreign arrays are read element by element.
+     */
+    @GenerateUncached
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class ToSequenceStorageNode extends PNodeWithContext {
+        public abstract SequenceStorage execute(Node inliningTarget, ForeignSequenceStorage storage, int start, int step, int length);
+
+        public final SequenceStorage execute(Node inliningTarget, ForeignSequenceStorage storage) {
+            return execute(inliningTarget, storage, 0, 1, storage.length());
+        }
+
+        @InliningCutoff
+        @Specialization
+        static SequenceStorage doIt(Node inliningTarget, ForeignSequenceStorage storage, int start, int step, int length,
+                        @Cached InlinedConditionProfile hostArrayProfile,
+                        @Cached ReadNode readNode) {
+            Object hostArray = getHostPrimitiveArray(inliningTarget, storage.foreignArray);
+            if (hostArrayProfile.profile(inliningTarget, hostArray != null)) {
+                return copyHostPrimitiveArray(hostArray, start, step, length);
+            }
+            Object[] newArray = new Object[length];
+            for (int i = start, j = 0; j < length; i += step, j++) {
+                newArray[j] = readNode.execute(inliningTarget, storage, i);
+            }
+            return new ObjectSequenceStorage(newArray);
+        }
+    }
+
+    /**
+     * Copies elements of a primitive storage into a host primitive array of a compatible type,
+     * without converting every element through interop. Returns {@code false} if the combination
+     * of storage and array is not supported, in which case the caller has to write the elements
+     * one by one with {@link WriteNode}, which also takes care of reporting lossy conversions.
+     */
+    @GenerateUncached
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class WriteFromStorageNode extends PNodeWithContext {
+        public abstract boolean execute(Node inliningTarget, ForeignSequenceStorage dest, int destPos, SequenceStorage src, int srcPos, int length);
+
+        @InliningCutoff
+        @Specialization
+        static boolean doIt(Node inliningTarget, ForeignSequenceStorage dest, int destPos, SequenceStorage src, int srcPos, int length,
+                        @Cached InlinedConditionProfile hostArrayProfile) {
+            Object hostArray = getHostPrimitiveArray(inliningTarget, dest.foreignArray);
+            if (hostArrayProfile.profile(inliningTarget, hostArray != null)) {
+                return copyToHostPrimitiveArray(src, srcPos, hostArray, destPos, length);
+            }
+            return false;
+        }
+    }
+
     @GenerateUncached
     @GenerateInline
     @GenerateCached(false)
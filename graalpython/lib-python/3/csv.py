@@ -5,6 +5,7 @@ csv.py - read/write/investigate CSV files
 
 import re
 import types
+from sys import intern as _intern
 from _csv import Error, __version__, writer, reader, register_dialect, \
                  unregister_dialect, get_dialect, list_dialects, \
                  field_size_limit, \
@@ -99,7 +100,8 @@ class DictReader:
     def fieldnames(self):
         if self._fieldnames is None:
             try:
-                self._fieldnames = next(self.reader)
+                # GraalPy change: intern the header, the names are used as keys of every row
+                self._fieldnames = [_intern(name) for name in next(self.reader)]
             except StopIteration:
                 pass
         self.line_num = self.reader.line_num
@@ -460,8 +460,12 @@ class Random(_random.Random):
         """
         random = self.random
         n = len(population)
+        # GraalPy change: draw all the indices at once unless random() is overridden
+        bulk = type(self).random is _random.Random.random
         if cum_weights is None:
             if weights is None:
+                if bulk and n:
+                    return [population[i] for i in self.choice_indices(k, n)]
                 floor = _floor
                 n += 0.0    # convert to float for a small speed improvement
                 return [population[floor(random() * n)] for i in _repeat(None, k)]
@@ -483,6 +487,14 @@ class Random(_random.Random):
             raise ValueError('Total of weights must be greater than zero')
         if not _isfinite(total):
             raise ValueError('Total of weights must be finite')
+        if bulk:
+            try:
+                indices = self.choice_indices(k, n, cum_weights)
+            except TypeError:
+                # weights that do not convert exactly to floats
+                pass
+            else:
+                return [population[i] for i in indices]
         bisect = _bisect
         hi = n - 1
         return [population[bisect(cum_weights, random() * total, 0, hi)]
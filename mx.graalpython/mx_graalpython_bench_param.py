@@ -1,4 +1,4 @@
-# Copyright (c) 2017, 2025, Oracle and/or its affiliates.
+# Copyright (c) 2017, 2026, Oracle and/or its affiliates.
 # Copyright (c) 2013, Regents of the University of California
 #
 # All rights reserved.
@@ -100,6 +100,19 @@ MICRO_BENCHMARKS = {
     'call-classmethod-sized': ITER_10 + ['500_000_000'],
     'mmap-anonymous-sized': ITER_10 + ['20_000'],
     'mmap-file': ITER_10 + ['1000'],
+    'ssl-loopback-sized': ITER_10 + ['10', '16'],
+    'asyncio-tasks-sized': ITER_10 + ['2000', '100'],
+    'csv-reader-rows-sized': ITER_10 + ['10', '200_000'],
+    'csv-read-buffer-sized': ITER_10 + ['10', '200_000'],
+    'string-concat-template-sized': ITER_10 + ['20_000'],
+    'bigint-pidigits-sized': ITER_10 + ['5_000'],
+    'bigint-factorial-sized': ITER_10 + ['50_000'],
+    'bigint-modpow-sized': ITER_10 + ['50'],
+    'array-bulk-ops-sized': ITER_10 + ['200'],
+    'struct-unpack-records-sized': ITER_10 + ['100'],
+    'struct-unpack-columns-sized': ITER_10 + ['100'],
+    'bytes-join-fragments-sized': ITER_10 + ['200'],
+    'superinstructions-sized': ITER_10 + ['20_000'],
     'generate-functions-sized': ITER_15 + ['500_000_000'],
     'try-except-simple': ITER_10 + ['500_000_000'],
     'try-except-store-simple': ITER_10 + ['500_000_000'],
@@ -170,6 +183,7 @@ MICRO_BENCHMARKS_SMALL = {
     'with-exception': ITER_6 + WARMUP_2 + ['5_000_000'],
     'tuple-indexing-from-constructor': ITER_6 + WARMUP_2 + ['250_000'],
     'tuple-indexing-from-literal': ITER_6 + WARMUP_2 + ['400_000'],
+    'superinstructions-sized': ITER_10 + WARMUP_2 + ['500'],
 }
 
 def _pickling_benchmarks(module='pickle'):
@@ -275,6 +289,7 @@ INTEROP_BENCHMARKS = {
     'image-magix': ITER_10 + ['10000'],
     'image-magix-java': ITER_10 + ['10000'],
     'java-register': ITER_10 + ['2_000'],
+    'java-calls': ITER_10 + ['100_000'],
 }
 
 